@@ -0,0 +1,48 @@
+package mil.nga.mgrs.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark entry point accepting the JMH command line options. When no
+ * profilers are specified, the GC profiler is added so that results include
+ * allocation rates (gc.alloc.rate.norm bytes per operation).
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class BenchmarkMain {
+
+	/**
+	 * Run the benchmarks
+	 * 
+	 * @param args
+	 *            JMH command line options
+	 * @throws Exception
+	 *             upon failure to run the benchmarks
+	 */
+	public static void main(String[] args) throws Exception {
+
+		CommandLineOptions options = new CommandLineOptions(args);
+
+		if (options.shouldHelp() || options.shouldList()
+				|| options.shouldListWithParams()
+				|| options.shouldListProfilers()
+				|| options.shouldListResultFormats()) {
+			Main.main(args);
+		} else {
+			ChainedOptionsBuilder builder = new OptionsBuilder()
+					.parent(options);
+			if (options.getProfilers().isEmpty()) {
+				builder.addProfiler(GCProfiler.class);
+			}
+			new Runner(builder.build()).run();
+		}
+
+	}
+
+}
@@ -0,0 +1,248 @@
+package mil.nga.mgrs.benchmark;
+
+import java.text.ParseException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.MGRS;
+import mil.nga.mgrs.MGRSBatch;
+import mil.nga.mgrs.grid.GridType;
+import mil.nga.mgrs.gzd.GridZones;
+import mil.nga.mgrs.utm.UTM;
+import mil.nga.mgrs.utm.UTMProjection;
+
+/**
+ * MGRS and UTM conversion, parsing, formatting, and grid zone lookup
+ * benchmarks across coordinate distributions. Each benchmark operation
+ * processes {@link #COUNT} coordinates. Run with:
+ * 
+ * <pre>
+ * java -jar target/benchmarks.jar ConversionBenchmark
+ * </pre>
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConversionBenchmark {
+
+	/**
+	 * Number of coordinates
+	 */
+	public static final int COUNT = 1024;
+
+	/**
+	 * Coordinate distribution
+	 */
+	@Param
+	public Distribution distribution;
+
+	/**
+	 * Longitudes
+	 */
+	private final double[] longitudes = new double[COUNT];
+
+	/**
+	 * Latitudes
+	 */
+	private final double[] latitudes = new double[COUNT];
+
+	/**
+	 * Points
+	 */
+	private final Point[] points = new Point[COUNT];
+
+	/**
+	 * MGRS coordinates
+	 */
+	private final MGRS[] mgrs = new MGRS[COUNT];
+
+	/**
+	 * MGRS strings
+	 */
+	private final String[] mgrsStrings = new String[COUNT];
+
+	/**
+	 * UTM coordinates
+	 */
+	private final UTM[] utms = new UTM[COUNT];
+
+	/**
+	 * Create the coordinates of the distribution
+	 */
+	@Setup
+	public void setup() {
+		distribution.fill(longitudes, latitudes);
+		for (int i = 0; i < COUNT; i++) {
+			points[i] = Point.degrees(longitudes[i], latitudes[i]);
+			mgrs[i] = MGRS.from(points[i]);
+			mgrsStrings[i] = mgrs[i].coordinate();
+			utms[i] = UTM.from(points[i]);
+		}
+	}
+
+	/**
+	 * {@link MGRS#from(double, double)}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void mgrsFrom(Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(MGRS.from(longitudes[i], latitudes[i]));
+		}
+	}
+
+	/**
+	 * {@link MGRSBatch#convert(double[], double[], GridType)}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void mgrsBatch(Blackhole blackhole) {
+		blackhole.consume(
+				MGRSBatch.convert(longitudes, latitudes, GridType.METER));
+	}
+
+	/**
+	 * {@link MGRS#parse(String)}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 * @throws ParseException
+	 *             upon failure to parse
+	 */
+	@Benchmark
+	public void mgrsParse(Blackhole blackhole) throws ParseException {
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(MGRS.parse(mgrsStrings[i]));
+		}
+	}
+
+	/**
+	 * {@link MGRS#coordinate()}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void mgrsCoordinate(Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(mgrs[i].coordinate());
+		}
+	}
+
+	/**
+	 * {@link UTM#from(Point)}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void utmFrom(Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(UTM.from(points[i]));
+		}
+	}
+
+	/**
+	 * {@link UTM#from(Point, UTMProjection)} with {@link UTM#KRUGER}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void utmFromKruger(Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(UTM.from(points[i], UTM.KRUGER));
+		}
+	}
+
+	/**
+	 * {@link UTM#toPoint()}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void utmToPoint(Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(utms[i].toPoint());
+		}
+	}
+
+	/**
+	 * {@link UTM#toPoint(UTMProjection)} with {@link UTM#KRUGER}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void utmToPointKruger(Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(utms[i].toPoint(UTM.KRUGER));
+		}
+	}
+
+	/**
+	 * {@link GridZones#getZoneNumber(double, double)}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void zoneNumber(Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(
+					GridZones.getZoneNumber(longitudes[i], latitudes[i]));
+		}
+	}
+
+	/**
+	 * {@link GridZones#getBandLetter(double)}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void bandLetter(Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(GridZones.getBandLetter(latitudes[i]));
+		}
+	}
+
+	/**
+	 * {@link GridZones#getGridZone(double, double)}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void gridZone(Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(
+					GridZones.getGridZone(longitudes[i], latitudes[i]));
+		}
+	}
+
+}
@@ -0,0 +1,125 @@
+package mil.nga.mgrs.benchmark;
+
+import java.util.Random;
+
+import mil.nga.mgrs.MGRSConstants;
+
+/**
+ * Benchmark coordinate distributions
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public enum Distribution {
+
+	/**
+	 * Uniform over the MGRS longitude and latitude range
+	 */
+	GLOBAL,
+
+	/**
+	 * Uniform within the southern C and northern X latitude bands
+	 */
+	POLAR,
+
+	/**
+	 * Uniform within the Norway (31V, 32V) and Svalbard (31X - 37X) grid
+	 * zones
+	 */
+	NORWAY_SVALBARD,
+
+	/**
+	 * Within 0.01 degrees of a zone number edge
+	 */
+	ZONE_EDGE;
+
+	/**
+	 * Random seed
+	 */
+	private static final long SEED = 2013;
+
+	/**
+	 * Fill the coordinate arrays with the distribution, seeded for repeatable
+	 * runs
+	 * 
+	 * @param longitudes
+	 *            longitudes output
+	 * @param latitudes
+	 *            latitudes output
+	 */
+	public void fill(double[] longitudes, double[] latitudes) {
+
+		Random random = new Random(SEED + ordinal());
+
+		for (int i = 0; i < longitudes.length; i++) {
+
+			double longitude;
+			double latitude;
+
+			switch (this) {
+
+			case POLAR:
+				longitude = uniform(random, MGRSConstants.MIN_LON,
+						MGRSConstants.MAX_LON);
+				if (random.nextBoolean()) {
+					latitude = uniform(random, MGRSConstants.MIN_LAT,
+							MGRSConstants.MIN_LAT + MGRSConstants.BAND_HEIGHT);
+				} else {
+					latitude = uniform(random,
+							MGRSConstants.MAX_LAT
+									- MGRSConstants.MAX_BAND_HEIGHT,
+							MGRSConstants.MAX_LAT);
+				}
+				break;
+
+			case NORWAY_SVALBARD:
+				if (random.nextBoolean()) {
+					longitude = uniform(random, 0.0, 12.0);
+					latitude = uniform(random, 56.0, 64.0);
+				} else {
+					longitude = uniform(random, 0.0, 42.0);
+					latitude = uniform(random, 72.0, MGRSConstants.MAX_LAT);
+				}
+				break;
+
+			case ZONE_EDGE:
+				int edge = random.nextInt(MGRSConstants.MAX_ZONE_NUMBER);
+				longitude = MGRSConstants.MIN_LON
+						+ edge * MGRSConstants.ZONE_WIDTH
+						+ uniform(random, -0.01, 0.01);
+				if (longitude < MGRSConstants.MIN_LON) {
+					longitude += 360.0;
+				}
+				latitude = uniform(random, MGRSConstants.MIN_LAT,
+						MGRSConstants.MAX_LAT);
+				break;
+
+			default:
+				longitude = uniform(random, MGRSConstants.MIN_LON,
+						MGRSConstants.MAX_LON);
+				latitude = uniform(random, MGRSConstants.MIN_LAT,
+						MGRSConstants.MAX_LAT);
+			}
+
+			longitudes[i] = longitude;
+			latitudes[i] = latitude;
+		}
+
+	}
+
+	/**
+	 * Get a uniform random value in the range
+	 * 
+	 * @param random
+	 *            random
+	 * @param min
+	 *            minimum value
+	 * @param max
+	 *            maximum value
+	 * @return value
+	 */
+	private static double uniform(Random random, double min, double max) {
+		return min + random.nextDouble() * (max - min);
+	}
+
+}
@@ -0,0 +1,143 @@
+package mil.nga.mgrs.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mil.nga.grid.GridUtils;
+import mil.nga.grid.features.Bounds;
+import mil.nga.mgrs.grid.GridType;
+import mil.nga.mgrs.grid.Grids;
+import mil.nga.mgrs.grid.MGRSLabeler;
+import mil.nga.mgrs.gzd.GridZone;
+import mil.nga.mgrs.gzd.GridZones;
+
+/**
+ * Grid line and label generation benchmarks over map tiles at the minimum
+ * zoom level of each grid type, centered on coordinates of a distribution.
+ * Each benchmark operation generates {@link #TILES} tiles across their grid
+ * zones. Run with:
+ * 
+ * <pre>
+ * java -jar target/benchmarks.jar GridBenchmark
+ * </pre>
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GridBenchmark {
+
+	/**
+	 * Number of tiles
+	 */
+	public static final int TILES = 64;
+
+	/**
+	 * Grid type
+	 */
+	@Param({ "HUNDRED_KILOMETER", "TEN_KILOMETER", "KILOMETER",
+			"HUNDRED_METER", "TEN_METER", "METER" })
+	public GridType type;
+
+	/**
+	 * Tile center distribution
+	 */
+	@Param
+	public Distribution distribution;
+
+	/**
+	 * Tile bounds of each tile grid zone
+	 */
+	private final List<Bounds> tileBounds = new ArrayList<>();
+
+	/**
+	 * Tile grid zones
+	 */
+	private final List<GridZone> gridZones = new ArrayList<>();
+
+	/**
+	 * MGRS labeler
+	 */
+	private final MGRSLabeler labeler = new MGRSLabeler();
+
+	/**
+	 * Create the tiles and their grid zones
+	 */
+	@Setup
+	public void setup() {
+
+		int zoom = Grids.create().getGrid(type).getMinZoom();
+		int tiles = 1 << zoom;
+
+		double[] longitudes = new double[TILES];
+		double[] latitudes = new double[TILES];
+		distribution.fill(longitudes, latitudes);
+
+		for (int i = 0; i < TILES; i++) {
+
+			// Web Mercator tile containing the coordinate
+			double latitude = Math.toRadians(latitudes[i]);
+			int x = (int) Math.floor((longitudes[i] + 180.0) / 360.0 * tiles);
+			int y = (int) Math.floor((1.0 - Math.log(
+					Math.tan(latitude) + 1.0 / Math.cos(latitude)) / Math.PI)
+					/ 2.0 * tiles);
+			x = Math.min(x, tiles - 1);
+			y = Math.min(Math.max(y, 0), tiles - 1);
+
+			Bounds bounds = GridUtils.getBounds(x, y, zoom);
+			for (GridZone gridZone : GridZones.getZones(bounds)) {
+				tileBounds.add(bounds);
+				gridZones.add(gridZone);
+			}
+		}
+
+	}
+
+	/**
+	 * {@link GridZone#getLines(Bounds, GridType)}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void lines(Blackhole blackhole) {
+		for (int i = 0; i < gridZones.size(); i++) {
+			blackhole.consume(
+					gridZones.get(i).getLines(tileBounds.get(i), type));
+		}
+	}
+
+	/**
+	 * {@link MGRSLabeler#getLabels(Bounds, GridType, GridZone)}
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void labels(Blackhole blackhole) {
+		for (int i = 0; i < gridZones.size(); i++) {
+			blackhole.consume(labeler.getLabels(tileBounds.get(i), type,
+					gridZones.get(i)));
+		}
+	}
+
+}
@@ -0,0 +1,136 @@
+package mil.nga.mgrs.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mil.nga.grid.Hemisphere;
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.utm.UTM;
+
+/**
+ * UTM inverse projection benchmarks comparing the original closed form
+ * expressions against the restructured inverse projection. Run with:
+ * 
+ * <pre>
+ * java -jar target/benchmarks.jar UTMInverseBenchmark
+ * </pre>
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class UTMInverseBenchmark {
+
+	/**
+	 * Number of coordinates
+	 */
+	private static final int COUNT = 4096;
+
+	/**
+	 * Zone numbers
+	 */
+	private final int[] zones = new int[COUNT];
+
+	/**
+	 * Hemispheres
+	 */
+	private final Hemisphere[] hemispheres = new Hemisphere[COUNT];
+
+	/**
+	 * Eastings
+	 */
+	private final double[] eastings = new double[COUNT];
+
+	/**
+	 * Northings
+	 */
+	private final double[] northings = new double[COUNT];
+
+	/**
+	 * Longitudes output
+	 */
+	private final double[] longitudes = new double[COUNT];
+
+	/**
+	 * Latitudes output
+	 */
+	private final double[] latitudes = new double[COUNT];
+
+	/**
+	 * Project random coordinates within the UTM latitude range
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(2013);
+		double[] lons = new double[COUNT];
+		double[] lats = new double[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			lons[i] = random.nextDouble() * 360.0 - 180.0;
+			lats[i] = random.nextDouble() * 164.0 - 80.0;
+		}
+		UTM.from(lons, lats, zones, hemispheres, eastings, northings);
+	}
+
+	/**
+	 * Original closed form longitude and latitude expressions
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void legacy(Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(LegacyUTM.longitude(zones[i], hemispheres[i],
+					eastings[i], northings[i]));
+			blackhole.consume(LegacyUTM.latitude(zones[i], hemispheres[i],
+					eastings[i], northings[i]));
+		}
+	}
+
+	/**
+	 * Restructured inverse projection to a point
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void toPoint(Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i++) {
+			Point point = UTM.point(zones[i], hemispheres[i], eastings[i],
+					northings[i]);
+			blackhole.consume(point);
+		}
+	}
+
+	/**
+	 * Restructured inverse projection over coordinate arrays
+	 * 
+	 * @param blackhole
+	 *            blackhole
+	 */
+	@Benchmark
+	public void toPoints(Blackhole blackhole) {
+		UTM.toPoints(zones, hemispheres, eastings, northings, longitudes,
+				latitudes);
+		blackhole.consume(longitudes);
+		blackhole.consume(latitudes);
+	}
+
+}
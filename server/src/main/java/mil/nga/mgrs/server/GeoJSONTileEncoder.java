@@ -0,0 +1,78 @@
+package mil.nga.mgrs.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.tile.GridTile;
+import mil.nga.mgrs.features.GeoJSONWriter;
+import mil.nga.mgrs.grid.Grid;
+import mil.nga.mgrs.grid.Grids;
+import mil.nga.mgrs.grid.ZoomGrids;
+
+/**
+ * GeoJSON feature collection encoder of grid tile polylines and labels
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+class GeoJSONTileEncoder {
+
+	/**
+	 * Grids
+	 */
+	private final Grids grids;
+
+	/**
+	 * Reused output buffer
+	 */
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+	/**
+	 * Constructor
+	 * 
+	 * @param grids
+	 *            grids
+	 */
+	GeoJSONTileEncoder(Grids grids) {
+		this.grids = grids;
+	}
+
+	/**
+	 * Encode the tile as a GeoJSON feature collection
+	 * 
+	 * @param tile
+	 *            tile
+	 * @return UTF-8 GeoJSON bytes
+	 */
+	byte[] encode(GridTile tile) {
+
+		out.reset();
+
+		try (GeoJSONWriter writer = GeoJSONWriter.create(out)) {
+
+			ZoomGrids zoomGrids = grids.getGrids(tile.getZoom());
+			if (zoomGrids.hasGrids()) {
+
+				Bounds bounds = tile.getBounds();
+				int zoom = tile.getZoom();
+
+				for (Grid grid : zoomGrids) {
+					if (grid.isLinesWithin(zoom)) {
+						writer.writePolylines(grid, bounds);
+					}
+					if (grid.isLabelerWithin(zoom)) {
+						writer.writeLabels(grid, bounds);
+					}
+				}
+			}
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return out.toByteArray();
+	}
+
+}
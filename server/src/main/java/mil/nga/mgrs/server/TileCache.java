@@ -0,0 +1,203 @@
+package mil.nga.mgrs.server;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Bounded least recently used cache of encoded tiles and their entity tags,
+ * limited by the total bytes of the cached tiles. Each tile is charged a fixed
+ * entry overhead in addition to its length, so that empty tiles also count
+ * towards the bound.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+class TileCache {
+
+	/**
+	 * Approximate per tile entry overhead in bytes of the map entry, key,
+	 * cached tile, and entity tag
+	 */
+	static final int ENTRY_OVERHEAD = 128;
+
+	/**
+	 * Maximum total tile bytes
+	 */
+	private final long maxBytes;
+
+	/**
+	 * Cached tiles in access order
+	 */
+	private final LinkedHashMap<Long, CachedTile> tiles = new LinkedHashMap<>(
+			16, 0.75f, true);
+
+	/**
+	 * Total cached tile bytes, including entry overhead
+	 */
+	private long bytes;
+
+	/**
+	 * Cache hits
+	 */
+	private long hits;
+
+	/**
+	 * Cache misses
+	 */
+	private long misses;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param maxBytes
+	 *            maximum total tile bytes, 0 to disable caching
+	 */
+	TileCache(long maxBytes) {
+		if (maxBytes < 0) {
+			throw new IllegalArgumentException(
+					"Max bytes must not be negative: " + maxBytes);
+		}
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Get the cached tile
+	 * 
+	 * @param key
+	 *            tile key
+	 * @return cached tile or null
+	 */
+	synchronized CachedTile get(long key) {
+		CachedTile tile = tiles.get(key);
+		if (tile != null) {
+			hits++;
+		} else {
+			misses++;
+		}
+		return tile;
+	}
+
+	/**
+	 * Cache the tile, evicting the least recently used tiles over the maximum
+	 * bytes including entry overhead
+	 * 
+	 * @param key
+	 *            tile key
+	 * @param tile
+	 *            tile
+	 */
+	synchronized void put(long key, CachedTile tile) {
+		long size = size(tile);
+		if (size <= maxBytes) {
+			CachedTile previous = tiles.put(key, tile);
+			if (previous != null) {
+				bytes -= size(previous);
+			}
+			bytes += size;
+			Iterator<CachedTile> iterator = tiles.values().iterator();
+			while (bytes > maxBytes) {
+				bytes -= size(iterator.next());
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Get the number of cached tiles
+	 * 
+	 * @return cached tiles
+	 */
+	synchronized int size() {
+		return tiles.size();
+	}
+
+	/**
+	 * Get the total cached tile bytes, including entry overhead
+	 * 
+	 * @return cached bytes
+	 */
+	synchronized long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Get the cache hits
+	 * 
+	 * @return hits
+	 */
+	synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Get the cache misses
+	 * 
+	 * @return misses
+	 */
+	synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Get the cached size of the tile, including entry overhead
+	 * 
+	 * @param tile
+	 *            tile
+	 * @return bytes
+	 */
+	private static long size(CachedTile tile) {
+		return tile.getBytes().length + ENTRY_OVERHEAD;
+	}
+
+	/**
+	 * Encoded tile with an entity tag
+	 */
+	static class CachedTile {
+
+		/**
+		 * Tile bytes
+		 */
+		private final byte[] bytes;
+
+		/**
+		 * Quoted entity tag
+		 */
+		private final String etag;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param bytes
+		 *            tile bytes
+		 */
+		CachedTile(byte[] bytes) {
+			this.bytes = bytes;
+			CRC32 crc = new CRC32();
+			crc.update(bytes, 0, bytes.length);
+			etag = "\"" + Long.toHexString(crc.getValue()) + "-"
+					+ Integer.toHexString(bytes.length) + "\"";
+		}
+
+		/**
+		 * Get the tile bytes
+		 * 
+		 * @return bytes
+		 */
+		byte[] getBytes() {
+			return bytes;
+		}
+
+		/**
+		 * Get the quoted entity tag
+		 * 
+		 * @return entity tag
+		 */
+		String getETag() {
+			return etag;
+		}
+
+	}
+
+}
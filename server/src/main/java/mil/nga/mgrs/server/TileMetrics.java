@@ -0,0 +1,247 @@
+package mil.nga.mgrs.server;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tile request latency metrics, recorded as a fixed bucket histogram and
+ * exported in the Prometheus text exposition format
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class TileMetrics {
+
+	/**
+	 * Latency histogram bucket upper bounds in seconds
+	 */
+	private static final double[] BUCKETS = { 0.0005, 0.001, 0.0025, 0.005,
+			0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5 };
+
+	/**
+	 * Latency histogram bucket upper bounds in nanoseconds
+	 */
+	private static final long[] BUCKET_NANOS = new long[BUCKETS.length];
+
+	static {
+		for (int i = 0; i < BUCKETS.length; i++) {
+			BUCKET_NANOS[i] = (long) (BUCKETS[i] * 1000000000L);
+		}
+	}
+
+	/**
+	 * Latency histogram counts, with a final overflow bucket
+	 */
+	private final AtomicLongArray buckets = new AtomicLongArray(
+			BUCKETS.length + 1);
+
+	/**
+	 * Request count
+	 */
+	private final AtomicLong count = new AtomicLong();
+
+	/**
+	 * Total latency in nanoseconds
+	 */
+	private final AtomicLong totalNanos = new AtomicLong();
+
+	/**
+	 * Maximum latency in nanoseconds
+	 */
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * Server error responses
+	 */
+	private final AtomicLong errors = new AtomicLong();
+
+	/**
+	 * Not modified responses
+	 */
+	private final AtomicLong notModified = new AtomicLong();
+
+	/**
+	 * Tile cache, optional
+	 */
+	private final TileCache cache;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param cache
+	 *            tile cache
+	 */
+	TileMetrics(TileCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Record a request
+	 * 
+	 * @param status
+	 *            response status code
+	 * @param nanos
+	 *            request latency in nanoseconds
+	 */
+	void record(int status, long nanos) {
+		int bucket = 0;
+		while (bucket < BUCKET_NANOS.length && nanos > BUCKET_NANOS[bucket]) {
+			bucket++;
+		}
+		buckets.incrementAndGet(bucket);
+		count.incrementAndGet();
+		totalNanos.addAndGet(nanos);
+		long max = maxNanos.get();
+		while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+			max = maxNanos.get();
+		}
+		if (status >= 500) {
+			errors.incrementAndGet();
+		} else if (status == 304) {
+			notModified.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Get the request count
+	 * 
+	 * @return requests
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Get the mean request latency in milliseconds
+	 * 
+	 * @return mean latency
+	 */
+	public double getMeanMillis() {
+		long requests = count.get();
+		return requests > 0 ? totalNanos.get() / 1000000.0 / requests : 0.0;
+	}
+
+	/**
+	 * Get the maximum request latency in milliseconds
+	 * 
+	 * @return maximum latency
+	 */
+	public double getMaxMillis() {
+		return maxNanos.get() / 1000000.0;
+	}
+
+	/**
+	 * Get the estimated request latency percentile in milliseconds, as the
+	 * upper bound of the histogram bucket containing it
+	 * 
+	 * @param percentile
+	 *            percentile, 0.0 - 1.0
+	 * @return latency upper bound, or the maximum latency when beyond the
+	 *         buckets
+	 */
+	public double getPercentileMillis(double percentile) {
+		double millis = 0.0;
+		long requests = count.get();
+		if (requests > 0) {
+			long rank = (long) Math.ceil(percentile * requests);
+			long cumulative = 0;
+			millis = getMaxMillis();
+			for (int i = 0; i < BUCKETS.length; i++) {
+				cumulative += buckets.get(i);
+				if (cumulative >= rank) {
+					millis = Math.min(millis, BUCKETS[i] * 1000.0);
+					break;
+				}
+			}
+		}
+		return millis;
+	}
+
+	/**
+	 * Get the server error response count
+	 * 
+	 * @return errors
+	 */
+	public long getErrors() {
+		return errors.get();
+	}
+
+	/**
+	 * Get the not modified response count
+	 * 
+	 * @return not modified responses
+	 */
+	public long getNotModified() {
+		return notModified.get();
+	}
+
+	/**
+	 * Write the metrics in the Prometheus text exposition format
+	 * 
+	 * @param out
+	 *            output
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void write(Appendable out) throws IOException {
+
+		out.append(
+				"# HELP mgrs_tile_request_duration_seconds Tile request latency\n");
+		out.append("# TYPE mgrs_tile_request_duration_seconds histogram\n");
+		long cumulative = 0;
+		for (int i = 0; i < BUCKETS.length; i++) {
+			cumulative += buckets.get(i);
+			out.append("mgrs_tile_request_duration_seconds_bucket{le=\"")
+					.append(Double.toString(BUCKETS[i])).append("\"} ")
+					.append(Long.toString(cumulative)).append('\n');
+		}
+		cumulative += buckets.get(BUCKETS.length);
+		out.append("mgrs_tile_request_duration_seconds_bucket{le=\"+Inf\"} ")
+				.append(Long.toString(cumulative)).append('\n');
+		out.append("mgrs_tile_request_duration_seconds_sum ")
+				.append(Double.toString(totalNanos.get() / 1000000000.0))
+				.append('\n');
+		out.append("mgrs_tile_request_duration_seconds_count ")
+				.append(Long.toString(count.get())).append('\n');
+
+		writeCounter(out, "mgrs_tile_request_errors_total",
+				"Tile requests failed with a server error", errors.get());
+		writeCounter(out, "mgrs_tile_not_modified_total",
+				"Tile requests answered as not modified", notModified.get());
+		if (cache != null) {
+			writeCounter(out, "mgrs_tile_cache_hits_total", "Tile cache hits",
+					cache.getHits());
+			writeCounter(out, "mgrs_tile_cache_misses_total",
+					"Tile cache misses", cache.getMisses());
+			out.append("# HELP mgrs_tile_cache_bytes Tile cache bytes\n");
+			out.append("# TYPE mgrs_tile_cache_bytes gauge\n");
+			out.append("mgrs_tile_cache_bytes ")
+					.append(Long.toString(cache.getBytes())).append('\n');
+		}
+
+	}
+
+	/**
+	 * Write a counter metric
+	 * 
+	 * @param out
+	 *            output
+	 * @param name
+	 *            metric name
+	 * @param help
+	 *            metric help
+	 * @param value
+	 *            counter value
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	private static void writeCounter(Appendable out, String name, String help,
+			long value) throws IOException {
+		out.append("# HELP ").append(name).append(' ').append(help)
+				.append('\n');
+		out.append("# TYPE ").append(name).append(" counter\n");
+		out.append(name).append(' ').append(Long.toString(value)).append('\n');
+	}
+
+}
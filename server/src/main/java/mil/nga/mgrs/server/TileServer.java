@@ -0,0 +1,589 @@
+package mil.nga.mgrs.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import mil.nga.grid.tile.GridTile;
+import mil.nga.mgrs.grid.Grids;
+import mil.nga.mgrs.tile.RasterTileRenderer;
+import mil.nga.mgrs.tile.TileArchive;
+import mil.nga.mgrs.tile.TileFormat;
+import mil.nga.mgrs.tile.VectorTileEncoder;
+
+/**
+ * Lightweight grid tile HTTP server using the JDK HTTP server. Tiles are
+ * served from {@code /{z}/{x}/{y}} with an optional {@code .mvt},
+ * {@code .png}, or {@code .geojson} extension selecting the tile format, and
+ * request latency metrics from {@value #METRICS_PATH} in the Prometheus text
+ * format. Responses include entity tags and cache control headers, and
+ * encoded tiles are kept in a bounded in-memory cache.
+ * 
+ * Requests run on a bounded thread pool by default, or on a configured
+ * executor such as a virtual thread per task executor on Java 21 and later.
+ * Tile encoders are pooled and reused between requests.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class TileServer implements AutoCloseable {
+
+	/**
+	 * Default port
+	 */
+	public static final int DEFAULT_PORT = 8080;
+
+	/**
+	 * Default tile cache size in bytes
+	 */
+	public static final long DEFAULT_CACHE_BYTES = 64L * 1024 * 1024;
+
+	/**
+	 * Default cache control max age in seconds
+	 */
+	public static final long DEFAULT_MAX_AGE = 86400;
+
+	/**
+	 * Default raster tile size in pixels
+	 */
+	public static final int DEFAULT_TILE_SIZE = 256;
+
+	/**
+	 * Metrics path
+	 */
+	public static final String METRICS_PATH = "/metrics";
+
+	/**
+	 * Default bounded executor queue capacity
+	 */
+	private static final int QUEUE_CAPACITY = 1024;
+
+	/**
+	 * Grids
+	 */
+	private final Grids grids;
+
+	/**
+	 * HTTP server
+	 */
+	private final HttpServer server;
+
+	/**
+	 * Tile cache
+	 */
+	private final TileCache cache;
+
+	/**
+	 * Request metrics
+	 */
+	private final TileMetrics metrics;
+
+	/**
+	 * Pooled vector tile encoders
+	 */
+	private final Queue<VectorTileEncoder> vectorEncoders = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Pooled raster tile renderers
+	 */
+	private final Queue<RasterTileRenderer> rasterRenderers = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Pooled GeoJSON tile encoders
+	 */
+	private final Queue<GeoJSONTileEncoder> geoJSONEncoders = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Request executor, created when started without one
+	 */
+	private Executor executor;
+
+	/**
+	 * Executor created by the server
+	 */
+	private ExecutorService ownedExecutor;
+
+	/**
+	 * Tile format of requests without an extension
+	 */
+	private TileFormat defaultFormat = TileFormat.MVT;
+
+	/**
+	 * Cache control max age in seconds
+	 */
+	private long maxAge = DEFAULT_MAX_AGE;
+
+	/**
+	 * Raster tile size in pixels
+	 */
+	private int tileSize = DEFAULT_TILE_SIZE;
+
+	/**
+	 * Create a tile server on the port with the default tile cache
+	 * 
+	 * @param grids
+	 *            grids
+	 * @param port
+	 *            port, 0 for an ephemeral port
+	 * @return tile server
+	 * @throws IOException
+	 *             upon failure to bind
+	 */
+	public static TileServer create(Grids grids, int port) throws IOException {
+		return new TileServer(grids, new InetSocketAddress(port),
+				DEFAULT_CACHE_BYTES);
+	}
+
+	/**
+	 * Create a tile server
+	 * 
+	 * @param grids
+	 *            grids
+	 * @param address
+	 *            socket address
+	 * @param cacheBytes
+	 *            maximum tile cache bytes, 0 to disable caching
+	 * @return tile server
+	 * @throws IOException
+	 *             upon failure to bind
+	 */
+	public static TileServer create(Grids grids, InetSocketAddress address,
+			long cacheBytes) throws IOException {
+		return new TileServer(grids, address, cacheBytes);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param grids
+	 *            grids
+	 * @param address
+	 *            socket address
+	 * @param cacheBytes
+	 *            maximum tile cache bytes, 0 to disable caching
+	 * @throws IOException
+	 *             upon failure to bind
+	 */
+	public TileServer(Grids grids, InetSocketAddress address, long cacheBytes)
+			throws IOException {
+		this.grids = grids;
+		cache = cacheBytes > 0 ? new TileCache(cacheBytes) : null;
+		metrics = new TileMetrics(cache);
+		server = HttpServer.create(address, 0);
+		server.createContext("/", this::handleTile);
+		server.createContext(METRICS_PATH, this::handleMetrics);
+	}
+
+	/**
+	 * Get the grids
+	 * 
+	 * @return grids
+	 */
+	public Grids getGrids() {
+		return grids;
+	}
+
+	/**
+	 * Get the bound socket address
+	 * 
+	 * @return address
+	 */
+	public InetSocketAddress getAddress() {
+		return server.getAddress();
+	}
+
+	/**
+	 * Get the request metrics
+	 * 
+	 * @return metrics
+	 */
+	public TileMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Set the request executor before starting, such as a virtual thread per
+	 * task executor. The executor is not shut down by the server.
+	 * 
+	 * @param executor
+	 *            executor
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Get the tile format of requests without an extension
+	 * 
+	 * @return default tile format
+	 */
+	public TileFormat getDefaultFormat() {
+		return defaultFormat;
+	}
+
+	/**
+	 * Set the tile format of requests without an extension
+	 * 
+	 * @param defaultFormat
+	 *            default tile format
+	 */
+	public void setDefaultFormat(TileFormat defaultFormat) {
+		if (!isSupported(defaultFormat)) {
+			throw new IllegalArgumentException(
+					"Unsupported tile format: " + defaultFormat);
+		}
+		this.defaultFormat = defaultFormat;
+	}
+
+	/**
+	 * Get the cache control max age in seconds
+	 * 
+	 * @return max age
+	 */
+	public long getMaxAge() {
+		return maxAge;
+	}
+
+	/**
+	 * Set the cache control max age in seconds
+	 * 
+	 * @param maxAge
+	 *            max age
+	 */
+	public void setMaxAge(long maxAge) {
+		if (maxAge < 0) {
+			throw new IllegalArgumentException(
+					"Max age must not be negative: " + maxAge);
+		}
+		this.maxAge = maxAge;
+	}
+
+	/**
+	 * Get the raster tile size in pixels
+	 * 
+	 * @return tile size
+	 */
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	/**
+	 * Set the raster tile size in pixels before starting
+	 * 
+	 * @param tileSize
+	 *            tile size, such as 256 or 512
+	 */
+	public void setTileSize(int tileSize) {
+		if (tileSize < 1) {
+			throw new IllegalArgumentException(
+					"Tile size must be positive: " + tileSize);
+		}
+		this.tileSize = tileSize;
+	}
+
+	/**
+	 * Start the server, creating a bounded thread pool per available
+	 * processor when no executor is set
+	 */
+	public void start() {
+		if (executor == null) {
+			int threads = Runtime.getRuntime().availableProcessors();
+			ownedExecutor = new ThreadPoolExecutor(threads, threads, 0L,
+					TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+					new ThreadPoolExecutor.CallerRunsPolicy());
+			executor = ownedExecutor;
+		}
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	/**
+	 * Stop the server, waiting up to the delay for active requests
+	 * 
+	 * @param delay
+	 *            maximum seconds to wait
+	 */
+	public void stop(int delay) {
+		server.stop(delay);
+		if (ownedExecutor != null) {
+			ownedExecutor.shutdown();
+			ownedExecutor = null;
+			executor = null;
+		}
+		RasterTileRenderer renderer;
+		while ((renderer = rasterRenderers.poll()) != null) {
+			renderer.close();
+		}
+	}
+
+	/**
+	 * Stop the server immediately
+	 */
+	@Override
+	public void close() {
+		stop(0);
+	}
+
+	/**
+	 * Encode the tile
+	 * 
+	 * @param format
+	 *            tile format
+	 * @param tile
+	 *            grid tile
+	 * @return tile bytes, empty when no grids
+	 */
+	public byte[] encode(TileFormat format, GridTile tile) {
+		byte[] bytes;
+		switch (format) {
+		case MVT:
+			VectorTileEncoder vectorEncoder = borrow(vectorEncoders,
+					() -> VectorTileEncoder.create(grids));
+			bytes = vectorEncoder.encode(tile);
+			vectorEncoders.offer(vectorEncoder);
+			break;
+		case PNG:
+			RasterTileRenderer renderer = borrow(rasterRenderers,
+					() -> RasterTileRenderer.create(grids, tileSize));
+			bytes = renderer.renderPNG(tile);
+			rasterRenderers.offer(renderer);
+			break;
+		case GEOJSON:
+			GeoJSONTileEncoder geoJSONEncoder = borrow(geoJSONEncoders,
+					() -> new GeoJSONTileEncoder(grids));
+			bytes = geoJSONEncoder.encode(tile);
+			geoJSONEncoders.offer(geoJSONEncoder);
+			break;
+		default:
+			throw new IllegalArgumentException(
+					"Unsupported tile format: " + format);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Handle a tile request
+	 * 
+	 * @param exchange
+	 *            HTTP exchange
+	 * @throws IOException
+	 *             upon failure to respond
+	 */
+	private void handleTile(HttpExchange exchange) throws IOException {
+
+		long start = System.nanoTime();
+		int status = 500;
+		try {
+
+			String method = exchange.getRequestMethod();
+			boolean head = "HEAD".equals(method);
+			if (!head && !"GET".equals(method)) {
+				status = respond(exchange, 405, null);
+				return;
+			}
+
+			String path = exchange.getRequestURI().getPath();
+			String[] parts = path.substring(1).split("/", -1);
+			if (parts.length != 3) {
+				status = respond(exchange, 404, null);
+				return;
+			}
+
+			TileFormat format = defaultFormat;
+			String last = parts[2];
+			int extension = last.lastIndexOf('.');
+			if (extension >= 0) {
+				format = TileFormat.fromExtension(last.substring(extension + 1));
+				last = last.substring(0, extension);
+			}
+
+			int zoom = parse(parts[0]);
+			int x = parse(parts[1]);
+			int y = parse(last);
+			if (!isSupported(format) || zoom < 0
+					|| zoom > TileArchive.MAX_ZOOM || x < 0 || y < 0
+					|| x >= 1 << zoom || y >= 1 << zoom) {
+				status = respond(exchange, 404, null);
+				return;
+			}
+
+			long key = (TileArchive.getTileId(zoom, x, y) << 2)
+					| format.ordinal();
+			TileCache.CachedTile tile = cache != null ? cache.get(key) : null;
+			if (tile == null) {
+				tile = new TileCache.CachedTile(encode(format,
+						GridTile.tile(tileSize, tileSize, x, y, zoom)));
+				if (cache != null) {
+					cache.put(key, tile);
+				}
+			}
+
+			Headers headers = exchange.getResponseHeaders();
+			headers.set("Content-Type", format.getContentType());
+			headers.set("Cache-Control", "public, max-age=" + maxAge);
+			headers.set("ETag", tile.getETag());
+			headers.set("Access-Control-Allow-Origin", "*");
+
+			String ifNoneMatch = exchange.getRequestHeaders()
+					.getFirst("If-None-Match");
+			if (ifNoneMatch != null && matches(ifNoneMatch, tile.getETag())) {
+				status = respond(exchange, 304, null);
+			} else if (tile.getBytes().length == 0) {
+				status = respond(exchange, 204, null);
+			} else if (head) {
+				headers.set("Content-Length",
+						Integer.toString(tile.getBytes().length));
+				status = respond(exchange, 200, null);
+			} else {
+				status = respond(exchange, 200, tile.getBytes());
+			}
+
+		} catch (RuntimeException e) {
+			status = respond(exchange, 500, null);
+		} finally {
+			exchange.close();
+			metrics.record(status, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Handle a metrics request
+	 * 
+	 * @param exchange
+	 *            HTTP exchange
+	 * @throws IOException
+	 *             upon failure to respond
+	 */
+	private void handleMetrics(HttpExchange exchange) throws IOException {
+		try {
+			StringBuilder text = new StringBuilder();
+			metrics.write(text);
+			exchange.getResponseHeaders().set("Content-Type",
+					"text/plain; version=0.0.4; charset=utf-8");
+			respond(exchange, 200,
+					text.toString().getBytes(StandardCharsets.UTF_8));
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Send the response
+	 * 
+	 * @param exchange
+	 *            HTTP exchange
+	 * @param status
+	 *            status code
+	 * @param body
+	 *            response body or null
+	 * @return status code
+	 * @throws IOException
+	 *             upon failure to respond
+	 */
+	private static int respond(HttpExchange exchange, int status, byte[] body)
+			throws IOException {
+		exchange.sendResponseHeaders(status, body != null ? body.length : -1);
+		if (body != null) {
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		}
+		return status;
+	}
+
+	/**
+	 * Determine if the If-None-Match header matches the entity tag
+	 * 
+	 * @param ifNoneMatch
+	 *            If-None-Match header value
+	 * @param etag
+	 *            quoted entity tag
+	 * @return true if matched
+	 */
+	private static boolean matches(String ifNoneMatch, String etag) {
+		boolean matches = false;
+		for (String value : ifNoneMatch.split(",")) {
+			value = value.trim();
+			if (value.startsWith("W/")) {
+				value = value.substring(2);
+			}
+			if (value.equals("*") || value.equals(etag)) {
+				matches = true;
+				break;
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Parse a non negative tile path value
+	 * 
+	 * @param value
+	 *            path value
+	 * @return parsed value, or -1 if invalid
+	 */
+	private static int parse(String value) {
+		int parsed = -1;
+		if (!value.isEmpty() && value.length() <= 10) {
+			parsed = 0;
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				if (c < '0' || c > '9') {
+					parsed = -1;
+					break;
+				}
+				parsed = parsed * 10 + (c - '0');
+				if (parsed < 0) {
+					break;
+				}
+			}
+		}
+		return parsed;
+	}
+
+	/**
+	 * Determine if the tile format is served
+	 * 
+	 * @param format
+	 *            tile format
+	 * @return true if supported
+	 */
+	private static boolean isSupported(TileFormat format) {
+		return format == TileFormat.MVT || format == TileFormat.PNG
+				|| format == TileFormat.GEOJSON;
+	}
+
+	/**
+	 * Borrow a pooled encoder or create one
+	 * 
+	 * @param <T>
+	 *            encoder type
+	 * @param pool
+	 *            encoder pool
+	 * @param creator
+	 *            encoder creator
+	 * @return encoder
+	 */
+	private static <T> T borrow(Queue<T> pool, Supplier<T> creator) {
+		T encoder = pool.poll();
+		if (encoder == null) {
+			encoder = creator.get();
+		}
+		return encoder;
+	}
+
+}
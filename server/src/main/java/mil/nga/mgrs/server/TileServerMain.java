@@ -0,0 +1,49 @@
+package mil.nga.mgrs.server;
+
+import mil.nga.mgrs.grid.Grids;
+import mil.nga.mgrs.tile.TileFormat;
+
+/**
+ * Tile server entry point, serving the default grids
+ * 
+ * <pre>
+ * java -jar mgrs-server.jar [port] [default format: mvt, png, geojson]
+ * </pre>
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class TileServerMain {
+
+	/**
+	 * Run the tile server until the process is stopped
+	 * 
+	 * @param args
+	 *            optional port and default tile format extension
+	 * @throws Exception
+	 *             upon failure to start the server
+	 */
+	public static void main(String[] args) throws Exception {
+
+		int port = args.length > 0 ? Integer.parseInt(args[0])
+				: TileServer.DEFAULT_PORT;
+
+		TileServer server = TileServer.create(Grids.create(), port);
+		if (args.length > 1) {
+			TileFormat format = TileFormat.fromExtension(args[1]);
+			if (format == null) {
+				throw new IllegalArgumentException(
+						"Unsupported tile format: " + args[1]);
+			}
+			server.setDefaultFormat(format);
+		}
+
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1)));
+		server.start();
+
+		System.out.println("Serving MGRS tiles at http://localhost:"
+				+ server.getAddress().getPort() + "/{z}/{x}/{y}."
+				+ server.getDefaultFormat().getExtension());
+	}
+
+}
@@ -0,0 +1,72 @@
+package mil.nga.mgrs.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import mil.nga.mgrs.server.TileCache.CachedTile;
+
+/**
+ * Tile Cache Test
+ * 
+ * @author osbornb
+ */
+public class TileCacheTest {
+
+	/**
+	 * Test the cache is bounded by empty tiles
+	 */
+	@Test
+	public void testEmptyTiles() {
+
+		long maxBytes = 100 * TileCache.ENTRY_OVERHEAD;
+		TileCache cache = new TileCache(maxBytes);
+
+		CachedTile empty = new CachedTile(new byte[0]);
+		for (long key = 0; key < 10000; key++) {
+			cache.put(key, empty);
+			assertTrue(cache.size() <= 100);
+			assertTrue(cache.getBytes() <= maxBytes);
+		}
+
+		assertEquals(100, cache.size());
+		assertEquals(maxBytes, cache.getBytes());
+		assertNull(cache.get(0));
+		assertNotNull(cache.get(9999));
+
+	}
+
+	/**
+	 * Test evicting tiles by bytes
+	 */
+	@Test
+	public void testEviction() {
+
+		int length = 1000;
+		long maxBytes = 3 * (length + TileCache.ENTRY_OVERHEAD);
+		TileCache cache = new TileCache(maxBytes);
+
+		for (long key = 0; key < 4; key++) {
+			cache.put(key, new CachedTile(new byte[length]));
+		}
+		assertEquals(3, cache.size());
+		assertEquals(maxBytes, cache.getBytes());
+		assertNull(cache.get(0));
+		assertNotNull(cache.get(1));
+
+		// Replacing a tile does not double count it
+		cache.put(2, new CachedTile(new byte[length]));
+		assertEquals(3, cache.size());
+		assertEquals(maxBytes, cache.getBytes());
+
+		// Tiles larger than the cache are not cached
+		cache.put(5, new CachedTile(new byte[(int) maxBytes]));
+		assertNull(cache.get(5));
+		assertEquals(3, cache.size());
+
+	}
+
+}
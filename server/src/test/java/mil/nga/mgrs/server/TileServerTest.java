@@ -0,0 +1,154 @@
+package mil.nga.mgrs.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import mil.nga.mgrs.grid.Grids;
+import mil.nga.mgrs.tile.TileFormat;
+
+/**
+ * Tile Server Test
+ * 
+ * @author osbornb
+ */
+public class TileServerTest {
+
+	/**
+	 * Test serving tiles with entity tags, caching, and metrics
+	 * 
+	 * @throws IOException
+	 *             upon failure
+	 */
+	@Test
+	public void testServer() throws IOException {
+
+		try (TileServer server = TileServer.create(Grids.create(), 0)) {
+			server.start();
+			String base = "http://localhost:" + server.getAddress().getPort();
+
+			// Zoom 6 tile over 32T
+			HttpURLConnection connection = get(base + "/6/33/22", null);
+			assertEquals(200, connection.getResponseCode());
+			assertEquals(TileFormat.MVT.getContentType(),
+					connection.getContentType());
+			assertEquals("public, max-age=" + TileServer.DEFAULT_MAX_AGE,
+					connection.getHeaderField("Cache-Control"));
+			String etag = connection.getHeaderField("ETag");
+			assertNotNull(etag);
+			byte[] vector = read(connection);
+			assertTrue(vector.length > 0);
+
+			connection = get(base + "/6/33/22.mvt", etag);
+			assertEquals(304, connection.getResponseCode());
+
+			connection = get(base + "/6/33/22.png", null);
+			assertEquals(200, connection.getResponseCode());
+			assertEquals("image/png", connection.getContentType());
+			byte[] png = read(connection);
+			assertEquals((byte) 0x89, png[0]);
+			assertEquals('P', png[1]);
+
+			connection = get(base + "/6/33/22.geojson", null);
+			assertEquals(200, connection.getResponseCode());
+			String geoJSON = new String(read(connection),
+					StandardCharsets.UTF_8);
+			assertTrue(geoJSON.startsWith("{\"type\":\"FeatureCollection\""));
+			assertTrue(geoJSON.contains("\"LineString\""));
+			assertTrue(geoJSON.contains("\"Point\""));
+
+			assertEquals(404, get(base + "/6/64/22", null).getResponseCode());
+			assertEquals(404, get(base + "/6/33", null).getResponseCode());
+			assertEquals(404,
+					get(base + "/6/33/22.jpg", null).getResponseCode());
+
+			// Metrics are recorded after each response completes
+			for (int i = 0; i < 100 && server.getMetrics().getCount() < 7; i++) {
+				sleep(10);
+			}
+
+			connection = get(base + TileServer.METRICS_PATH, null);
+			assertEquals(200, connection.getResponseCode());
+			String metrics = new String(read(connection),
+					StandardCharsets.UTF_8);
+			assertTrue(metrics.contains(
+					"mgrs_tile_request_duration_seconds_count 7"));
+			assertTrue(metrics.contains("mgrs_tile_cache_hits_total 1"));
+			assertTrue(metrics.contains("mgrs_tile_not_modified_total 1"));
+
+			assertEquals(7, server.getMetrics().getCount());
+			assertTrue(server.getMetrics().getMaxMillis() > 0);
+			assertTrue(server.getMetrics()
+					.getPercentileMillis(0.99) <= server.getMetrics()
+							.getMaxMillis());
+		}
+
+	}
+
+	/**
+	 * Sleep
+	 * 
+	 * @param millis
+	 *            milliseconds
+	 */
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Request the URL
+	 * 
+	 * @param url
+	 *            URL
+	 * @param etag
+	 *            If-None-Match entity tag
+	 * @return connection
+	 * @throws IOException
+	 *             upon failure
+	 */
+	private static HttpURLConnection get(String url, String etag)
+			throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL(url)
+				.openConnection();
+		if (etag != null) {
+			connection.setRequestProperty("If-None-Match", etag);
+		}
+		return connection;
+	}
+
+	/**
+	 * Read the response body
+	 * 
+	 * @param connection
+	 *            connection
+	 * @return body bytes
+	 * @throws IOException
+	 *             upon failure
+	 */
+	private static byte[] read(HttpURLConnection connection)
+			throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (InputStream in = connection.getInputStream()) {
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+		}
+		return out.toByteArray();
+	}
+
+}
@@ -0,0 +1,144 @@
+package mil.nga.mgrs;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Character sequence view over a range of single byte (ASCII) characters in
+ * a byte array or byte buffer, without copying or decoding the bytes. Bytes
+ * outside of the ASCII range are viewed as their ISO-8859-1 characters.
+ * Buffer views use absolute reads and do not change the buffer position.
+ *
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class AsciiCharSequence implements CharSequence {
+
+	/**
+	 * Byte array, null when viewing a buffer
+	 */
+	private final byte[] bytes;
+
+	/**
+	 * Byte buffer, null when viewing an array
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * Offset of the first character
+	 */
+	private final int offset;
+
+	/**
+	 * Number of characters
+	 */
+	private final int length;
+
+	/**
+	 * Constructor
+	 *
+	 * @param bytes
+	 *            byte array
+	 * @param offset
+	 *            offset of the first character
+	 * @param length
+	 *            number of characters
+	 */
+	public AsciiCharSequence(byte[] bytes, int offset, int length) {
+		checkRange(bytes.length, offset, length);
+		this.bytes = bytes;
+		this.buffer = null;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param buffer
+	 *            byte buffer
+	 * @param offset
+	 *            absolute buffer index of the first character
+	 * @param length
+	 *            number of characters
+	 */
+	public AsciiCharSequence(ByteBuffer buffer, int offset, int length) {
+		checkRange(buffer.limit(), offset, length);
+		this.bytes = null;
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Length: " + length);
+		}
+		byte value;
+		if (bytes != null) {
+			value = bytes[offset + index];
+		} else {
+			value = buffer.get(offset + index);
+		}
+		return (char) (value & 0xFF);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		checkRange(length, start, end - start);
+		CharSequence sequence;
+		if (bytes != null) {
+			sequence = new AsciiCharSequence(bytes, offset + start,
+					end - start);
+		} else {
+			sequence = new AsciiCharSequence(buffer, offset + start,
+					end - start);
+		}
+		return sequence;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		char[] chars = new char[length];
+		for (int i = 0; i < length; i++) {
+			chars[i] = charAt(i);
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * Check that the range is within the available length
+	 *
+	 * @param available
+	 *            available length
+	 * @param offset
+	 *            range offset
+	 * @param length
+	 *            range length
+	 */
+	private static void checkRange(int available, int offset, int length) {
+		if (offset < 0 || length < 0 || offset > available - length) {
+			throw new IndexOutOfBoundsException("Offset: " + offset
+					+ ", Length: " + length + ", Available: " + available);
+		}
+	}
+
+}
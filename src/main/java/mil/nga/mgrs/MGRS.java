@@ -1,9 +1,10 @@
 package mil.nga.mgrs;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
+import java.util.Arrays;
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import mil.nga.grid.Hemisphere;
 import mil.nga.grid.features.Bounds;
@@ -13,6 +14,7 @@ import mil.nga.mgrs.grid.GridType;
 import mil.nga.mgrs.gzd.GridZone;
 import mil.nga.mgrs.gzd.GridZones;
 import mil.nga.mgrs.utm.UTM;
+import mil.nga.mgrs.utm.UTMProjection;
 import mil.nga.sf.util.GeometryUtils;
 
 /**
@@ -23,6 +25,103 @@ import mil.nga.sf.util.GeometryUtils;
  */
 public class MGRS {
 
+	/**
+	 * Encoded values index of the zone number
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int ENCODED_ZONE = 0;
+
+	/**
+	 * Encoded values index of the band letter
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int ENCODED_BAND = 1;
+
+	/**
+	 * Encoded values index of the column letter
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int ENCODED_COLUMN = 2;
+
+	/**
+	 * Encoded values index of the row letter
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int ENCODED_ROW = 3;
+
+	/**
+	 * Encoded values index of the easting
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int ENCODED_EASTING = 4;
+
+	/**
+	 * Encoded values index of the northing
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int ENCODED_NORTHING = 5;
+
+	/**
+	 * Encoded values length
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int ENCODED_LENGTH = 6;
+
+	/**
+	 * Parse status of a successfully parsed MGRS string
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int PARSE_SUCCESS = 0;
+
+	/**
+	 * Parse status of a value that is not a MGRS string
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int PARSE_INVALID = 1;
+
+	/**
+	 * Parse status of a MGRS string with a zone number outside of
+	 * {@link MGRSConstants#MIN_ZONE_NUMBER} and
+	 * {@link MGRSConstants#MAX_ZONE_NUMBER}
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int PARSE_INVALID_ZONE = 2;
+
+	/**
+	 * Parse status of a MGRS string with a grid zone that does not exist
+	 * (Svalbard 32X, 34X, and 36X)
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int PARSE_INVALID_GRID_ZONE = 3;
+
+	/**
+	 * Maximum easting or northing digits
+	 */
+	private static final int MAX_DIGITS = 5;
+
+	/**
+	 * Maximum formatted coordinate length, including any int zone number
+	 */
+	static final int MAX_LENGTH = 11 + 3 + 2 * MAX_DIGITS;
+
+	/**
+	 * Per thread formatting characters reused by the appendable and byte
+	 * buffer format sinks
+	 */
+	private static final ThreadLocal<char[]> scratch = ThreadLocal
+			.withInitial(() -> new char[MAX_LENGTH]);
+
 	/**
 	 * 100km grid square column (‘e’) letters repeat every third zone
 	 */
@@ -36,17 +135,48 @@ public class MGRS {
 			"ABCDEFGHJKLMNPQRSTUV", "FGHJKLMNPQRSTUVABCDE" };
 
 	/**
-	 * MGRS string pattern
+	 * Northing of the bottom of each band, extended to include the entirety
+	 * of the bottommost 100km square, indexed by band index. Built with the
+	 * {@link UTM#LEGACY} projection regardless of the global default.
 	 */
-	private static final Pattern mgrsPattern = Pattern.compile(
-			"^(\\d{1,2})([C-HJ-NP-X])(?:([A-HJ-NP-Z][A-HJ-NP-V])((\\d{2}){0,5}))?$",
-			Pattern.CASE_INSENSITIVE);
+	private static final double[] bandNorthings = new double[MGRSConstants.NUM_BANDS];
 
 	/**
-	 * MGRS invalid string pattern (Svalbard)
+	 * UTM northings of the 100km squares (excluding the easting within the
+	 * square), indexed by zone number parity, band index, and row letter
+	 * offset from 'A'. Row letters not used by the zone parity are NaN.
 	 */
-	private static final Pattern mgrsInvalidPattern = Pattern
-			.compile("^3[246]X.*$", Pattern.CASE_INSENSITIVE);
+	private static final double[][][] rowNorthings = new double[2][MGRSConstants.NUM_BANDS][26];
+
+	static {
+
+		for (char band = MGRSConstants.MIN_BAND_LETTER; band <= MGRSConstants.MAX_BAND_LETTER; band++) {
+			int bandIndex = MGRSUtils.getBandIndex(band);
+			if (bandIndex < 0) {
+				continue;
+			}
+
+			// northing of bottom of band, extended to include entirety of
+			// bottommost 100km square
+			double latBand = GridZones.getSouthLatitude(band);
+			double latBandNorthing = UTM
+					.from(Point.degrees(0, latBand), UTM.LEGACY)
+					.getNorthing();
+			double nBand = Math.floor(latBandNorthing / 100000) * 100000;
+			bandNorthings[bandIndex] = nBand;
+
+			for (int parity = 0; parity < rowLetters.length; parity++) {
+				double[] northings = rowNorthings[parity][bandIndex];
+				Arrays.fill(northings, Double.NaN);
+				String letters = rowLetters[parity];
+				for (int rowIndex = 0; rowIndex < letters.length(); rowIndex++) {
+					northings[letters.charAt(rowIndex) - 'A'] = getNorthing(
+							nBand, rowIndex, 0);
+				}
+			}
+		}
+
+	}
 
 	/**
 	 * Zone number
@@ -118,6 +248,22 @@ public class MGRS {
 		return new MGRS(zone, band, easting, northing);
 	}
 
+	/**
+	 * Create from encoded values
+	 * 
+	 * @param values
+	 *            encoded values, see
+	 *            {@link #encode(double, double, GridType, long[])}
+	 * @return MGRS
+	 * @since 2.1.3
+	 */
+	public static MGRS create(long[] values) {
+		return new MGRS((int) values[ENCODED_ZONE],
+				(char) values[ENCODED_BAND], (char) values[ENCODED_COLUMN],
+				(char) values[ENCODED_ROW], values[ENCODED_EASTING],
+				values[ENCODED_NORTHING]);
+	}
+
 	/**
 	 * Constructor
 	 * 
@@ -241,22 +387,209 @@ public class MGRS {
 	 * @return MGRS coordinate
 	 */
 	public String coordinate(GridType type) {
+		char[] chars = new char[MAX_LENGTH];
+		int length = format(zone, band, column, row, easting, northing, type,
+				chars, 0);
+		return new String(chars, 0, length);
+	}
 
-		StringBuilder mgrs = new StringBuilder();
+	/**
+	 * Get the easting and northing concatenated value in the grid type
+	 * precision
+	 * 
+	 * @param type
+	 *            grid type precision
+	 * @return easting and northing value
+	 */
+	public String getEastingAndNorthing(GridType type) {
+		char[] chars = new char[2 * MAX_DIGITS];
+		int length = formatEastingAndNorthing(easting, northing,
+				type.getAccuracy(), chars, 0);
+		return new String(chars, 0, length);
+	}
+
+	/**
+	 * Append the MGRS coordinate with specified grid precision, see
+	 * {@link #coordinate(GridType)}
+	 * 
+	 * @param type
+	 *            grid type precision
+	 * @param appendable
+	 *            appendable
+	 * @throws IOException
+	 *             upon failure to append
+	 * @since 2.1.3
+	 */
+	public void format(GridType type, Appendable appendable)
+			throws IOException {
+		char[] chars = scratch.get();
+		int length = format(zone, band, column, row, easting, northing, type,
+				chars, 0);
+		append(chars, length, appendable);
+	}
+
+	/**
+	 * Write the MGRS coordinate with specified grid precision into the
+	 * characters, see {@link #coordinate(GridType)}. Coordinates of valid
+	 * zone numbers are at most 15 characters.
+	 * 
+	 * @param type
+	 *            grid type precision
+	 * @param chars
+	 *            characters output
+	 * @param offset
+	 *            offset of the first written character
+	 * @return number of characters written
+	 * @since 2.1.3
+	 */
+	public int format(GridType type, char[] chars, int offset) {
+		return format(zone, band, column, row, easting, northing, type, chars,
+				offset);
+	}
+
+	/**
+	 * Put the MGRS coordinate with specified grid precision as ASCII bytes at
+	 * the buffer position, see {@link #coordinate(GridType)}. Coordinates of
+	 * valid zone numbers are at most 15 bytes.
+	 * 
+	 * @param type
+	 *            grid type precision
+	 * @param buffer
+	 *            byte buffer
+	 * @return number of bytes written
+	 * @since 2.1.3
+	 */
+	public int format(GridType type, ByteBuffer buffer) {
+		char[] chars = scratch.get();
+		int length = format(zone, band, column, row, easting, northing, type,
+				chars, 0);
+		put(chars, length, buffer);
+		return length;
+	}
+
+	/**
+	 * Append the MGRS coordinate of the encoded values with specified grid
+	 * precision, see {@link #coordinate(GridType)}
+	 * 
+	 * @param values
+	 *            encoded values, see {@link #encode(double, double, GridType,
+	 *            long[])}
+	 * @param type
+	 *            grid type precision
+	 * @param appendable
+	 *            appendable
+	 * @throws IOException
+	 *             upon failure to append
+	 * @since 2.1.3
+	 */
+	public static void format(long[] values, GridType type,
+			Appendable appendable) throws IOException {
+		char[] chars = scratch.get();
+		int length = format(values, type, chars, 0);
+		append(chars, length, appendable);
+	}
+
+	/**
+	 * Write the MGRS coordinate of the encoded values with specified grid
+	 * precision into the characters, see {@link #coordinate(GridType)}.
+	 * Coordinates of valid zone numbers are at most 15 characters.
+	 * 
+	 * @param values
+	 *            encoded values, see {@link #encode(double, double, GridType,
+	 *            long[])}
+	 * @param type
+	 *            grid type precision
+	 * @param chars
+	 *            characters output
+	 * @param offset
+	 *            offset of the first written character
+	 * @return number of characters written
+	 * @since 2.1.3
+	 */
+	public static int format(long[] values, GridType type, char[] chars,
+			int offset) {
+		return format((int) values[ENCODED_ZONE], (char) values[ENCODED_BAND],
+				(char) values[ENCODED_COLUMN], (char) values[ENCODED_ROW],
+				values[ENCODED_EASTING], values[ENCODED_NORTHING], type, chars,
+				offset);
+	}
+
+	/**
+	 * Put the MGRS coordinate of the encoded values with specified grid
+	 * precision as ASCII bytes at the buffer position, see
+	 * {@link #coordinate(GridType)}. Coordinates of valid zone numbers are at
+	 * most 15 bytes.
+	 * 
+	 * @param values
+	 *            encoded values, see {@link #encode(double, double, GridType,
+	 *            long[])}
+	 * @param type
+	 *            grid type precision
+	 * @param buffer
+	 *            byte buffer
+	 * @return number of bytes written
+	 * @since 2.1.3
+	 */
+	public static int format(long[] values, GridType type, ByteBuffer buffer) {
+		char[] chars = scratch.get();
+		int length = format(values, type, chars, 0);
+		put(chars, length, buffer);
+		return length;
+	}
+
+	/**
+	 * Write the MGRS coordinate with specified grid precision into the
+	 * characters
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param band
+	 *            band letter
+	 * @param column
+	 *            column letter
+	 * @param row
+	 *            row letter
+	 * @param easting
+	 *            easting
+	 * @param northing
+	 *            northing
+	 * @param type
+	 *            grid type precision
+	 * @param chars
+	 *            characters output
+	 * @param offset
+	 *            offset of the first written character
+	 * @return number of characters written
+	 */
+	static int format(int zone, char band, char column, char row,
+			long easting, long northing, GridType type, char[] chars,
+			int offset) {
+
+		int index = offset;
 
 		if (type != null) {
 
-			mgrs.append(zone);
-			mgrs.append(band);
+			if (zone >= 0 && zone < 100) {
+				if (zone >= 10) {
+					chars[index++] = (char) ('0' + zone / 10);
+				}
+				chars[index++] = (char) ('0' + zone % 10);
+			} else {
+				String zoneValue = String.valueOf(zone);
+				zoneValue.getChars(0, zoneValue.length(), chars, index);
+				index += zoneValue.length();
+			}
+			chars[index++] = band;
 
 			if (type != GridType.GZD) {
 
-				mgrs.append(column);
-				mgrs.append(row);
+				chars[index++] = column;
+				chars[index++] = row;
 
 				if (type != GridType.HUNDRED_KILOMETER) {
 
-					mgrs.append(getEastingAndNorthing(type));
+					index += formatEastingAndNorthing(easting, northing,
+							type.getAccuracy(), chars, index);
 
 				}
 
@@ -264,27 +597,93 @@ public class MGRS {
 
 		}
 
-		return mgrs.toString();
+		return index - offset;
 	}
 
 	/**
-	 * Get the easting and northing concatenated value in the grid type
-	 * precision
+	 * Write the easting and northing leading accuracy digits of their five
+	 * digit zero padded values
 	 * 
-	 * @param type
-	 *            grid type precision
-	 * @return easting and northing value
+	 * @param easting
+	 *            easting
+	 * @param northing
+	 *            northing
+	 * @param accuracy
+	 *            accuracy digits
+	 * @param chars
+	 *            characters output
+	 * @param offset
+	 *            offset of the first written character
+	 * @return number of characters written
 	 */
-	public String getEastingAndNorthing(GridType type) {
+	private static int formatEastingAndNorthing(long easting, long northing,
+			int accuracy, char[] chars, int offset) {
+		formatDigits(easting, accuracy, chars, offset);
+		formatDigits(northing, accuracy, chars, offset + accuracy);
+		return 2 * accuracy;
+	}
 
-		int accuracy = 5 - (int) Math.log10(type.getPrecision());
+	/**
+	 * Write the leading accuracy digits of the five digit zero padded value
+	 * 
+	 * @param value
+	 *            easting or northing value
+	 * @param accuracy
+	 *            accuracy digits
+	 * @param chars
+	 *            characters output
+	 * @param offset
+	 *            offset of the first written character
+	 */
+	private static void formatDigits(long value, int accuracy, char[] chars,
+			int offset) {
+		if (value >= 0 && value < 100000) {
+			int digits = (int) value;
+			for (int i = MAX_DIGITS - 1; i >= 0; i--) {
+				if (i < accuracy) {
+					chars[offset + i] = (char) ('0' + digits % 10);
+				}
+				digits /= 10;
+			}
+		} else {
+			String padded = String.format(Locale.ROOT, "%05d", value);
+			padded.getChars(0, accuracy, chars, offset);
+		}
+	}
 
-		String easting = String.format(Locale.getDefault(), "%05d",
-				this.easting);
-		String northing = String.format(Locale.getDefault(), "%05d",
-				this.northing);
+	/**
+	 * Append the characters
+	 * 
+	 * @param chars
+	 *            characters
+	 * @param length
+	 *            number of characters
+	 * @param appendable
+	 *            appendable
+	 * @throws IOException
+	 *             upon failure to append
+	 */
+	private static void append(char[] chars, int length,
+			Appendable appendable) throws IOException {
+		for (int i = 0; i < length; i++) {
+			appendable.append(chars[i]);
+		}
+	}
 
-		return easting.substring(0, accuracy) + northing.substring(0, accuracy);
+	/**
+	 * Put the characters as single bytes
+	 * 
+	 * @param chars
+	 *            characters
+	 * @param length
+	 *            number of characters
+	 * @param buffer
+	 *            byte buffer
+	 */
+	private static void put(char[] chars, int length, ByteBuffer buffer) {
+		for (int i = 0; i < length; i++) {
+			buffer.put((byte) chars[i]);
+		}
 	}
 
 	/**
@@ -355,6 +754,18 @@ public class MGRS {
 		return toUTM().toPoint();
 	}
 
+	/**
+	 * Convert to a point with the UTM projection
+	 * 
+	 * @param projection
+	 *            UTM projection
+	 * @return point
+	 * @since 2.1.3
+	 */
+	public Point toPoint(UTMProjection projection) {
+		return toUTM().toPoint(projection);
+	}
+
 	/**
 	 * Convert to UTM coordinate
 	 * 
@@ -375,6 +786,21 @@ public class MGRS {
 	 * @return UTM easting
 	 */
 	public double getUTMEasting() {
+		return getUTMEasting(zone, column, easting);
+	}
+
+	/**
+	 * Get the UTM easting
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param column
+	 *            column letter
+	 * @param easting
+	 *            easting within the 100km square
+	 * @return UTM easting
+	 */
+	static double getUTMEasting(int zone, char column, long easting) {
 
 		// get easting specified by e100k
 		String columnLetters = getColumnLetters(zone);
@@ -391,23 +817,79 @@ public class MGRS {
 	 * @return UTM northing
 	 */
 	public double getUTMNorthing() {
+		return getUTMNorthing(zone, band, row, northing);
+	}
+
+	/**
+	 * Get the UTM northing
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param band
+	 *            band letter
+	 * @param row
+	 *            row letter
+	 * @param northing
+	 *            northing within the 100km square
+	 * @return UTM northing
+	 */
+	static double getUTMNorthing(int zone, char band, char row,
+			long northing) {
+
+		int bandIndex = MGRSUtils.getBandIndex(band);
+		int rowOffset = row - 'A';
+
+		// precomputed 100km square northing when the northing is within the
+		// square
+		if (bandIndex >= 0 && rowOffset >= 0 && rowOffset < 26
+				&& northing >= 0 && northing < 100000) {
+			double n100k = rowNorthings[(zone - 1) % 2][bandIndex][rowOffset];
+			if (!Double.isNaN(n100k)) {
+				return n100k + northing;
+			}
+		}
 
 		// get northing specified by n100k
 		String rowLetters = getRowLetters(zone);
 		int rowIndex = rowLetters.indexOf(row);
-		double n100kNum = rowIndex * 100000.0; // n100k in meters
 
-		// get latitude of (bottom of) band
-		double latBand = GridZones.getSouthLatitude(band);
+		double nBand;
+		if (bandIndex >= 0) {
+			nBand = bandNorthings[bandIndex];
+		} else {
 
-		// northing of bottom of band, extended to include entirety of
-		// bottommost 100km square
-		// (100km square boundaries are aligned with 100km UTM northing
-		// intervals)
+			// get latitude of (bottom of) band
+			double latBand = GridZones.getSouthLatitude(band);
 
-		double latBandNorthing = UTM.from(Point.degrees(0, latBand))
-				.getNorthing();
-		double nBand = Math.floor(latBandNorthing / 100000) * 100000;
+			// northing of bottom of band, extended to include entirety of
+			// bottommost 100km square
+			// (100km square boundaries are aligned with 100km UTM northing
+			// intervals)
+
+			double latBandNorthing = UTM
+					.from(Point.degrees(0, latBand), UTM.LEGACY)
+					.getNorthing();
+			nBand = Math.floor(latBandNorthing / 100000) * 100000;
+		}
+
+		return getNorthing(nBand, rowIndex, northing);
+	}
+
+	/**
+	 * Get the UTM northing within the band
+	 * 
+	 * @param nBand
+	 *            northing of the bottom of the band
+	 * @param rowIndex
+	 *            row letter index within the zone row letters
+	 * @param northing
+	 *            northing within the 100km square
+	 * @return UTM northing
+	 */
+	private static double getNorthing(double nBand, int rowIndex,
+			double northing) {
+
+		double n100kNum = rowIndex * 100000.0; // n100k in meters
 
 		// 100km grid square row letters repeat every 2,000km north; add enough
 		// 2,000km blocks to get
@@ -436,71 +918,171 @@ public class MGRS {
 	 * @return true if MGRS string is valid, false otherwise
 	 */
 	public static boolean isMGRS(String mgrs) {
-		mgrs = removeSpaces(mgrs);
-		return mgrsPattern.matcher(mgrs).matches()
-				&& !mgrsInvalidPattern.matcher(mgrs).matches();
+		long[] values = new long[ENCODED_LENGTH];
+		return MGRSParser.scan(mgrs, values) != MGRSParser.INVALID
+				&& !MGRSParser.isOmittedSvalbard(values);
 	}
 
 	/**
-	 * Removed spaces from the value
-	 * 
-	 * @param value
-	 *            value string
-	 * @return value without spaces
+	 * Encodes a point as a MGRS string
+	 *
+	 * @param point
+	 *            point
+	 * @return MGRS
 	 */
-	private static String removeSpaces(String value) {
-		return value.replaceAll("\\s", "");
+	public static MGRS from(Point point) {
+		point = point.toDegrees();
+		return from(point.getLongitude(), point.getLatitude());
 	}
 
 	/**
-	 * Encodes a point as a MGRS string
+	 * Convert the coordinate to MGRS
+	 *
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @return MGRS
+	 * @since 2.1.1
+	 */
+	public static MGRS from(double longitude, double latitude) {
+		return from(longitude, latitude, UTM.getProjection());
+	}
+
+	/**
+	 * Encodes a point as a MGRS string with the UTM projection
 	 *
 	 * @param point
 	 *            point
+	 * @param projection
+	 *            UTM projection
 	 * @return MGRS
+	 * @since 2.1.3
 	 */
-	public static MGRS from(Point point) {
+	public static MGRS from(Point point, UTMProjection projection) {
+		point = point.toDegrees();
+		return from(point.getLongitude(), point.getLatitude(), projection);
+	}
 
-		point = point.copy().toDegrees();
+	/**
+	 * Convert the coordinate to MGRS with the UTM projection
+	 *
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @param projection
+	 *            UTM projection
+	 * @return MGRS
+	 * @since 2.1.3
+	 */
+	public static MGRS from(double longitude, double latitude,
+			UTMProjection projection) {
+		long[] values = new long[ENCODED_LENGTH];
+		encode(longitude, latitude, GridType.METER, values, projection);
+		return create(values);
+	}
+
+	/**
+	 * Encode the coordinate as MGRS values without creating intermediate
+	 * objects. The values are written to the array at the
+	 * {@link #ENCODED_ZONE}, {@link #ENCODED_BAND}, {@link #ENCODED_COLUMN},
+	 * {@link #ENCODED_ROW}, {@link #ENCODED_EASTING}, and
+	 * {@link #ENCODED_NORTHING} indices, with letters stored as character
+	 * values. At {@link GridType#METER} precision the values are identical to
+	 * those of {@link #from(double, double)}.
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @param type
+	 *            grid type precision to truncate the easting and northing to
+	 * @param values
+	 *            encoded values array of at least {@link #ENCODED_LENGTH}
+	 * @since 2.1.3
+	 */
+	public static void encode(double longitude, double latitude,
+			GridType type, long[] values) {
+		encode(longitude, latitude, type, values, UTM.getProjection());
+	}
+
+	/**
+	 * Encode the coordinate as MGRS values with the UTM projection, see
+	 * {@link #encode(double, double, GridType, long[])}
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @param type
+	 *            grid type precision to truncate the easting and northing to
+	 * @param values
+	 *            encoded values array of at least {@link #ENCODED_LENGTH}
+	 * @param projection
+	 *            UTM projection
+	 * @since 2.1.3
+	 */
+	public static void encode(double longitude, double latitude,
+			GridType type, long[] values, UTMProjection projection) {
 
 		// Bound the latitude if needed
-		if (point.getLatitude() < MGRSConstants.MIN_LAT) {
-			point.setLatitude(MGRSConstants.MIN_LAT);
-		} else if (point.getLatitude() > MGRSConstants.MAX_LAT) {
-			point.setLatitude(MGRSConstants.MAX_LAT);
+		if (latitude < MGRSConstants.MIN_LAT) {
+			latitude = MGRSConstants.MIN_LAT;
+		} else if (latitude > MGRSConstants.MAX_LAT) {
+			latitude = MGRSConstants.MAX_LAT;
 		}
 
 		// Normalize the longitude if needed
-		GeometryUtils.normalizeWGS84(point);
+		if (longitude < MGRSConstants.MIN_LON
+				|| longitude > MGRSConstants.MAX_LON) {
+			Point point = Point.degrees(longitude, latitude);
+			GeometryUtils.normalizeWGS84(point);
+			longitude = point.getLongitude();
+		}
 
-		UTM utm = UTM.from(point);
+		GridZone gridZone = GridZones.getGridZone(longitude, latitude);
+		int zone = gridZone.getNumber();
+		char bandLetter = gridZone.getLetter();
+		Hemisphere hemisphere = Hemisphere.fromLatitude(latitude);
 
-		char bandLetter = GridZones.getBandLetter(point.getLatitude());
+		double utmEasting = projection.easting(longitude, latitude, zone);
+		double utmNorthing = projection.northing(longitude, latitude, zone,
+				hemisphere);
 
-		char columnLetter = getColumnLetter(utm);
+		char columnLetter = getColumnLetter(zone, utmEasting);
 
-		char rowLetter = getRowLetter(utm);
+		char rowLetter = getRowLetter(zone, utmNorthing);
 
 		// truncate easting/northing to within 100km grid square
-		long easting = (long) (utm.getEasting() % 100000);
-		long northing = (long) (utm.getNorthing() % 100000);
-
-		return MGRS.create(utm.getZone(), bandLetter, columnLetter, rowLetter,
-				easting, northing);
+		long easting = (long) (utmEasting % 100000);
+		long northing = (long) (utmNorthing % 100000);
+
+		values[ENCODED_ZONE] = zone;
+		values[ENCODED_BAND] = bandLetter;
+		values[ENCODED_COLUMN] = columnLetter;
+		values[ENCODED_ROW] = rowLetter;
+		values[ENCODED_EASTING] = truncate(easting, type);
+		values[ENCODED_NORTHING] = truncate(northing, type);
 	}
 
 	/**
-	 * Convert the coordinate to MGRS
-	 *
-	 * @param longitude
-	 *            longitude
-	 * @param latitude
-	 *            latitude
-	 * @return MGRS
-	 * @since 2.1.1
+	 * Truncate the easting or northing value to the grid type precision
+	 * 
+	 * @param value
+	 *            easting or northing value
+	 * @param type
+	 *            grid type precision
+	 * @return truncated value
 	 */
-	public static MGRS from(double longitude, double latitude) {
-		return from(Point.degrees(longitude, latitude));
+	private static long truncate(long value, GridType type) {
+		int precision = type.getPrecision();
+		if (precision == GridType.GZD.getPrecision()) {
+			value = 0;
+		} else if (precision > GridType.METER.getPrecision()) {
+			value -= value % precision;
+		}
+		return value;
 	}
 
 	/**
@@ -513,45 +1095,145 @@ public class MGRS {
 	 *             upon failure to parse the MGRS string
 	 */
 	public static MGRS parse(String mgrs) throws ParseException {
-		Matcher matcher = mgrsPattern.matcher(removeSpaces(mgrs));
-		if (!matcher.matches()) {
+		long[] values = new long[ENCODED_LENGTH];
+		int accuracy = MGRSParser.scan(mgrs, values);
+		if (accuracy == MGRSParser.INVALID) {
 			throw new ParseException("Invalid MGRS: " + mgrs, 0);
 		}
 
-		int zone = Integer.parseInt(matcher.group(1));
-		char band = matcher.group(2).toUpperCase().charAt(0);
+		int zone = (int) values[ENCODED_ZONE];
+		char band = (char) values[ENCODED_BAND];
 
 		GridZone gridZone = GridZones.getGridZone(zone, band);
 		if (gridZone == null) {
 			throw new ParseException("Invalid MGRS: " + mgrs, 0);
 		}
 
+		return create(gridZone, accuracy, values);
+	}
+
+	/**
+	 * Parse a MGRS string into values without creating intermediate objects
+	 * or exceptions. The values are written to the array at the
+	 * {@link #ENCODED_ZONE}, {@link #ENCODED_BAND}, {@link #ENCODED_COLUMN},
+	 * {@link #ENCODED_ROW}, {@link #ENCODED_EASTING}, and
+	 * {@link #ENCODED_NORTHING} indices, with letters stored as character
+	 * values. Values of successfully parsed strings are identical to those of
+	 * {@link #parse(String)}.
+	 * 
+	 * @param mgrs
+	 *            MGRS string
+	 * @param values
+	 *            encoded values output, of at least {@link #ENCODED_LENGTH}
+	 * @return {@link #PARSE_SUCCESS}, {@link #PARSE_INVALID},
+	 *         {@link #PARSE_INVALID_ZONE}, or {@link #PARSE_INVALID_GRID_ZONE}
+	 * @since 2.1.3
+	 */
+	public static int parse(CharSequence mgrs, long[] values) {
+		int accuracy = MGRSParser.scan(mgrs, values);
+		if (accuracy == MGRSParser.INVALID) {
+			return PARSE_INVALID;
+		}
+
+		int zone = (int) values[ENCODED_ZONE];
+		if (zone < MGRSConstants.MIN_ZONE_NUMBER
+				|| zone > MGRSConstants.MAX_ZONE_NUMBER) {
+			return PARSE_INVALID_ZONE;
+		}
+
+		GridZone gridZone = GridZones.getGridZoneUnchecked(zone,
+				(char) values[ENCODED_BAND]);
+		if (gridZone == null) {
+			return PARSE_INVALID_GRID_ZONE;
+		}
+
+		// Grid zone and 100km values are adjusted to the grid zone bounds
+		if (accuracy <= 0) {
+			MGRS mgrsValue = create(gridZone, accuracy, values);
+			values[ENCODED_ZONE] = mgrsValue.zone;
+			values[ENCODED_BAND] = mgrsValue.band;
+			values[ENCODED_COLUMN] = mgrsValue.column;
+			values[ENCODED_ROW] = mgrsValue.row;
+			values[ENCODED_EASTING] = mgrsValue.easting;
+			values[ENCODED_NORTHING] = mgrsValue.northing;
+		}
+
+		return PARSE_SUCCESS;
+	}
+
+	/**
+	 * Parse a MGRS string of ASCII bytes into values without creating a
+	 * string, see {@link #parse(CharSequence, long[])}
+	 * 
+	 * @param bytes
+	 *            bytes
+	 * @param offset
+	 *            offset of the first MGRS byte
+	 * @param length
+	 *            number of MGRS bytes
+	 * @param values
+	 *            encoded values output, of at least {@link #ENCODED_LENGTH}
+	 * @return {@link #PARSE_SUCCESS}, {@link #PARSE_INVALID},
+	 *         {@link #PARSE_INVALID_ZONE}, or {@link #PARSE_INVALID_GRID_ZONE}
+	 * @since 2.1.3
+	 */
+	public static int parse(byte[] bytes, int offset, int length,
+			long[] values) {
+		return parse(new AsciiCharSequence(bytes, offset, length), values);
+	}
+
+	/**
+	 * Parse a MGRS string of ASCII bytes into values without creating a
+	 * string or changing the buffer position, see
+	 * {@link #parse(CharSequence, long[])}
+	 * 
+	 * @param buffer
+	 *            byte buffer
+	 * @param offset
+	 *            absolute buffer index of the first MGRS byte
+	 * @param length
+	 *            number of MGRS bytes
+	 * @param values
+	 *            encoded values output, of at least {@link #ENCODED_LENGTH}
+	 * @return {@link #PARSE_SUCCESS}, {@link #PARSE_INVALID},
+	 *         {@link #PARSE_INVALID_ZONE}, or {@link #PARSE_INVALID_GRID_ZONE}
+	 * @since 2.1.3
+	 */
+	public static int parse(ByteBuffer buffer, int offset, int length,
+			long[] values) {
+		return parse(new AsciiCharSequence(buffer, offset, length), values);
+	}
+
+	/**
+	 * Create a MGRS from parsed values
+	 * 
+	 * @param gridZone
+	 *            grid zone
+	 * @param accuracy
+	 *            parsed accuracy digits, negative for grid zone only
+	 * @param values
+	 *            parsed values
+	 * @return MGRS
+	 */
+	private static MGRS create(GridZone gridZone, int accuracy,
+			long[] values) {
+
+		int zone = (int) values[ENCODED_ZONE];
+		char band = (char) values[ENCODED_BAND];
+
 		MGRS mgrsValue = null;
 
-		String columnRow = matcher.group(3);
-		if (columnRow != null) {
-
-			columnRow = columnRow.toUpperCase();
-			char column = columnRow.charAt(0);
-			char row = columnRow.charAt(1);
-
-			// parse easting & northing
-			long easting = 0;
-			long northing = 0;
-			String location = matcher.group(4);
-			if (!location.isEmpty()) {
-				int precision = location.length() / 2;
-				double multiplier = Math.pow(10.0, 5 - precision);
-				easting = (long) (Double.parseDouble(
-						location.substring(0, precision)) * multiplier);
-				northing = (long) (Double.parseDouble(
-						location.substring(precision)) * multiplier);
-			}
+		if (accuracy >= 0) {
 
-			mgrsValue = MGRS.create(zone, band, column, row, easting, northing);
+			char column = (char) values[ENCODED_COLUMN];
+			char row = (char) values[ENCODED_ROW];
 
-			if (location.isEmpty()) {
+			long easting = values[ENCODED_EASTING];
+			long northing = values[ENCODED_NORTHING];
+
+			mgrsValue = MGRS.create(zone, band, column, row, easting, northing);
 
+			if (accuracy == 0) {
 				Point point = mgrsValue.toPoint().toDegrees();
 				Bounds gridBounds = gridZone.getBounds();
 				Point gridSouthwest = gridBounds.getSouthwest().toDegrees();
@@ -700,18 +1382,18 @@ public class MGRS {
 	 *             upon failure to parse the MGRS string
 	 */
 	public static GridType precision(String mgrs) throws ParseException {
-		Matcher matcher = mgrsPattern.matcher(removeSpaces(mgrs));
-		if (!matcher.matches()) {
+		long[] values = new long[ENCODED_LENGTH];
+		int accuracy = MGRSParser.scan(mgrs, values);
+		if (accuracy == MGRSParser.INVALID) {
 			throw new ParseException("Invalid MGRS: " + mgrs, 0);
 		}
 
 		GridType precision = null;
 
-		if (matcher.group(3) != null) {
+		if (accuracy != MGRSParser.GZD) {
 
-			String location = matcher.group(4);
-			if (!location.isEmpty()) {
-				precision = GridType.withAccuracy(location.length() / 2);
+			if (accuracy > 0) {
+				precision = GridType.withAccuracy(accuracy);
 			} else {
 				precision = GridType.HUNDRED_KILOMETER;
 			}
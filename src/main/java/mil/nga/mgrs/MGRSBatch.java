@@ -0,0 +1,563 @@
+package mil.nga.mgrs;
+
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+import java.util.stream.Collector;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.grid.GridType;
+
+/**
+ * Bulk conversion of longitude and latitude arrays to columnar MGRS
+ * coordinates and packed cells. Large batches are split into chunks converted
+ * in parallel on an {@link Executor}, work stealing within a
+ * {@link ForkJoinPool} and claiming chunks from a shared counter on other
+ * executors, with the calling thread also converting. Conversion allocates a
+ * single working array per chunk, not per coordinate. Stream pipelines use
+ * the {@link #toColumns(GridType)} collector and the
+ * {@link #cells(double[], double[], GridType, boolean)} sized spliterator
+ * stream, both of which split efficiently under {@code parallel()}.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class MGRSBatch {
+
+	/**
+	 * Default number of coordinates converted per chunk
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+	/**
+	 * Range conversion
+	 */
+	@FunctionalInterface
+	interface RangeConverter {
+
+		/**
+		 * Convert the coordinates within the range
+		 * 
+		 * @param from
+		 *            first index, inclusive
+		 * @param to
+		 *            last index, exclusive
+		 * @param values
+		 *            encoded values working array of
+		 *            {@link MGRS#ENCODED_LENGTH}
+		 */
+		void convert(int from, int to, long[] values);
+
+	}
+
+	/**
+	 * Convert the coordinates to columnar MGRS on the common fork join pool
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param type
+	 *            grid type precision
+	 * @return MGRS columns
+	 */
+	public static MGRSColumns convert(double[] longitudes, double[] latitudes,
+			GridType type) {
+		return convert(longitudes, latitudes, type, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Convert the coordinates to columnar MGRS
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param type
+	 *            grid type precision
+	 * @param executor
+	 *            executor of parallel chunks
+	 * @return MGRS columns
+	 */
+	public static MGRSColumns convert(double[] longitudes, double[] latitudes,
+			GridType type, Executor executor) {
+		return convert(longitudes, latitudes, type, executor,
+				DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Convert the coordinates to columnar MGRS
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param type
+	 *            grid type precision
+	 * @param executor
+	 *            executor of parallel chunks
+	 * @param chunkSize
+	 *            coordinates per chunk
+	 * @return MGRS columns
+	 */
+	static MGRSColumns convert(double[] longitudes, double[] latitudes,
+			GridType type, Executor executor, int chunkSize) {
+		int size = validate(longitudes, latitudes);
+		MGRSColumns columns = new MGRSColumns(type, size);
+		columns.setSize(size);
+		run(size, executor, chunkSize, (from, to, values) -> {
+			for (int i = from; i < to; i++) {
+				columns.set(i, longitudes[i], latitudes[i], values);
+			}
+		});
+		return columns;
+	}
+
+	/**
+	 * Convert the coordinates to packed cells on the common fork join pool,
+	 * see {@link MGRSCell}
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param precision
+	 *            grid type precision
+	 * @return cells
+	 */
+	public static long[] cells(double[] longitudes, double[] latitudes,
+			GridType precision) {
+		return cells(longitudes, latitudes, precision,
+				ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Convert the coordinates to packed cells, see {@link MGRSCell}
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param precision
+	 *            grid type precision
+	 * @param executor
+	 *            executor of parallel chunks
+	 * @return cells
+	 */
+	public static long[] cells(double[] longitudes, double[] latitudes,
+			GridType precision, Executor executor) {
+		return cells(longitudes, latitudes, precision, executor,
+				DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Convert the coordinates to packed cells, see {@link MGRSCell}
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param precision
+	 *            grid type precision
+	 * @param executor
+	 *            executor of parallel chunks
+	 * @param chunkSize
+	 *            coordinates per chunk
+	 * @return cells
+	 */
+	static long[] cells(double[] longitudes, double[] latitudes,
+			GridType precision, Executor executor, int chunkSize) {
+		int size = validate(longitudes, latitudes);
+		long[] cells = new long[size];
+		run(size, executor, chunkSize, (from, to, values) -> {
+			for (int i = from; i < to; i++) {
+				MGRS.encode(longitudes[i], latitudes[i], GridType.METER,
+						values);
+				cells[i] = MGRSCell.create(values, precision);
+			}
+		});
+		return cells;
+	}
+
+	/**
+	 * Stream the packed cells of the coordinates from a sized spliterator
+	 * that splits evenly for parallel streams, see {@link MGRSCell}
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param precision
+	 *            grid type precision
+	 * @param parallel
+	 *            true for a parallel stream
+	 * @return cell stream
+	 */
+	public static LongStream cells(double[] longitudes, double[] latitudes,
+			GridType precision, boolean parallel) {
+		return StreamSupport.longStream(
+				spliterator(longitudes, latitudes, precision), parallel);
+	}
+
+	/**
+	 * Create a sized spliterator of the packed cells of the coordinates, see
+	 * {@link MGRSCell}
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param precision
+	 *            grid type precision
+	 * @return cell spliterator
+	 */
+	public static Spliterator.OfLong spliterator(double[] longitudes,
+			double[] latitudes, GridType precision) {
+		int size = validate(longitudes, latitudes);
+		return new CellSpliterator(longitudes, latitudes, precision, 0, size);
+	}
+
+	/**
+	 * Collect points into columnar MGRS, converting each point as it is
+	 * accumulated and concatenating the columns of parallel streams
+	 * 
+	 * @param type
+	 *            grid type precision
+	 * @return MGRS columns collector
+	 */
+	public static Collector<Point, MGRSColumns, MGRSColumns> toColumns(
+			GridType type) {
+		return Collector.of(() -> new MGRSColumns(type), MGRSColumns::add,
+				(left, right) -> {
+					left.addAll(right);
+					return left;
+				});
+	}
+
+	/**
+	 * Validate the coordinate arrays
+	 * 
+	 * @param longitudes
+	 *            longitudes
+	 * @param latitudes
+	 *            latitudes
+	 * @return number of coordinates
+	 */
+	private static int validate(double[] longitudes, double[] latitudes) {
+		if (longitudes.length != latitudes.length) {
+			throw new IllegalArgumentException(
+					"Longitude and latitude lengths differ. Longitudes: "
+							+ longitudes.length + ", Latitudes: "
+							+ latitudes.length);
+		}
+		return longitudes.length;
+	}
+
+	/**
+	 * Run the range conversion over the coordinates in parallel chunks
+	 * 
+	 * @param size
+	 *            number of coordinates
+	 * @param executor
+	 *            executor
+	 * @param chunkSize
+	 *            coordinates per chunk
+	 * @param converter
+	 *            range converter
+	 */
+	private static void run(int size, Executor executor, int chunkSize,
+			RangeConverter converter) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException(
+					"Chunk size must be positive: " + chunkSize);
+		}
+		if (size <= chunkSize) {
+			converter.convert(0, size, new long[MGRS.ENCODED_LENGTH]);
+		} else if (executor instanceof ForkJoinPool) {
+			((ForkJoinPool) executor).invoke(
+					new ChunkAction(converter, 0, size, chunkSize));
+		} else {
+			runChunks(size, executor, chunkSize, converter);
+		}
+	}
+
+	/**
+	 * Run the range conversion in chunks claimed by executor workers and the
+	 * calling thread. The calling thread waits only for claimed chunks, so
+	 * workers that never start on a saturated executor do not block
+	 * completion.
+	 * 
+	 * @param size
+	 *            number of coordinates
+	 * @param executor
+	 *            executor
+	 * @param chunkSize
+	 *            coordinates per chunk
+	 * @param converter
+	 *            range converter
+	 */
+	private static void runChunks(int size, Executor executor, int chunkSize,
+			RangeConverter converter) {
+
+		int chunks = (int) (((long) size + chunkSize - 1) / chunkSize);
+		AtomicInteger next = new AtomicInteger();
+		CountDownLatch completed = new CountDownLatch(chunks);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		Runnable worker = () -> {
+			long[] values = new long[MGRS.ENCODED_LENGTH];
+			int chunk;
+			while ((chunk = next.getAndIncrement()) < chunks) {
+				try {
+					if (failure.get() == null) {
+						int from = chunk * chunkSize;
+						int to = Math.min(size, from + chunkSize);
+						converter.convert(from, to, values);
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				} finally {
+					completed.countDown();
+				}
+			}
+		};
+
+		int workers = Math.min(chunks,
+				Runtime.getRuntime().availableProcessors()) - 1;
+		try {
+			for (int i = 0; i < workers; i++) {
+				executor.execute(worker);
+			}
+		} catch (RejectedExecutionException e) {
+			// Remaining chunks are converted by the calling thread
+		}
+		worker.run();
+
+		boolean interrupted = false;
+		while (true) {
+			try {
+				completed.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+
+		Throwable error = failure.get();
+		if (error instanceof RuntimeException) {
+			throw (RuntimeException) error;
+		} else if (error instanceof Error) {
+			throw (Error) error;
+		} else if (error != null) {
+			throw new IllegalStateException("Failed to convert coordinates",
+					error);
+		}
+	}
+
+	/**
+	 * Fork join action splitting a range in halves down to chunks
+	 * 
+	 * @author osbornb
+	 */
+	private static class ChunkAction extends RecursiveAction {
+
+		/**
+		 * Serial version UID
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Range converter
+		 */
+		private final RangeConverter converter;
+
+		/**
+		 * First index, inclusive
+		 */
+		private final int from;
+
+		/**
+		 * Last index, exclusive
+		 */
+		private final int to;
+
+		/**
+		 * Coordinates per chunk
+		 */
+		private final int chunkSize;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param converter
+		 *            range converter
+		 * @param from
+		 *            first index, inclusive
+		 * @param to
+		 *            last index, exclusive
+		 * @param chunkSize
+		 *            coordinates per chunk
+		 */
+		ChunkAction(RangeConverter converter, int from, int to,
+				int chunkSize) {
+			this.converter = converter;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void compute() {
+			if (to - from <= chunkSize) {
+				converter.convert(from, to, new long[MGRS.ENCODED_LENGTH]);
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new ChunkAction(converter, from, middle, chunkSize),
+						new ChunkAction(converter, middle, to, chunkSize));
+			}
+		}
+
+	}
+
+	/**
+	 * Sized spliterator of packed coordinate cells
+	 * 
+	 * @author osbornb
+	 */
+	private static class CellSpliterator implements Spliterator.OfLong {
+
+		/**
+		 * Longitudes
+		 */
+		private final double[] longitudes;
+
+		/**
+		 * Latitudes
+		 */
+		private final double[] latitudes;
+
+		/**
+		 * Grid type precision
+		 */
+		private final GridType precision;
+
+		/**
+		 * Encoded values working array
+		 */
+		private final long[] values = new long[MGRS.ENCODED_LENGTH];
+
+		/**
+		 * Current index
+		 */
+		private int index;
+
+		/**
+		 * Last index, exclusive
+		 */
+		private final int end;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param longitudes
+		 *            longitudes
+		 * @param latitudes
+		 *            latitudes
+		 * @param precision
+		 *            grid type precision
+		 * @param index
+		 *            first index, inclusive
+		 * @param end
+		 *            last index, exclusive
+		 */
+		CellSpliterator(double[] longitudes, double[] latitudes,
+				GridType precision, int index, int end) {
+			this.longitudes = longitudes;
+			this.latitudes = latitudes;
+			this.precision = precision;
+			this.index = index;
+			this.end = end;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean tryAdvance(LongConsumer action) {
+			boolean advanced = index < end;
+			if (advanced) {
+				action.accept(cell(index++));
+			}
+			return advanced;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void forEachRemaining(LongConsumer action) {
+			for (; index < end; index++) {
+				action.accept(cell(index));
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Spliterator.OfLong trySplit() {
+			CellSpliterator prefix = null;
+			int middle = (index + end) >>> 1;
+			if (middle > index) {
+				prefix = new CellSpliterator(longitudes, latitudes, precision,
+						index, middle);
+				index = middle;
+			}
+			return prefix;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long estimateSize() {
+			return end - index;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+		}
+
+		/**
+		 * Convert the coordinate to a packed cell
+		 * 
+		 * @param i
+		 *            coordinate index
+		 * @return cell
+		 */
+		private long cell(int i) {
+			MGRS.encode(longitudes[i], latitudes[i], GridType.METER, values);
+			return MGRSCell.create(values, precision);
+		}
+
+	}
+
+}
@@ -0,0 +1,880 @@
+package mil.nga.mgrs;
+
+import java.util.Map;
+
+import mil.nga.grid.Hemisphere;
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.grid.GridType;
+import mil.nga.mgrs.gzd.GridZone;
+import mil.nga.mgrs.gzd.GridZones;
+import mil.nga.mgrs.utm.UTM;
+
+/**
+ * Packed 64-bit MGRS cell identifier. A cell is a MGRS reference at a grid
+ * type precision, stored in a single non-negative long so that large numbers
+ * of cells can be held in primitive arrays, sorted, and hashed without
+ * objects. From the most significant bit, a cell is packed as 6 unused bits
+ * (including the sign bit), the 6 bit zone number, the 5 bit band index, the
+ * 5 bit column and row letters (0 when not set, 1 for 'A' through 26 for
+ * 'Z'), the 17 bit easting and northing within the 100km square, and the 3
+ * bit grid type precision ordinal.
+ * 
+ * Eastings and northings are truncated to the cell precision, so all
+ * references within a cell share the same identifier. Natural long ordering
+ * sorts cells by zone, band, column, row, easting, northing, and then
+ * precision.
+ * 
+ * Hierarchy navigation ({@link #parent(long)}, {@link #children(long)}, and
+ * {@link #neighbors(long)}) operates on the packed values and the UTM grid
+ * directly. Only neighbors crossing out of the cell's grid zone, including
+ * the irregular Norway and Svalbard grid zones, are located through a
+ * longitude and latitude projection.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class MGRSCell {
+
+	/**
+	 * Cell value for a neighbor beyond the MGRS latitude limits
+	 */
+	public static final long NONE = -1;
+
+	/**
+	 * Number of child cells at the next finer precision
+	 */
+	public static final int CHILDREN = 100;
+
+	/**
+	 * Number of neighbor cells
+	 */
+	public static final int NEIGHBORS = 8;
+
+	/**
+	 * Precision bits
+	 */
+	private static final int PRECISION_BITS = 3;
+
+	/**
+	 * Easting and northing bits
+	 */
+	private static final int METER_BITS = 17;
+
+	/**
+	 * Column and row letter bits
+	 */
+	private static final int LETTER_BITS = 5;
+
+	/**
+	 * Band index bits
+	 */
+	private static final int BAND_BITS = 5;
+
+	/**
+	 * Zone number bits
+	 */
+	private static final int ZONE_BITS = 6;
+
+	/**
+	 * Northing bit shift
+	 */
+	private static final int NORTHING_SHIFT = PRECISION_BITS;
+
+	/**
+	 * Easting bit shift
+	 */
+	private static final int EASTING_SHIFT = NORTHING_SHIFT + METER_BITS;
+
+	/**
+	 * Row letter bit shift
+	 */
+	private static final int ROW_SHIFT = EASTING_SHIFT + METER_BITS;
+
+	/**
+	 * Column letter bit shift
+	 */
+	private static final int COLUMN_SHIFT = ROW_SHIFT + LETTER_BITS;
+
+	/**
+	 * Band index bit shift
+	 */
+	private static final int BAND_SHIFT = COLUMN_SHIFT + LETTER_BITS;
+
+	/**
+	 * Zone number bit shift
+	 */
+	private static final int ZONE_SHIFT = BAND_SHIFT + BAND_BITS;
+
+	/**
+	 * Mask of the zone number and band index fields
+	 */
+	private static final long GRID_ZONE_MASK = -1L << BAND_SHIFT;
+
+	/**
+	 * Mask of the zone number, band index, column letter, and row letter
+	 * fields
+	 */
+	private static final long SQUARE_MASK = -1L << ROW_SHIFT;
+
+	/**
+	 * Maximum easting or northing value within a 100km square
+	 */
+	private static final long MAX_METERS = 99999;
+
+	/**
+	 * Number of child cells along each axis
+	 */
+	private static final int CHILD_DIVISIONS = 10;
+
+	/**
+	 * Interior UTM bounds inset distance in meters, covering the UTM
+	 * centimeter rounding
+	 */
+	private static final double INTERIOR_INSET = 1.0;
+
+	/**
+	 * Grid types by ordinal
+	 */
+	private static final GridType[] types = GridType.values();
+
+	/**
+	 * Interior UTM bounds of each grid zone by zone number and band index, as
+	 * minimum easting, minimum northing, maximum easting, and maximum
+	 * northing. Every UTM coordinate within the interior bounds lies within
+	 * the grid zone. Null for the omitted Svalbard grid zones. Built with the
+	 * {@link UTM#LEGACY} projection regardless of the global default, the
+	 * inset covers the difference to other projections.
+	 */
+	private static final double[][] interiors = new double[MGRSConstants.MAX_ZONE_NUMBER
+			* MGRSConstants.NUM_BANDS][];
+
+	static {
+		for (Map<Character, GridZone> zones : GridZones.gridZones.values()) {
+			for (GridZone gridZone : zones.values()) {
+				interiors[interiorIndex(gridZone.getNumber(),
+						MGRSUtils.getBandIndex(gridZone.getLetter()))] = interior(
+								gridZone);
+			}
+		}
+	}
+
+	/**
+	 * Hidden constructor
+	 */
+	private MGRSCell() {
+
+	}
+
+	/**
+	 * Create a cell
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param band
+	 *            band letter
+	 * @param column
+	 *            column letter
+	 * @param row
+	 *            row letter
+	 * @param easting
+	 *            easting
+	 * @param northing
+	 *            northing
+	 * @param precision
+	 *            grid type precision
+	 * @return cell
+	 */
+	public static long create(int zone, char band, char column, char row,
+			long easting, long northing, GridType precision) {
+
+		MGRSUtils.validateZoneNumber(zone);
+		MGRSUtils.validateBandLetter(band);
+
+		long cell = ((long) zone << ZONE_SHIFT)
+				| ((long) MGRSUtils.getBandIndex(band) << BAND_SHIFT)
+				| precision.ordinal();
+
+		if (precision != GridType.GZD) {
+
+			validateLetter(column, 'Z', "column");
+			validateLetter(row, 'V', "row");
+			validateMeters(easting, "easting");
+			validateMeters(northing, "northing");
+
+			int meters = precision.getPrecision();
+			easting -= easting % meters;
+			northing -= northing % meters;
+
+			cell |= ((long) (column - 'A' + 1) << COLUMN_SHIFT)
+					| ((long) (row - 'A' + 1) << ROW_SHIFT)
+					| (easting << EASTING_SHIFT) | (northing << NORTHING_SHIFT);
+		}
+
+		return cell;
+	}
+
+	/**
+	 * Create a cell from encoded MGRS values
+	 * 
+	 * @param values
+	 *            encoded values, see
+	 *            {@link MGRS#encode(double, double, GridType, long[])}
+	 * @param precision
+	 *            grid type precision
+	 * @return cell
+	 */
+	public static long create(long[] values, GridType precision) {
+		return create((int) values[MGRS.ENCODED_ZONE],
+				(char) values[MGRS.ENCODED_BAND],
+				(char) values[MGRS.ENCODED_COLUMN],
+				(char) values[MGRS.ENCODED_ROW],
+				values[MGRS.ENCODED_EASTING], values[MGRS.ENCODED_NORTHING],
+				precision);
+	}
+
+	/**
+	 * Create a one meter precision cell from a MGRS coordinate
+	 * 
+	 * @param mgrs
+	 *            MGRS coordinate
+	 * @return cell
+	 */
+	public static long from(MGRS mgrs) {
+		return from(mgrs, GridType.METER);
+	}
+
+	/**
+	 * Create a cell from a MGRS coordinate
+	 * 
+	 * @param mgrs
+	 *            MGRS coordinate
+	 * @param precision
+	 *            grid type precision
+	 * @return cell
+	 */
+	public static long from(MGRS mgrs, GridType precision) {
+		return create(mgrs.getZone(), mgrs.getBand(), mgrs.getColumn(),
+				mgrs.getRow(), mgrs.getEasting(), mgrs.getNorthing(),
+				precision);
+	}
+
+	/**
+	 * Create a cell containing the UTM coordinate
+	 * 
+	 * @param utm
+	 *            UTM coordinate
+	 * @param precision
+	 *            grid type precision
+	 * @return cell
+	 */
+	public static long from(UTM utm, GridType precision) {
+		return from(utm.toMGRS(), precision);
+	}
+
+	/**
+	 * Create a cell containing the point
+	 * 
+	 * @param point
+	 *            point
+	 * @param precision
+	 *            grid type precision
+	 * @return cell
+	 */
+	public static long from(Point point, GridType precision) {
+		point = point.toDegrees();
+		return from(point.getLongitude(), point.getLatitude(), precision);
+	}
+
+	/**
+	 * Create a cell containing the coordinate
+	 * 
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @param precision
+	 *            grid type precision
+	 * @return cell
+	 */
+	public static long from(double longitude, double latitude,
+			GridType precision) {
+		long[] values = new long[MGRS.ENCODED_LENGTH];
+		MGRS.encode(longitude, latitude, GridType.METER, values);
+		return create(values, precision);
+	}
+
+	/**
+	 * Get the zone number
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return zone number
+	 */
+	public static int getZone(long cell) {
+		return (int) field(cell, ZONE_SHIFT, ZONE_BITS);
+	}
+
+	/**
+	 * Get the band letter
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return band letter
+	 */
+	public static char getBand(long cell) {
+		return MGRSUtils
+				.getBandLetter((int) field(cell, BAND_SHIFT, BAND_BITS));
+	}
+
+	/**
+	 * Get the column letter
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return column letter, 0 for {@link GridType#GZD} cells
+	 */
+	public static char getColumn(long cell) {
+		return letter(field(cell, COLUMN_SHIFT, LETTER_BITS));
+	}
+
+	/**
+	 * Get the row letter
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return row letter, 0 for {@link GridType#GZD} cells
+	 */
+	public static char getRow(long cell) {
+		return letter(field(cell, ROW_SHIFT, LETTER_BITS));
+	}
+
+	/**
+	 * Get the easting
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return easting
+	 */
+	public static long getEasting(long cell) {
+		return field(cell, EASTING_SHIFT, METER_BITS);
+	}
+
+	/**
+	 * Get the northing
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return northing
+	 */
+	public static long getNorthing(long cell) {
+		return field(cell, NORTHING_SHIFT, METER_BITS);
+	}
+
+	/**
+	 * Get the grid type precision
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return grid type precision
+	 */
+	public static GridType getPrecision(long cell) {
+		return types[(int) field(cell, 0, PRECISION_BITS)];
+	}
+
+	/**
+	 * Get the grid zone
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return grid zone
+	 */
+	public static GridZone getGridZone(long cell) {
+		return GridZones.getGridZone(getZone(cell), getBand(cell));
+	}
+
+	/**
+	 * Decode the cell into encoded MGRS values at the
+	 * {@link MGRS#ENCODED_ZONE}, {@link MGRS#ENCODED_BAND},
+	 * {@link MGRS#ENCODED_COLUMN}, {@link MGRS#ENCODED_ROW},
+	 * {@link MGRS#ENCODED_EASTING}, and {@link MGRS#ENCODED_NORTHING}
+	 * indices
+	 * 
+	 * @param cell
+	 *            cell
+	 * @param values
+	 *            encoded values output
+	 */
+	public static void decode(long cell, long[] values) {
+		values[MGRS.ENCODED_ZONE] = getZone(cell);
+		values[MGRS.ENCODED_BAND] = getBand(cell);
+		values[MGRS.ENCODED_COLUMN] = getColumn(cell);
+		values[MGRS.ENCODED_ROW] = getRow(cell);
+		values[MGRS.ENCODED_EASTING] = getEasting(cell);
+		values[MGRS.ENCODED_NORTHING] = getNorthing(cell);
+	}
+
+	/**
+	 * Convert the cell to a MGRS coordinate of its southwest corner.
+	 * {@link GridType#GZD} cells convert to the southwest corner of the grid
+	 * zone.
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return MGRS
+	 */
+	public static MGRS toMGRS(long cell) {
+		MGRS mgrs = null;
+		if (getPrecision(cell) == GridType.GZD) {
+			mgrs = MGRS.from(getGridZone(cell).getBounds().getSouthwest());
+		} else {
+			mgrs = MGRS.create(getZone(cell), getBand(cell), getColumn(cell),
+					getRow(cell), getEasting(cell), getNorthing(cell));
+		}
+		return mgrs;
+	}
+
+	/**
+	 * Convert the cell to a UTM coordinate of its southwest corner
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return UTM
+	 */
+	public static UTM toUTM(long cell) {
+		return toMGRS(cell).toUTM();
+	}
+
+	/**
+	 * Convert the cell to a point of its southwest corner
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return point
+	 */
+	public static Point toPoint(long cell) {
+		return toMGRS(cell).toPoint();
+	}
+
+	/**
+	 * Get the MGRS coordinate of the cell in its precision
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return MGRS coordinate
+	 */
+	public static String coordinate(long cell) {
+		GridType precision = getPrecision(cell);
+		String coordinate = null;
+		if (precision == GridType.GZD) {
+			coordinate = MGRSUtils.getLabelName(getZone(cell), getBand(cell));
+		} else {
+			coordinate = toMGRS(cell).coordinate(precision);
+		}
+		return coordinate;
+	}
+
+	/**
+	 * Get the parent cell at the next coarser precision. The parent of a
+	 * {@link GridType#HUNDRED_KILOMETER} cell is its {@link GridType#GZD}
+	 * cell.
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return parent cell
+	 */
+	public static long parent(long cell) {
+		GridType precision = getPrecision(cell);
+		if (precision == GridType.GZD) {
+			throw new IllegalArgumentException(
+					"Grid zone cells do not have a parent: "
+							+ coordinate(cell));
+		}
+		return parent(cell, types[precision.ordinal() - 1]);
+	}
+
+	/**
+	 * Get the parent cell at the coarser or equal precision
+	 * 
+	 * @param cell
+	 *            cell
+	 * @param precision
+	 *            parent grid type precision
+	 * @return parent cell
+	 */
+	public static long parent(long cell, GridType precision) {
+
+		GridType cellPrecision = getPrecision(cell);
+		if (precision.ordinal() > cellPrecision.ordinal()) {
+			throw new IllegalArgumentException("Parent precision " + precision
+					+ " is finer than the cell precision " + cellPrecision);
+		}
+
+		long parent;
+		if (precision == GridType.GZD) {
+			parent = (cell & GRID_ZONE_MASK) | precision.ordinal();
+		} else {
+			int meters = precision.getPrecision();
+			long easting = getEasting(cell);
+			long northing = getNorthing(cell);
+			easting -= easting % meters;
+			northing -= northing % meters;
+			parent = (cell & SQUARE_MASK) | (easting << EASTING_SHIFT)
+					| (northing << NORTHING_SHIFT) | precision.ordinal();
+		}
+
+		return parent;
+	}
+
+	/**
+	 * Get the {@link #CHILDREN} child cells at the next finer precision
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return child cells in natural order
+	 */
+	public static long[] children(long cell) {
+		long[] children = new long[CHILDREN];
+		children(cell, children, 0);
+		return children;
+	}
+
+	/**
+	 * Get the {@link #CHILDREN} child cells at the next finer precision. The
+	 * 10 x 10 children are written in natural order, by easting and then
+	 * northing. Children of cells along a grid zone edge are not clipped to
+	 * the grid zone. {@link GridType#GZD} cells, whose 100km squares are not
+	 * a 10 x 10 division, and {@link GridType#METER} cells do not have
+	 * children.
+	 * 
+	 * @param cell
+	 *            cell
+	 * @param children
+	 *            child cells output
+	 * @param offset
+	 *            output offset
+	 */
+	public static void children(long cell, long[] children, int offset) {
+
+		GridType precision = getPrecision(cell);
+		if (precision == GridType.GZD || precision == GridType.METER) {
+			throw new IllegalArgumentException(
+					"Cells of precision " + precision
+							+ " do not have 10 x 10 children: "
+							+ coordinate(cell));
+		}
+
+		GridType childPrecision = types[precision.ordinal() + 1];
+		long meters = childPrecision.getPrecision();
+		long base = cell - precision.ordinal() + childPrecision.ordinal();
+
+		for (int column = 0; column < CHILD_DIVISIONS; column++) {
+			long easting = (column * meters) << EASTING_SHIFT;
+			for (int row = 0; row < CHILD_DIVISIONS; row++) {
+				children[offset++] = base + easting
+						+ ((row * meters) << NORTHING_SHIFT);
+			}
+		}
+
+	}
+
+	/**
+	 * Get the {@link #NEIGHBORS} neighbor cells at the same precision
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return neighbor cells
+	 */
+	public static long[] neighbors(long cell) {
+		long[] neighbors = new long[NEIGHBORS];
+		neighbors(cell, neighbors, 0);
+		return neighbors;
+	}
+
+	/**
+	 * Get the {@link #NEIGHBORS} neighbor cells at the same precision, in the
+	 * order southwest, south, southeast, west, east, northwest, north, and
+	 * northeast. See {@link #neighbor(long, int, int)}.
+	 * 
+	 * @param cell
+	 *            cell
+	 * @param neighbors
+	 *            neighbor cells output
+	 * @param offset
+	 *            output offset
+	 */
+	public static void neighbors(long cell, long[] neighbors, int offset) {
+
+		GridType precision = validateNeighborPrecision(cell);
+
+		int zone = getZone(cell);
+		char band = getBand(cell);
+		double easting = MGRS.getUTMEasting(zone, getColumn(cell),
+				getEasting(cell));
+		double northing = MGRS.getUTMNorthing(zone, band, getRow(cell),
+				getNorthing(cell));
+
+		for (int north = -1; north <= 1; north++) {
+			for (int east = -1; east <= 1; east++) {
+				if (east != 0 || north != 0) {
+					neighbors[offset++] = neighbor(zone, band, precision,
+							easting, northing, east, north);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Get the neighbor cell at the same precision, offset by a number of cells
+	 * to the east and north within the UTM grid of the cell. The column and
+	 * row letters roll over between 100km squares. When the center of the
+	 * offset cell is outside of the cell's grid zone, the neighbor is the cell
+	 * of the grid zone containing that center, which may be a different zone
+	 * number near zone edges and the Norway and Svalbard grid zones.
+	 * 
+	 * @param cell
+	 *            cell
+	 * @param east
+	 *            number of cells to the east, negative for west
+	 * @param north
+	 *            number of cells to the north, negative for south
+	 * @return neighbor cell, {@link #NONE} when beyond the MGRS latitude
+	 *         limits
+	 */
+	public static long neighbor(long cell, int east, int north) {
+
+		GridType precision = validateNeighborPrecision(cell);
+
+		int zone = getZone(cell);
+		char band = getBand(cell);
+		double easting = MGRS.getUTMEasting(zone, getColumn(cell),
+				getEasting(cell));
+		double northing = MGRS.getUTMNorthing(zone, band, getRow(cell),
+				getNorthing(cell));
+
+		return neighbor(zone, band, precision, easting, northing, east, north);
+	}
+
+	/**
+	 * Compare two cells in their natural order
+	 * 
+	 * @param cell1
+	 *            first cell
+	 * @param cell2
+	 *            second cell
+	 * @return negative, zero, or positive as the first cell is less than,
+	 *         equal to, or greater than the second cell
+	 */
+	public static int compare(long cell1, long cell2) {
+		return Long.compare(cell1, cell2);
+	}
+
+	/**
+	 * Get the neighbor cell
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param band
+	 *            band letter
+	 * @param precision
+	 *            grid type precision
+	 * @param easting
+	 *            cell UTM easting
+	 * @param northing
+	 *            cell UTM northing
+	 * @param east
+	 *            number of cells to the east
+	 * @param north
+	 *            number of cells to the north
+	 * @return neighbor cell, {@link #NONE} when beyond the MGRS latitude
+	 *         limits
+	 */
+	private static long neighbor(int zone, char band, GridType precision,
+			double easting, double northing, int east, int north) {
+
+		int meters = precision.getPrecision();
+		easting += (double) east * meters;
+		northing += (double) north * meters;
+		double centerEasting = easting + meters / 2.0;
+		double centerNorthing = northing + meters / 2.0;
+
+		long neighbor;
+
+		double[] interior = interiors[interiorIndex(zone,
+				MGRSUtils.getBandIndex(band))];
+		if (interior != null && centerEasting >= interior[0]
+				&& centerNorthing >= interior[1]
+				&& centerEasting <= interior[2]
+				&& centerNorthing <= interior[3]) {
+
+			// Within the grid zone, roll over the 100km square letters
+			long utmEasting = (long) easting;
+			long utmNorthing = (long) northing;
+			neighbor = create(zone, band,
+					MGRS.getColumnLetter(zone, utmEasting),
+					MGRS.getRowLetter(zone, utmNorthing), utmEasting % 100000,
+					utmNorthing % 100000, precision);
+
+		} else {
+
+			// Locate the center in the neighboring grid zone
+			Hemisphere hemisphere = band < MGRSConstants.BAND_LETTER_NORTH
+					? Hemisphere.SOUTH
+					: Hemisphere.NORTH;
+			Point center = UTM.point(zone, hemisphere, centerEasting,
+					centerNorthing);
+			double latitude = center.getLatitude();
+			if (latitude < MGRSConstants.MIN_LAT
+					|| latitude > MGRSConstants.MAX_LAT) {
+				neighbor = NONE;
+			} else {
+				neighbor = from(center.getLongitude(), latitude, precision);
+			}
+
+		}
+
+		return neighbor;
+	}
+
+	/**
+	 * Validate that the cell precision has neighbors
+	 * 
+	 * @param cell
+	 *            cell
+	 * @return grid type precision
+	 */
+	private static GridType validateNeighborPrecision(long cell) {
+		GridType precision = getPrecision(cell);
+		if (precision == GridType.GZD) {
+			throw new IllegalArgumentException(
+					"Grid zone cells do not have neighbors: "
+							+ coordinate(cell));
+		}
+		return precision;
+	}
+
+	/**
+	 * Get the interior bounds index
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param bandIndex
+	 *            band index
+	 * @return interior bounds index
+	 */
+	private static int interiorIndex(int zone, int bandIndex) {
+		return (zone - 1) * MGRSConstants.NUM_BANDS + bandIndex;
+	}
+
+	/**
+	 * Determine the interior UTM bounds of the grid zone. UTM eastings along
+	 * a meridian and northings along a parallel are monotonic moving away from
+	 * the equator and the central meridian, so the extremes of the grid zone
+	 * edges occur at the edge end points, the equator, or the central
+	 * meridian.
+	 * 
+	 * @param gridZone
+	 *            grid zone
+	 * @return minimum easting, minimum northing, maximum easting, and maximum
+	 *         northing
+	 */
+	private static double[] interior(GridZone gridZone) {
+
+		int zone = gridZone.getNumber();
+		Hemisphere hemisphere = gridZone.getHemisphere();
+		Bounds bounds = gridZone.getBounds();
+		double west = bounds.getWest();
+		double east = bounds.getEast();
+		double south = bounds.getSouth();
+		double north = bounds.getNorth();
+
+		double centralMeridian = GridZones.getWestLongitude(zone)
+				+ MGRSConstants.ZONE_WIDTH / 2;
+		double[] longitudes = new double[] { west, east,
+				Math.max(west, Math.min(east, centralMeridian)) };
+		double[] latitudes = new double[] { south, north,
+				Math.max(south, Math.min(north, 0)) };
+
+		double minEasting = Double.NEGATIVE_INFINITY;
+		double maxEasting = Double.POSITIVE_INFINITY;
+		for (double latitude : latitudes) {
+			minEasting = Math.max(minEasting,
+					UTM.LEGACY.easting(west, latitude, zone));
+			maxEasting = Math.min(maxEasting,
+					UTM.LEGACY.easting(east, latitude, zone));
+		}
+
+		double minNorthing = Double.NEGATIVE_INFINITY;
+		double maxNorthing = Double.POSITIVE_INFINITY;
+		for (double longitude : longitudes) {
+			minNorthing = Math.max(minNorthing,
+					UTM.LEGACY.northing(longitude, south, zone, hemisphere));
+			maxNorthing = Math.min(maxNorthing,
+					UTM.LEGACY.northing(longitude, north, zone, hemisphere));
+		}
+
+		return new double[] { minEasting + INTERIOR_INSET,
+				minNorthing + INTERIOR_INSET, maxEasting - INTERIOR_INSET,
+				maxNorthing - INTERIOR_INSET };
+	}
+
+	/**
+	 * Get a field value
+	 * 
+	 * @param cell
+	 *            cell
+	 * @param shift
+	 *            field bit shift
+	 * @param bits
+	 *            field bits
+	 * @return field value
+	 */
+	private static long field(long cell, int shift, int bits) {
+		return (cell >>> shift) & ((1L << bits) - 1);
+	}
+
+	/**
+	 * Get the letter of a column or row field value
+	 * 
+	 * @param value
+	 *            field value
+	 * @return letter, 0 if not set
+	 */
+	private static char letter(long value) {
+		return value == 0 ? 0 : (char) ('A' + value - 1);
+	}
+
+	/**
+	 * Validate a column or row letter
+	 * 
+	 * @param letter
+	 *            letter
+	 * @param max
+	 *            maximum letter
+	 * @param name
+	 *            letter name
+	 */
+	private static void validateLetter(char letter, char max, String name) {
+		if (letter < 'A' || letter > max || letter == 'I' || letter == 'O') {
+			throw new IllegalArgumentException(
+					"Illegal " + name + " letter: " + letter);
+		}
+	}
+
+	/**
+	 * Validate an easting or northing within a 100km square
+	 * 
+	 * @param meters
+	 *            easting or northing
+	 * @param name
+	 *            value name
+	 */
+	private static void validateMeters(long meters, String name) {
+		if (meters < 0 || meters > MAX_METERS) {
+			throw new IllegalArgumentException("Illegal " + name
+					+ " (expected 0 - " + MAX_METERS + "): " + meters);
+		}
+	}
+
+}
@@ -0,0 +1,406 @@
+package mil.nga.mgrs;
+
+import java.util.Arrays;
+
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.grid.GridType;
+
+/**
+ * Columnar MGRS coordinates of a single grid type precision, stored as
+ * primitive zone, band, column, row, easting, and northing arrays instead of
+ * {@link MGRS} objects. Columns are filled in place by {@link MGRSBatch} or
+ * appended to, growing as needed, by {@link #add(double, double)} and
+ * {@link MGRSBatch#toColumns(GridType)}. Not thread safe, except for
+ * {@link MGRSBatch} filling distinct indices.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class MGRSColumns {
+
+	/**
+	 * Default initial capacity
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * Grid type precision
+	 */
+	private final GridType type;
+
+	/**
+	 * Number of coordinates
+	 */
+	private int size;
+
+	/**
+	 * Zone numbers
+	 */
+	private byte[] zones;
+
+	/**
+	 * Band letters
+	 */
+	private char[] bands;
+
+	/**
+	 * Column letters
+	 */
+	private char[] columns;
+
+	/**
+	 * Row letters
+	 */
+	private char[] rows;
+
+	/**
+	 * Eastings
+	 */
+	private int[] eastings;
+
+	/**
+	 * Northings
+	 */
+	private int[] northings;
+
+	/**
+	 * Encoded values of added coordinates
+	 */
+	private final long[] values = new long[MGRS.ENCODED_LENGTH];
+
+	/**
+	 * Constructor
+	 * 
+	 * @param type
+	 *            grid type precision
+	 */
+	public MGRSColumns(GridType type) {
+		this(type, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param type
+	 *            grid type precision
+	 * @param capacity
+	 *            initial capacity
+	 */
+	public MGRSColumns(GridType type, int capacity) {
+		if (type == null) {
+			throw new IllegalArgumentException("Grid type is required");
+		}
+		if (capacity < 0) {
+			throw new IllegalArgumentException(
+					"Capacity must not be negative: " + capacity);
+		}
+		this.type = type;
+		zones = new byte[capacity];
+		bands = new char[capacity];
+		columns = new char[capacity];
+		rows = new char[capacity];
+		eastings = new int[capacity];
+		northings = new int[capacity];
+	}
+
+	/**
+	 * Get the grid type precision
+	 * 
+	 * @return grid type precision
+	 */
+	public GridType getType() {
+		return type;
+	}
+
+	/**
+	 * Get the number of coordinates
+	 * 
+	 * @return size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Determine if there are no coordinates
+	 * 
+	 * @return true if empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Get the zone number
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @return zone number
+	 */
+	public int getZone(int index) {
+		return zones[checkIndex(index)];
+	}
+
+	/**
+	 * Get the band letter
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @return band letter
+	 */
+	public char getBand(int index) {
+		return bands[checkIndex(index)];
+	}
+
+	/**
+	 * Get the column letter
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @return column letter
+	 */
+	public char getColumn(int index) {
+		return columns[checkIndex(index)];
+	}
+
+	/**
+	 * Get the row letter
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @return row letter
+	 */
+	public char getRow(int index) {
+		return rows[checkIndex(index)];
+	}
+
+	/**
+	 * Get the easting, truncated to the grid type precision
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @return easting
+	 */
+	public long getEasting(int index) {
+		return eastings[checkIndex(index)];
+	}
+
+	/**
+	 * Get the northing, truncated to the grid type precision
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @return northing
+	 */
+	public long getNorthing(int index) {
+		return northings[checkIndex(index)];
+	}
+
+	/**
+	 * Get the MGRS coordinate
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @return MGRS
+	 */
+	public MGRS get(int index) {
+		checkIndex(index);
+		return MGRS.create(zones[index], bands[index], columns[index],
+				rows[index], eastings[index], northings[index]);
+	}
+
+	/**
+	 * Get the encoded values of the coordinate, see
+	 * {@link MGRS#encode(double, double, GridType, long[])}
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @param values
+	 *            encoded values output, of at least
+	 *            {@link MGRS#ENCODED_LENGTH}
+	 */
+	public void get(int index, long[] values) {
+		checkIndex(index);
+		values[MGRS.ENCODED_ZONE] = zones[index];
+		values[MGRS.ENCODED_BAND] = bands[index];
+		values[MGRS.ENCODED_COLUMN] = columns[index];
+		values[MGRS.ENCODED_ROW] = rows[index];
+		values[MGRS.ENCODED_EASTING] = eastings[index];
+		values[MGRS.ENCODED_NORTHING] = northings[index];
+	}
+
+	/**
+	 * Get the MGRS coordinate string in the grid type precision
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @return MGRS coordinate
+	 */
+	public String coordinate(int index) {
+		char[] chars = new char[MGRS.MAX_LENGTH];
+		int length = format(index, chars, 0);
+		return new String(chars, 0, length);
+	}
+
+	/**
+	 * Write the MGRS coordinate in the grid type precision into the
+	 * characters, see {@link MGRS#coordinate(GridType)}
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @param chars
+	 *            characters output
+	 * @param offset
+	 *            offset of the first written character
+	 * @return number of characters written
+	 */
+	public int format(int index, char[] chars, int offset) {
+		checkIndex(index);
+		return MGRS.format(zones[index], bands[index], columns[index],
+				rows[index], eastings[index], northings[index], type, chars,
+				offset);
+	}
+
+	/**
+	 * Get the packed cell of the coordinate in the grid type precision, see
+	 * {@link MGRSCell}
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @return cell
+	 */
+	public long getCell(int index) {
+		checkIndex(index);
+		return MGRSCell.create(zones[index], bands[index], columns[index],
+				rows[index], eastings[index], northings[index], type);
+	}
+
+	/**
+	 * Get the packed cells of the coordinates in the grid type precision, see
+	 * {@link MGRSCell}
+	 * 
+	 * @return cells
+	 */
+	public long[] toCells() {
+		long[] cells = new long[size];
+		for (int i = 0; i < size; i++) {
+			cells[i] = getCell(i);
+		}
+		return cells;
+	}
+
+	/**
+	 * Add the coordinate of the point
+	 * 
+	 * @param point
+	 *            point
+	 */
+	public void add(Point point) {
+		point = point.toDegrees();
+		add(point.getLongitude(), point.getLatitude());
+	}
+
+	/**
+	 * Add the coordinate of the longitude and latitude
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 */
+	public void add(double longitude, double latitude) {
+		ensureCapacity(size + 1);
+		set(size++, longitude, latitude, values);
+	}
+
+	/**
+	 * Add all coordinates of the columns
+	 * 
+	 * @param other
+	 *            columns of the same grid type precision
+	 */
+	public void addAll(MGRSColumns other) {
+		if (other.type != type) {
+			throw new IllegalArgumentException(
+					"Grid type precision mismatch. Columns: " + type
+							+ ", Other: " + other.type);
+		}
+		ensureCapacity(size + other.size);
+		System.arraycopy(other.zones, 0, zones, size, other.size);
+		System.arraycopy(other.bands, 0, bands, size, other.size);
+		System.arraycopy(other.columns, 0, columns, size, other.size);
+		System.arraycopy(other.rows, 0, rows, size, other.size);
+		System.arraycopy(other.eastings, 0, eastings, size, other.size);
+		System.arraycopy(other.northings, 0, northings, size, other.size);
+		size += other.size;
+	}
+
+	/**
+	 * Set the size, for columns filled in place up to the capacity
+	 * 
+	 * @param size
+	 *            size
+	 */
+	void setSize(int size) {
+		ensureCapacity(size);
+		this.size = size;
+	}
+
+	/**
+	 * Encode and set the coordinate at the index within the capacity
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @param values
+	 *            encoded values working array of at least
+	 *            {@link MGRS#ENCODED_LENGTH}
+	 */
+	void set(int index, double longitude, double latitude, long[] values) {
+		MGRS.encode(longitude, latitude, type, values);
+		zones[index] = (byte) values[MGRS.ENCODED_ZONE];
+		bands[index] = (char) values[MGRS.ENCODED_BAND];
+		columns[index] = (char) values[MGRS.ENCODED_COLUMN];
+		rows[index] = (char) values[MGRS.ENCODED_ROW];
+		eastings[index] = (int) values[MGRS.ENCODED_EASTING];
+		northings[index] = (int) values[MGRS.ENCODED_NORTHING];
+	}
+
+	/**
+	 * Ensure the column arrays hold at least the capacity
+	 * 
+	 * @param capacity
+	 *            minimum capacity
+	 */
+	private void ensureCapacity(int capacity) {
+		if (capacity > zones.length) {
+			int length = Math.max(capacity,
+					zones.length + (zones.length >> 1) + 1);
+			zones = Arrays.copyOf(zones, length);
+			bands = Arrays.copyOf(bands, length);
+			columns = Arrays.copyOf(columns, length);
+			rows = Arrays.copyOf(rows, length);
+			eastings = Arrays.copyOf(eastings, length);
+			northings = Arrays.copyOf(northings, length);
+		}
+	}
+
+	/**
+	 * Check the coordinate index
+	 * 
+	 * @param index
+	 *            coordinate index
+	 * @return index
+	 */
+	private int checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + size);
+		}
+		return index;
+	}
+
+}
@@ -0,0 +1,249 @@
+package mil.nga.mgrs;
+
+/**
+ * Single pass MGRS string scanner. Accepts the same values as the MGRS
+ * string pattern: whitespace anywhere, a one or two digit zone number, a band
+ * letter, and an optional column and row letter pair followed by up to five
+ * pairs of easting and northing digits, with case insensitive letters.
+ *
+ * @author osbornb
+ * @since 2.1.3
+ */
+final class MGRSParser {
+
+	/**
+	 * Scan result when the value is not a MGRS string
+	 */
+	static final int INVALID = -2;
+
+	/**
+	 * Scan result when the value is only a grid zone designation
+	 */
+	static final int GZD = -1;
+
+	/**
+	 * Maximum accuracy digits
+	 */
+	private static final int MAX_ACCURACY = 5;
+
+	/**
+	 * Maximum number of easting and northing digits
+	 */
+	private static final int MAX_DIGITS = MAX_ACCURACY * 2;
+
+	/**
+	 * Powers of ten by accuracy digits
+	 */
+	private static final long[] powers = new long[] { 1, 10, 100, 1000,
+			10000, 100000 };
+
+	/**
+	 * Hidden constructor
+	 */
+	private MGRSParser() {
+
+	}
+
+	/**
+	 * Scan the MGRS string into the encoded values at the
+	 * {@link MGRS#ENCODED_ZONE}, {@link MGRS#ENCODED_BAND},
+	 * {@link MGRS#ENCODED_COLUMN}, {@link MGRS#ENCODED_ROW},
+	 * {@link MGRS#ENCODED_EASTING}, and {@link MGRS#ENCODED_NORTHING}
+	 * indices. Letters are stored upper case. The zone number is not range
+	 * validated.
+	 *
+	 * @param value
+	 *            MGRS string
+	 * @param values
+	 *            encoded values output
+	 * @return accuracy digits (0 for 100km), {@link #GZD} when no column and
+	 *         row letters, or {@link #INVALID}
+	 */
+	static int scan(CharSequence value, long[] values) {
+
+		int length = value.length();
+		int index = skipWhitespace(value, 0, length);
+
+		// Zone number digits
+		int zone = 0;
+		int zoneDigits = 0;
+		while (index < length && isDigit(value.charAt(index))) {
+			if (zoneDigits == 2) {
+				return INVALID;
+			}
+			zone = zone * 10 + (value.charAt(index) - '0');
+			zoneDigits++;
+			index = skipWhitespace(value, index + 1, length);
+		}
+		if (zoneDigits == 0 || index == length) {
+			return INVALID;
+		}
+
+		// Band letter
+		char band = toUpperCase(value.charAt(index));
+		if (!isBandLetter(band)) {
+			return INVALID;
+		}
+		index = skipWhitespace(value, index + 1, length);
+
+		values[MGRS.ENCODED_ZONE] = zone;
+		values[MGRS.ENCODED_BAND] = band;
+		values[MGRS.ENCODED_EASTING] = 0;
+		values[MGRS.ENCODED_NORTHING] = 0;
+
+		if (index == length) {
+			values[MGRS.ENCODED_COLUMN] = 0;
+			values[MGRS.ENCODED_ROW] = 0;
+			return GZD;
+		}
+
+		// Column and row letters
+		char column = toUpperCase(value.charAt(index));
+		if (!isColumnLetter(column)) {
+			return INVALID;
+		}
+		index = skipWhitespace(value, index + 1, length);
+		if (index == length) {
+			return INVALID;
+		}
+		char row = toUpperCase(value.charAt(index));
+		if (!isRowLetter(row)) {
+			return INVALID;
+		}
+		index = skipWhitespace(value, index + 1, length);
+
+		values[MGRS.ENCODED_COLUMN] = column;
+		values[MGRS.ENCODED_ROW] = row;
+
+		// Easting and northing digits
+		long location = 0;
+		int digits = 0;
+		while (index < length) {
+			char digit = value.charAt(index);
+			if (!isDigit(digit) || digits == MAX_DIGITS) {
+				return INVALID;
+			}
+			location = location * 10 + (digit - '0');
+			digits++;
+			index = skipWhitespace(value, index + 1, length);
+		}
+		if (digits % 2 != 0) {
+			return INVALID;
+		}
+
+		int accuracy = digits / 2;
+		long divisor = powers[accuracy];
+		long multiplier = powers[MAX_ACCURACY - accuracy];
+		values[MGRS.ENCODED_EASTING] = location / divisor * multiplier;
+		values[MGRS.ENCODED_NORTHING] = location % divisor * multiplier;
+
+		return accuracy;
+	}
+
+	/**
+	 * Determine if the scanned values are a Svalbard grid zone that does not
+	 * exist (32X, 34X, and 36X)
+	 *
+	 * @param values
+	 *            scanned values
+	 * @return true if an omitted Svalbard grid zone
+	 */
+	static boolean isOmittedSvalbard(long[] values) {
+		long zone = values[MGRS.ENCODED_ZONE];
+		return values[MGRS.ENCODED_BAND] == MGRSConstants.SVALBARD_BAND_LETTER
+				&& (zone == 32 || zone == 34 || zone == 36);
+	}
+
+	/**
+	 * Skip whitespace characters, matching the regular expression \s class
+	 *
+	 * @param value
+	 *            value
+	 * @param index
+	 *            start index
+	 * @param length
+	 *            value length
+	 * @return index of the next non whitespace character, or the length
+	 */
+	private static int skipWhitespace(CharSequence value, int index,
+			int length) {
+		while (index < length) {
+			switch (value.charAt(index)) {
+			case ' ':
+			case '\t':
+			case '\n':
+			case '\u000B':
+			case '\f':
+			case '\r':
+				index++;
+				break;
+			default:
+				return index;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Determine if the character is an ASCII digit
+	 *
+	 * @param c
+	 *            character
+	 * @return true if a digit
+	 */
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Convert an ASCII lower case letter to upper case
+	 *
+	 * @param c
+	 *            character
+	 * @return upper case letter or the unchanged character
+	 */
+	private static char toUpperCase(char c) {
+		if (c >= 'a' && c <= 'z') {
+			c -= 'a' - 'A';
+		}
+		return c;
+	}
+
+	/**
+	 * Determine if the upper case character is a band letter (C-X omitting I
+	 * and O)
+	 *
+	 * @param c
+	 *            upper case character
+	 * @return true if a band letter
+	 */
+	private static boolean isBandLetter(char c) {
+		return c >= MGRSConstants.MIN_BAND_LETTER
+				&& c <= MGRSConstants.MAX_BAND_LETTER && c != 'I' && c != 'O';
+	}
+
+	/**
+	 * Determine if the upper case character is a 100km column letter (A-Z
+	 * omitting I and O)
+	 *
+	 * @param c
+	 *            upper case character
+	 * @return true if a column letter
+	 */
+	private static boolean isColumnLetter(char c) {
+		return c >= 'A' && c <= 'Z' && c != 'I' && c != 'O';
+	}
+
+	/**
+	 * Determine if the upper case character is a 100km row letter (A-V
+	 * omitting I and O)
+	 *
+	 * @param c
+	 *            upper case character
+	 * @return true if a row letter
+	 */
+	private static boolean isRowLetter(char c) {
+		return c >= 'A' && c <= 'V' && c != 'I' && c != 'O';
+	}
+
+}
@@ -0,0 +1,851 @@
+package mil.nga.mgrs;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import mil.nga.grid.Hemisphere;
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.grid.GridType;
+import mil.nga.mgrs.gzd.GridZone;
+import mil.nga.mgrs.gzd.GridZones;
+import mil.nga.mgrs.utm.UTM;
+
+/**
+ * Polyfill of the MGRS cells intersecting a bounds or polygon region. Cells
+ * are streamed as packed {@link MGRSCell} values without materializing the
+ * cell list. Each grid zone of the region's {@link GridZones#getGridRange}
+ * is filled by clipping the region to the grid zone and projecting it into
+ * the zone's UTM grid, where the cells are exact squares. Cells are refined
+ * from the 100km squares down to the precision, so only cells along the
+ * region edges are tested at each precision.
+ * 
+ * A compact polyfill emits cells wholly within the region at the coarsest
+ * precision that is wholly within the region, producing mixed precision
+ * output. Cells partially within the region are emitted at the polyfill
+ * precision.
+ * 
+ * Polygon edges are straight lines in degrees. Regions crossing the
+ * antimeridian are not supported.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class MGRSPolyfill implements Iterable<Long> {
+
+	/**
+	 * Maximum polygon edge segment length in degrees when projecting to UTM
+	 */
+	private static final double MAX_SEGMENT_DEGREES = 0.01;
+
+	/**
+	 * Number of child cells along each axis
+	 */
+	private static final int CHILD_DIVISIONS = 10;
+
+	/**
+	 * 100km square size in meters
+	 */
+	private static final double SQUARE_SIZE = 100000;
+
+	/**
+	 * Minimum 100km square UTM easting
+	 */
+	private static final double MIN_SQUARE_EASTING = 100000;
+
+	/**
+	 * Maximum 100km square UTM easting
+	 */
+	private static final double MAX_SQUARE_EASTING = 800000;
+
+	/**
+	 * Region polygon longitudes in degrees
+	 */
+	private final double[] longitudes;
+
+	/**
+	 * Region polygon latitudes in degrees
+	 */
+	private final double[] latitudes;
+
+	/**
+	 * Grid type precision
+	 */
+	private final GridType precision;
+
+	/**
+	 * Compact mixed precision output
+	 */
+	private final boolean compact;
+
+	/**
+	 * Create a polyfill of the cells intersecting the bounds
+	 * 
+	 * @param bounds
+	 *            bounds
+	 * @param precision
+	 *            grid type precision
+	 * @return polyfill
+	 */
+	public static MGRSPolyfill create(Bounds bounds, GridType precision) {
+		return create(bounds, precision, false);
+	}
+
+	/**
+	 * Create a polyfill of the cells intersecting the bounds
+	 * 
+	 * @param bounds
+	 *            bounds
+	 * @param precision
+	 *            grid type precision
+	 * @param compact
+	 *            true for compact mixed precision output
+	 * @return polyfill
+	 */
+	public static MGRSPolyfill create(Bounds bounds, GridType precision,
+			boolean compact) {
+		bounds = bounds.toDegrees();
+		List<Point> polygon = new ArrayList<>();
+		polygon.add(bounds.getSouthwest());
+		polygon.add(bounds.getSoutheast());
+		polygon.add(bounds.getNortheast());
+		polygon.add(bounds.getNorthwest());
+		return create(polygon, precision, compact);
+	}
+
+	/**
+	 * Create a polyfill of the cells intersecting the polygon
+	 * 
+	 * @param polygon
+	 *            polygon ring points, optionally closed
+	 * @param precision
+	 *            grid type precision
+	 * @return polyfill
+	 */
+	public static MGRSPolyfill create(List<Point> polygon,
+			GridType precision) {
+		return create(polygon, precision, false);
+	}
+
+	/**
+	 * Create a polyfill of the cells intersecting the polygon
+	 * 
+	 * @param polygon
+	 *            polygon ring points, optionally closed
+	 * @param precision
+	 *            grid type precision
+	 * @param compact
+	 *            true for compact mixed precision output
+	 * @return polyfill
+	 */
+	public static MGRSPolyfill create(List<Point> polygon, GridType precision,
+			boolean compact) {
+		return new MGRSPolyfill(polygon, precision, compact);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param polygon
+	 *            polygon ring points, optionally closed
+	 * @param precision
+	 *            grid type precision
+	 * @param compact
+	 *            true for compact mixed precision output
+	 */
+	private MGRSPolyfill(List<Point> polygon, GridType precision,
+			boolean compact) {
+
+		int size = polygon.size();
+		double[] lons = new double[size];
+		double[] lats = new double[size];
+		for (int i = 0; i < size; i++) {
+			Point point = polygon.get(i).toDegrees();
+			lons[i] = point.getLongitude();
+			lats[i] = point.getLatitude();
+		}
+
+		// Remove the closing point
+		if (size > 1 && lons[0] == lons[size - 1]
+				&& lats[0] == lats[size - 1]) {
+			size--;
+		}
+		if (size < 3) {
+			throw new IllegalArgumentException(
+					"Polygon requires at least 3 points: " + size);
+		}
+
+		longitudes = Arrays.copyOf(lons, size);
+		latitudes = Arrays.copyOf(lats, size);
+
+		this.precision = precision;
+		this.compact = compact;
+	}
+
+	/**
+	 * Get the grid type precision
+	 * 
+	 * @return grid type precision
+	 */
+	public GridType getPrecision() {
+		return precision;
+	}
+
+	/**
+	 * Is the output compact mixed precision
+	 * 
+	 * @return true if compact
+	 */
+	public boolean isCompact() {
+		return compact;
+	}
+
+	/**
+	 * Get the region bounds in degrees
+	 * 
+	 * @return bounds
+	 */
+	public Bounds getBounds() {
+		double west = Double.POSITIVE_INFINITY;
+		double south = Double.POSITIVE_INFINITY;
+		double east = Double.NEGATIVE_INFINITY;
+		double north = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < longitudes.length; i++) {
+			west = Math.min(west, longitudes[i]);
+			south = Math.min(south, latitudes[i]);
+			east = Math.max(east, longitudes[i]);
+			north = Math.max(north, latitudes[i]);
+		}
+		return Bounds.degrees(west, south, east, north);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PrimitiveIterator.OfLong iterator() {
+		return new CellIterator();
+	}
+
+	/**
+	 * Stream the cells
+	 * 
+	 * @return cell stream
+	 */
+	public LongStream stream() {
+		return StreamSupport.longStream(
+				Spliterators.spliteratorUnknownSize(iterator(),
+						Spliterator.DISTINCT | Spliterator.NONNULL),
+				false);
+	}
+
+	/**
+	 * Fill the cells into the array, continuing the iterator
+	 * 
+	 * @param iterator
+	 *            cell iterator
+	 * @param cells
+	 *            cells output
+	 * @param offset
+	 *            output offset
+	 * @param length
+	 *            maximum number of cells
+	 * @return number of cells filled, less than the length when the iterator
+	 *         is exhausted
+	 */
+	public static int fill(PrimitiveIterator.OfLong iterator, long[] cells,
+			int offset, int length) {
+		int count = 0;
+		while (count < length && iterator.hasNext()) {
+			cells[offset + count++] = iterator.nextLong();
+		}
+		return count;
+	}
+
+	/**
+	 * Clip the region polygon to the grid zone bounds (Sutherland-Hodgman)
+	 * 
+	 * @param bounds
+	 *            grid zone bounds
+	 * @return clipped longitudes and latitudes, null when empty
+	 */
+	private double[][] clip(Bounds bounds) {
+
+		double[] lons = longitudes;
+		double[] lats = latitudes;
+		int size = lons.length;
+
+		for (int edge = 0; edge < 4 && size > 0; edge++) {
+
+			double[] clippedLons = new double[size * 2];
+			double[] clippedLats = new double[size * 2];
+			int clippedSize = 0;
+
+			for (int i = 0; i < size; i++) {
+				int j = (i + 1) % size;
+				double lon1 = lons[i];
+				double lat1 = lats[i];
+				double lon2 = lons[j];
+				double lat2 = lats[j];
+				double distance1 = distance(bounds, edge, lon1, lat1);
+				double distance2 = distance(bounds, edge, lon2, lat2);
+				boolean inside1 = distance1 >= 0;
+				boolean inside2 = distance2 >= 0;
+				if (inside1) {
+					clippedLons[clippedSize] = lon1;
+					clippedLats[clippedSize++] = lat1;
+				}
+				if (inside1 != inside2) {
+					double t = distance1 / (distance1 - distance2);
+					clippedLons[clippedSize] = lon1 + t * (lon2 - lon1);
+					clippedLats[clippedSize++] = lat1 + t * (lat2 - lat1);
+				}
+			}
+
+			lons = clippedLons;
+			lats = clippedLats;
+			size = clippedSize;
+		}
+
+		double[][] clipped = null;
+		if (size >= 3) {
+			clipped = new double[][] { Arrays.copyOf(lons, size),
+					Arrays.copyOf(lats, size) };
+		}
+		return clipped;
+	}
+
+	/**
+	 * Get the signed distance inside of a bounds edge
+	 * 
+	 * @param bounds
+	 *            bounds
+	 * @param edge
+	 *            edge index: west, east, south, north
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @return distance, non negative when inside
+	 */
+	private static double distance(Bounds bounds, int edge, double longitude,
+			double latitude) {
+		double distance;
+		switch (edge) {
+		case 0:
+			distance = longitude - bounds.getWest();
+			break;
+		case 1:
+			distance = bounds.getEast() - longitude;
+			break;
+		case 2:
+			distance = latitude - bounds.getSouth();
+			break;
+		default:
+			distance = bounds.getNorth() - latitude;
+		}
+		return distance;
+	}
+
+	/**
+	 * Determine the area of a polygon ring
+	 * 
+	 * @param x
+	 *            x coordinates
+	 * @param y
+	 *            y coordinates
+	 * @return absolute area
+	 */
+	private static double area(double[] x, double[] y) {
+		double area = 0;
+		for (int i = 0, j = x.length - 1; i < x.length; j = i++) {
+			area += (x[j] + x[i]) * (y[j] - y[i]);
+		}
+		return Math.abs(area / 2);
+	}
+
+	/**
+	 * Region projected into the UTM grid of a grid zone
+	 */
+	private static class ZoneRegion {
+
+		/**
+		 * Zone number
+		 */
+		private final int zone;
+
+		/**
+		 * Band letter
+		 */
+		private final char band;
+
+		/**
+		 * Polygon UTM eastings
+		 */
+		private final double[] eastings;
+
+		/**
+		 * Polygon UTM northings
+		 */
+		private final double[] northings;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param gridZone
+		 *            grid zone
+		 * @param longitudes
+		 *            clipped polygon longitudes
+		 * @param latitudes
+		 *            clipped polygon latitudes
+		 */
+		private ZoneRegion(GridZone gridZone, double[] longitudes,
+				double[] latitudes) {
+
+			zone = gridZone.getNumber();
+			band = gridZone.getLetter();
+			Hemisphere hemisphere = gridZone.getHemisphere();
+
+			// Densify the edges so that the projected segments follow the
+			// straight degree edges
+			int size = longitudes.length;
+			int[] segments = new int[size];
+			int count = 0;
+			for (int i = 0; i < size; i++) {
+				int j = (i + 1) % size;
+				double length = Math.max(
+						Math.abs(longitudes[j] - longitudes[i]),
+						Math.abs(latitudes[j] - latitudes[i]));
+				segments[i] = Math.max(1,
+						(int) Math.ceil(length / MAX_SEGMENT_DEGREES));
+				count += segments[i];
+			}
+
+			eastings = new double[count];
+			northings = new double[count];
+			int index = 0;
+			for (int i = 0; i < size; i++) {
+				int j = (i + 1) % size;
+				for (int k = 0; k < segments[i]; k++) {
+					double t = (double) k / segments[i];
+					double longitude = longitudes[i]
+							+ t * (longitudes[j] - longitudes[i]);
+					double latitude = latitudes[i]
+							+ t * (latitudes[j] - latitudes[i]);
+					eastings[index] = UTM.easting(longitude, latitude, zone);
+					northings[index++] = UTM.northing(longitude, latitude,
+							zone, hemisphere);
+				}
+			}
+		}
+
+		/**
+		 * Get the number of polygon edges
+		 * 
+		 * @return edge count
+		 */
+		private int edges() {
+			return eastings.length;
+		}
+
+		/**
+		 * Determine if the edge intersects the square
+		 * 
+		 * @param edge
+		 *            edge index
+		 * @param easting
+		 *            square minimum easting
+		 * @param northing
+		 *            square minimum northing
+		 * @param size
+		 *            square size
+		 * @return true if intersects
+		 */
+		private boolean intersects(int edge, double easting, double northing,
+				double size) {
+
+			int next = edge + 1 == eastings.length ? 0 : edge + 1;
+			double x1 = eastings[edge];
+			double y1 = northings[edge];
+			double x2 = eastings[next];
+			double y2 = northings[next];
+			double maxEasting = easting + size;
+			double maxNorthing = northing + size;
+
+			// Bounding box rejection
+			if (Math.max(x1, x2) < easting || Math.min(x1, x2) > maxEasting
+					|| Math.max(y1, y2) < northing
+					|| Math.min(y1, y2) > maxNorthing) {
+				return false;
+			}
+
+			// Square corners on both sides of the edge line
+			double dx = x2 - x1;
+			double dy = y2 - y1;
+			double side1 = dx * (northing - y1) - dy * (easting - x1);
+			double side2 = dx * (northing - y1) - dy * (maxEasting - x1);
+			double side3 = dx * (maxNorthing - y1) - dy * (easting - x1);
+			double side4 = dx * (maxNorthing - y1) - dy * (maxEasting - x1);
+
+			return !((side1 > 0 && side2 > 0 && side3 > 0 && side4 > 0)
+					|| (side1 < 0 && side2 < 0 && side3 < 0 && side4 < 0));
+		}
+
+		/**
+		 * Determine if the UTM coordinate is within the polygon (even-odd)
+		 * 
+		 * @param easting
+		 *            easting
+		 * @param northing
+		 *            northing
+		 * @return true if within
+		 */
+		private boolean contains(double easting, double northing) {
+			boolean inside = false;
+			for (int i = 0, j = eastings.length - 1; i < eastings.length; j = i++) {
+				double yi = northings[i];
+				double yj = northings[j];
+				if ((yi > northing) != (yj > northing)) {
+					double x = eastings[j] + (northing - yj)
+							* (eastings[i] - eastings[j]) / (yi - yj);
+					if (easting < x) {
+						inside = !inside;
+					}
+				}
+			}
+			return inside;
+		}
+
+		/**
+		 * Create the cell of the square
+		 * 
+		 * @param easting
+		 *            square UTM easting
+		 * @param northing
+		 *            square UTM northing
+		 * @param type
+		 *            grid type
+		 * @return cell
+		 */
+		private long cell(double easting, double northing, GridType type) {
+			long utmEasting = (long) easting;
+			long utmNorthing = (long) northing;
+			return MGRSCell.create(zone, band,
+					MGRS.getColumnLetter(zone, easting),
+					MGRS.getRowLetter(zone, northing), utmEasting % 100000,
+					utmNorthing % 100000, type);
+		}
+
+	}
+
+	/**
+	 * Grid of squares to test or fill
+	 */
+	private static class Frame {
+
+		/**
+		 * Minimum UTM easting
+		 */
+		private final double easting;
+
+		/**
+		 * Minimum UTM northing
+		 */
+		private final double northing;
+
+		/**
+		 * Number of square columns
+		 */
+		private final long columns;
+
+		/**
+		 * Number of square rows
+		 */
+		private final long rows;
+
+		/**
+		 * Square size in meters
+		 */
+		private final double size;
+
+		/**
+		 * Square grid type
+		 */
+		private final GridType type;
+
+		/**
+		 * Offset of the candidate intersecting edges in the edge stack
+		 */
+		private final int edgeOffset;
+
+		/**
+		 * Number of candidate intersecting edges, 0 when filling without
+		 * tests
+		 */
+		private final int edgeCount;
+
+		/**
+		 * Next square index
+		 */
+		private long index = 0;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param easting
+		 *            minimum UTM easting
+		 * @param northing
+		 *            minimum UTM northing
+		 * @param columns
+		 *            number of square columns
+		 * @param rows
+		 *            number of square rows
+		 * @param type
+		 *            square grid type
+		 * @param edgeOffset
+		 *            offset of the candidate intersecting edges in the edge
+		 *            stack
+		 * @param edgeCount
+		 *            number of candidate intersecting edges, 0 when filling
+		 */
+		private Frame(double easting, double northing, long columns,
+				long rows, GridType type, int edgeOffset, int edgeCount) {
+			this.easting = easting;
+			this.northing = northing;
+			this.columns = columns;
+			this.rows = rows;
+			this.size = type.getPrecision();
+			this.type = type;
+			this.edgeOffset = edgeOffset;
+			this.edgeCount = edgeCount;
+		}
+
+	}
+
+	/**
+	 * Cell iterator over the grid zones of the region
+	 */
+	private class CellIterator implements PrimitiveIterator.OfLong {
+
+		/**
+		 * Grid zones of the region
+		 */
+		private final Iterator<GridZone> gridZones = GridZones
+				.getGridRange(getBounds()).iterator();
+
+		/**
+		 * Square grids of the current grid zone
+		 */
+		private final Deque<Frame> frames = new ArrayDeque<>();
+
+		/**
+		 * Candidate intersecting edges of the square grids, each child grid
+		 * slicing the stack after its parent's edges
+		 */
+		private int[] edges = new int[16];
+
+		/**
+		 * Current grid zone region
+		 */
+		private ZoneRegion region = null;
+
+		/**
+		 * Next cell
+		 */
+		private long next = 0;
+
+		/**
+		 * Next cell ready
+		 */
+		private boolean ready = false;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			if (!ready) {
+				ready = advance();
+			}
+			return ready;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long nextLong() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			ready = false;
+			return next;
+		}
+
+		/**
+		 * Advance to the next cell
+		 * 
+		 * @return true if a next cell
+		 */
+		private boolean advance() {
+
+			while (true) {
+
+				Frame frame = frames.peek();
+
+				if (frame == null) {
+					if (!gridZones.hasNext()) {
+						return false;
+					}
+					if (startGridZone(gridZones.next())) {
+						return true;
+					}
+					continue;
+				}
+
+				if (frame.index == frame.columns * frame.rows) {
+					frames.pop();
+					continue;
+				}
+
+				long index = frame.index++;
+				double easting = frame.easting
+						+ (index / frame.rows) * frame.size;
+				double northing = frame.northing
+						+ (index % frame.rows) * frame.size;
+
+				// Fill within the region without tests
+				if (frame.edgeCount == 0) {
+					next = region.cell(easting, northing, frame.type);
+					return true;
+				}
+
+				// Candidate edges intersecting the square, written after the
+				// frame edges at the top of the edge stack
+				int end = frame.edgeOffset + frame.edgeCount;
+				ensureEdges(end + frame.edgeCount);
+				int count = 0;
+				for (int i = frame.edgeOffset; i < end; i++) {
+					int edge = edges[i];
+					if (region.intersects(edge, easting, northing,
+							frame.size)) {
+						edges[end + count++] = edge;
+					}
+				}
+
+				if (count == 0) {
+
+					// Wholly within or outside of the region
+					if (!region.contains(easting + frame.size / 2,
+							northing + frame.size / 2)) {
+						continue;
+					}
+					if (compact || frame.type == precision) {
+						next = region.cell(easting, northing, frame.type);
+						return true;
+					}
+					long divisions = (long) (frame.size
+							/ precision.getPrecision());
+					frames.push(new Frame(easting, northing, divisions,
+							divisions, precision, 0, 0));
+
+				} else if (frame.type == precision) {
+					next = region.cell(easting, northing, frame.type);
+					return true;
+				} else {
+					frames.push(new Frame(easting, northing, CHILD_DIVISIONS,
+							CHILD_DIVISIONS,
+							GridType.values()[frame.type.ordinal() + 1], end,
+							count));
+				}
+
+			}
+
+		}
+
+		/**
+		 * Start filling a grid zone
+		 * 
+		 * @param gridZone
+		 *            grid zone
+		 * @return true if a grid zone cell is ready
+		 */
+		private boolean startGridZone(GridZone gridZone) {
+
+			Bounds bounds = gridZone.getBounds();
+			double[][] clipped = clip(bounds);
+			if (clipped == null || area(clipped[0], clipped[1]) == 0) {
+				return false;
+			}
+
+			if (precision == GridType.GZD || (compact && area(clipped[0],
+					clipped[1]) >= bounds.getWidth() * bounds.getHeight())) {
+				next = MGRSCell.create(gridZone.getNumber(),
+						gridZone.getLetter(), (char) 0, (char) 0, 0, 0,
+						GridType.GZD);
+				return true;
+			}
+
+			region = new ZoneRegion(gridZone, clipped[0], clipped[1]);
+
+			double minEasting = Double.POSITIVE_INFINITY;
+			double minNorthing = Double.POSITIVE_INFINITY;
+			double maxEasting = Double.NEGATIVE_INFINITY;
+			double maxNorthing = Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < region.edges(); i++) {
+				minEasting = Math.min(minEasting, region.eastings[i]);
+				minNorthing = Math.min(minNorthing, region.northings[i]);
+				maxEasting = Math.max(maxEasting, region.eastings[i]);
+				maxNorthing = Math.max(maxNorthing, region.northings[i]);
+			}
+
+			minEasting = Math.max(MIN_SQUARE_EASTING,
+					Math.floor(minEasting / SQUARE_SIZE) * SQUARE_SIZE);
+			maxEasting = Math.min(MAX_SQUARE_EASTING,
+					Math.floor(maxEasting / SQUARE_SIZE) * SQUARE_SIZE);
+			minNorthing = Math.floor(minNorthing / SQUARE_SIZE) * SQUARE_SIZE;
+			maxNorthing = Math.floor(maxNorthing / SQUARE_SIZE) * SQUARE_SIZE;
+
+			if (minEasting <= maxEasting) {
+				int count = region.edges();
+				ensureEdges(count);
+				for (int i = 0; i < count; i++) {
+					edges[i] = i;
+				}
+				long columns = (long) ((maxEasting - minEasting) / SQUARE_SIZE)
+						+ 1;
+				long rows = (long) ((maxNorthing - minNorthing) / SQUARE_SIZE)
+						+ 1;
+				frames.push(new Frame(minEasting, minNorthing, columns, rows,
+						GridType.HUNDRED_KILOMETER, 0, count));
+			}
+
+			return false;
+		}
+
+		/**
+		 * Ensure the edge stack capacity
+		 * 
+		 * @param capacity
+		 *            minimum capacity
+		 */
+		private void ensureEdges(int capacity) {
+			if (capacity > edges.length) {
+				edges = Arrays.copyOf(edges,
+						Math.max(capacity, edges.length * 2));
+			}
+		}
+
+	}
+
+}
@@ -75,6 +75,58 @@ public class MGRSUtils {
 		return letter;
 	}
 
+	/**
+	 * Get the zero based index of the band letter, from 0 for
+	 * {@link MGRSConstants#MIN_BAND_LETTER} to {@link MGRSConstants#NUM_BANDS}
+	 * - 1 for {@link MGRSConstants#MAX_BAND_LETTER}
+	 * 
+	 * @param letter
+	 *            band letter
+	 * @return band index, -1 if not a band letter
+	 * @since 2.1.3
+	 */
+	public static int getBandIndex(char letter) {
+		if (letter < MGRSConstants.MIN_BAND_LETTER
+				|| letter > MGRSConstants.MAX_BAND_LETTER
+				|| GridUtils.isOmittedBandLetter(letter)) {
+			return -1;
+		}
+		int index = letter - MGRSConstants.MIN_BAND_LETTER;
+		// Skip the omitted 'I' and 'O' letters
+		if (letter > 'I') {
+			index--;
+		}
+		if (letter > 'O') {
+			index--;
+		}
+		return index;
+	}
+
+	/**
+	 * Get the band letter at the zero based band index, see
+	 * {@link #getBandIndex(char)}
+	 * 
+	 * @param index
+	 *            band index
+	 * @return band letter
+	 * @since 2.1.3
+	 */
+	public static char getBandLetter(int index) {
+		if (index < 0 || index >= MGRSConstants.NUM_BANDS) {
+			throw new IllegalArgumentException("Illegal band index (expected 0 - "
+					+ (MGRSConstants.NUM_BANDS - 1) + "): " + index);
+		}
+		char letter = (char) (MGRSConstants.MIN_BAND_LETTER + index);
+		// Skip the omitted 'I' and 'O' letters
+		if (letter >= 'I') {
+			letter++;
+		}
+		if (letter >= 'O') {
+			letter++;
+		}
+		return letter;
+	}
+
 	/**
 	 * Get the label name
 	 * 
@@ -0,0 +1,539 @@
+package mil.nga.mgrs.features;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.MGRS;
+import mil.nga.mgrs.grid.Grid;
+import mil.nga.mgrs.grid.GridLabel;
+import mil.nga.mgrs.grid.GridType;
+import mil.nga.mgrs.gzd.GridZone;
+import mil.nga.mgrs.gzd.GridZones;
+
+/**
+ * Streaming GeoJSON FeatureCollection writer of grid lines, polylines, and
+ * labels. Features are written as they are generated by the grid zones and
+ * labelers, without collecting them. Line and label exports run in constant
+ * memory, and polyline exports in memory proportional to a single grid zone
+ * lattice row or column.
+ * Coordinates are written with a configurable number of decimal places.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class GeoJSONWriter implements Closeable, Flushable {
+
+	/**
+	 * Default coordinate decimal places, about 0.1 meters
+	 */
+	public static final int DEFAULT_PRECISION = 6;
+
+	/**
+	 * Maximum coordinate decimal places
+	 */
+	public static final int MAX_PRECISION = 12;
+
+	/**
+	 * Grid property, the type of the grid generating the feature
+	 */
+	public static final String GRID_PROPERTY = "grid";
+
+	/**
+	 * Feature grid type property
+	 */
+	public static final String TYPE_PROPERTY = "type";
+
+	/**
+	 * Label name property
+	 */
+	public static final String NAME_PROPERTY = "name";
+
+	/**
+	 * Label MGRS coordinate property
+	 */
+	public static final String MGRS_PROPERTY = "mgrs";
+
+	/**
+	 * Output writer
+	 */
+	private final Writer writer;
+
+	/**
+	 * Number formatting buffer
+	 */
+	private final char[] digits = new char[32];
+
+	/**
+	 * Coordinate decimal places
+	 */
+	private int precision;
+
+	/**
+	 * Coordinate scale, 10 to the precision
+	 */
+	private long scale;
+
+	/**
+	 * Number of written features
+	 */
+	private long count;
+
+	/**
+	 * Finished flag
+	 */
+	private boolean finished;
+
+	/**
+	 * Create a writer
+	 * 
+	 * @param writer
+	 *            output writer
+	 * @return GeoJSON writer
+	 */
+	public static GeoJSONWriter create(Writer writer) {
+		return new GeoJSONWriter(writer);
+	}
+
+	/**
+	 * Create a UTF-8 writer
+	 * 
+	 * @param out
+	 *            output stream
+	 * @return GeoJSON writer
+	 */
+	public static GeoJSONWriter create(OutputStream out) {
+		return new GeoJSONWriter(new BufferedWriter(
+				new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param writer
+	 *            output writer
+	 */
+	public GeoJSONWriter(Writer writer) {
+		this.writer = writer;
+		setPrecision(DEFAULT_PRECISION);
+	}
+
+	/**
+	 * Get the coordinate decimal places
+	 * 
+	 * @return precision
+	 */
+	public int getPrecision() {
+		return precision;
+	}
+
+	/**
+	 * Set the coordinate decimal places
+	 * 
+	 * @param precision
+	 *            precision, 0 - {@link #MAX_PRECISION}
+	 */
+	public void setPrecision(int precision) {
+		if (precision < 0 || precision > MAX_PRECISION) {
+			throw new IllegalArgumentException("Invalid precision: "
+					+ precision + ", allowed: 0 - " + MAX_PRECISION);
+		}
+		this.precision = precision;
+		scale = 1;
+		for (int i = 0; i < precision; i++) {
+			scale *= 10;
+		}
+	}
+
+	/**
+	 * Get the number of written features
+	 * 
+	 * @return feature count
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Write a grid line as a LineString feature
+	 * 
+	 * @param line
+	 *            grid line
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void write(GridLine line) throws IOException {
+		write(null, line);
+	}
+
+	/**
+	 * Write a grid line as a LineString feature
+	 * 
+	 * @param grid
+	 *            type of the generating grid, may be null
+	 * @param line
+	 *            grid line
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void write(GridType grid, GridLine line) throws IOException {
+		startFeature("LineString");
+		writer.write('[');
+		writePosition(line.getPoint1());
+		writer.write(',');
+		writePosition(line.getPoint2());
+		writer.write(']');
+		endGeometry(grid, line.getGridType());
+		writer.write("}}");
+	}
+
+	/**
+	 * Write a grid polyline as a LineString feature
+	 * 
+	 * @param polyline
+	 *            grid polyline
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void write(GridPolyline polyline) throws IOException {
+		write(null, polyline);
+	}
+
+	/**
+	 * Write a grid polyline as a LineString feature
+	 * 
+	 * @param grid
+	 *            type of the generating grid, may be null
+	 * @param polyline
+	 *            grid polyline
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void write(GridType grid, GridPolyline polyline)
+			throws IOException {
+		startFeature("LineString");
+		writer.write('[');
+		List<Point> points = polyline.getPoints();
+		for (int i = 0; i < points.size(); i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writePosition(points.get(i));
+		}
+		writer.write(']');
+		endGeometry(grid, polyline.getGridType());
+		writer.write("}}");
+	}
+
+	/**
+	 * Write a grid label as a Point feature at the label center
+	 * 
+	 * @param label
+	 *            grid label
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void write(GridLabel label) throws IOException {
+		write(null, label);
+	}
+
+	/**
+	 * Write a grid label as a Point feature at the label center
+	 * 
+	 * @param grid
+	 *            type of the generating grid, may be null
+	 * @param label
+	 *            grid label
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void write(GridType grid, GridLabel label) throws IOException {
+		startFeature("Point");
+		writePosition(label.getCenter());
+		GridType type = label.getGridType();
+		endGeometry(grid, type);
+		writeProperty(NAME_PROPERTY, label.getName());
+		MGRS coordinate = label.getCoordinate();
+		if (coordinate != null) {
+			writeProperty(MGRS_PROPERTY, type != null
+					? coordinate.coordinate(type) : coordinate.coordinate());
+		}
+		writer.write("}}");
+	}
+
+	/**
+	 * Write the grid lines of the grid zones within the bounds, as they are
+	 * generated
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param bounds
+	 *            bounds
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void writeLines(Grid grid, Bounds bounds) throws IOException {
+		try {
+			for (GridZone zone : GridZones.getGridRange(bounds)) {
+				grid.forEachLine(bounds, zone, (line) -> {
+					try {
+						write(grid.getType(), line);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Write the grid polylines of the grid zones within the bounds, as they
+	 * are generated
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param bounds
+	 *            bounds
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void writePolylines(Grid grid, Bounds bounds) throws IOException {
+		try {
+			for (GridZone zone : GridZones.getGridRange(bounds)) {
+				grid.forEachPolyline(bounds, zone, (polyline) -> {
+					try {
+						write(grid.getType(), polyline);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Write the grid labels of the grid zones within the bounds, as they are
+	 * generated
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param bounds
+	 *            bounds
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void writeLabels(Grid grid, Bounds bounds) throws IOException {
+		try {
+			for (GridZone zone : GridZones.getGridRange(bounds)) {
+				grid.forEachLabel(bounds, zone, (label) -> {
+					try {
+						write(grid.getType(), label);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Finish the feature collection without closing the output, writing an
+	 * empty collection when no features were written
+	 * 
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void finish() throws IOException {
+		if (!finished) {
+			if (count == 0) {
+				writer.write("{\"type\":\"FeatureCollection\",\"features\":[");
+			}
+			writer.write("]}");
+			writer.flush();
+			finished = true;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
+	/**
+	 * Finish the feature collection and close the output
+	 * 
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			finish();
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Start a feature through its geometry coordinates
+	 * 
+	 * @param geometryType
+	 *            geometry type
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	private void startFeature(String geometryType) throws IOException {
+		if (finished) {
+			throw new IllegalStateException(
+					"GeoJSON feature collection is finished");
+		}
+		if (count == 0) {
+			writer.write("{\"type\":\"FeatureCollection\",\"features\":[");
+		} else {
+			writer.write(',');
+		}
+		count++;
+		writer.write("{\"type\":\"Feature\",\"geometry\":{\"type\":\"");
+		writer.write(geometryType);
+		writer.write("\",\"coordinates\":");
+	}
+
+	/**
+	 * End the geometry and start the properties with the grid types
+	 * 
+	 * @param grid
+	 *            type of the generating grid, may be null
+	 * @param type
+	 *            feature grid type, may be null to use the generating grid
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	private void endGeometry(GridType grid, GridType type) throws IOException {
+		writer.write("},\"properties\":{");
+		if (grid != null) {
+			writer.write('"');
+			writer.write(GRID_PROPERTY);
+			writer.write("\":\"");
+			writer.write(grid.name());
+			writer.write("\",");
+		}
+		writer.write('"');
+		writer.write(TYPE_PROPERTY);
+		writer.write("\":");
+		if (type == null) {
+			type = grid;
+		}
+		if (type != null) {
+			writer.write('"');
+			writer.write(type.name());
+			writer.write('"');
+		} else {
+			writer.write("null");
+		}
+	}
+
+	/**
+	 * Write a string property, following the grid type properties
+	 * 
+	 * @param name
+	 *            property name
+	 * @param value
+	 *            property value
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	private void writeProperty(String name, String value) throws IOException {
+		writer.write(",\"");
+		writer.write(name);
+		writer.write("\":\"");
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				writer.write('\\');
+				writer.write(c);
+			} else if (c < 0x20) {
+				writer.write(String.format("\\u%04x", (int) c));
+			} else {
+				writer.write(c);
+			}
+		}
+		writer.write('"');
+	}
+
+	/**
+	 * Write a longitude and latitude position
+	 * 
+	 * @param point
+	 *            point
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	private void writePosition(Point point) throws IOException {
+		writer.write('[');
+		writeNumber(point.getLongitude());
+		writer.write(',');
+		writeNumber(point.getLatitude());
+		writer.write(']');
+	}
+
+	/**
+	 * Write a number rounded to the precision, without trailing zeros
+	 * 
+	 * @param value
+	 *            value
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	private void writeNumber(double value) throws IOException {
+
+		long scaled = Math.round(Math.abs(value) * scale);
+		long integer = scaled / scale;
+		long fraction = scaled % scale;
+
+		int end = digits.length;
+		int position = end;
+
+		if (fraction != 0) {
+			int places = precision;
+			while (fraction % 10 == 0) {
+				fraction /= 10;
+				places--;
+			}
+			for (int i = 0; i < places; i++) {
+				digits[--position] = (char) ('0' + fraction % 10);
+				fraction /= 10;
+			}
+			digits[--position] = '.';
+		}
+
+		do {
+			digits[--position] = (char) ('0' + integer % 10);
+			integer /= 10;
+		} while (integer != 0);
+
+		if (value < 0 && scaled != 0) {
+			digits[--position] = '-';
+		}
+
+		writer.write(digits, position, end - position);
+	}
+
+}
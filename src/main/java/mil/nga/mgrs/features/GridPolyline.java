@@ -0,0 +1,249 @@
+package mil.nga.mgrs.features;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.grid.GridType;
+
+/**
+ * Grid Polyline, a multiple point line of a single easting or northing value
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class GridPolyline implements Serializable {
+
+	/**
+	 * Serial Version UID
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Points
+	 */
+	private List<Point> points;
+
+	/**
+	 * Grid type the polyline represents if any
+	 */
+	private GridType gridType;
+
+	/**
+	 * Create a polyline
+	 * 
+	 * @param points
+	 *            points
+	 * @return polyline
+	 */
+	public static GridPolyline polyline(List<Point> points) {
+		return new GridPolyline(points);
+	}
+
+	/**
+	 * Create a polyline
+	 * 
+	 * @param points
+	 *            points
+	 * @param gridType
+	 *            polyline grid type
+	 * @return polyline
+	 */
+	public static GridPolyline polyline(List<Point> points,
+			GridType gridType) {
+		return new GridPolyline(points, gridType);
+	}
+
+	/**
+	 * Copy a polyline
+	 * 
+	 * @param polyline
+	 *            polyline to copy
+	 * @return polyline
+	 */
+	public static GridPolyline polyline(GridPolyline polyline) {
+		return new GridPolyline(polyline);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param points
+	 *            points
+	 */
+	public GridPolyline(List<Point> points) {
+		this.points = points;
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param points
+	 *            points
+	 * @param gridType
+	 *            polyline grid type
+	 */
+	public GridPolyline(List<Point> points, GridType gridType) {
+		this(points);
+		this.gridType = gridType;
+	}
+
+	/**
+	 * Copy Constructor
+	 * 
+	 * @param polyline
+	 *            polyline to copy
+	 */
+	public GridPolyline(GridPolyline polyline) {
+		this.points = new ArrayList<>(polyline.numPoints());
+		for (Point point : polyline.getPoints()) {
+			this.points.add(point.copy());
+		}
+		this.gridType = polyline.getGridType();
+	}
+
+	/**
+	 * Get the points
+	 * 
+	 * @return points
+	 */
+	public List<Point> getPoints() {
+		return points;
+	}
+
+	/**
+	 * Set the points
+	 * 
+	 * @param points
+	 *            points
+	 */
+	public void setPoints(List<Point> points) {
+		this.points = points;
+	}
+
+	/**
+	 * Get the number of points
+	 * 
+	 * @return number of points
+	 */
+	public int numPoints() {
+		return points.size();
+	}
+
+	/**
+	 * Get the point at the index
+	 * 
+	 * @param index
+	 *            point index
+	 * @return point
+	 */
+	public Point getPoint(int index) {
+		return points.get(index);
+	}
+
+	/**
+	 * Get the first point
+	 * 
+	 * @return first point
+	 */
+	public Point getStartPoint() {
+		return points.get(0);
+	}
+
+	/**
+	 * Get the last point
+	 * 
+	 * @return last point
+	 */
+	public Point getEndPoint() {
+		return points.get(points.size() - 1);
+	}
+
+	/**
+	 * Get the polyline grid type
+	 * 
+	 * @return grid type
+	 */
+	public GridType getGridType() {
+		return gridType;
+	}
+
+	/**
+	 * Check if the polyline has a grid type
+	 * 
+	 * @return true if has grid type
+	 */
+	public boolean hasGridType() {
+		return gridType != null;
+	}
+
+	/**
+	 * Set the polyline grid type
+	 * 
+	 * @param gridType
+	 *            grid type
+	 */
+	public void setGridType(GridType gridType) {
+		this.gridType = gridType;
+	}
+
+	/**
+	 * Get the two point line segments of the polyline
+	 * 
+	 * @return lines
+	 */
+	public List<GridLine> getLines() {
+		List<GridLine> lines = new ArrayList<>(Math.max(0, points.size() - 1));
+		for (int i = 1; i < points.size(); i++) {
+			lines.add(GridLine.line(points.get(i - 1), points.get(i),
+					gridType));
+		}
+		return lines;
+	}
+
+	/**
+	 * Copy the polyline
+	 * 
+	 * @return polyline copy
+	 */
+	public GridPolyline copy() {
+		return new GridPolyline(this);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result
+				+ ((gridType == null) ? 0 : gridType.hashCode());
+		result = prime * result + ((points == null) ? 0 : points.hashCode());
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		GridPolyline other = (GridPolyline) obj;
+		if (gridType != other.gridType)
+			return false;
+		if (points == null) {
+			if (other.points != null)
+				return false;
+		} else if (!points.equals(other.points))
+			return false;
+		return true;
+	}
+
+}
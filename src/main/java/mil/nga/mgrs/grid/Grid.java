@@ -3,6 +3,7 @@ package mil.nga.mgrs.grid;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import mil.nga.color.Color;
 import mil.nga.grid.BaseGrid;
@@ -11,6 +12,7 @@ import mil.nga.grid.features.Bounds;
 import mil.nga.grid.property.PropertyConstants;
 import mil.nga.grid.tile.GridTile;
 import mil.nga.mgrs.features.GridLine;
+import mil.nga.mgrs.features.GridPolyline;
 import mil.nga.mgrs.gzd.GridZone;
 import mil.nga.mgrs.property.MGRSProperties;
 
@@ -38,6 +40,11 @@ public class Grid extends BaseGrid implements Comparable<Grid> {
 	 */
 	private Map<GridType, GridStyle> styles = new HashMap<>();
 
+	/**
+	 * Tile lines and labels cache
+	 */
+	private GridCache cache;
+
 	/**
 	 * Constructor
 	 * 
@@ -246,7 +253,11 @@ public class Grid extends BaseGrid implements Comparable<Grid> {
 	public List<GridLine> getLines(int zoom, Bounds tileBounds, GridZone zone) {
 		List<GridLine> lines = null;
 		if (isLinesWithin(zoom)) {
-			lines = getLines(tileBounds, zone);
+			if (cache != null) {
+				lines = cache.getLines(this, zoom, tileBounds, zone);
+			} else {
+				lines = getLines(tileBounds, zone);
+			}
 		}
 		return lines;
 	}
@@ -264,6 +275,183 @@ public class Grid extends BaseGrid implements Comparable<Grid> {
 		return zone.getLines(tileBounds, type);
 	}
 
+	/**
+	 * Stream the lines for the tile and zone to the consumer, see
+	 * {@link #forEachLine(int, Bounds, GridZone, Consumer)}
+	 * 
+	 * @param tile
+	 *            tile
+	 * @param zone
+	 *            grid zone
+	 * @param consumer
+	 *            line consumer
+	 * @return true if the grid zone has lines within the tile
+	 * @since 2.1.3
+	 */
+	public boolean forEachLine(GridTile tile, GridZone zone,
+			Consumer<? super GridLine> consumer) {
+		return forEachLine(tile.getZoom(), tile.getBounds(), zone, consumer);
+	}
+
+	/**
+	 * Stream the lines for the zoom, tile bounds, and zone to the consumer
+	 * when within the zoom range. Lines are generated as they are consumed,
+	 * or read from the cache when set.
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param zone
+	 *            grid zone
+	 * @param consumer
+	 *            line consumer
+	 * @return true if the grid zone has lines within the tile bounds
+	 * @since 2.1.3
+	 */
+	public boolean forEachLine(int zoom, Bounds tileBounds, GridZone zone,
+			Consumer<? super GridLine> consumer) {
+		boolean within = false;
+		if (isLinesWithin(zoom)) {
+			if (cache != null) {
+				List<GridLine> lines = cache.getLines(this, zoom, tileBounds,
+						zone);
+				if (lines != null) {
+					within = true;
+					lines.forEach(consumer);
+				}
+			} else {
+				within = forEachLine(tileBounds, zone, consumer);
+			}
+		}
+		return within;
+	}
+
+	/**
+	 * Stream the lines for the tile bounds and zone to the consumer as they
+	 * are generated
+	 * 
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param zone
+	 *            grid zone
+	 * @param consumer
+	 *            line consumer
+	 * @return true if the grid zone has lines within the tile bounds
+	 * @since 2.1.3
+	 */
+	public boolean forEachLine(Bounds tileBounds, GridZone zone,
+			Consumer<? super GridLine> consumer) {
+		return zone.forEachLine(tileBounds, type, consumer);
+	}
+
+	/**
+	 * Get the polylines for the tile and zone
+	 * 
+	 * @param tile
+	 *            tile
+	 * @param zone
+	 *            grid zone
+	 * @return polylines
+	 * @since 2.1.3
+	 */
+	public List<GridPolyline> getPolylines(GridTile tile, GridZone zone) {
+		return getPolylines(tile.getZoom(), tile.getBounds(), zone);
+	}
+
+	/**
+	 * Get the polylines for the zoom, tile bounds, and zone
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param zone
+	 *            grid zone
+	 * @return polylines
+	 * @since 2.1.3
+	 */
+	public List<GridPolyline> getPolylines(int zoom, Bounds tileBounds,
+			GridZone zone) {
+		List<GridPolyline> polylines = null;
+		if (isLinesWithin(zoom)) {
+			polylines = getPolylines(tileBounds, zone);
+		}
+		return polylines;
+	}
+
+	/**
+	 * Get the polylines for the tile bounds and zone
+	 * 
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param zone
+	 *            grid zone
+	 * @return polylines
+	 * @since 2.1.3
+	 */
+	public List<GridPolyline> getPolylines(Bounds tileBounds, GridZone zone) {
+		return zone.getPolylines(tileBounds, type);
+	}
+
+	/**
+	 * Stream the polylines for the tile and zone to the consumer, see
+	 * {@link #forEachPolyline(int, Bounds, GridZone, Consumer)}
+	 * 
+	 * @param tile
+	 *            tile
+	 * @param zone
+	 *            grid zone
+	 * @param consumer
+	 *            polyline consumer
+	 * @return true if the grid zone has polylines within the tile
+	 * @since 2.1.3
+	 */
+	public boolean forEachPolyline(GridTile tile, GridZone zone,
+			Consumer<? super GridPolyline> consumer) {
+		return forEachPolyline(tile.getZoom(), tile.getBounds(), zone,
+				consumer);
+	}
+
+	/**
+	 * Stream the polylines for the zoom, tile bounds, and zone to the
+	 * consumer as they are generated, when within the zoom range
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param zone
+	 *            grid zone
+	 * @param consumer
+	 *            polyline consumer
+	 * @return true if the grid zone has polylines within the tile bounds
+	 * @since 2.1.3
+	 */
+	public boolean forEachPolyline(int zoom, Bounds tileBounds, GridZone zone,
+			Consumer<? super GridPolyline> consumer) {
+		return isLinesWithin(zoom)
+				&& forEachPolyline(tileBounds, zone, consumer);
+	}
+
+	/**
+	 * Stream the polylines for the tile bounds and zone to the consumer as
+	 * they are generated
+	 * 
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param zone
+	 *            grid zone
+	 * @param consumer
+	 *            polyline consumer
+	 * @return true if the grid zone has polylines within the tile bounds
+	 * @since 2.1.3
+	 */
+	public boolean forEachPolyline(Bounds tileBounds, GridZone zone,
+			Consumer<? super GridPolyline> consumer) {
+		return zone.forEachPolyline(tileBounds, type, consumer);
+	}
+
 	/**
 	 * Get the labels for the tile and zone
 	 * 
@@ -292,11 +480,120 @@ public class Grid extends BaseGrid implements Comparable<Grid> {
 			GridZone zone) {
 		List<GridLabel> labels = null;
 		if (isLabelerWithin(zoom)) {
-			labels = getLabeler().getLabels(tileBounds, type, zone);
+			if (cache != null) {
+				labels = cache.getLabels(this, zoom, tileBounds, zone);
+			} else {
+				labels = getLabeler().getLabels(tileBounds, type, zone);
+			}
 		}
 		return labels;
 	}
 
+	/**
+	 * Stream the labels for the tile and zone to the consumer, see
+	 * {@link #forEachLabel(int, Bounds, GridZone, Consumer)}
+	 * 
+	 * @param tile
+	 *            tile
+	 * @param zone
+	 *            grid zone
+	 * @param consumer
+	 *            label consumer
+	 * @return true if the grid zone has labels within the tile
+	 * @since 2.1.3
+	 */
+	public boolean forEachLabel(GridTile tile, GridZone zone,
+			Consumer<? super GridLabel> consumer) {
+		return forEachLabel(tile.getZoom(), tile.getBounds(), zone, consumer);
+	}
+
+	/**
+	 * Stream the labels for the zoom, tile bounds, and zone to the consumer
+	 * when the labeler is within the zoom range. Labels are generated as they
+	 * are consumed, or read from the cache when set.
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param zone
+	 *            grid zone
+	 * @param consumer
+	 *            label consumer
+	 * @return true if the grid zone has labels within the tile bounds
+	 * @since 2.1.3
+	 */
+	public boolean forEachLabel(int zoom, Bounds tileBounds, GridZone zone,
+			Consumer<? super GridLabel> consumer) {
+		boolean within = false;
+		if (isLabelerWithin(zoom)) {
+			if (cache != null) {
+				List<GridLabel> labels = cache.getLabels(this, zoom,
+						tileBounds, zone);
+				if (labels != null) {
+					within = true;
+					labels.forEach(consumer);
+				}
+			} else {
+				within = getLabeler().forEachLabel(tileBounds, type, zone,
+						consumer);
+			}
+		}
+		return within;
+	}
+
+	/**
+	 * Stream the labels for the tile bounds and zone to the consumer as they
+	 * are generated, when the labeler is enabled
+	 * 
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param zone
+	 *            grid zone
+	 * @param consumer
+	 *            label consumer
+	 * @return true if the grid zone has labels within the tile bounds
+	 * @since 2.1.3
+	 */
+	public boolean forEachLabel(Bounds tileBounds, GridZone zone,
+			Consumer<? super GridLabel> consumer) {
+		GridLabeler labeler = getLabeler();
+		return labeler != null && labeler.isEnabled()
+				&& labeler.forEachLabel(tileBounds, type, zone, consumer);
+	}
+
+	/**
+	 * Get the tile lines and labels cache
+	 * 
+	 * @return cache or null
+	 * @since 2.1.3
+	 */
+	public GridCache getCache() {
+		return cache;
+	}
+
+	/**
+	 * Has a tile lines and labels cache
+	 * 
+	 * @return true if has a cache
+	 * @since 2.1.3
+	 */
+	public boolean hasCache() {
+		return cache != null;
+	}
+
+	/**
+	 * Set the tile lines and labels cache, used by the zoom level tile line
+	 * and label methods. Cached lists are shared and unmodifiable.
+	 * 
+	 * @param cache
+	 *            cache or null to disable
+	 * @since 2.1.3
+	 */
+	public void setCache(GridCache cache) {
+		this.cache = cache;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
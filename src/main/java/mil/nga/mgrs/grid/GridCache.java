@@ -0,0 +1,514 @@
+package mil.nga.mgrs.grid;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import mil.nga.grid.GridUtils;
+import mil.nga.grid.features.Bounds;
+import mil.nga.mgrs.features.GridLine;
+import mil.nga.mgrs.gzd.GridZone;
+
+/**
+ * Bounded least recently used cache of tile grid lines and labels, keyed by
+ * grid type, zoom level, tile x and y, and grid zone. Entries are evicted
+ * when either the number of entries or the total weight (number of lines and
+ * labels) exceeds its maximum. Tile bounds that are not a standard zoom level
+ * tile are not cached. Thread safe; a cache may be shared by grids.
+ * 
+ * Cached lists are unmodifiable and shared between callers, so returned
+ * lines and labels should not be modified. Clear the cache after changing
+ * labeler settings.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class GridCache {
+
+	/**
+	 * Default maximum number of entries
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 4096;
+
+	/**
+	 * Default maximum total weight in lines and labels
+	 */
+	public static final long DEFAULT_MAX_WEIGHT = 1000000;
+
+	/**
+	 * Tolerance of tile bounds edges from a standard tile, as a fraction of
+	 * the tile size
+	 */
+	private static final double TILE_TOLERANCE = 0.000001;
+
+	/**
+	 * Maximum number of entries
+	 */
+	private final int maxEntries;
+
+	/**
+	 * Maximum total weight
+	 */
+	private final long maxWeight;
+
+	/**
+	 * Entries in access order
+	 */
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16,
+			0.75f, true);
+
+	/**
+	 * Total weight
+	 */
+	private long weight = 0;
+
+	/**
+	 * Hit count
+	 */
+	private long hitCount = 0;
+
+	/**
+	 * Miss count
+	 */
+	private long missCount = 0;
+
+	/**
+	 * Eviction count
+	 */
+	private long evictionCount = 0;
+
+	/**
+	 * Create a cache with the default maximums
+	 * 
+	 * @return cache
+	 */
+	public static GridCache create() {
+		return new GridCache(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT);
+	}
+
+	/**
+	 * Create a cache
+	 * 
+	 * @param maxEntries
+	 *            maximum number of entries
+	 * @param maxWeight
+	 *            maximum total weight in lines and labels
+	 * @return cache
+	 */
+	public static GridCache create(int maxEntries, long maxWeight) {
+		return new GridCache(maxEntries, maxWeight);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param maxEntries
+	 *            maximum number of entries
+	 * @param maxWeight
+	 *            maximum total weight in lines and labels
+	 */
+	public GridCache(int maxEntries, long maxWeight) {
+		if (maxEntries < 1) {
+			throw new IllegalArgumentException(
+					"Maximum entries must be positive: " + maxEntries);
+		}
+		if (maxWeight < 1) {
+			throw new IllegalArgumentException(
+					"Maximum weight must be positive: " + maxWeight);
+		}
+		this.maxEntries = maxEntries;
+		this.maxWeight = maxWeight;
+	}
+
+	/**
+	 * Get the maximum number of entries
+	 * 
+	 * @return maximum entries
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * Get the maximum total weight
+	 * 
+	 * @return maximum weight
+	 */
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	/**
+	 * Get the number of entries
+	 * 
+	 * @return entries
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Get the total weight of the entries
+	 * 
+	 * @return weight
+	 */
+	public synchronized long getWeight() {
+		return weight;
+	}
+
+	/**
+	 * Get the number of cache hits
+	 * 
+	 * @return hit count
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Get the number of cache misses
+	 * 
+	 * @return miss count
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Get the number of evicted entries
+	 * 
+	 * @return eviction count
+	 */
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Get the hit rate of the cache requests
+	 * 
+	 * @return hit rate between 0.0 and 1.0, 0.0 with no requests
+	 */
+	public synchronized double getHitRate() {
+		long requests = hitCount + missCount;
+		return requests == 0 ? 0.0 : (double) hitCount / requests;
+	}
+
+	/**
+	 * Reset the hit, miss, and eviction counts
+	 */
+	public synchronized void resetStatistics() {
+		hitCount = 0;
+		missCount = 0;
+		evictionCount = 0;
+	}
+
+	/**
+	 * Remove all entries
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		weight = 0;
+	}
+
+	/**
+	 * Get the grid lines, loading and caching on a miss
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param zoom
+	 *            zoom level
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param zone
+	 *            grid zone
+	 * @return lines
+	 */
+	List<GridLine> getLines(Grid grid, int zoom, Bounds tileBounds,
+			GridZone zone) {
+		return get(false, grid.getType(), zoom, tileBounds, zone,
+				() -> grid.getLines(tileBounds, zone));
+	}
+
+	/**
+	 * Get the grid labels, loading and caching on a miss
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param zoom
+	 *            zoom level
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param zone
+	 *            grid zone
+	 * @return labels
+	 */
+	List<GridLabel> getLabels(Grid grid, int zoom, Bounds tileBounds,
+			GridZone zone) {
+		return get(true, grid.getType(), zoom, tileBounds, zone,
+				() -> grid.getLabeler().getLabels(tileBounds, grid.getType(),
+						zone));
+	}
+
+	/**
+	 * Get the cached list, loading and caching on a miss. The list is loaded
+	 * outside of the cache lock.
+	 * 
+	 * @param labels
+	 *            true for labels, false for lines
+	 * @param type
+	 *            grid type
+	 * @param zoom
+	 *            zoom level
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param zone
+	 *            grid zone
+	 * @param loader
+	 *            list loader
+	 * @param <T>
+	 *            list type
+	 * @return list
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> List<T> get(boolean labels, GridType type, int zoom,
+			Bounds tileBounds, GridZone zone, Supplier<List<T>> loader) {
+
+		Key key = Key.create(labels, type, zoom, tileBounds, zone);
+		if (key == null) {
+			return loader.get();
+		}
+
+		synchronized (this) {
+			Entry entry = entries.get(key);
+			if (entry != null) {
+				hitCount++;
+				return (List<T>) entry.value;
+			}
+			missCount++;
+		}
+
+		List<T> value = loader.get();
+		if (value != null) {
+			value = Collections.unmodifiableList(value);
+		}
+		Entry entry = new Entry(value);
+
+		if (entry.weight <= maxWeight) {
+			synchronized (this) {
+				Entry previous = entries.put(key, entry);
+				if (previous != null) {
+					weight -= previous.weight;
+				}
+				weight += entry.weight;
+				evict();
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Evict the least recently used entries until within the maximums
+	 */
+	private void evict() {
+		Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet()
+				.iterator();
+		while ((entries.size() > maxEntries || weight > maxWeight)
+				&& iterator.hasNext()) {
+			weight -= iterator.next().getValue().weight;
+			iterator.remove();
+			evictionCount++;
+		}
+	}
+
+	/**
+	 * Cache entry
+	 */
+	private static class Entry {
+
+		/**
+		 * Cached list, null when no lines or labels
+		 */
+		private final List<?> value;
+
+		/**
+		 * Weight
+		 */
+		private final int weight;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param value
+		 *            cached list
+		 */
+		private Entry(List<?> value) {
+			this.value = value;
+			this.weight = value == null ? 1 : Math.max(1, value.size());
+		}
+
+	}
+
+	/**
+	 * Cache key of the tile and grid zone
+	 */
+	private static class Key {
+
+		/**
+		 * Labels or lines
+		 */
+		private final boolean labels;
+
+		/**
+		 * Grid type
+		 */
+		private final GridType type;
+
+		/**
+		 * Zoom level
+		 */
+		private final int zoom;
+
+		/**
+		 * Tile x
+		 */
+		private final int x;
+
+		/**
+		 * Tile y
+		 */
+		private final int y;
+
+		/**
+		 * Zone number
+		 */
+		private final int zoneNumber;
+
+		/**
+		 * Band letter
+		 */
+		private final char bandLetter;
+
+		/**
+		 * Create a key when the bounds are a standard tile of the zoom level
+		 * 
+		 * @param labels
+		 *            true for labels, false for lines
+		 * @param type
+		 *            grid type
+		 * @param zoom
+		 *            zoom level
+		 * @param tileBounds
+		 *            tile bounds
+		 * @param zone
+		 *            grid zone
+		 * @return key, null when not a standard tile
+		 */
+		private static Key create(boolean labels, GridType type, int zoom,
+				Bounds tileBounds, GridZone zone) {
+
+			Key key = null;
+
+			if (zoom >= 0 && zoom < Integer.SIZE - 1) {
+
+				Bounds bounds = tileBounds.toMeters();
+				int tilesPerSide = GridUtils.tilesPerSide(zoom);
+				double tileSize = GridUtils.tileSize(tilesPerSide);
+				double halfWorld = tileSize * tilesPerSide / 2;
+
+				long x = Math.round((bounds.getMinLongitude() + halfWorld)
+						/ tileSize);
+				long y = Math.round((halfWorld - bounds.getMaxLatitude())
+						/ tileSize);
+
+				if (x >= 0 && x < tilesPerSide && y >= 0
+						&& y < tilesPerSide) {
+					Bounds tile = GridUtils.getBounds((int) x, (int) y, zoom);
+					double tolerance = tileSize * TILE_TOLERANCE;
+					if (Math.abs(tile.getMinLongitude()
+							- bounds.getMinLongitude()) <= tolerance
+							&& Math.abs(tile.getMinLatitude()
+									- bounds.getMinLatitude()) <= tolerance
+							&& Math.abs(tile.getMaxLongitude()
+									- bounds.getMaxLongitude()) <= tolerance
+							&& Math.abs(tile.getMaxLatitude()
+									- bounds.getMaxLatitude()) <= tolerance) {
+						key = new Key(labels, type, zoom, (int) x, (int) y,
+								zone.getNumber(), zone.getLetter());
+					}
+				}
+			}
+
+			return key;
+		}
+
+		/**
+		 * Constructor
+		 * 
+		 * @param labels
+		 *            true for labels, false for lines
+		 * @param type
+		 *            grid type
+		 * @param zoom
+		 *            zoom level
+		 * @param x
+		 *            tile x
+		 * @param y
+		 *            tile y
+		 * @param zoneNumber
+		 *            zone number
+		 * @param bandLetter
+		 *            band letter
+		 */
+		private Key(boolean labels, GridType type, int zoom, int x, int y,
+				int zoneNumber, char bandLetter) {
+			this.labels = labels;
+			this.type = type;
+			this.zoom = zoom;
+			this.x = x;
+			this.y = y;
+			this.zoneNumber = zoneNumber;
+			this.bandLetter = bandLetter;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + (labels ? 1231 : 1237);
+			result = prime * result + type.hashCode();
+			result = prime * result + zoom;
+			result = prime * result + x;
+			result = prime * result + y;
+			result = prime * result + zoneNumber;
+			result = prime * result + bandLetter;
+			return result;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj == null)
+				return false;
+			if (getClass() != obj.getClass())
+				return false;
+			Key other = (Key) obj;
+			return labels == other.labels && type == other.type
+					&& zoom == other.zoom && x == other.x && y == other.y
+					&& zoneNumber == other.zoneNumber
+					&& bandLetter == other.bandLetter;
+		}
+
+	}
+
+}
@@ -1,6 +1,7 @@
 package mil.nga.mgrs.grid;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import mil.nga.color.Color;
 import mil.nga.grid.Labeler;
@@ -204,4 +205,28 @@ public abstract class GridLabeler extends Labeler {
 	public abstract List<GridLabel> getLabels(Bounds tileBounds,
 			GridType gridType, GridZone zone);
 
+	/**
+	 * Stream the labels to the consumer as they are generated, without
+	 * collecting them
+	 * 
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param gridType
+	 *            grid type
+	 * @param zone
+	 *            grid zone
+	 * @param consumer
+	 *            label consumer
+	 * @return true if the grid zone has labels within the tile bounds
+	 * @since 2.1.3
+	 */
+	public boolean forEachLabel(Bounds tileBounds, GridType gridType,
+			GridZone zone, Consumer<? super GridLabel> consumer) {
+		List<GridLabel> labels = getLabels(tileBounds, gridType, zone);
+		if (labels != null) {
+			labels.forEach(consumer);
+		}
+		return labels != null;
+	}
+
 }
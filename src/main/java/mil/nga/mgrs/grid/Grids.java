@@ -289,6 +289,20 @@ public class Grids extends BaseGrids<Grid, ZoomGrids> {
 		return grids.get(type);
 	}
 
+	/**
+	 * Set the tile lines and labels cache for all grids, see
+	 * {@link Grid#setCache(GridCache)}
+	 * 
+	 * @param cache
+	 *            cache or null to disable
+	 * @since 2.1.3
+	 */
+	public void setCache(GridCache cache) {
+		for (Grid grid : grids()) {
+			grid.setCache(cache);
+		}
+	}
+
 	/**
 	 * Get the grid precision for the zoom level
 	 * 
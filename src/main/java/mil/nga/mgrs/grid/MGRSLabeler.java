@@ -2,6 +2,7 @@ package mil.nga.mgrs.grid;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import mil.nga.color.Color;
 import mil.nga.grid.Hemisphere;
@@ -184,14 +185,27 @@ public class MGRSLabeler extends GridLabeler {
 	@Override
 	public List<GridLabel> getLabels(Bounds tileBounds, GridType gridType,
 			GridZone zone) {
+		List<GridLabel> labels = new ArrayList<>();
+		if (!forEachLabel(tileBounds, gridType, zone, labels::add)) {
+			labels = null;
+		}
+		return labels;
+	}
 
-		List<GridLabel> labels = null;
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean forEachLabel(Bounds tileBounds, GridType gridType,
+			GridZone zone, Consumer<? super GridLabel> consumer) {
+
+		boolean within = false;
 
 		Bounds drawBounds = zone.getDrawBounds(tileBounds, gridType);
 
 		if (drawBounds != null) {
 
-			labels = new ArrayList<>();
+			within = true;
 
 			int precision = gridType.getPrecision();
 
@@ -205,7 +219,7 @@ public class MGRSLabeler extends GridLabeler {
 					GridLabel label = getLabel(gridType, zone, easting,
 							northing);
 					if (label != null) {
-						labels.add(label);
+						consumer.accept(label);
 					}
 
 				}
@@ -213,7 +227,7 @@ public class MGRSLabeler extends GridLabeler {
 
 		}
 
-		return labels;
+		return within;
 	}
 
 	/**
@@ -154,21 +154,24 @@ public class GridRange implements Iterable<GridZone> {
 
 				while (gridZone == null && zoneNumber <= maxZoneNumber) {
 
-					gridZone = GridZones.getGridZone(zoneNumber, bandLetter);
+					gridZone = GridZones.getGridZoneUnchecked(zoneNumber,
+							bandLetter);
 
 					// Handle special case grid gaps (Svalbard)
 					if (gridZone == null) {
 
 						// Retrieve the western grid if on the left edge
 						if (zoneNumber == minZoneNumber) {
-							additional.add(GridZones.getGridZone(zoneNumber - 1,
-									bandLetter));
+							additional.add(GridZones
+									.getGridZoneUnchecked(zoneNumber - 1,
+											bandLetter));
 						}
 
 						// Expand to the eastern grid if on the right edge
 						if (zoneNumber == maxZoneNumber) {
-							additional.add(GridZones.getGridZone(zoneNumber + 1,
-									bandLetter));
+							additional.add(GridZones
+									.getGridZoneUnchecked(zoneNumber + 1,
+											bandLetter));
 						}
 
 					} else {
@@ -180,8 +183,10 @@ public class GridRange implements Iterable<GridZone> {
 								for (int expandZone = zoneNumber
 										+ expand; expandZone > zoneNumber; expandZone--) {
 									if (expandZone > maxZoneNumber) {
-										additional.add(GridZones.getGridZone(
-												expandZone, bandLetter));
+										additional.add(GridZones
+												.getGridZoneUnchecked(
+														expandZone,
+														bandLetter));
 									} else {
 										break;
 									}
@@ -190,8 +195,10 @@ public class GridRange implements Iterable<GridZone> {
 								for (int expandZone = zoneNumber
 										+ expand; expandZone < zoneNumber; expandZone++) {
 									if (expandZone < minZoneNumber) {
-										additional.add(GridZones.getGridZone(
-												expandZone, bandLetter));
+										additional.add(GridZones
+												.getGridZoneUnchecked(
+														expandZone,
+														bandLetter));
 									} else {
 										break;
 									}
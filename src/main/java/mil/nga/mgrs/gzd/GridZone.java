@@ -2,6 +2,7 @@ package mil.nga.mgrs.gzd;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import mil.nga.grid.Hemisphere;
 import mil.nga.grid.features.Bounds;
@@ -9,6 +10,7 @@ import mil.nga.grid.features.Line;
 import mil.nga.grid.features.Point;
 import mil.nga.mgrs.MGRSUtils;
 import mil.nga.mgrs.features.GridLine;
+import mil.nga.mgrs.features.GridPolyline;
 import mil.nga.mgrs.grid.GridType;
 import mil.nga.mgrs.utm.UTM;
 
@@ -159,14 +161,36 @@ public class GridZone {
 	 * @return lines
 	 */
 	public List<GridLine> getLines(Bounds tileBounds, GridType gridType) {
+		List<GridLine> lines = new ArrayList<>();
+		if (!forEachLine(tileBounds, gridType, lines::add)) {
+			lines = null;
+		}
+		return lines;
+	}
+
+	/**
+	 * Stream the grid zone lines to the consumer as they are generated,
+	 * without collecting them
+	 * 
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param gridType
+	 *            grid type
+	 * @param consumer
+	 *            line consumer
+	 * @return true if the grid zone has lines within the tile bounds
+	 * @since 2.1.3
+	 */
+	public boolean forEachLine(Bounds tileBounds, GridType gridType,
+			Consumer<? super GridLine> consumer) {
 
-		List<GridLine> lines = null;
+		boolean within = false;
 
 		if (gridType == GridType.GZD) {
 			// if precision is 0, draw the zone bounds
-			lines = new ArrayList<>();
+			within = true;
 			for (Line line : bounds.getLines()) {
-				lines.add(GridLine.line(line, GridType.GZD));
+				consumer.accept(GridLine.line(line, GridType.GZD));
 			}
 		} else {
 
@@ -174,7 +198,7 @@ public class GridZone {
 
 			if (drawBounds != null) {
 
-				lines = new ArrayList<>();
+				within = true;
 
 				int precision = gridType.getPrecision();
 				int zoneNumber = getNumber();
@@ -182,25 +206,50 @@ public class GridZone {
 				double minLon = bounds.getMinLongitude();
 				double maxLon = bounds.getMaxLongitude();
 
+				// Lattice northings, including the northern edge of the last
+				// row, shared by each easting column
+				double[] northings = getLattice(drawBounds.getMinLatitude(),
+						drawBounds.getMaxLatitude(), precision);
+				int rows = northings.length - 1;
+				GridType[] northingPrecisions = new GridType[rows];
+				for (int row = 0; row < rows; row++) {
+					northingPrecisions[row] = GridType
+							.getPrecision(northings[row]);
+				}
+
+				// Each lattice vertex is projected once, as the east column
+				// of one cell column and the west column of the next
+				double[] longitudes = new double[northings.length];
+				double[] latitudes = new double[northings.length];
+				Point[] west = null;
+				Point[] east = new Point[northings.length];
+
 				for (double easting = drawBounds
 						.getMinLongitude(); easting < drawBounds
 								.getMaxLongitude(); easting += precision) {
 
 					GridType eastingPrecision = GridType.getPrecision(easting);
 
-					for (double northing = drawBounds
-							.getMinLatitude(); northing < drawBounds
-									.getMaxLatitude(); northing += precision) {
+					if (west == null) {
+						west = new Point[northings.length];
+						getLatticePoints(zoneNumber, hemisphere, easting,
+								northings, longitudes, latitudes, west);
+					} else {
+						Point[] previous = west;
+						west = east;
+						east = previous;
+					}
+					getLatticePoints(zoneNumber, hemisphere,
+							easting + precision, northings, longitudes,
+							latitudes, east);
+
+					for (int row = 0; row < rows; row++) {
 
-						GridType northingPrecision = GridType
-								.getPrecision(northing);
+						double northing = northings[row];
 
-						Point southwest = UTM.point(zoneNumber, hemisphere,
-								easting, northing);
-						Point northwest = UTM.point(zoneNumber, hemisphere,
-								easting, northing + precision);
-						Point southeast = UTM.point(zoneNumber, hemisphere,
-								easting + precision, northing);
+						Point southwest = west[row];
+						Point northwest = west[row + 1];
+						Point southeast = east[row];
 
 						// For points outside the tile grid longitude bounds,
 						// get a bound just outside the bounds
@@ -215,12 +264,12 @@ public class GridZone {
 						}
 
 						// Vertical line
-						lines.add(GridLine.line(southwest, northwest,
+						consumer.accept(GridLine.line(southwest, northwest,
 								eastingPrecision));
 
 						// Horizontal line
-						lines.add(GridLine.line(southwest, southeast,
-								northingPrecision));
+						consumer.accept(GridLine.line(southwest, southeast,
+								northingPrecisions[row]));
 
 					}
 				}
@@ -229,7 +278,308 @@ public class GridZone {
 
 		}
 
-		return lines;
+		return within;
+	}
+
+	/**
+	 * Get the grid zone polylines
+	 * 
+	 * @param gridType
+	 *            grid type
+	 * @return polylines
+	 * @since 2.1.3
+	 */
+	public List<GridPolyline> getPolylines(GridType gridType) {
+		return getPolylines(bounds, gridType);
+	}
+
+	/**
+	 * Get the grid zone polylines, one multiple point line per easting and
+	 * northing value clipped to the zone bounds. Covers the same lines as
+	 * {@link #getLines(Bounds, GridType)} with far fewer features.
+	 * 
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param gridType
+	 *            grid type
+	 * @return polylines
+	 * @since 2.1.3
+	 */
+	public List<GridPolyline> getPolylines(Bounds tileBounds,
+			GridType gridType) {
+		List<GridPolyline> polylines = new ArrayList<>();
+		if (!forEachPolyline(tileBounds, gridType, polylines::add)) {
+			polylines = null;
+		}
+		return polylines;
+	}
+
+	/**
+	 * Stream the grid zone polylines to the consumer as they are generated,
+	 * without collecting them. The lattice is projected one column or row at
+	 * a time, so memory is proportional to the rows plus columns within the
+	 * tile bounds.
+	 * 
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param gridType
+	 *            grid type
+	 * @param consumer
+	 *            polyline consumer
+	 * @return true if the grid zone has polylines within the tile bounds
+	 * @since 2.1.3
+	 */
+	public boolean forEachPolyline(Bounds tileBounds, GridType gridType,
+			Consumer<? super GridPolyline> consumer) {
+
+		boolean within = false;
+
+		if (gridType == GridType.GZD) {
+			// if precision is 0, draw the zone bounds
+			within = true;
+			for (Line line : bounds.getLines()) {
+				List<Point> points = new ArrayList<>(2);
+				points.add(line.getPoint1());
+				points.add(line.getPoint2());
+				consumer.accept(GridPolyline.polyline(points, GridType.GZD));
+			}
+		} else {
+
+			Bounds drawBounds = getDrawBounds(tileBounds, gridType);
+
+			if (drawBounds != null) {
+
+				within = true;
+
+				int precision = gridType.getPrecision();
+				int zoneNumber = getNumber();
+				Hemisphere hemisphere = getHemisphere();
+				double minLon = bounds.getMinLongitude();
+				double maxLon = bounds.getMaxLongitude();
+
+				double[] eastings = getLattice(drawBounds.getMinLongitude(),
+						drawBounds.getMaxLongitude(), precision);
+				double[] northings = getLattice(drawBounds.getMinLatitude(),
+						drawBounds.getMaxLatitude(), precision);
+				int columns = eastings.length - 1;
+				int rows = northings.length - 1;
+
+				// Vertical easting lines, projected one column at a time
+				double[] longitudes = new double[northings.length];
+				double[] latitudes = new double[northings.length];
+				Point[] columnPoints = new Point[northings.length];
+				for (int column = 0; column < columns; column++) {
+					getLatticePoints(zoneNumber, hemisphere, eastings[column],
+							northings, longitudes, latitudes, columnPoints);
+					addClipped(consumer, columnPoints,
+							GridType.getPrecision(eastings[column]));
+				}
+
+				// Horizontal northing lines, projected one row at a time
+				Point[] rowPoints = new Point[eastings.length];
+				Point[] line = new Point[eastings.length];
+				for (int row = 0; row < rows; row++) {
+
+					double northing = northings[row];
+
+					for (int column = 0; column < eastings.length; column++) {
+						rowPoints[column] = UTM.point(zoneNumber, hemisphere,
+								eastings[column], northing);
+						line[column] = rowPoints[column];
+					}
+
+					// For segments crossing the grid zone longitude bounds,
+					// get a bound just outside the bounds
+					if (precision > 1) {
+						for (int column = 0; column < columns; column++) {
+							Point west = rowPoints[column];
+							Point east = rowPoints[column + 1];
+							if (west.getLongitude() < minLon
+									&& east.getLongitude() >= minLon) {
+								line[column] = getWestBoundsPoint(
+										eastings[column], northing, west,
+										east);
+							}
+							if (east.getLongitude() > maxLon
+									&& west.getLongitude() <= maxLon) {
+								line[column + 1] = getEastBoundsPoint(
+										eastings[column], northing, west,
+										east);
+							}
+						}
+					}
+
+					addClipped(consumer, line,
+							GridType.getPrecision(northing));
+				}
+
+			}
+
+		}
+
+		return within;
+	}
+
+	/**
+	 * Clip the line points to the zone bounds and consume the resulting
+	 * polylines
+	 * 
+	 * @param consumer
+	 *            polyline consumer
+	 * @param points
+	 *            line points
+	 * @param gridType
+	 *            polyline grid type
+	 */
+	private void addClipped(Consumer<? super GridPolyline> consumer,
+			Point[] points, GridType gridType) {
+
+		double minLon = bounds.getMinLongitude();
+		double minLat = bounds.getMinLatitude();
+		double maxLon = bounds.getMaxLongitude();
+		double maxLat = bounds.getMaxLatitude();
+
+		List<Point> polyline = null;
+		double[] range = new double[2];
+
+		for (int i = 1; i < points.length; i++) {
+
+			Point start = points[i - 1];
+			Point end = points[i];
+
+			double x = start.getLongitude();
+			double y = start.getLatitude();
+			double dx = end.getLongitude() - x;
+			double dy = end.getLatitude() - y;
+
+			// Liang-Barsky parametric clip of the segment
+			range[0] = 0.0;
+			range[1] = 1.0;
+			if (clip(-dx, x - minLon, range) && clip(dx, maxLon - x, range)
+					&& clip(-dy, y - minLat, range)
+					&& clip(dy, maxLat - y, range)
+					&& (range[0] < range[1] || (dx == 0.0 && dy == 0.0))) {
+
+				if (range[0] > 0.0 && polyline != null) {
+					consumer.accept(GridPolyline.polyline(polyline, gridType));
+					polyline = null;
+				}
+				if (polyline == null) {
+					polyline = new ArrayList<>();
+					polyline.add(range[0] > 0.0 ? Point.degrees(
+							x + range[0] * dx, y + range[0] * dy) : start);
+				}
+				if (range[1] < 1.0) {
+					polyline.add(Point.degrees(x + range[1] * dx,
+							y + range[1] * dy));
+					consumer.accept(GridPolyline.polyline(polyline, gridType));
+					polyline = null;
+				} else {
+					polyline.add(end);
+				}
+
+			} else if (polyline != null) {
+				consumer.accept(GridPolyline.polyline(polyline, gridType));
+				polyline = null;
+			}
+		}
+
+		if (polyline != null) {
+			consumer.accept(GridPolyline.polyline(polyline, gridType));
+		}
+
+	}
+
+	/**
+	 * Clip the parametric segment range against a single boundary
+	 * 
+	 * @param p
+	 *            negative direction towards the boundary
+	 * @param q
+	 *            distance inside the boundary
+	 * @param range
+	 *            segment parameter range, updated in place
+	 * @return false if the segment is entirely outside the boundary
+	 */
+	private static boolean clip(double p, double q, double[] range) {
+		boolean inside = true;
+		if (p == 0.0) {
+			inside = q >= 0.0;
+		} else {
+			double t = q / p;
+			if (p < 0.0) {
+				if (t > range[1]) {
+					inside = false;
+				} else if (t > range[0]) {
+					range[0] = t;
+				}
+			} else {
+				if (t < range[0]) {
+					inside = false;
+				} else if (t < range[1]) {
+					range[1] = t;
+				}
+			}
+		}
+		return inside;
+	}
+
+	/**
+	 * Get the lattice values from the minimum while less than the maximum at
+	 * the precision, followed by the next value at or beyond the maximum
+	 * 
+	 * @param min
+	 *            minimum value
+	 * @param max
+	 *            maximum value
+	 * @param precision
+	 *            precision
+	 * @return lattice values
+	 */
+	private static double[] getLattice(double min, double max,
+			int precision) {
+
+		int count = 1;
+		for (double value = min; value < max; value += precision) {
+			count++;
+		}
+
+		double[] lattice = new double[count];
+		double value = min;
+		for (int i = 0; i < count; i++) {
+			lattice[i] = value;
+			value += precision;
+		}
+
+		return lattice;
+	}
+
+	/**
+	 * Project a lattice column of northings at the easting to points
+	 * 
+	 * @param zoneNumber
+	 *            zone number
+	 * @param hemisphere
+	 *            hemisphere
+	 * @param easting
+	 *            column easting
+	 * @param northings
+	 *            lattice northings
+	 * @param longitudes
+	 *            longitudes work array
+	 * @param latitudes
+	 *            latitudes work array
+	 * @param points
+	 *            points output
+	 */
+	private static void getLatticePoints(int zoneNumber,
+			Hemisphere hemisphere, double easting, double[] northings,
+			double[] longitudes, double[] latitudes, Point[] points) {
+		UTM.toPoints(zoneNumber, hemisphere, easting, northings, longitudes,
+				latitudes);
+		for (int i = 0; i < points.length; i++) {
+			points[i] = Point.degrees(longitudes[i], latitudes[i]);
+		}
 	}
 
 	/**
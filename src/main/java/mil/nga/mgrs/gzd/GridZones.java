@@ -1,6 +1,8 @@
 package mil.nga.mgrs.gzd;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,22 +22,69 @@ import mil.nga.mgrs.MGRSUtils;
 public class GridZones {
 
 	/**
-	 * Longitudinal Strips
+	 * Longitudinal Strips, unmodifiable
 	 */
-	public static final Map<Integer, LongitudinalStrip> strips = new HashMap<>();
+	public static final Map<Integer, LongitudinalStrip> strips;
 
 	/**
-	 * Latitude Bands
+	 * Latitude Bands, unmodifiable
 	 */
-	public static final Map<Character, LatitudeBand> bands = new HashMap<>();
+	public static final Map<Character, LatitudeBand> bands;
 
 	/**
-	 * Grid Zones
+	 * Grid Zones, unmodifiable
 	 */
-	public static final Map<Integer, Map<Character, GridZone>> gridZones = new HashMap<>();
+	public static final Map<Integer, Map<Character, GridZone>> gridZones;
+
+	/**
+	 * Longitudinal strips indexed by zone number - 1
+	 */
+	private static final LongitudinalStrip[] stripsByNumber = new LongitudinalStrip[MGRSConstants.MAX_ZONE_NUMBER];
+
+	/**
+	 * Latitude bands indexed by band index
+	 */
+	private static final LatitudeBand[] bandsByIndex = new LatitudeBand[MGRSConstants.NUM_BANDS];
+
+	/**
+	 * Grid zones indexed by zone number - 1 and band index, null for the
+	 * omitted Svalbard grid zones
+	 */
+	private static final GridZone[][] gridZonesByIndex = new GridZone[MGRSConstants.MAX_ZONE_NUMBER][MGRSConstants.NUM_BANDS];
+
+	/**
+	 * Band indices indexed by band letter, -1 for non band letters
+	 */
+	private static final int[] bandIndices = new int[MGRSConstants.MAX_BAND_LETTER
+			+ 1];
+
+	/**
+	 * Number of one degree longitude columns in the grid zone raster
+	 */
+	private static final int RASTER_COLUMNS = (int) (MGRSConstants.MAX_LON
+			- MGRSConstants.MIN_LON);
+
+	/**
+	 * Distance in degrees from a raster column edge within which grid zones
+	 * are resolved exactly
+	 */
+	private static final double RASTER_EDGE = 1.0e-9;
+
+	/**
+	 * Grid zone raster of one degree longitude columns within each latitude
+	 * band, indexed by band index * {@link #RASTER_COLUMNS} + column. Every
+	 * grid zone edge, including the Svalbard and Norway special cases, is on
+	 * a whole degree of longitude.
+	 */
+	private static final GridZone[] gridZoneRaster = new GridZone[MGRSConstants.NUM_BANDS
+			* RASTER_COLUMNS];
 
 	static {
 
+		Map<Integer, LongitudinalStrip> stripMap = new HashMap<>();
+		Map<Character, LatitudeBand> bandMap = new HashMap<>();
+		Map<Integer, Map<Character, GridZone>> gridZoneMap = new HashMap<>();
+
 		// Create longitudinal strips
 		ZoneNumberRange numberRange = new ZoneNumberRange();
 		for (int zoneNumber : numberRange) {
@@ -43,10 +92,12 @@ public class GridZones {
 					+ ((zoneNumber - 1) * MGRSConstants.ZONE_WIDTH);
 			LongitudinalStrip strip = new LongitudinalStrip(zoneNumber,
 					longitude, longitude + MGRSConstants.ZONE_WIDTH);
-			strips.put(strip.getNumber(), strip);
+			stripMap.put(strip.getNumber(), strip);
+			stripsByNumber[zoneNumber - 1] = strip;
 		}
 
 		// Create latitude bands
+		Arrays.fill(bandIndices, -1);
 		double latitude = MGRSConstants.MIN_LAT;
 		BandLetterRange letterRange = new BandLetterRange();
 		for (char bandLetter : letterRange) {
@@ -56,16 +107,20 @@ public class GridZones {
 			} else {
 				latitude += MGRSConstants.BAND_HEIGHT;
 			}
-			bands.put(bandLetter, new LatitudeBand(bandLetter, min, latitude));
+			LatitudeBand band = new LatitudeBand(bandLetter, min, latitude);
+			bandMap.put(bandLetter, band);
+			int bandIndex = MGRSUtils.getBandIndex(bandLetter);
+			bandIndices[bandLetter] = bandIndex;
+			bandsByIndex[bandIndex] = band;
 		}
 
 		// Create grid zones
-		for (LongitudinalStrip strip : strips.values()) {
+		for (LongitudinalStrip strip : stripsByNumber) {
 
 			int zoneNumber = strip.getNumber();
 
 			Map<Character, GridZone> stripGridZones = new HashMap<>();
-			for (LatitudeBand band : bands.values()) {
+			for (LatitudeBand band : bandsByIndex) {
 
 				char bandLetter = band.getLetter();
 
@@ -78,14 +133,34 @@ public class GridZones {
 				}
 
 				if (gridZoneStrip != null) {
-					stripGridZones.put(bandLetter,
-							new GridZone(gridZoneStrip, band));
+					GridZone gridZone = new GridZone(gridZoneStrip, band);
+					stripGridZones.put(bandLetter, gridZone);
+					gridZonesByIndex[zoneNumber
+							- 1][bandIndices[bandLetter]] = gridZone;
 				}
 
 			}
-			gridZones.put(zoneNumber, stripGridZones);
+			gridZoneMap.put(zoneNumber,
+					Collections.unmodifiableMap(stripGridZones));
+		}
+
+		// Rasterize the grid zones at each column and band center
+		for (LatitudeBand band : bandsByIndex) {
+			int bandIndex = bandIndices[band.getLetter()];
+			double centerLatitude = (band.getSouth() + band.getNorth()) / 2.0;
+			for (int column = 0; column < RASTER_COLUMNS; column++) {
+				double centerLongitude = MGRSConstants.MIN_LON + column + 0.5;
+				gridZoneRaster[bandIndex * RASTER_COLUMNS
+						+ column] = getGridZoneUnchecked(
+								getZoneNumber(centerLongitude, centerLatitude),
+								band.getLetter());
+			}
 		}
 
+		strips = Collections.unmodifiableMap(stripMap);
+		bands = Collections.unmodifiableMap(bandMap);
+		gridZones = Collections.unmodifiableMap(gridZoneMap);
+
 	}
 
 	/**
@@ -97,7 +172,22 @@ public class GridZones {
 	 */
 	public static LongitudinalStrip getLongitudinalStrip(int zoneNumber) {
 		MGRSUtils.validateZoneNumber(zoneNumber);
-		return strips.get(zoneNumber);
+		return getLongitudinalStripUnchecked(zoneNumber);
+	}
+
+	/**
+	 * Get the longitudinal strip by zone number without validation. The zone
+	 * number must be between {@link MGRSConstants#MIN_ZONE_NUMBER} and
+	 * {@link MGRSConstants#MAX_ZONE_NUMBER}.
+	 * 
+	 * @param zoneNumber
+	 *            valid zone number
+	 * @return longitudinal strip
+	 * @since 2.1.3
+	 */
+	public static LongitudinalStrip getLongitudinalStripUnchecked(
+			int zoneNumber) {
+		return stripsByNumber[zoneNumber - 1];
 	}
 
 	/**
@@ -131,7 +221,22 @@ public class GridZones {
 	 */
 	public static LatitudeBand getLatitudeBand(char bandLetter) {
 		MGRSUtils.validateBandLetter(bandLetter);
-		return bands.get(bandLetter);
+		return getLatitudeBandUnchecked(bandLetter);
+	}
+
+	/**
+	 * Get the latitude band by band letter without validation. The band
+	 * letter must be an upper case band letter between
+	 * {@link MGRSConstants#MIN_BAND_LETTER} and
+	 * {@link MGRSConstants#MAX_BAND_LETTER}, omitting 'I' and 'O'.
+	 * 
+	 * @param bandLetter
+	 *            valid band letter
+	 * @return latitude band
+	 * @since 2.1.3
+	 */
+	public static LatitudeBand getLatitudeBandUnchecked(char bandLetter) {
+		return bandsByIndex[bandIndices[bandLetter]];
 	}
 
 	/**
@@ -187,7 +292,26 @@ public class GridZones {
 	public static GridZone getGridZone(int zoneNumber, char bandLetter) {
 		MGRSUtils.validateZoneNumber(zoneNumber);
 		MGRSUtils.validateBandLetter(bandLetter);
-		return gridZones.get(zoneNumber).get(bandLetter);
+		return getGridZoneUnchecked(zoneNumber, bandLetter);
+	}
+
+	/**
+	 * Get the grid zone by zone number and band letter without validation.
+	 * The zone number must be between {@link MGRSConstants#MIN_ZONE_NUMBER}
+	 * and {@link MGRSConstants#MAX_ZONE_NUMBER} and the band letter an upper
+	 * case band letter between {@link MGRSConstants#MIN_BAND_LETTER} and
+	 * {@link MGRSConstants#MAX_BAND_LETTER}, omitting 'I' and 'O'.
+	 * 
+	 * @param zoneNumber
+	 *            valid zone number
+	 * @param bandLetter
+	 *            valid band letter
+	 * @return grid zone, null for the omitted Svalbard grid zones
+	 * @since 2.1.3
+	 */
+	public static GridZone getGridZoneUnchecked(int zoneNumber,
+			char bandLetter) {
+		return gridZonesByIndex[zoneNumber - 1][bandIndices[bandLetter]];
 	}
 
 	/**
@@ -201,6 +325,56 @@ public class GridZones {
 		return getGridZone(mgrs.getZone(), mgrs.getBand());
 	}
 
+	/**
+	 * Get the grid zone containing the point, equivalent to the grid zone of
+	 * {@link #getZoneNumber(Point)} and {@link #getBandLetter(double)}
+	 * 
+	 * @param point
+	 *            point
+	 * @return grid zone
+	 * @since 2.1.3
+	 */
+	public static GridZone getGridZone(Point point) {
+		point = point.toDegrees();
+		return getGridZone(point.getLongitude(), point.getLatitude());
+	}
+
+	/**
+	 * Get the grid zone containing the longitude and latitude, equivalent to
+	 * the grid zone of {@link #getZoneNumber(double, double)} and
+	 * {@link #getBandLetter(double)}. Resolved from a precomputed raster
+	 * without allocation, with exact resolution only for longitudes on or
+	 * within a nanodegree of a whole degree and longitudes outside of
+	 * {@link MGRSConstants#MIN_LON} and {@link MGRSConstants#MAX_LON}.
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @return grid zone
+	 * @since 2.1.3
+	 */
+	public static GridZone getGridZone(double longitude, double latitude) {
+
+		int bandIndex = getBandIndex(latitude, true);
+
+		double columnValue = longitude - MGRSConstants.MIN_LON;
+		int column = (int) columnValue;
+		double edge = columnValue - column;
+
+		GridZone gridZone;
+		if (columnValue >= 0.0 && column < RASTER_COLUMNS
+				&& edge > RASTER_EDGE && edge < 1.0 - RASTER_EDGE) {
+			gridZone = gridZoneRaster[bandIndex * RASTER_COLUMNS + column];
+		} else {
+			gridZone = getGridZoneUnchecked(
+					getZoneNumber(longitude, latitude),
+					MGRSUtils.getBandLetter(bandIndex));
+		}
+
+		return gridZone;
+	}
+
 	/**
 	 * Get a grid range from the bounds
 	 * 
@@ -380,6 +554,20 @@ public class GridZones {
 	 * @return band letter
 	 */
 	public static char getBandLetter(double latitude, boolean northern) {
+		return MGRSUtils.getBandLetter(getBandIndex(latitude, northern));
+	}
+
+	/**
+	 * Get the band index of the latitude (degrees between
+	 * {@link MGRSConstants#MIN_LAT} and {@link MGRSConstants#MAX_LAT})
+	 * 
+	 * @param latitude
+	 *            latitude in degrees
+	 * @param northern
+	 *            true for northern band on edges, false for southern
+	 * @return band index
+	 */
+	private static int getBandIndex(double latitude, boolean northern) {
 
 		// Bound the latitude if needed
 		if (latitude < MGRSConstants.MIN_LAT) {
@@ -399,16 +587,7 @@ public class GridZones {
 			bands--;
 		}
 
-		// Handle skipped 'I' and 'O' letters
-		if (bands > 10) {
-			bands += 2;
-		} else if (bands > 5) {
-			bands++;
-		}
-
-		char letter = MGRSConstants.MIN_BAND_LETTER;
-		letter += bands;
-		return letter;
+		return bands;
 	}
 
 	/**
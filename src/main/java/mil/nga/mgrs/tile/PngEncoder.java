@@ -0,0 +1,274 @@
+package mil.nga.mgrs.tile;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * PNG encoder of non premultiplied ARGB pixels as 8 bit RGBA images. The
+ * deflater, row, and compressed data buffers are reused between images, so an
+ * encoder is not thread safe; use an encoder per thread and close it when
+ * done to release the deflater.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class PngEncoder implements AutoCloseable {
+
+	/**
+	 * PNG file signature
+	 */
+	private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r',
+			'\n', 0x1A, '\n' };
+
+	/**
+	 * Image header chunk type
+	 */
+	private static final byte[] IHDR = { 'I', 'H', 'D', 'R' };
+
+	/**
+	 * Image data chunk type
+	 */
+	private static final byte[] IDAT = { 'I', 'D', 'A', 'T' };
+
+	/**
+	 * Image end chunk type
+	 */
+	private static final byte[] IEND = { 'I', 'E', 'N', 'D' };
+
+	/**
+	 * RGBA color type
+	 */
+	private static final int COLOR_TYPE_RGBA = 6;
+
+	/**
+	 * Deflater
+	 */
+	private final Deflater deflater;
+
+	/**
+	 * Chunk checksum
+	 */
+	private final CRC32 crc = new CRC32();
+
+	/**
+	 * Filtered row buffer
+	 */
+	private byte[] row = new byte[0];
+
+	/**
+	 * Compressed image data buffer
+	 */
+	private byte[] data = new byte[1 << 16];
+
+	/**
+	 * Image header chunk buffer
+	 */
+	private final byte[] header = new byte[13];
+
+	/**
+	 * Chunk length and checksum buffer
+	 */
+	private final byte[] value = new byte[4];
+
+	/**
+	 * Create an encoder with the fastest compression, suited to sparse grid
+	 * overlays
+	 * 
+	 * @return encoder
+	 */
+	public static PngEncoder create() {
+		return new PngEncoder(Deflater.BEST_SPEED);
+	}
+
+	/**
+	 * Create an encoder
+	 * 
+	 * @param level
+	 *            deflate compression level, 0 - 9
+	 * @return encoder
+	 */
+	public static PngEncoder create(int level) {
+		return new PngEncoder(level);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param level
+	 *            deflate compression level, 0 - 9
+	 */
+	public PngEncoder(int level) {
+		if (level < Deflater.NO_COMPRESSION
+				|| level > Deflater.BEST_COMPRESSION) {
+			throw new IllegalArgumentException(
+					"Invalid compression level: " + level);
+		}
+		deflater = new Deflater(level);
+	}
+
+	/**
+	 * Encode the image
+	 * 
+	 * @param image
+	 *            image
+	 * @param out
+	 *            output stream
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void encode(BufferedImage image, OutputStream out)
+			throws IOException {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		int[] argb;
+		if (image.getType() == BufferedImage.TYPE_INT_ARGB
+				&& image.getRaster()
+						.getDataBuffer() instanceof DataBufferInt) {
+			argb = ((DataBufferInt) image.getRaster().getDataBuffer())
+					.getData();
+		} else {
+			argb = image.getRGB(0, 0, width, height, null, 0, width);
+		}
+		encode(argb, width, height, out);
+	}
+
+	/**
+	 * Encode the row major non premultiplied ARGB pixels
+	 * 
+	 * @param argb
+	 *            pixels
+	 * @param width
+	 *            image width
+	 * @param height
+	 *            image height
+	 * @param out
+	 *            output stream
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void encode(int[] argb, int width, int height, OutputStream out)
+			throws IOException {
+
+		if (width < 1 || height < 1 || argb.length < width * height) {
+			throw new IllegalArgumentException("Invalid image dimensions: "
+					+ width + "x" + height + ", pixels: " + argb.length);
+		}
+
+		out.write(SIGNATURE);
+
+		writeInt(header, 0, width);
+		writeInt(header, 4, height);
+		header[8] = 8;
+		header[9] = COLOR_TYPE_RGBA;
+		header[10] = 0;
+		header[11] = 0;
+		header[12] = 0;
+		writeChunk(out, IHDR, header, 13);
+
+		int rowLength = 1 + width * 4;
+		if (row.length < rowLength) {
+			row = new byte[rowLength];
+		}
+
+		deflater.reset();
+		int dataLength = 0;
+		for (int y = 0; y < height; y++) {
+
+			// Filter type none
+			row[0] = 0;
+			int index = y * width;
+			for (int x = 0, i = 1; x < width; x++) {
+				int pixel = argb[index + x];
+				row[i++] = (byte) (pixel >>> 16);
+				row[i++] = (byte) (pixel >>> 8);
+				row[i++] = (byte) pixel;
+				row[i++] = (byte) (pixel >>> 24);
+			}
+
+			deflater.setInput(row, 0, rowLength);
+			while (!deflater.needsInput()) {
+				dataLength = deflate(dataLength);
+			}
+		}
+		deflater.finish();
+		while (!deflater.finished()) {
+			dataLength = deflate(dataLength);
+		}
+
+		writeChunk(out, IDAT, data, dataLength);
+		writeChunk(out, IEND, data, 0);
+	}
+
+	/**
+	 * Release the deflater
+	 */
+	@Override
+	public void close() {
+		deflater.end();
+	}
+
+	/**
+	 * Deflate into the data buffer, growing when full
+	 * 
+	 * @param dataLength
+	 *            current data length
+	 * @return new data length
+	 */
+	private int deflate(int dataLength) {
+		if (dataLength == data.length) {
+			data = Arrays.copyOf(data, data.length * 2);
+		}
+		return dataLength + deflater.deflate(data, dataLength,
+				data.length - dataLength);
+	}
+
+	/**
+	 * Write a chunk
+	 * 
+	 * @param out
+	 *            output stream
+	 * @param type
+	 *            chunk type
+	 * @param bytes
+	 *            chunk data
+	 * @param length
+	 *            chunk data length
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	private void writeChunk(OutputStream out, byte[] type, byte[] bytes,
+			int length) throws IOException {
+		writeInt(value, 0, length);
+		out.write(value);
+		out.write(type);
+		out.write(bytes, 0, length);
+		crc.reset();
+		crc.update(type);
+		crc.update(bytes, 0, length);
+		writeInt(value, 0, (int) crc.getValue());
+		out.write(value);
+	}
+
+	/**
+	 * Write a big endian int
+	 * 
+	 * @param bytes
+	 *            bytes
+	 * @param offset
+	 *            offset
+	 * @param value
+	 *            value
+	 */
+	private static void writeInt(byte[] bytes, int offset, int value) {
+		bytes[offset] = (byte) (value >>> 24);
+		bytes[offset + 1] = (byte) (value >>> 16);
+		bytes[offset + 2] = (byte) (value >>> 8);
+		bytes[offset + 3] = (byte) value;
+	}
+
+}
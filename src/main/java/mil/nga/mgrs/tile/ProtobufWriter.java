@@ -0,0 +1,242 @@
+package mil.nga.mgrs.tile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reusable growable buffer of protocol buffer encoded fields
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+final class ProtobufWriter {
+
+	/**
+	 * Varint wire type
+	 */
+	static final int VARINT = 0;
+
+	/**
+	 * 64 bit wire type
+	 */
+	static final int FIXED_64 = 1;
+
+	/**
+	 * Length delimited wire type
+	 */
+	static final int LENGTH_DELIMITED = 2;
+
+	/**
+	 * Encoded bytes
+	 */
+	private byte[] bytes = new byte[1024];
+
+	/**
+	 * Number of encoded bytes
+	 */
+	private int size = 0;
+
+	/**
+	 * Clear the encoded bytes, keeping the buffer
+	 */
+	void reset() {
+		size = 0;
+	}
+
+	/**
+	 * Get the number of encoded bytes
+	 * 
+	 * @return size
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Write a field tag
+	 * 
+	 * @param field
+	 *            field number
+	 * @param wireType
+	 *            wire type
+	 */
+	void writeTag(int field, int wireType) {
+		writeVarint((field << 3) | wireType);
+	}
+
+	/**
+	 * Write an unsigned varint
+	 * 
+	 * @param value
+	 *            value
+	 */
+	void writeVarint(long value) {
+		ensure(10);
+		while ((value & ~0x7FL) != 0) {
+			bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		bytes[size++] = (byte) value;
+	}
+
+	/**
+	 * Write an unsigned 32 bit varint field
+	 * 
+	 * @param field
+	 *            field number
+	 * @param value
+	 *            unsigned value
+	 */
+	void writeUInt32(int field, int value) {
+		writeTag(field, VARINT);
+		writeVarint(value & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Write a double field
+	 * 
+	 * @param field
+	 *            field number
+	 * @param value
+	 *            value
+	 */
+	void writeDouble(int field, double value) {
+		writeTag(field, FIXED_64);
+		ensure(8);
+		long bits = Double.doubleToLongBits(value);
+		for (int i = 0; i < 8; i++) {
+			bytes[size++] = (byte) (bits >>> (i * 8));
+		}
+	}
+
+	/**
+	 * Write a UTF-8 string field
+	 * 
+	 * @param field
+	 *            field number
+	 * @param value
+	 *            value
+	 */
+	void writeString(int field, String value) {
+		byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+		writeTag(field, LENGTH_DELIMITED);
+		writeVarint(encoded.length);
+		ensure(encoded.length);
+		System.arraycopy(encoded, 0, bytes, size, encoded.length);
+		size += encoded.length;
+	}
+
+	/**
+	 * Write an embedded message field
+	 * 
+	 * @param field
+	 *            field number
+	 * @param message
+	 *            encoded message
+	 */
+	void writeMessage(int field, ProtobufWriter message) {
+		writeTag(field, LENGTH_DELIMITED);
+		writeVarint(message.size);
+		ensure(message.size);
+		System.arraycopy(message.bytes, 0, bytes, size, message.size);
+		size += message.size;
+	}
+
+	/**
+	 * Write the encoded fields of another buffer
+	 * 
+	 * @param fields
+	 *            encoded fields
+	 */
+	void write(ProtobufWriter fields) {
+		ensure(fields.size);
+		System.arraycopy(fields.bytes, 0, bytes, size, fields.size);
+		size += fields.size;
+	}
+
+	/**
+	 * Write a packed repeated unsigned 32 bit varint field
+	 * 
+	 * @param field
+	 *            field number
+	 * @param values
+	 *            unsigned values
+	 * @param length
+	 *            number of values
+	 */
+	void writePacked(int field, int[] values, int length) {
+		int bytesLength = 0;
+		for (int i = 0; i < length; i++) {
+			bytesLength += varintSize(values[i] & 0xFFFFFFFFL);
+		}
+		writeTag(field, LENGTH_DELIMITED);
+		writeVarint(bytesLength);
+		for (int i = 0; i < length; i++) {
+			writeVarint(values[i] & 0xFFFFFFFFL);
+		}
+	}
+
+	/**
+	 * Write the encoded bytes to the output stream
+	 * 
+	 * @param out
+	 *            output stream
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	void writeTo(OutputStream out) throws IOException {
+		out.write(bytes, 0, size);
+	}
+
+	/**
+	 * Get a copy of the encoded bytes
+	 * 
+	 * @return bytes
+	 */
+	byte[] toByteArray() {
+		return Arrays.copyOf(bytes, size);
+	}
+
+	/**
+	 * Get the encoded size of an unsigned varint
+	 * 
+	 * @param value
+	 *            value
+	 * @return bytes
+	 */
+	static int varintSize(long value) {
+		int bytesLength = 1;
+		while ((value & ~0x7FL) != 0) {
+			bytesLength++;
+			value >>>= 7;
+		}
+		return bytesLength;
+	}
+
+	/**
+	 * Encode a signed value as a zigzag unsigned value
+	 * 
+	 * @param value
+	 *            signed value
+	 * @return zigzag value
+	 */
+	static int zigzag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	/**
+	 * Ensure capacity for additional bytes
+	 * 
+	 * @param additional
+	 *            additional bytes
+	 */
+	private void ensure(int additional) {
+		if (size + additional > bytes.length) {
+			bytes = Arrays.copyOf(bytes,
+					Math.max(bytes.length * 2, size + additional));
+		}
+	}
+
+}
@@ -0,0 +1,381 @@
+package mil.nga.mgrs.tile;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mil.nga.color.Color;
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Point;
+import mil.nga.grid.tile.GridTile;
+import mil.nga.mgrs.features.GridPolyline;
+import mil.nga.mgrs.grid.Grid;
+import mil.nga.mgrs.grid.GridLabel;
+import mil.nga.mgrs.grid.GridLabeler;
+import mil.nga.mgrs.grid.GridType;
+import mil.nga.mgrs.grid.Grids;
+import mil.nga.mgrs.grid.ZoomGrids;
+import mil.nga.mgrs.gzd.GridRange;
+import mil.nga.mgrs.gzd.GridZone;
+import mil.nga.mgrs.gzd.GridZones;
+
+/**
+ * Raster tile renderer of the enabled grid lines and labels into a reusable
+ * ARGB image, encoded as PNG. Lines are drawn with the grid style color and
+ * width of their precision, followed by the labels that fit within their
+ * bounds. Rendering uses only an offscreen image and runs headless.
+ * 
+ * The image, graphics, and PNG encoder are reused between tiles, so a
+ * renderer is not thread safe; use a renderer per thread and close it when
+ * done.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class RasterTileRenderer implements AutoCloseable {
+
+	/**
+	 * Default tile size in pixels
+	 */
+	public static final int DEFAULT_TILE_SIZE = 256;
+
+	/**
+	 * Grids
+	 */
+	private final Grids grids;
+
+	/**
+	 * Tile size in pixels
+	 */
+	private final int tileSize;
+
+	/**
+	 * Reused tile image
+	 */
+	private final BufferedImage image;
+
+	/**
+	 * Tile image graphics
+	 */
+	private final Graphics2D graphics;
+
+	/**
+	 * PNG encoder
+	 */
+	private final PngEncoder encoder;
+
+	/**
+	 * Tile pixel conversion
+	 */
+	private final TilePixels pixels = new TilePixels();
+
+	/**
+	 * Reused line path
+	 */
+	private final Path2D.Double path = new Path2D.Double();
+
+	/**
+	 * Colors by ARGB value
+	 */
+	private final Map<Integer, java.awt.Color> colors = new HashMap<>();
+
+	/**
+	 * Strokes by width
+	 */
+	private final Map<Double, BasicStroke> strokes = new HashMap<>();
+
+	/**
+	 * Fonts by text size
+	 */
+	private final Map<Double, Font> fonts = new HashMap<>();
+
+	/**
+	 * Create a renderer with the default tile size
+	 * 
+	 * @param grids
+	 *            grids
+	 * @return renderer
+	 */
+	public static RasterTileRenderer create(Grids grids) {
+		return new RasterTileRenderer(grids, DEFAULT_TILE_SIZE);
+	}
+
+	/**
+	 * Create a renderer
+	 * 
+	 * @param grids
+	 *            grids
+	 * @param tileSize
+	 *            tile size in pixels, such as 256 or 512
+	 * @return renderer
+	 */
+	public static RasterTileRenderer create(Grids grids, int tileSize) {
+		return new RasterTileRenderer(grids, tileSize);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param grids
+	 *            grids
+	 * @param tileSize
+	 *            tile size in pixels, such as 256 or 512
+	 */
+	public RasterTileRenderer(Grids grids, int tileSize) {
+		if (tileSize < 1) {
+			throw new IllegalArgumentException(
+					"Tile size must be positive: " + tileSize);
+		}
+		this.grids = grids;
+		this.tileSize = tileSize;
+		image = new BufferedImage(tileSize, tileSize,
+				BufferedImage.TYPE_INT_ARGB);
+		graphics = image.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+				RenderingHints.VALUE_ANTIALIAS_ON);
+		graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+				RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		graphics.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL,
+				RenderingHints.VALUE_STROKE_PURE);
+		encoder = PngEncoder.create();
+	}
+
+	/**
+	 * Get the grids
+	 * 
+	 * @return grids
+	 */
+	public Grids getGrids() {
+		return grids;
+	}
+
+	/**
+	 * Get the tile size in pixels
+	 * 
+	 * @return tile size
+	 */
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	/**
+	 * Render the tile into the reused image. The returned image is
+	 * overwritten by the next render.
+	 * 
+	 * @param tile
+	 *            tile, rendered at the renderer tile size
+	 * @return tile image
+	 */
+	public BufferedImage render(GridTile tile) {
+
+		graphics.setComposite(AlphaComposite.Clear);
+		graphics.fillRect(0, 0, tileSize, tileSize);
+		graphics.setComposite(AlphaComposite.SrcOver);
+
+		ZoomGrids zoomGrids = grids.getGrids(tile.getZoom());
+		if (zoomGrids.hasGrids()) {
+
+			pixels.set(tile.getBounds(), tileSize, tileSize);
+
+			GridRange gridRange = GridZones.getGridRange(tile.getBounds());
+
+			for (Grid grid : zoomGrids) {
+				for (GridZone zone : gridRange) {
+					grid.forEachPolyline(tile, zone,
+							(polyline) -> drawLine(grid, polyline));
+				}
+			}
+
+			for (Grid grid : zoomGrids) {
+				GridLabeler labeler = grid.getLabeler();
+				for (GridZone zone : gridRange) {
+					grid.forEachLabel(tile, zone,
+							(label) -> drawLabel(labeler, label));
+				}
+			}
+		}
+
+		return image;
+	}
+
+	/**
+	 * Render the tile as PNG bytes
+	 * 
+	 * @param tile
+	 *            tile
+	 * @return PNG bytes
+	 */
+	public byte[] renderPNG(GridTile tile) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			renderPNG(tile, out);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to encode PNG tile", e);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Render the tile as PNG to the output stream
+	 * 
+	 * @param tile
+	 *            tile
+	 * @param out
+	 *            output stream
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void renderPNG(GridTile tile, OutputStream out) throws IOException {
+		encoder.encode(render(tile), out);
+	}
+
+	/**
+	 * Release the graphics and PNG encoder
+	 */
+	@Override
+	public void close() {
+		graphics.dispose();
+		encoder.close();
+	}
+
+	/**
+	 * Draw the polyline
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param polyline
+	 *            polyline
+	 */
+	private void drawLine(Grid grid, GridPolyline polyline) {
+
+		GridType type = polyline.hasGridType() ? polyline.getGridType()
+				: grid.getType();
+		Color color = grid.getColor(type);
+		if (color != null) {
+
+			path.reset();
+			List<Point> points = polyline.getPoints();
+			for (int i = 0; i < points.size(); i++) {
+				Point point = points.get(i);
+				double x = pixels.x(point.getLongitude());
+				double y = pixels.y(point.getLatitude());
+				if (i == 0) {
+					path.moveTo(x, y);
+				} else {
+					path.lineTo(x, y);
+				}
+			}
+
+			graphics.setColor(getColor(color));
+			graphics.setStroke(getStroke(grid.getWidth(type)));
+			graphics.draw(path);
+		}
+
+	}
+
+	/**
+	 * Draw the label centered when it fits within its bounds
+	 * 
+	 * @param labeler
+	 *            labeler
+	 * @param label
+	 *            label
+	 */
+	private void drawLabel(GridLabeler labeler, GridLabel label) {
+
+		Color color = labeler.getColor();
+		if (color != null) {
+
+			Font font = getFont(labeler.getTextSize());
+			FontMetrics metrics = graphics.getFontMetrics(font);
+			String name = label.getName();
+			int textWidth = metrics.stringWidth(name);
+			int textHeight = metrics.getAscent();
+
+			Bounds bounds = label.getBounds();
+			double minX = pixels.x(bounds.getMinLongitude());
+			double maxX = pixels.x(bounds.getMaxLongitude());
+			double minY = pixels.y(bounds.getMaxLatitude());
+			double maxY = pixels.y(bounds.getMinLatitude());
+			double buffer = labeler.getBuffer();
+			double width = (maxX - minX) * (1.0 - 2.0 * buffer);
+			double height = (maxY - minY) * (1.0 - 2.0 * buffer);
+
+			if (textWidth <= width && textHeight <= height) {
+				Point center = label.getCenter();
+				float x = (float) (pixels.x(center.getLongitude())
+						- textWidth / 2.0);
+				float y = (float) (pixels.y(center.getLatitude())
+						+ textHeight / 2.0);
+				graphics.setFont(font);
+				graphics.setColor(getColor(color));
+				graphics.drawString(name, x, y);
+			}
+		}
+
+	}
+
+	/**
+	 * Get the AWT color
+	 * 
+	 * @param color
+	 *            color
+	 * @return AWT color
+	 */
+	private java.awt.Color getColor(Color color) {
+		int argb = color.getColorWithAlpha();
+		java.awt.Color awtColor = colors.get(argb);
+		if (awtColor == null) {
+			awtColor = new java.awt.Color(argb, true);
+			colors.put(argb, awtColor);
+		}
+		return awtColor;
+	}
+
+	/**
+	 * Get the line stroke
+	 * 
+	 * @param width
+	 *            line width
+	 * @return stroke
+	 */
+	private BasicStroke getStroke(double width) {
+		BasicStroke stroke = strokes.get(width);
+		if (stroke == null) {
+			stroke = new BasicStroke((float) width, BasicStroke.CAP_BUTT,
+					BasicStroke.JOIN_ROUND);
+			strokes.put(width, stroke);
+		}
+		return stroke;
+	}
+
+	/**
+	 * Get the label font
+	 * 
+	 * @param textSize
+	 *            text size
+	 * @return font
+	 */
+	private Font getFont(double textSize) {
+		Font font = fonts.get(textSize);
+		if (font == null) {
+			font = new Font(Font.SANS_SERIF, Font.PLAIN, 1)
+					.deriveFont((float) textSize);
+			fonts.put(textSize, font);
+		}
+		return font;
+	}
+
+}
@@ -0,0 +1,114 @@
+package mil.nga.mgrs.tile;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Single file tile archive layout, shared by the {@link TileArchiveWriter} and
+ * {@link TileArchiveReader}. Similar to PMTiles, tiles are identified by a
+ * Hilbert curve tile id, clustered in tile id order, and indexed by a sorted
+ * directory. All values are little endian.
+ * 
+ * <pre>
+ * header    (64 bytes)
+ *   magic              8 bytes  "MGRSTILE"
+ *   version            1 byte
+ *   format             1 byte   {@link TileFormat} ordinal
+ *   min zoom           1 byte
+ *   max zoom           1 byte
+ *   max tile length    4 bytes
+ *   tile count         8 bytes
+ *   data offset        8 bytes
+ *   data length        8 bytes
+ *   directory offset   8 bytes
+ *   directory length   8 bytes
+ *   reserved           8 bytes
+ * data      tile bytes in tile id order
+ * directory entries in tile id order (20 bytes each)
+ *   tile id            8 bytes
+ *   data offset        8 bytes  relative to the data section
+ *   length             4 bytes
+ * </pre>
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public final class TileArchive {
+
+	/**
+	 * Archive magic bytes
+	 */
+	static final byte[] MAGIC = "MGRSTILE".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * Archive version
+	 */
+	static final byte VERSION = 1;
+
+	/**
+	 * Header length in bytes
+	 */
+	static final int HEADER_LENGTH = 64;
+
+	/**
+	 * Directory entry length in bytes
+	 */
+	static final int ENTRY_LENGTH = 20;
+
+	/**
+	 * Maximum zoom level
+	 */
+	public static final int MAX_ZOOM = TilePyramidGenerator.MAX_ZOOM;
+
+	/**
+	 * Private constructor
+	 */
+	private TileArchive() {
+	}
+
+	/**
+	 * Get the tile id, the count of tiles at lower zoom levels plus the
+	 * Hilbert curve distance of the tile within its zoom level
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param x
+	 *            tile x
+	 * @param y
+	 *            tile y
+	 * @return tile id
+	 */
+	public static long getTileId(int zoom, int x, int y) {
+
+		if (zoom < 0 || zoom > MAX_ZOOM) {
+			throw new IllegalArgumentException(
+					"Invalid zoom: " + zoom + ", allowed: 0 - " + MAX_ZOOM);
+		}
+		long tilesPerSide = 1L << zoom;
+		if (x < 0 || x >= tilesPerSide || y < 0 || y >= tilesPerSide) {
+			throw new IllegalArgumentException("Invalid tile at zoom " + zoom
+					+ ": " + x + ", " + y);
+		}
+
+		long id = ((1L << (2 * zoom)) - 1) / 3;
+
+		long tileX = x;
+		long tileY = y;
+		for (long s = tilesPerSide / 2; s > 0; s /= 2) {
+			int rx = (tileX & s) > 0 ? 1 : 0;
+			int ry = (tileY & s) > 0 ? 1 : 0;
+			id += s * s * ((3 * rx) ^ ry);
+			if (ry == 0) {
+				if (rx == 1) {
+					tileX = s - 1 - tileX;
+					tileY = s - 1 - tileY;
+				}
+				long swap = tileX;
+				tileX = tileY;
+				tileY = swap;
+			}
+		}
+
+		return id;
+	}
+
+}
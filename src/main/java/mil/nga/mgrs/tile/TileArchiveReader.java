@@ -0,0 +1,338 @@
+package mil.nga.mgrs.tile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * Single file tile archive reader, serving tiles as zero copy slices of the
+ * memory mapped archive. Opening maps the {@link TileArchive} without reading
+ * the directory, and tile lookups binary search the mapped directory. Archive
+ * data beyond the mappable buffer size is mapped in overlapping segments so
+ * every tile is within a single segment. A reader is thread safe.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class TileArchiveReader implements AutoCloseable {
+
+	/**
+	 * Data segment size
+	 */
+	private static final long SEGMENT_SIZE = 1L << 30;
+
+	/**
+	 * Archive file
+	 */
+	private final File file;
+
+	/**
+	 * Archive file access
+	 */
+	private final RandomAccessFile archive;
+
+	/**
+	 * Tile format
+	 */
+	private final TileFormat format;
+
+	/**
+	 * Minimum zoom level
+	 */
+	private final int minZoom;
+
+	/**
+	 * Maximum zoom level
+	 */
+	private final int maxZoom;
+
+	/**
+	 * Number of tiles
+	 */
+	private final int count;
+
+	/**
+	 * Mapped directory
+	 */
+	private final ByteBuffer directory;
+
+	/**
+	 * Mapped data segments
+	 */
+	private final MappedByteBuffer[] segments;
+
+	/**
+	 * Open a tile archive reader
+	 * 
+	 * @param file
+	 *            archive file
+	 * @return reader
+	 * @throws IOException
+	 *             upon failure to read or an invalid archive
+	 */
+	public static TileArchiveReader open(File file) throws IOException {
+		return new TileArchiveReader(file);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param file
+	 *            archive file
+	 * @throws IOException
+	 *             upon failure to read or an invalid archive
+	 */
+	public TileArchiveReader(File file) throws IOException {
+		this.file = file;
+		archive = new RandomAccessFile(file, "r");
+		try {
+
+			FileChannel channel = archive.getChannel();
+			long fileLength = channel.size();
+			if (fileLength < TileArchive.HEADER_LENGTH) {
+				throw new IOException("Invalid tile archive: " + file);
+			}
+
+			ByteBuffer header = channel
+					.map(MapMode.READ_ONLY, 0, TileArchive.HEADER_LENGTH)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			for (int i = 0; i < TileArchive.MAGIC.length; i++) {
+				if (header.get(i) != TileArchive.MAGIC[i]) {
+					throw new IOException("Invalid tile archive: " + file);
+				}
+			}
+			int version = header.get(8);
+			if (version != TileArchive.VERSION) {
+				throw new IOException("Unsupported tile archive version "
+						+ version + ": " + file);
+			}
+			TileFormat[] formats = TileFormat.values();
+			int formatIndex = header.get(9);
+			format = formatIndex >= 0 && formatIndex < formats.length
+					? formats[formatIndex]
+					: TileFormat.UNKNOWN;
+			minZoom = header.get(10);
+			maxZoom = header.get(11);
+			int maxTileLength = header.getInt(12);
+			long tileCount = header.getLong(16);
+			long dataOffset = header.getLong(24);
+			long dataLength = header.getLong(32);
+			long directoryOffset = header.getLong(40);
+			long directoryLength = header.getLong(48);
+
+			if (directoryLength != tileCount * TileArchive.ENTRY_LENGTH
+					|| directoryLength > Integer.MAX_VALUE
+					|| dataOffset + dataLength > fileLength
+					|| directoryOffset + directoryLength > fileLength) {
+				throw new IOException("Invalid tile archive: " + file);
+			}
+			count = (int) tileCount;
+
+			directory = channel
+					.map(MapMode.READ_ONLY, directoryOffset, directoryLength)
+					.order(ByteOrder.LITTLE_ENDIAN);
+
+			int numSegments = (int) Math.max(1,
+					(dataLength + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+			segments = new MappedByteBuffer[numSegments];
+			for (int i = 0; i < numSegments; i++) {
+				long start = i * SEGMENT_SIZE;
+				long length = Math.min(dataLength - start,
+						SEGMENT_SIZE + maxTileLength);
+				segments[i] = channel.map(MapMode.READ_ONLY,
+						dataOffset + start, Math.max(0, length));
+			}
+
+		} catch (IOException | RuntimeException e) {
+			archive.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Get the archive file
+	 * 
+	 * @return archive file
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Get the tile format
+	 * 
+	 * @return tile format
+	 */
+	public TileFormat getFormat() {
+		return format;
+	}
+
+	/**
+	 * Get the minimum zoom level
+	 * 
+	 * @return minimum zoom
+	 */
+	public int getMinZoom() {
+		return minZoom;
+	}
+
+	/**
+	 * Get the maximum zoom level
+	 * 
+	 * @return maximum zoom
+	 */
+	public int getMaxZoom() {
+		return maxZoom;
+	}
+
+	/**
+	 * Get the number of tiles
+	 * 
+	 * @return tile count
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Determine if the archive contains the tile
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param x
+	 *            tile x
+	 * @param y
+	 *            tile y
+	 * @return true if contained
+	 */
+	public boolean contains(int zoom, int x, int y) {
+		return find(zoom, x, y) >= 0;
+	}
+
+	/**
+	 * Get the tile as a read only slice of the mapped archive, without
+	 * copying
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param x
+	 *            tile x
+	 * @param y
+	 *            tile y
+	 * @return tile buffer or null
+	 */
+	public ByteBuffer getTile(int zoom, int x, int y) {
+		ByteBuffer tile = null;
+		int entry = find(zoom, x, y);
+		if (entry >= 0) {
+			tile = getEntryTile(entry);
+		}
+		return tile;
+	}
+
+	/**
+	 * Get a copy of the tile bytes
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param x
+	 *            tile x
+	 * @param y
+	 *            tile y
+	 * @return tile bytes or null
+	 */
+	public byte[] getTileBytes(int zoom, int x, int y) {
+		byte[] bytes = null;
+		ByteBuffer tile = getTile(zoom, x, y);
+		if (tile != null) {
+			bytes = new byte[tile.remaining()];
+			tile.get(bytes);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Close the archive file. Mapped tile buffers remain valid until garbage
+	 * collected.
+	 * 
+	 * @throws IOException
+	 *             upon failure to close
+	 */
+	@Override
+	public void close() throws IOException {
+		archive.close();
+	}
+
+	/**
+	 * Get the tile id of the directory entry
+	 * 
+	 * @param entry
+	 *            directory entry index
+	 * @return tile id
+	 */
+	long getEntryTileId(int entry) {
+		return directory.getLong(entry * TileArchive.ENTRY_LENGTH);
+	}
+
+	/**
+	 * Get the tile of the directory entry as a read only slice of the mapped
+	 * archive
+	 * 
+	 * @param entry
+	 *            directory entry index
+	 * @return tile buffer
+	 */
+	ByteBuffer getEntryTile(int entry) {
+		int position = entry * TileArchive.ENTRY_LENGTH;
+		long offset = directory.getLong(position + 8);
+		int length = directory.getInt(position + 16);
+		ByteBuffer segment = segments[(int) (offset / SEGMENT_SIZE)]
+				.duplicate();
+		int start = (int) (offset % SEGMENT_SIZE);
+		// Buffer casts link to the Java 8 methods, not the Java 9+ covariant
+		// ByteBuffer overrides
+		((Buffer) segment).limit(start + length);
+		((Buffer) segment).position(start);
+		return segment.slice();
+	}
+
+	/**
+	 * Binary search the directory for the tile
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param x
+	 *            tile x
+	 * @param y
+	 *            tile y
+	 * @return directory entry index, or -1 if not found
+	 */
+	private int find(int zoom, int x, int y) {
+		int entry = -1;
+		if (zoom >= minZoom && zoom <= maxZoom) {
+			long id = TileArchive.getTileId(zoom, x, y);
+			int low = 0;
+			int high = count - 1;
+			while (low <= high) {
+				int middle = (low + high) >>> 1;
+				long middleId = getEntryTileId(middle);
+				if (middleId < id) {
+					low = middle + 1;
+				} else if (middleId > id) {
+					high = middle - 1;
+				} else {
+					entry = middle;
+					break;
+				}
+			}
+		}
+		return entry;
+	}
+
+}
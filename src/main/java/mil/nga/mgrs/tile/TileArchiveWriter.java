@@ -0,0 +1,530 @@
+package mil.nga.mgrs.tile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * Single file tile archive writer. Tiles may be written in any order, such as
+ * from a {@link TilePyramidGenerator}, and are appended to a temporary data
+ * file. Closing the writer clusters the tiles into Hilbert tile id order and
+ * writes the {@link TileArchive} header, data, and directory to a temporary
+ * archive file, then renames it over the archive file, so a failed close
+ * leaves an existing archive intact. Writing a tile again replaces it. A
+ * writer opened with {@link #open(File, TileFormat)} keeps the tiles of an
+ * existing archive and reports them through {@link #contains(int, int, int)},
+ * resuming an interrupted generation. A writer is not thread safe.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class TileArchiveWriter implements TileSink<byte[]>, AutoCloseable {
+
+	/**
+	 * Copy buffer size
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Maximum written tile ids not yet merged into the sorted tile ids
+	 */
+	private static final int UNSORTED_IDS = 1024;
+
+	/**
+	 * Archive file
+	 */
+	private final File file;
+
+	/**
+	 * Tile format
+	 */
+	private final TileFormat format;
+
+	/**
+	 * Temporary tile data file
+	 */
+	private final File dataFile;
+
+	/**
+	 * Temporary tile data
+	 */
+	private final RandomAccessFile data;
+
+	/**
+	 * Tile ids in write order
+	 */
+	private long[] ids = new long[1024];
+
+	/**
+	 * Temporary data offsets in write order
+	 */
+	private long[] offsets = new long[1024];
+
+	/**
+	 * Tile lengths in write order
+	 */
+	private int[] lengths = new int[1024];
+
+	/**
+	 * Number of written tiles
+	 */
+	private int count;
+
+	/**
+	 * Sorted tile ids of the first written tiles, for contains checks
+	 */
+	private long[] sortedIds = new long[0];
+
+	/**
+	 * Number of written tiles in the sorted tile ids
+	 */
+	private int sortedCount;
+
+	/**
+	 * Temporary data length
+	 */
+	private long dataLength;
+
+	/**
+	 * Minimum written zoom level
+	 */
+	private int minZoom = Integer.MAX_VALUE;
+
+	/**
+	 * Maximum written zoom level
+	 */
+	private int maxZoom = -1;
+
+	/**
+	 * Closed flag
+	 */
+	private boolean closed;
+
+	/**
+	 * Create a tile archive writer
+	 * 
+	 * @param file
+	 *            archive file, replaced when it exists
+	 * @param format
+	 *            tile format
+	 * @return writer
+	 * @throws IOException
+	 *             upon failure to create the temporary data file
+	 */
+	public static TileArchiveWriter create(File file, TileFormat format)
+			throws IOException {
+		return new TileArchiveWriter(file, format);
+	}
+
+	/**
+	 * Open a tile archive writer, keeping the tiles of an existing archive
+	 * 
+	 * @param file
+	 *            archive file, reopened when it exists
+	 * @param format
+	 *            tile format, matching an existing archive
+	 * @return writer
+	 * @throws IOException
+	 *             upon failure to read the existing archive or create the
+	 *             temporary data file
+	 */
+	public static TileArchiveWriter open(File file, TileFormat format)
+			throws IOException {
+		return new TileArchiveWriter(file, format, true);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param file
+	 *            archive file, replaced when it exists
+	 * @param format
+	 *            tile format
+	 * @throws IOException
+	 *             upon failure to create the temporary data file
+	 */
+	public TileArchiveWriter(File file, TileFormat format) throws IOException {
+		this(file, format, false);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param file
+	 *            archive file
+	 * @param format
+	 *            tile format, matching an existing archive when reopened
+	 * @param reopen
+	 *            true to keep the tiles of an existing archive, false to
+	 *            replace it
+	 * @throws IOException
+	 *             upon failure to read the existing archive or create the
+	 *             temporary data file
+	 */
+	public TileArchiveWriter(File file, TileFormat format, boolean reopen)
+			throws IOException {
+		this.file = file;
+		this.format = format;
+		File directory = file.getAbsoluteFile().getParentFile();
+		dataFile = File.createTempFile(file.getName(), ".data", directory);
+		data = new RandomAccessFile(dataFile, "rw");
+		if (reopen && file.exists()) {
+			try {
+				copyArchive();
+			} catch (IOException | RuntimeException e) {
+				data.close();
+				dataFile.delete();
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Get the archive file
+	 * 
+	 * @return archive file
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Get the tile format
+	 * 
+	 * @return tile format
+	 */
+	public TileFormat getFormat() {
+		return format;
+	}
+
+	/**
+	 * Get the number of written tiles, including replaced tiles
+	 * 
+	 * @return written tiles
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(int zoom, int x, int y) {
+		if (count - sortedCount > UNSORTED_IDS) {
+			sortIds();
+		}
+		long id = TileArchive.getTileId(zoom, x, y);
+		boolean contains = Arrays.binarySearch(sortedIds, 0, sortedCount,
+				id) >= 0;
+		for (int i = sortedCount; !contains && i < count; i++) {
+			contains = ids[i] == id;
+		}
+		return contains;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(int zoom, int x, int y, byte[] tile) throws IOException {
+		write(zoom, x, y, tile, 0, tile.length);
+	}
+
+	/**
+	 * Write the tile bytes
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param x
+	 *            tile x
+	 * @param y
+	 *            tile y
+	 * @param tile
+	 *            tile bytes
+	 * @param offset
+	 *            tile bytes offset
+	 * @param length
+	 *            tile bytes length
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public void write(int zoom, int x, int y, byte[] tile, int offset,
+			int length) throws IOException {
+
+		if (closed) {
+			throw new IllegalStateException("Tile archive writer is closed");
+		}
+
+		add(TileArchive.getTileId(zoom, x, y), length);
+		data.write(tile, offset, length);
+		dataLength += length;
+
+		minZoom = Math.min(minZoom, zoom);
+		maxZoom = Math.max(maxZoom, zoom);
+	}
+
+	/**
+	 * Add a tile entry at the end of the temporary data
+	 * 
+	 * @param id
+	 *            tile id
+	 * @param length
+	 *            tile length
+	 */
+	private void add(long id, int length) {
+
+		if (count == ids.length) {
+			int capacity = count * 2;
+			ids = Arrays.copyOf(ids, capacity);
+			offsets = Arrays.copyOf(offsets, capacity);
+			lengths = Arrays.copyOf(lengths, capacity);
+		}
+		ids[count] = id;
+		offsets[count] = dataLength;
+		lengths[count] = length;
+		count++;
+	}
+
+	/**
+	 * Copy the tiles of the existing archive into the temporary data
+	 * 
+	 * @throws IOException
+	 *             upon failure to read the existing archive
+	 */
+	private void copyArchive() throws IOException {
+		try (TileArchiveReader reader = TileArchiveReader.open(file)) {
+			if (reader.getFormat() != format) {
+				throw new IllegalArgumentException("Tile archive format "
+						+ reader.getFormat() + " does not match " + format
+						+ ": " + file);
+			}
+			FileChannel channel = data.getChannel();
+			for (int entry = 0; entry < reader.size(); entry++) {
+				ByteBuffer tile = reader.getEntryTile(entry);
+				int length = tile.remaining();
+				add(reader.getEntryTileId(entry), length);
+				while (tile.hasRemaining()) {
+					channel.write(tile);
+				}
+				dataLength += length;
+			}
+			if (reader.size() > 0) {
+				minZoom = Math.min(minZoom, reader.getMinZoom());
+				maxZoom = Math.max(maxZoom, reader.getMaxZoom());
+			}
+		}
+		sortIds();
+	}
+
+	/**
+	 * Merge the written tile ids into the sorted tile ids
+	 */
+	private void sortIds() {
+
+		long[] unsorted = Arrays.copyOfRange(ids, sortedCount, count);
+		Arrays.sort(unsorted);
+
+		if (sortedIds.length < count) {
+			sortedIds = Arrays.copyOf(sortedIds, ids.length);
+		}
+
+		// Merge from the end into the sorted tile ids
+		int sortedIndex = sortedCount - 1;
+		int unsortedIndex = unsorted.length - 1;
+		for (int i = count - 1; unsortedIndex >= 0; i--) {
+			if (sortedIndex >= 0
+					&& sortedIds[sortedIndex] > unsorted[unsortedIndex]) {
+				sortedIds[i] = sortedIds[sortedIndex--];
+			} else {
+				sortedIds[i] = unsorted[unsortedIndex--];
+			}
+		}
+		sortedCount = count;
+	}
+
+	/**
+	 * Write the archive file and delete the temporary files
+	 * 
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!closed) {
+			closed = true;
+			try {
+				writeArchive();
+			} finally {
+				data.close();
+				if (!dataFile.delete()) {
+					dataFile.deleteOnExit();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Write the archive file in tile id order to a temporary archive file and
+	 * rename it over the archive file
+	 * 
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	private void writeArchive() throws IOException {
+
+		File directory = file.getAbsoluteFile().getParentFile();
+		File archiveFile = File.createTempFile(file.getName(), ".tmp",
+				directory);
+		try {
+			writeArchive(archiveFile);
+			try {
+				Files.move(archiveFile.toPath(), file.toPath(),
+						StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(archiveFile.toPath(), file.toPath(),
+						StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			archiveFile.delete();
+		}
+
+	}
+
+	/**
+	 * Write the archive in tile id order
+	 * 
+	 * @param archiveFile
+	 *            archive file
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	private void writeArchive(File archiveFile) throws IOException {
+
+		int[] order = sort();
+
+		try (RandomAccessFile archive = new RandomAccessFile(archiveFile,
+				"rw")) {
+			FileChannel channel = archive.getChannel();
+			FileChannel dataChannel = data.getChannel();
+
+			// Cluster the tile data in tile id order
+			long archiveDataLength = 0;
+			int maxTileLength = 0;
+			long[] archiveOffsets = new long[order.length];
+			channel.position(TileArchive.HEADER_LENGTH);
+			for (int i = 0; i < order.length; i++) {
+				int index = order[i];
+				int length = lengths[index];
+				long position = offsets[index];
+				long end = position + length;
+				while (position < end) {
+					position += dataChannel.transferTo(position, end - position,
+							channel);
+				}
+				archiveOffsets[i] = archiveDataLength;
+				archiveDataLength += length;
+				maxTileLength = Math.max(maxTileLength, length);
+			}
+
+			// Directory of entries in tile id order
+			long directoryOffset = TileArchive.HEADER_LENGTH
+					+ archiveDataLength;
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			for (int i = 0; i < order.length; i++) {
+				if (buffer.remaining() < TileArchive.ENTRY_LENGTH) {
+					write(channel, buffer);
+				}
+				int index = order[i];
+				buffer.putLong(ids[index]);
+				buffer.putLong(archiveOffsets[i]);
+				buffer.putInt(lengths[index]);
+			}
+			write(channel, buffer);
+
+			// Header
+			buffer.put(TileArchive.MAGIC);
+			buffer.put(TileArchive.VERSION);
+			buffer.put((byte) format.ordinal());
+			buffer.put((byte) (order.length > 0 ? minZoom : 0));
+			buffer.put((byte) (order.length > 0 ? maxZoom : 0));
+			buffer.putInt(maxTileLength);
+			buffer.putLong(order.length);
+			buffer.putLong(TileArchive.HEADER_LENGTH);
+			buffer.putLong(archiveDataLength);
+			buffer.putLong(directoryOffset);
+			buffer.putLong((long) order.length * TileArchive.ENTRY_LENGTH);
+			buffer.putLong(0);
+			channel.position(0);
+			write(channel, buffer);
+
+			channel.force(true);
+		}
+
+	}
+
+	/**
+	 * Sort the written tile indices by tile id, keeping the last written of
+	 * replaced tiles
+	 * 
+	 * @return sorted tile indices
+	 */
+	private int[] sort() {
+
+		Integer[] indices = new Integer[count];
+		for (int i = 0; i < count; i++) {
+			indices[i] = i;
+		}
+		Arrays.sort(indices, (index1, index2) -> {
+			int compare = Long.compare(ids[index1], ids[index2]);
+			if (compare == 0) {
+				compare = Integer.compare(index1, index2);
+			}
+			return compare;
+		});
+
+		int[] order = new int[count];
+		int size = 0;
+		for (int i = 0; i < count; i++) {
+			int index = indices[i];
+			if (size > 0 && ids[order[size - 1]] == ids[index]) {
+				size--;
+			}
+			order[size++] = index;
+		}
+
+		return Arrays.copyOf(order, size);
+	}
+
+	/**
+	 * Write the flipped buffer to the channel and clear it
+	 * 
+	 * @param channel
+	 *            file channel
+	 * @param buffer
+	 *            buffer
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	private static void write(FileChannel channel, ByteBuffer buffer)
+			throws IOException {
+		// Buffer casts link to the Java 8 methods, not the Java 9+ covariant
+		// ByteBuffer overrides
+		((Buffer) buffer).flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		((Buffer) buffer).clear();
+	}
+
+}
@@ -0,0 +1,90 @@
+package mil.nga.mgrs.tile;
+
+/**
+ * Encoded tile format enumeration
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public enum TileFormat {
+
+	/**
+	 * Unknown binary format
+	 */
+	UNKNOWN("application/octet-stream", "bin"),
+
+	/**
+	 * Mapbox Vector Tile
+	 */
+	MVT("application/vnd.mapbox-vector-tile", "mvt"),
+
+	/**
+	 * PNG image
+	 */
+	PNG("image/png", "png"),
+
+	/**
+	 * GeoJSON
+	 */
+	GEOJSON("application/geo+json", "geojson");
+
+	/**
+	 * Media content type
+	 */
+	private final String contentType;
+
+	/**
+	 * File extension
+	 */
+	private final String extension;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param contentType
+	 *            media content type
+	 * @param extension
+	 *            file extension
+	 */
+	private TileFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	/**
+	 * Get the media content type
+	 * 
+	 * @return content type
+	 */
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Get the file extension
+	 * 
+	 * @return extension
+	 */
+	public String getExtension() {
+		return extension;
+	}
+
+	/**
+	 * Get the tile format from the file extension
+	 * 
+	 * @param extension
+	 *            file extension, case insensitive
+	 * @return tile format or null
+	 */
+	public static TileFormat fromExtension(String extension) {
+		TileFormat format = null;
+		for (TileFormat value : values()) {
+			if (value.extension.equalsIgnoreCase(extension)) {
+				format = value;
+				break;
+			}
+		}
+		return format;
+	}
+
+}
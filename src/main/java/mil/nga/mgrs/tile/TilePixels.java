@@ -0,0 +1,88 @@
+package mil.nga.mgrs.tile;
+
+import mil.nga.grid.features.Bounds;
+import mil.nga.sf.util.GeometryConstants;
+
+/**
+ * Web Mercator tile pixel conversion of degree coordinates, without creating
+ * intermediate points
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+final class TilePixels {
+
+	/**
+	 * Radians per half degree
+	 */
+	private static final double HALF_DEGREE_RADIANS = Math.PI / 360;
+
+	/**
+	 * Meters per degree of longitude
+	 */
+	private static final double METERS_PER_DEGREE = GeometryConstants.WEB_MERCATOR_HALF_WORLD_WIDTH / 180;
+
+	/**
+	 * Tile minimum x in meters
+	 */
+	private double minX;
+
+	/**
+	 * Tile maximum y in meters
+	 */
+	private double maxY;
+
+	/**
+	 * Pixels per meter horizontally
+	 */
+	private double scaleX;
+
+	/**
+	 * Pixels per meter vertically
+	 */
+	private double scaleY;
+
+	/**
+	 * Set the tile bounds and pixel dimensions
+	 * 
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param width
+	 *            pixel width
+	 * @param height
+	 *            pixel height
+	 */
+	void set(Bounds tileBounds, int width, int height) {
+		Bounds bounds = tileBounds.toMeters();
+		minX = bounds.getMinLongitude();
+		maxY = bounds.getMaxLatitude();
+		scaleX = width / (bounds.getMaxLongitude() - minX);
+		scaleY = height / (maxY - bounds.getMinLatitude());
+	}
+
+	/**
+	 * Get the pixel x of the longitude
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @return pixel x
+	 */
+	double x(double longitude) {
+		return (longitude * METERS_PER_DEGREE - minX) * scaleX;
+	}
+
+	/**
+	 * Get the pixel y of the latitude
+	 * 
+	 * @param latitude
+	 *            latitude in degrees
+	 * @return pixel y
+	 */
+	double y(double latitude) {
+		double meters = Math
+				.log(Math.tan((90 + latitude) * HALF_DEGREE_RADIANS))
+				/ (Math.PI / 180) * METERS_PER_DEGREE;
+		return (maxY - meters) * scaleY;
+	}
+
+}
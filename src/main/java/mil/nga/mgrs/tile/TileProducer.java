@@ -0,0 +1,133 @@
+package mil.nga.mgrs.tile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mil.nga.grid.tile.GridTile;
+import mil.nga.mgrs.features.GridLine;
+import mil.nga.mgrs.grid.Grid;
+import mil.nga.mgrs.grid.GridLabel;
+import mil.nga.mgrs.grid.Grids;
+import mil.nga.mgrs.grid.ZoomGrids;
+import mil.nga.mgrs.gzd.GridRange;
+import mil.nga.mgrs.gzd.GridZone;
+import mil.nga.mgrs.gzd.GridZones;
+
+/**
+ * Tile pyramid producer of a tile result. A producer is used by one thread at
+ * a time for a task of tiles within a grid zone, so it may keep reusable state
+ * warm between tiles, and is closed when the task completes.
+ * 
+ * @author osbornb
+ * @param <T>
+ *            tile type
+ * @since 2.1.3
+ */
+@FunctionalInterface
+public interface TileProducer<T> extends AutoCloseable {
+
+	/**
+	 * Produce the tile
+	 * 
+	 * @param tile
+	 *            grid tile
+	 * @return tile result, null when empty
+	 */
+	T produce(GridTile tile);
+
+	/**
+	 * Release the producer state
+	 */
+	@Override
+	default void close() {
+	}
+
+	/**
+	 * Create a producer of grid lines
+	 * 
+	 * @param grids
+	 *            grids
+	 * @return lines producer
+	 */
+	static TileProducer<List<GridLine>> lines(Grids grids) {
+		return (tile) -> {
+			List<GridLine> lines = new ArrayList<>();
+			ZoomGrids zoomGrids = grids.getGrids(tile.getZoom());
+			if (zoomGrids.hasGrids()) {
+				GridRange gridRange = GridZones.getGridRange(tile.getBounds());
+				for (Grid grid : zoomGrids) {
+					for (GridZone zone : gridRange) {
+						grid.forEachLine(tile, zone, lines::add);
+					}
+				}
+			}
+			return lines.isEmpty() ? null : lines;
+		};
+	}
+
+	/**
+	 * Create a producer of grid labels
+	 * 
+	 * @param grids
+	 *            grids
+	 * @return labels producer
+	 */
+	static TileProducer<List<GridLabel>> labels(Grids grids) {
+		return (tile) -> {
+			List<GridLabel> labels = new ArrayList<>();
+			ZoomGrids zoomGrids = grids.getGrids(tile.getZoom());
+			if (zoomGrids.hasGrids()) {
+				GridRange gridRange = GridZones.getGridRange(tile.getBounds());
+				for (Grid grid : zoomGrids) {
+					for (GridZone zone : gridRange) {
+						grid.forEachLabel(tile, zone, labels::add);
+					}
+				}
+			}
+			return labels.isEmpty() ? null : labels;
+		};
+	}
+
+	/**
+	 * Create a producer of Mapbox Vector Tiles, reusing an encoder
+	 * 
+	 * @param grids
+	 *            grids
+	 * @return vector tile producer
+	 */
+	static TileProducer<byte[]> vector(Grids grids) {
+		VectorTileEncoder encoder = VectorTileEncoder.create(grids);
+		return (tile) -> {
+			byte[] bytes = encoder.encode(tile);
+			return bytes.length > 0 ? bytes : null;
+		};
+	}
+
+	/**
+	 * Create a producer of PNG raster tiles, reusing a renderer
+	 * 
+	 * @param grids
+	 *            grids
+	 * @param tileSize
+	 *            tile size in pixels
+	 * @return raster tile producer
+	 */
+	static TileProducer<byte[]> raster(Grids grids, int tileSize) {
+		RasterTileRenderer renderer = RasterTileRenderer.create(grids,
+				tileSize);
+		return new TileProducer<byte[]>() {
+
+			@Override
+			public byte[] produce(GridTile tile) {
+				return renderer.renderPNG(tile);
+			}
+
+			@Override
+			public void close() {
+				renderer.close();
+			}
+
+		};
+	}
+
+}
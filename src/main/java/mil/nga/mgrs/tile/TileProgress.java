@@ -0,0 +1,24 @@
+package mil.nga.mgrs.tile;
+
+/**
+ * Tile pyramid generation progress listener, called from the thread running
+ * the generation
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+@FunctionalInterface
+public interface TileProgress {
+
+	/**
+	 * Tile generation progress
+	 * 
+	 * @param completed
+	 *            completed tiles
+	 * @param total
+	 *            total tiles to generate, excluding tiles skipped as already
+	 *            contained by the sink
+	 */
+	void progress(long completed, long total);
+
+}
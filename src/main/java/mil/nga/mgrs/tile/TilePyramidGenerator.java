@@ -0,0 +1,671 @@
+package mil.nga.mgrs.tile;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import mil.nga.grid.GridUtils;
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.tile.GridTile;
+import mil.nga.mgrs.MGRSConstants;
+import mil.nga.mgrs.gzd.GridZone;
+import mil.nga.mgrs.gzd.GridZones;
+
+/**
+ * Parallel tile pyramid generator over a bounds and zoom range. Each tile is
+ * assigned to the grid zone containing the center of its overlap with the
+ * bounds, and the tiles of each grid zone are split into tasks of at most
+ * the chunk size, so a task's producer keeps warm state across neighboring
+ * tiles of the same grid zone while a bounds within few grid zones still
+ * spreads across all workers. Tasks are submitted in grid zone order.
+ * 
+ * Tasks run on a configurable executor, the common fork join pool by
+ * default. Generated tiles pass through a bounded queue to the sink, which is
+ * called only from the generating thread; workers block when the sink falls
+ * behind. Tiles already contained by the sink are skipped, resuming an
+ * interrupted generation.
+ * 
+ * @author osbornb
+ * @param <T>
+ *            tile type
+ * @since 2.1.3
+ */
+public class TilePyramidGenerator<T> {
+
+	/**
+	 * Default tile size in pixels
+	 */
+	public static final int DEFAULT_TILE_SIZE = 256;
+
+	/**
+	 * Default generated tile queue capacity
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+	/**
+	 * Default maximum number of tiles per task
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+	/**
+	 * Maximum zoom level
+	 */
+	public static final int MAX_ZOOM = 29;
+
+	/**
+	 * Queue wait in milliseconds between cancellation and failure checks
+	 */
+	private static final long QUEUE_WAIT = 100;
+
+	/**
+	 * Tile producer supplier, called once per task
+	 */
+	private final Supplier<? extends TileProducer<T>> producers;
+
+	/**
+	 * Tile sink
+	 */
+	private final TileSink<T> sink;
+
+	/**
+	 * Task executor
+	 */
+	private Executor executor = ForkJoinPool.commonPool();
+
+	/**
+	 * Grid tile size in pixels
+	 */
+	private int tileSize = DEFAULT_TILE_SIZE;
+
+	/**
+	 * Generated tile queue capacity
+	 */
+	private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	/**
+	 * Maximum number of tiles per task
+	 */
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	/**
+	 * Progress listener
+	 */
+	private TileProgress progress;
+
+	/**
+	 * Create a tile pyramid generator
+	 * 
+	 * @param <T>
+	 *            tile type
+	 * @param producers
+	 *            tile producer supplier, called once per task
+	 * @param sink
+	 *            tile sink
+	 * @return generator
+	 */
+	public static <T> TilePyramidGenerator<T> create(
+			Supplier<? extends TileProducer<T>> producers, TileSink<T> sink) {
+		return new TilePyramidGenerator<>(producers, sink);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param producers
+	 *            tile producer supplier, called once per task
+	 * @param sink
+	 *            tile sink
+	 */
+	public TilePyramidGenerator(Supplier<? extends TileProducer<T>> producers,
+			TileSink<T> sink) {
+		this.producers = producers;
+		this.sink = sink;
+	}
+
+	/**
+	 * Get the tile sink
+	 * 
+	 * @return tile sink
+	 */
+	public TileSink<T> getSink() {
+		return sink;
+	}
+
+	/**
+	 * Get the task executor
+	 * 
+	 * @return executor
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Set the task executor, such as a fork join pool or a virtual thread per
+	 * task executor on Java 21 and later
+	 * 
+	 * @param executor
+	 *            executor
+	 */
+	public void setExecutor(Executor executor) {
+		if (executor == null) {
+			throw new IllegalArgumentException("Executor is required");
+		}
+		this.executor = executor;
+	}
+
+	/**
+	 * Get the grid tile size in pixels
+	 * 
+	 * @return tile size
+	 */
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	/**
+	 * Set the grid tile size in pixels
+	 * 
+	 * @param tileSize
+	 *            tile size
+	 */
+	public void setTileSize(int tileSize) {
+		if (tileSize < 1) {
+			throw new IllegalArgumentException(
+					"Tile size must be positive: " + tileSize);
+		}
+		this.tileSize = tileSize;
+	}
+
+	/**
+	 * Get the generated tile queue capacity
+	 * 
+	 * @return queue capacity
+	 */
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	/**
+	 * Set the generated tile queue capacity, bounding the tiles generated
+	 * ahead of the sink
+	 * 
+	 * @param queueCapacity
+	 *            queue capacity
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		if (queueCapacity < 1) {
+			throw new IllegalArgumentException(
+					"Queue capacity must be positive: " + queueCapacity);
+		}
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Get the maximum number of tiles per task
+	 * 
+	 * @return chunk size
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Set the maximum number of tiles per task, splitting the tiles of each
+	 * grid zone across workers
+	 * 
+	 * @param chunkSize
+	 *            chunk size
+	 */
+	public void setChunkSize(int chunkSize) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException(
+					"Chunk size must be positive: " + chunkSize);
+		}
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Get the progress listener
+	 * 
+	 * @return progress listener
+	 */
+	public TileProgress getProgress() {
+		return progress;
+	}
+
+	/**
+	 * Set the progress listener
+	 * 
+	 * @param progress
+	 *            progress listener
+	 */
+	public void setProgress(TileProgress progress) {
+		this.progress = progress;
+	}
+
+	/**
+	 * Generate the tiles within the bounds and zoom range, writing non null
+	 * tiles to the sink. Tiles outside of the MGRS latitude range are not
+	 * generated.
+	 * 
+	 * @param bounds
+	 *            bounds
+	 * @param minZoom
+	 *            minimum zoom level
+	 * @param maxZoom
+	 *            maximum zoom level
+	 * @return number of tiles written to the sink
+	 * @throws IOException
+	 *             upon failure to read or write the sink
+	 * @throws InterruptedException
+	 *             upon interruption, cancelling the remaining tiles
+	 */
+	public long generate(Bounds bounds, int minZoom, int maxZoom)
+			throws IOException, InterruptedException {
+
+		if (minZoom < 0 || maxZoom > MAX_ZOOM || minZoom > maxZoom) {
+			throw new IllegalArgumentException("Invalid zoom range: "
+					+ minZoom + " - " + maxZoom + ", allowed: 0 - " + MAX_ZOOM);
+		}
+
+		Collection<ZoneTiles> tasks = plan(bounds, minZoom, maxZoom);
+
+		long total = 0;
+		for (ZoneTiles zoneTiles : tasks) {
+			total += zoneTiles.size;
+		}
+
+		long written = 0;
+		if (total > 0) {
+
+			Generation<T> generation = new Generation<>(queueCapacity);
+			try {
+
+				for (ZoneTiles zoneTiles : tasks) {
+					for (int i = 0; i < zoneTiles.size; i += chunkSize) {
+						int from = i;
+						int to = Math.min(zoneTiles.size, i + chunkSize);
+						executor.execute(() -> generateTiles(zoneTiles, from,
+								to, generation));
+					}
+				}
+
+				long completed = 0;
+				while (completed < total) {
+					Throwable failure = generation.failure.get();
+					if (failure != null) {
+						throw new IllegalStateException(
+								"Failed to generate tiles", failure);
+					}
+					TileResult<T> result = generation.queue.poll(QUEUE_WAIT,
+							TimeUnit.MILLISECONDS);
+					if (result != null) {
+						completed++;
+						if (result.tile != null) {
+							sink.write(getZoom(result.key), getX(result.key),
+									getY(result.key), result.tile);
+							written++;
+						}
+						if (progress != null) {
+							progress.progress(completed, total);
+						}
+					}
+				}
+
+			} finally {
+				generation.cancelled.set(true);
+			}
+		}
+
+		return written;
+	}
+
+	/**
+	 * Plan the grid zone tiles not already contained by the sink
+	 * 
+	 * @param bounds
+	 *            bounds
+	 * @param minZoom
+	 *            minimum zoom level
+	 * @param maxZoom
+	 *            maximum zoom level
+	 * @return grid zone tiles
+	 * @throws IOException
+	 *             upon failure to read the sink
+	 */
+	private Collection<ZoneTiles> plan(Bounds bounds, int minZoom,
+			int maxZoom) throws IOException {
+
+		Map<GridZone, ZoneTiles> tasks = new LinkedHashMap<>();
+
+		Bounds degrees = bounds.toDegrees()
+				.overlap(Bounds.degrees(MGRSConstants.MIN_LON,
+						MGRSConstants.MIN_LAT, MGRSConstants.MAX_LON,
+						MGRSConstants.MAX_LAT));
+		if (degrees != null && !degrees.isEmpty()) {
+
+			for (GridZone zone : GridZones.getGridRange(degrees)) {
+				tasks.put(zone, new ZoneTiles());
+			}
+
+			double west = degrees.getMinLongitude();
+			double south = degrees.getMinLatitude();
+			double east = degrees.getMaxLongitude();
+			double north = degrees.getMaxLatitude();
+
+			for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
+
+				int tilesPerSide = GridUtils.tilesPerSide(zoom);
+				int minX = getTileX(west, tilesPerSide, false);
+				int maxX = getTileX(east, tilesPerSide, true);
+				int minY = getTileY(north, tilesPerSide, false);
+				int maxY = getTileY(south, tilesPerSide, true);
+
+				for (int x = minX; x <= maxX; x++) {
+
+					double longitude = (Math.max(west,
+							getLongitude(x, tilesPerSide))
+							+ Math.min(east, getLongitude(x + 1, tilesPerSide)))
+							/ 2;
+
+					for (int y = minY; y <= maxY; y++) {
+
+						if (sink.contains(zoom, x, y)) {
+							continue;
+						}
+
+						double latitude = (Math.min(north,
+								getLatitude(y, tilesPerSide))
+								+ Math.max(south,
+										getLatitude(y + 1, tilesPerSide)))
+								/ 2;
+						GridZone zone = GridZones.getGridZone(longitude,
+								latitude);
+
+						ZoneTiles zoneTiles = tasks.computeIfAbsent(zone,
+								(key) -> new ZoneTiles());
+						zoneTiles.add(getKey(zoom, x, y));
+					}
+				}
+			}
+		}
+
+		return tasks.values();
+	}
+
+	/**
+	 * Generate a chunk of the grid zone tiles
+	 * 
+	 * @param zoneTiles
+	 *            grid zone tiles
+	 * @param from
+	 *            first tile index, inclusive
+	 * @param to
+	 *            last tile index, exclusive
+	 * @param generation
+	 *            generation state
+	 */
+	private void generateTiles(ZoneTiles zoneTiles, int from, int to,
+			Generation<T> generation) {
+		try (TileProducer<T> producer = producers.get()) {
+			for (int i = from; i < to; i++) {
+				if (generation.cancelled.get()) {
+					break;
+				}
+				long key = zoneTiles.keys[i];
+				GridTile tile = GridTile.tile(tileSize, tileSize, getX(key),
+						getY(key), getZoom(key));
+				TileResult<T> result = new TileResult<>(key,
+						producer.produce(tile));
+				while (!generation.queue.offer(result, QUEUE_WAIT,
+						TimeUnit.MILLISECONDS)) {
+					if (generation.cancelled.get()) {
+						return;
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			generation.failure.compareAndSet(null, e);
+		} catch (RuntimeException | Error e) {
+			generation.failure.compareAndSet(null, e);
+		}
+	}
+
+	/**
+	 * Get the tile x containing the longitude
+	 * 
+	 * @param longitude
+	 *            longitude
+	 * @param tilesPerSide
+	 *            tiles per side
+	 * @param max
+	 *            true for a maximum edge, excluding a tile only touching it
+	 * @return tile x
+	 */
+	private static int getTileX(double longitude, int tilesPerSide,
+			boolean max) {
+		double x = (longitude + 180.0) / 360.0 * tilesPerSide;
+		return getTile(x, tilesPerSide, max);
+	}
+
+	/**
+	 * Get the tile y containing the latitude
+	 * 
+	 * @param latitude
+	 *            latitude
+	 * @param tilesPerSide
+	 *            tiles per side
+	 * @param max
+	 *            true for a maximum edge, excluding a tile only touching it
+	 * @return tile y
+	 */
+	private static int getTileY(double latitude, int tilesPerSide,
+			boolean max) {
+		double radians = Math.toRadians(latitude);
+		double y = (1.0 - Math.log(Math.tan(radians) + 1.0 / Math.cos(radians))
+				/ Math.PI) / 2.0 * tilesPerSide;
+		return getTile(y, tilesPerSide, max);
+	}
+
+	/**
+	 * Get the tile index of the fractional tile coordinate
+	 * 
+	 * @param value
+	 *            fractional tile coordinate
+	 * @param tilesPerSide
+	 *            tiles per side
+	 * @param max
+	 *            true for a maximum edge, excluding a tile only touching it
+	 * @return tile index
+	 */
+	private static int getTile(double value, int tilesPerSide, boolean max) {
+		int tile = max ? (int) Math.ceil(value) - 1 : (int) Math.floor(value);
+		return Math.max(0, Math.min(tilesPerSide - 1, tile));
+	}
+
+	/**
+	 * Get the west longitude of the tile x
+	 * 
+	 * @param x
+	 *            tile x
+	 * @param tilesPerSide
+	 *            tiles per side
+	 * @return longitude
+	 */
+	private static double getLongitude(int x, int tilesPerSide) {
+		return x * 360.0 / tilesPerSide - 180.0;
+	}
+
+	/**
+	 * Get the north latitude of the tile y
+	 * 
+	 * @param y
+	 *            tile y
+	 * @param tilesPerSide
+	 *            tiles per side
+	 * @return latitude
+	 */
+	private static double getLatitude(int y, int tilesPerSide) {
+		return Math.toDegrees(
+				Math.atan(Math.sinh(Math.PI * (1.0 - 2.0 * y / tilesPerSide))));
+	}
+
+	/**
+	 * Get the packed tile key
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param x
+	 *            tile x
+	 * @param y
+	 *            tile y
+	 * @return tile key
+	 */
+	private static long getKey(int zoom, int x, int y) {
+		return ((long) zoom << 58) | ((long) x << 29) | y;
+	}
+
+	/**
+	 * Get the zoom level of the tile key
+	 * 
+	 * @param key
+	 *            tile key
+	 * @return zoom level
+	 */
+	private static int getZoom(long key) {
+		return (int) (key >>> 58);
+	}
+
+	/**
+	 * Get the tile x of the tile key
+	 * 
+	 * @param key
+	 *            tile key
+	 * @return tile x
+	 */
+	private static int getX(long key) {
+		return (int) ((key >>> 29) & 0x1FFFFFFF);
+	}
+
+	/**
+	 * Get the tile y of the tile key
+	 * 
+	 * @param key
+	 *            tile key
+	 * @return tile y
+	 */
+	private static int getY(long key) {
+		return (int) (key & 0x1FFFFFFF);
+	}
+
+	/**
+	 * Tile keys of a grid zone
+	 */
+	private static class ZoneTiles {
+
+		/**
+		 * Tile keys
+		 */
+		private long[] keys = new long[16];
+
+		/**
+		 * Number of tile keys
+		 */
+		private int size;
+
+		/**
+		 * Add a tile key
+		 * 
+		 * @param key
+		 *            tile key
+		 */
+		private void add(long key) {
+			if (size == keys.length) {
+				keys = Arrays.copyOf(keys, size * 2);
+			}
+			keys[size++] = key;
+		}
+
+	}
+
+	/**
+	 * Generated tile result
+	 * 
+	 * @param <T>
+	 *            tile type
+	 */
+	private static class TileResult<T> {
+
+		/**
+		 * Tile key
+		 */
+		private final long key;
+
+		/**
+		 * Generated tile, null when empty
+		 */
+		private final T tile;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param key
+		 *            tile key
+		 * @param tile
+		 *            generated tile
+		 */
+		private TileResult(long key, T tile) {
+			this.key = key;
+			this.tile = tile;
+		}
+
+	}
+
+	/**
+	 * Generation state shared by the tasks
+	 * 
+	 * @param <T>
+	 *            tile type
+	 */
+	private static class Generation<T> {
+
+		/**
+		 * Bounded generated tile queue
+		 */
+		private final BlockingQueue<TileResult<T>> queue;
+
+		/**
+		 * Cancelled flag, set when the generation completes or fails
+		 */
+		private final AtomicBoolean cancelled = new AtomicBoolean();
+
+		/**
+		 * First task failure
+		 */
+		private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		/**
+		 * Constructor
+		 * 
+		 * @param capacity
+		 *            queue capacity
+		 */
+		private Generation(int capacity) {
+			queue = new ArrayBlockingQueue<>(capacity);
+		}
+
+	}
+
+}
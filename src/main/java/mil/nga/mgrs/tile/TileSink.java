@@ -0,0 +1,51 @@
+package mil.nga.mgrs.tile;
+
+import java.io.IOException;
+
+/**
+ * Tile pyramid sink of generated tiles. Sink methods are called only from the
+ * thread running the generation, so a sink does not need to be thread safe.
+ * 
+ * @author osbornb
+ * @param <T>
+ *            tile type
+ * @since 2.1.3
+ */
+@FunctionalInterface
+public interface TileSink<T> {
+
+	/**
+	 * Write a generated tile
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param x
+	 *            tile x
+	 * @param y
+	 *            tile y
+	 * @param tile
+	 *            generated tile
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	void write(int zoom, int x, int y, T tile) throws IOException;
+
+	/**
+	 * Determine if the sink already contains the tile, skipping it when
+	 * resuming an interrupted generation
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param x
+	 *            tile x
+	 * @param y
+	 *            tile y
+	 * @return true if already written
+	 * @throws IOException
+	 *             upon failure to read
+	 */
+	default boolean contains(int zoom, int x, int y) throws IOException {
+		return false;
+	}
+
+}
@@ -0,0 +1,864 @@
+package mil.nga.mgrs.tile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mil.nga.color.Color;
+import mil.nga.grid.features.Point;
+import mil.nga.grid.tile.GridTile;
+import mil.nga.mgrs.MGRS;
+import mil.nga.mgrs.features.GridPolyline;
+import mil.nga.mgrs.grid.Grid;
+import mil.nga.mgrs.grid.GridLabel;
+import mil.nga.mgrs.grid.GridLabeler;
+import mil.nga.mgrs.grid.GridType;
+import mil.nga.mgrs.grid.Grids;
+import mil.nga.mgrs.grid.ZoomGrids;
+import mil.nga.mgrs.gzd.GridRange;
+import mil.nga.mgrs.gzd.GridZone;
+import mil.nga.mgrs.gzd.GridZones;
+
+/**
+ * Mapbox Vector Tile (version 2) encoder of the enabled grid lines and labels
+ * of a tile. Lines are written as polylines to the {@link #LINES_LAYER} layer
+ * and labels as center points to the {@link #LABELS_LAYER} layer, quantized
+ * to the tile extent and clipped to the extent plus a buffer. Grid type, MGRS
+ * coordinate, and style values are written as feature attributes.
+ * 
+ * Encoders reuse their buffers between tiles and are not thread safe; use an
+ * encoder per thread.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class VectorTileEncoder {
+
+	/**
+	 * Default tile extent
+	 */
+	public static final int DEFAULT_EXTENT = 4096;
+
+	/**
+	 * Default clip buffer in extent units
+	 */
+	public static final int DEFAULT_BUFFER = 64;
+
+	/**
+	 * Lines layer name
+	 */
+	public static final String LINES_LAYER = "mgrs_lines";
+
+	/**
+	 * Labels layer name
+	 */
+	public static final String LABELS_LAYER = "mgrs_labels";
+
+	/**
+	 * Grid type attribute of the grid drawing the feature
+	 */
+	public static final String GRID_ATTRIBUTE = "grid";
+
+	/**
+	 * Precision grid type attribute of the line or label
+	 */
+	public static final String TYPE_ATTRIBUTE = "type";
+
+	/**
+	 * Label name attribute
+	 */
+	public static final String NAME_ATTRIBUTE = "name";
+
+	/**
+	 * Label MGRS coordinate attribute
+	 */
+	public static final String MGRS_ATTRIBUTE = "mgrs";
+
+	/**
+	 * Hex color attribute
+	 */
+	public static final String COLOR_ATTRIBUTE = "color";
+
+	/**
+	 * Color opacity attribute
+	 */
+	public static final String OPACITY_ATTRIBUTE = "opacity";
+
+	/**
+	 * Line width attribute
+	 */
+	public static final String WIDTH_ATTRIBUTE = "width";
+
+	/**
+	 * Label text size attribute
+	 */
+	public static final String TEXT_SIZE_ATTRIBUTE = "text_size";
+
+	/**
+	 * Vector tile specification version
+	 */
+	private static final int VERSION = 2;
+
+	/**
+	 * Tile layers field
+	 */
+	private static final int TILE_LAYERS = 3;
+
+	/**
+	 * Layer name field
+	 */
+	private static final int LAYER_NAME = 1;
+
+	/**
+	 * Layer features field
+	 */
+	private static final int LAYER_FEATURES = 2;
+
+	/**
+	 * Layer keys field
+	 */
+	private static final int LAYER_KEYS = 3;
+
+	/**
+	 * Layer values field
+	 */
+	private static final int LAYER_VALUES = 4;
+
+	/**
+	 * Layer extent field
+	 */
+	private static final int LAYER_EXTENT = 5;
+
+	/**
+	 * Layer version field
+	 */
+	private static final int LAYER_VERSION = 15;
+
+	/**
+	 * Feature tags field
+	 */
+	private static final int FEATURE_TAGS = 2;
+
+	/**
+	 * Feature geometry type field
+	 */
+	private static final int FEATURE_TYPE = 3;
+
+	/**
+	 * Feature geometry field
+	 */
+	private static final int FEATURE_GEOMETRY = 4;
+
+	/**
+	 * Value string field
+	 */
+	private static final int VALUE_STRING = 1;
+
+	/**
+	 * Value double field
+	 */
+	private static final int VALUE_DOUBLE = 3;
+
+	/**
+	 * Point geometry type
+	 */
+	private static final int POINT = 1;
+
+	/**
+	 * Line string geometry type
+	 */
+	private static final int LINESTRING = 2;
+
+	/**
+	 * Move to geometry command
+	 */
+	private static final int MOVE_TO = 1;
+
+	/**
+	 * Line to geometry command
+	 */
+	private static final int LINE_TO = 2;
+
+	/**
+	 * Grids
+	 */
+	private final Grids grids;
+
+	/**
+	 * Tile extent
+	 */
+	private final int extent;
+
+	/**
+	 * Clip buffer in extent units
+	 */
+	private final int buffer;
+
+	/**
+	 * Tile pixel conversion
+	 */
+	private final TilePixels pixels = new TilePixels();
+
+	/**
+	 * Lines layer
+	 */
+	private final Layer lines = new Layer(LINES_LAYER);
+
+	/**
+	 * Labels layer
+	 */
+	private final Layer labels = new Layer(LABELS_LAYER);
+
+	/**
+	 * Feature buffer
+	 */
+	private final ProtobufWriter feature = new ProtobufWriter();
+
+	/**
+	 * Layer buffer
+	 */
+	private final ProtobufWriter layer = new ProtobufWriter();
+
+	/**
+	 * Feature tags
+	 */
+	private int[] tags = new int[16];
+
+	/**
+	 * Number of feature tags
+	 */
+	private int tagCount = 0;
+
+	/**
+	 * Feature geometry commands
+	 */
+	private int[] geometry = new int[256];
+
+	/**
+	 * Number of feature geometry commands
+	 */
+	private int geometryCount = 0;
+
+	/**
+	 * Index of the current line to command
+	 */
+	private int lineToIndex = -1;
+
+	/**
+	 * Geometry cursor x
+	 */
+	private int cursorX = 0;
+
+	/**
+	 * Geometry cursor y
+	 */
+	private int cursorY = 0;
+
+	/**
+	 * Segment clip start parameter
+	 */
+	private double clipStart;
+
+	/**
+	 * Segment clip end parameter
+	 */
+	private double clipEnd;
+
+	/**
+	 * Create an encoder with the default extent and buffer
+	 * 
+	 * @param grids
+	 *            grids
+	 * @return encoder
+	 */
+	public static VectorTileEncoder create(Grids grids) {
+		return new VectorTileEncoder(grids, DEFAULT_EXTENT, DEFAULT_BUFFER);
+	}
+
+	/**
+	 * Create an encoder
+	 * 
+	 * @param grids
+	 *            grids
+	 * @param extent
+	 *            tile extent
+	 * @param buffer
+	 *            clip buffer in extent units
+	 * @return encoder
+	 */
+	public static VectorTileEncoder create(Grids grids, int extent,
+			int buffer) {
+		return new VectorTileEncoder(grids, extent, buffer);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param grids
+	 *            grids
+	 * @param extent
+	 *            tile extent
+	 * @param buffer
+	 *            clip buffer in extent units
+	 */
+	public VectorTileEncoder(Grids grids, int extent, int buffer) {
+		if (extent < 1) {
+			throw new IllegalArgumentException(
+					"Extent must be positive: " + extent);
+		}
+		if (buffer < 0) {
+			throw new IllegalArgumentException(
+					"Buffer must not be negative: " + buffer);
+		}
+		this.grids = grids;
+		this.extent = extent;
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Get the grids
+	 * 
+	 * @return grids
+	 */
+	public Grids getGrids() {
+		return grids;
+	}
+
+	/**
+	 * Get the tile extent
+	 * 
+	 * @return extent
+	 */
+	public int getExtent() {
+		return extent;
+	}
+
+	/**
+	 * Get the clip buffer in extent units
+	 * 
+	 * @return buffer
+	 */
+	public int getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * Encode the tile
+	 * 
+	 * @param tile
+	 *            tile
+	 * @return vector tile bytes, empty when no features
+	 */
+	public byte[] encode(GridTile tile) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			encode(tile, out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(
+					"Failed to encode vector tile", e);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Encode the tile to the output stream
+	 * 
+	 * @param tile
+	 *            tile
+	 * @param out
+	 *            output stream
+	 * @return number of features written
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	public int encode(GridTile tile, OutputStream out) throws IOException {
+
+		lines.reset();
+		labels.reset();
+
+		ZoomGrids zoomGrids = grids.getGrids(tile.getZoom());
+		if (zoomGrids.hasGrids()) {
+
+			pixels.set(tile.getBounds(), extent, extent);
+
+			GridRange gridRange = GridZones.getGridRange(tile.getBounds());
+
+			for (Grid grid : zoomGrids) {
+
+				// Quantize features into the layers as they are generated
+				for (GridZone zone : gridRange) {
+					grid.forEachPolyline(tile, zone,
+							(polyline) -> addLine(grid, polyline));
+					grid.forEachLabel(tile, zone,
+							(label) -> addLabel(grid, label));
+				}
+			}
+		}
+
+		writeLayer(lines, out);
+		writeLayer(labels, out);
+
+		return lines.features + labels.features;
+	}
+
+	/**
+	 * Add a line feature
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param polyline
+	 *            polyline
+	 */
+	private void addLine(Grid grid, GridPolyline polyline) {
+
+		clearGeometry();
+
+		double min = -buffer;
+		double max = extent + buffer;
+
+		List<Point> points = polyline.getPoints();
+		Point first = points.get(0);
+		double x1 = pixels.x(first.getLongitude());
+		double y1 = pixels.y(first.getLatitude());
+		boolean open = false;
+
+		for (int i = 1; i < points.size(); i++) {
+
+			Point point = points.get(i);
+			double x2 = pixels.x(point.getLongitude());
+			double y2 = pixels.y(point.getLatitude());
+
+			double dx = x2 - x1;
+			double dy = y2 - y1;
+
+			// Liang-Barsky clip of the segment to the buffered extent
+			clipStart = 0.0;
+			clipEnd = 1.0;
+			if (clip(-dx, x1 - min) && clip(dx, max - x1) && clip(-dy, y1 - min)
+					&& clip(dy, max - y1)) {
+				if (open && clipStart > 0.0) {
+					endLine();
+					open = false;
+				}
+				if (!open) {
+					moveTo(x1 + clipStart * dx, y1 + clipStart * dy);
+					open = true;
+				}
+				lineTo(x1 + clipEnd * dx, y1 + clipEnd * dy);
+				if (clipEnd < 1.0) {
+					endLine();
+					open = false;
+				}
+			} else if (open) {
+				endLine();
+				open = false;
+			}
+
+			x1 = x2;
+			y1 = y2;
+		}
+		if (open) {
+			endLine();
+		}
+
+		if (geometryCount > 0) {
+
+			GridType type = polyline.getGridType();
+
+			clearTags();
+			addTag(lines, GRID_ATTRIBUTE, grid.getType().name());
+			if (type != null) {
+				addTag(lines, TYPE_ATTRIBUTE, type.name());
+			} else {
+				type = grid.getType();
+			}
+			addColorTags(lines, grid.getColor(type));
+			addTag(lines, WIDTH_ATTRIBUTE, grid.getWidth(type));
+
+			writeFeature(lines, LINESTRING);
+		}
+
+	}
+
+	/**
+	 * Add a label feature
+	 * 
+	 * @param grid
+	 *            grid
+	 * @param label
+	 *            label
+	 */
+	private void addLabel(Grid grid, GridLabel label) {
+
+		Point center = label.getCenter();
+		int x = (int) Math.round(pixels.x(center.getLongitude()));
+		int y = (int) Math.round(pixels.y(center.getLatitude()));
+
+		if (x >= -buffer && x <= extent + buffer && y >= -buffer
+				&& y <= extent + buffer) {
+
+			clearGeometry();
+			addCommand(MOVE_TO, 1);
+			addGeometry(ProtobufWriter.zigzag(x));
+			addGeometry(ProtobufWriter.zigzag(y));
+
+			clearTags();
+			addTag(labels, GRID_ATTRIBUTE, grid.getType().name());
+			GridType type = label.getGridType();
+			if (type != null) {
+				addTag(labels, TYPE_ATTRIBUTE, type.name());
+			}
+			addTag(labels, NAME_ATTRIBUTE, label.getName());
+			MGRS coordinate = label.getCoordinate();
+			if (coordinate != null) {
+				addTag(labels, MGRS_ATTRIBUTE, type != null
+						? coordinate.coordinate(type) : coordinate.coordinate());
+			}
+			GridLabeler labeler = grid.getLabeler();
+			addColorTags(labels, labeler.getColor());
+			addTag(labels, TEXT_SIZE_ATTRIBUTE, labeler.getTextSize());
+
+			writeFeature(labels, POINT);
+		}
+
+	}
+
+	/**
+	 * Clip the segment parameter range against a single boundary
+	 * 
+	 * @param p
+	 *            negative direction towards the boundary
+	 * @param q
+	 *            distance inside the boundary
+	 * @return false if the segment is entirely outside the boundary
+	 */
+	private boolean clip(double p, double q) {
+		boolean inside = true;
+		if (p == 0.0) {
+			inside = q >= 0.0;
+		} else {
+			double t = q / p;
+			if (p < 0.0) {
+				if (t > clipEnd) {
+					inside = false;
+				} else if (t > clipStart) {
+					clipStart = t;
+				}
+			} else if (t < clipStart) {
+				inside = false;
+			} else if (t < clipEnd) {
+				clipEnd = t;
+			}
+		}
+		return inside;
+	}
+
+	/**
+	 * Start a new line at the pixel
+	 * 
+	 * @param x
+	 *            pixel x
+	 * @param y
+	 *            pixel y
+	 */
+	private void moveTo(double x, double y) {
+		int pixelX = (int) Math.round(x);
+		int pixelY = (int) Math.round(y);
+		addCommand(MOVE_TO, 1);
+		addGeometry(ProtobufWriter.zigzag(pixelX - cursorX));
+		addGeometry(ProtobufWriter.zigzag(pixelY - cursorY));
+		cursorX = pixelX;
+		cursorY = pixelY;
+		lineToIndex = -1;
+	}
+
+	/**
+	 * Continue the current line to the pixel, skipping repeated pixels
+	 * 
+	 * @param x
+	 *            pixel x
+	 * @param y
+	 *            pixel y
+	 */
+	private void lineTo(double x, double y) {
+		int pixelX = (int) Math.round(x);
+		int pixelY = (int) Math.round(y);
+		if (pixelX != cursorX || pixelY != cursorY) {
+			if (lineToIndex == -1) {
+				lineToIndex = geometryCount;
+				addGeometry(0);
+			}
+			geometry[lineToIndex] += 1 << 3;
+			addGeometry(ProtobufWriter.zigzag(pixelX - cursorX));
+			addGeometry(ProtobufWriter.zigzag(pixelY - cursorY));
+			cursorX = pixelX;
+			cursorY = pixelY;
+		}
+	}
+
+	/**
+	 * End the current line, removing a move to without line segments
+	 */
+	private void endLine() {
+		if (lineToIndex == -1) {
+			// Remove the move to, restoring the previous cursor
+			cursorX -= unzigzag(geometry[geometryCount - 2]);
+			cursorY -= unzigzag(geometry[geometryCount - 1]);
+			geometryCount -= 3;
+		} else {
+			geometry[lineToIndex] |= LINE_TO;
+		}
+		lineToIndex = -1;
+	}
+
+	/**
+	 * Decode a zigzag value
+	 * 
+	 * @param value
+	 *            zigzag value
+	 * @return signed value
+	 */
+	private static int unzigzag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Clear the feature geometry and cursor
+	 */
+	private void clearGeometry() {
+		geometryCount = 0;
+		lineToIndex = -1;
+		cursorX = 0;
+		cursorY = 0;
+	}
+
+	/**
+	 * Add a geometry command
+	 * 
+	 * @param command
+	 *            command id
+	 * @param count
+	 *            command count
+	 */
+	private void addCommand(int command, int count) {
+		addGeometry((command & 0x7) | (count << 3));
+	}
+
+	/**
+	 * Add a geometry value
+	 * 
+	 * @param value
+	 *            command or parameter value
+	 */
+	private void addGeometry(int value) {
+		if (geometryCount == geometry.length) {
+			geometry = Arrays.copyOf(geometry, geometry.length * 2);
+		}
+		geometry[geometryCount++] = value;
+	}
+
+	/**
+	 * Clear the feature tags
+	 */
+	private void clearTags() {
+		tagCount = 0;
+	}
+
+	/**
+	 * Add the color and opacity tags
+	 * 
+	 * @param layer
+	 *            layer
+	 * @param color
+	 *            color or null
+	 */
+	private void addColorTags(Layer layer, Color color) {
+		if (color != null) {
+			addTag(layer, COLOR_ATTRIBUTE, color.getColorHex());
+			addTag(layer, OPACITY_ATTRIBUTE, (double) color.getOpacity());
+		}
+	}
+
+	/**
+	 * Add a feature tag
+	 * 
+	 * @param layer
+	 *            layer
+	 * @param key
+	 *            attribute key
+	 * @param value
+	 *            string or double value
+	 */
+	private void addTag(Layer layer, String key, Object value) {
+		if (tagCount + 2 > tags.length) {
+			tags = Arrays.copyOf(tags, tags.length * 2);
+		}
+		tags[tagCount++] = layer.key(key);
+		tags[tagCount++] = layer.value(value);
+	}
+
+	/**
+	 * Write the feature to the layer
+	 * 
+	 * @param layer
+	 *            layer
+	 * @param type
+	 *            geometry type
+	 */
+	private void writeFeature(Layer layer, int type) {
+		feature.reset();
+		feature.writePacked(FEATURE_TAGS, tags, tagCount);
+		feature.writeUInt32(FEATURE_TYPE, type);
+		feature.writePacked(FEATURE_GEOMETRY, geometry, geometryCount);
+		layer.buffer.writeMessage(LAYER_FEATURES, feature);
+		layer.features++;
+	}
+
+	/**
+	 * Write the layer to the output stream when it has features
+	 * 
+	 * @param source
+	 *            layer
+	 * @param out
+	 *            output stream
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	private void writeLayer(Layer source, OutputStream out)
+			throws IOException {
+
+		if (source.features > 0) {
+
+			layer.reset();
+			layer.writeUInt32(LAYER_VERSION, VERSION);
+			layer.writeString(LAYER_NAME, source.name);
+			layer.writeUInt32(LAYER_EXTENT, extent);
+			layer.write(source.buffer);
+			for (String key : source.keys) {
+				layer.writeString(LAYER_KEYS, key);
+			}
+			for (Object value : source.values) {
+				feature.reset();
+				if (value instanceof String) {
+					feature.writeString(VALUE_STRING, (String) value);
+				} else {
+					feature.writeDouble(VALUE_DOUBLE, (Double) value);
+				}
+				layer.writeMessage(LAYER_VALUES, feature);
+			}
+
+			ProtobufWriter header = feature;
+			header.reset();
+			header.writeTag(TILE_LAYERS, ProtobufWriter.LENGTH_DELIMITED);
+			header.writeVarint(layer.size());
+			header.writeTo(out);
+			layer.writeTo(out);
+		}
+
+	}
+
+	/**
+	 * Vector tile layer being encoded
+	 */
+	private static class Layer {
+
+		/**
+		 * Layer name
+		 */
+		private final String name;
+
+		/**
+		 * Encoded features
+		 */
+		private final ProtobufWriter buffer = new ProtobufWriter();
+
+		/**
+		 * Number of features
+		 */
+		private int features = 0;
+
+		/**
+		 * Attribute keys
+		 */
+		private final List<String> keys = new ArrayList<>();
+
+		/**
+		 * Attribute key indices
+		 */
+		private final Map<String, Integer> keyIndices = new HashMap<>();
+
+		/**
+		 * Attribute values
+		 */
+		private final List<Object> values = new ArrayList<>();
+
+		/**
+		 * Attribute value indices
+		 */
+		private final Map<Object, Integer> valueIndices = new HashMap<>();
+
+		/**
+		 * Constructor
+		 * 
+		 * @param name
+		 *            layer name
+		 */
+		private Layer(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Clear the features and attributes
+		 */
+		private void reset() {
+			buffer.reset();
+			features = 0;
+			keys.clear();
+			keyIndices.clear();
+			values.clear();
+			valueIndices.clear();
+		}
+
+		/**
+		 * Get the index of the attribute key, adding when new
+		 * 
+		 * @param key
+		 *            key
+		 * @return key index
+		 */
+		private int key(String key) {
+			Integer index = keyIndices.get(key);
+			if (index == null) {
+				index = keys.size();
+				keys.add(key);
+				keyIndices.put(key, index);
+			}
+			return index;
+		}
+
+		/**
+		 * Get the index of the attribute value, adding when new
+		 * 
+		 * @param value
+		 *            string or double value
+		 * @return value index
+		 */
+		private int value(Object value) {
+			Integer index = valueIndices.get(value);
+			if (index == null) {
+				index = values.size();
+				values.add(value);
+				valueIndices.put(value, index);
+			}
+			return index;
+		}
+
+	}
+
+}
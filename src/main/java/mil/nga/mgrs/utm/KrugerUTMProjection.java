@@ -0,0 +1,430 @@
+package mil.nga.mgrs.utm;
+
+import mil.nga.grid.Hemisphere;
+
+/**
+ * Krüger n-series UTM projection, accurate to well under a millimeter within
+ * UTM zones. The series coefficients are computed once per ellipsoid to the
+ * sixth order in the third flattening, and the eastings, northings,
+ * longitudes, and latitudes are not rounded. See {@link UTM#KRUGER} for the
+ * WGS84 projection.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public final class KrugerUTMProjection implements UTMProjection {
+
+	/**
+	 * WGS84 semi-major axis in meters
+	 */
+	public static final double WGS84_SEMI_MAJOR_AXIS = 6378137.0;
+
+	/**
+	 * WGS84 flattening
+	 */
+	public static final double WGS84_FLATTENING = 1 / 298.257223563;
+
+	/**
+	 * UTM scale factor on the central meridian
+	 */
+	private static final double SCALE_FACTOR = 0.9996;
+
+	/**
+	 * False easting in meters
+	 */
+	private static final double FALSE_EASTING = 500000.0;
+
+	/**
+	 * Southern hemisphere false northing in meters
+	 */
+	private static final double FALSE_NORTHING = 10000000.0;
+
+	/**
+	 * Series order in the third flattening
+	 */
+	private static final int ORDER = 6;
+
+	/**
+	 * Maximum Newton iterations of the inverse conformal latitude
+	 */
+	private static final int MAX_ITERATIONS = 5;
+
+	/**
+	 * Inverse conformal latitude tangent convergence tolerance
+	 */
+	private static final double TOLERANCE = 1e-12;
+
+	/**
+	 * Semi-major axis in meters
+	 */
+	private final double semiMajorAxis;
+
+	/**
+	 * Flattening
+	 */
+	private final double flattening;
+
+	/**
+	 * First eccentricity
+	 */
+	private final double eccentricity;
+
+	/**
+	 * One minus the first eccentricity squared
+	 */
+	private final double eccentricityComplement;
+
+	/**
+	 * Scaled rectifying radius, the scale factor times the meridian arc
+	 * length of one radian of rectifying latitude
+	 */
+	private final double radius;
+
+	/**
+	 * Forward series coefficients, indexed from the first order
+	 */
+	private final double[] alpha = new double[ORDER + 1];
+
+	/**
+	 * Inverse series coefficients, indexed from the first order
+	 */
+	private final double[] beta = new double[ORDER + 1];
+
+	/**
+	 * Create a WGS84 projection
+	 * 
+	 * @return projection
+	 */
+	public static KrugerUTMProjection create() {
+		return create(WGS84_SEMI_MAJOR_AXIS, WGS84_FLATTENING);
+	}
+
+	/**
+	 * Create a projection of the ellipsoid
+	 * 
+	 * @param semiMajorAxis
+	 *            semi-major axis in meters
+	 * @param flattening
+	 *            flattening
+	 * @return projection
+	 */
+	public static KrugerUTMProjection create(double semiMajorAxis,
+			double flattening) {
+		return new KrugerUTMProjection(semiMajorAxis, flattening);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param semiMajorAxis
+	 *            semi-major axis in meters
+	 * @param flattening
+	 *            flattening
+	 */
+	private KrugerUTMProjection(double semiMajorAxis, double flattening) {
+
+		if (!(semiMajorAxis > 0) || Double.isInfinite(semiMajorAxis)) {
+			throw new IllegalArgumentException(
+					"Semi-major axis must be positive: " + semiMajorAxis);
+		}
+		if (!(flattening >= 0 && flattening < 0.1)) {
+			throw new IllegalArgumentException(
+					"Flattening must be at least 0 and less than 0.1: "
+							+ flattening);
+		}
+
+		this.semiMajorAxis = semiMajorAxis;
+		this.flattening = flattening;
+
+		double eccentricity2 = flattening * (2 - flattening);
+		eccentricity = Math.sqrt(eccentricity2);
+		eccentricityComplement = 1 - eccentricity2;
+
+		double n = flattening / (2 - flattening);
+		double n2 = n * n;
+		double n3 = n2 * n;
+		double n4 = n3 * n;
+		double n5 = n4 * n;
+		double n6 = n5 * n;
+
+		radius = SCALE_FACTOR * semiMajorAxis / (1 + n)
+				* (1 + n2 / 4 + n4 / 64 + n6 / 256);
+
+		alpha[1] = n / 2 - 2 * n2 / 3 + 5 * n3 / 16 + 41 * n4 / 180
+				- 127 * n5 / 288 + 7891 * n6 / 37800;
+		alpha[2] = 13 * n2 / 48 - 3 * n3 / 5 + 557 * n4 / 1440
+				+ 281 * n5 / 630 - 1983433 * n6 / 1935360;
+		alpha[3] = 61 * n3 / 240 - 103 * n4 / 140 + 15061 * n5 / 26880
+				+ 167603 * n6 / 181440;
+		alpha[4] = 49561 * n4 / 161280 - 179 * n5 / 168
+				+ 6601661 * n6 / 7257600;
+		alpha[5] = 34729 * n5 / 80640 - 3418889 * n6 / 1995840;
+		alpha[6] = 212378941 * n6 / 319334400;
+
+		beta[1] = n / 2 - 2 * n2 / 3 + 37 * n3 / 96 - n4 / 360
+				- 81 * n5 / 512 + 96199 * n6 / 604800;
+		beta[2] = n2 / 48 + n3 / 15 - 437 * n4 / 1440 + 46 * n5 / 105
+				- 1118711 * n6 / 3870720;
+		beta[3] = 17 * n3 / 480 - 37 * n4 / 840 - 209 * n5 / 4480
+				+ 5569 * n6 / 90720;
+		beta[4] = 4397 * n4 / 161280 - 11 * n5 / 504
+				- 830251 * n6 / 7257600;
+		beta[5] = 4583 * n5 / 161280 - 108847 * n6 / 3991680;
+		beta[6] = 20648693 * n6 / 638668800;
+	}
+
+	/**
+	 * Get the semi-major axis
+	 * 
+	 * @return semi-major axis in meters
+	 */
+	public double getSemiMajorAxis() {
+		return semiMajorAxis;
+	}
+
+	/**
+	 * Get the flattening
+	 * 
+	 * @return flattening
+	 */
+	public double getFlattening() {
+		return flattening;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forward(double longitude, double latitude, int zone,
+			Hemisphere hemisphere, double[] coordinate) {
+		project(longitude, latitude, zone, coordinate);
+		coordinate[0] = FALSE_EASTING + radius * coordinate[0];
+		coordinate[1] = northing(radius * coordinate[1], hemisphere);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double easting(double longitude, double latitude, int zone) {
+		double[] coordinate = new double[2];
+		project(longitude, latitude, zone, coordinate);
+		return FALSE_EASTING + radius * coordinate[0];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double northing(double longitude, double latitude, int zone,
+			Hemisphere hemisphere) {
+		double[] coordinate = new double[2];
+		project(longitude, latitude, zone, coordinate);
+		return northing(radius * coordinate[1], hemisphere);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void inverse(int zone, Hemisphere hemisphere, double easting,
+			double northing, double[] coordinate) {
+
+		double north = northing;
+		if (hemisphere == Hemisphere.SOUTH) {
+			north -= FALSE_NORTHING;
+		}
+
+		double xi = north / radius;
+		double eta = (easting - FALSE_EASTING) / radius;
+
+		// Remove the series from the rectifying coordinates to get the
+		// spherical transverse Mercator coordinates
+		series(xi, eta, beta, coordinate);
+		double xiPrime = xi - coordinate[0];
+		double etaPrime = eta - coordinate[1];
+
+		double sinhEta = Math.sinh(etaPrime);
+		double cosXi = Math.cos(xiPrime);
+		double tauPrime = Math.sin(xiPrime)
+				/ Math.sqrt(sinhEta * sinhEta + cosXi * cosXi);
+		double lambda = Math.atan2(sinhEta, cosXi);
+
+		// Newton's method for the geodetic latitude tangent from the
+		// conformal latitude tangent
+		double tau = tauPrime;
+		for (int i = 0; i < MAX_ITERATIONS; i++) {
+			double tauSecant = Math.sqrt(1 + tau * tau);
+			double conformal = conformal(tau);
+			double delta = (tauPrime - conformal)
+					/ Math.sqrt(1 + conformal * conformal)
+					* (1 + eccentricityComplement * tau * tau)
+					/ (eccentricityComplement * tauSecant);
+			tau += delta;
+			if (!(Math.abs(delta) >= TOLERANCE
+					* Math.max(1, Math.abs(tau)))) {
+				break;
+			}
+		}
+
+		coordinate[0] = Math.toDegrees(lambda) + zone * 6 - 183;
+		coordinate[1] = Math.toDegrees(Math.atan(tau));
+	}
+
+	/**
+	 * Project the coordinate to the unscaled rectifying transverse Mercator
+	 * coordinates, without false easting or northing
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @param zone
+	 *            zone number
+	 * @param coordinate
+	 *            eta (easting) and xi (northing) output
+	 */
+	private void project(double longitude, double latitude, int zone,
+			double[] coordinate) {
+
+		double lambda = Math.toRadians(longitude - (zone * 6 - 183));
+		double phi = Math.toRadians(latitude);
+
+		// Conformal latitude tangent
+		double tauPrime = conformal(Math.tan(phi));
+
+		// Spherical transverse Mercator coordinates
+		double cosLambda = Math.cos(lambda);
+		double xiPrime = Math.atan2(tauPrime, cosLambda);
+		double etaPrime = asinh(Math.sin(lambda)
+				/ Math.sqrt(tauPrime * tauPrime + cosLambda * cosLambda));
+
+		series(xiPrime, etaPrime, alpha, coordinate);
+		double xi = xiPrime + coordinate[0];
+		double eta = etaPrime + coordinate[1];
+
+		coordinate[0] = eta;
+		coordinate[1] = xi;
+	}
+
+	/**
+	 * Get the conformal latitude tangent of the geodetic latitude tangent
+	 * 
+	 * @param tau
+	 *            geodetic latitude tangent
+	 * @return conformal latitude tangent
+	 */
+	private double conformal(double tau) {
+		double tauSecant = Math.sqrt(1 + tau * tau);
+		double sigma = Math.sinh(
+				eccentricity * atanh(eccentricity * tau / tauSecant));
+		return tau * Math.sqrt(1 + sigma * sigma) - sigma * tauSecant;
+	}
+
+	/**
+	 * Sum the Krüger series of the coordinate. The multiple angle sines,
+	 * cosines, and hyperbolic sines and cosines are evaluated by recurrence
+	 * from a single evaluation of each double angle function.
+	 * 
+	 * @param xi
+	 *            northing coordinate
+	 * @param eta
+	 *            easting coordinate
+	 * @param coefficients
+	 *            series coefficients, indexed from the first order
+	 * @param sums
+	 *            xi and eta series sums output
+	 */
+	private static void series(double xi, double eta, double[] coefficients,
+			double[] sums) {
+
+		double sin = Math.sin(2 * xi);
+		double cos = Math.cos(2 * xi);
+		double sinh = Math.sinh(2 * eta);
+		double cosh = Math.cosh(2 * eta);
+
+		double sinPrevious = 0;
+		double cosPrevious = 1;
+		double sinhPrevious = 0;
+		double coshPrevious = 1;
+		double sinCurrent = sin;
+		double cosCurrent = cos;
+		double sinhCurrent = sinh;
+		double coshCurrent = cosh;
+
+		double xiSum = 0;
+		double etaSum = 0;
+		for (int j = 1; j <= ORDER; j++) {
+
+			xiSum += coefficients[j] * sinCurrent * coshCurrent;
+			etaSum += coefficients[j] * cosCurrent * sinhCurrent;
+
+			double sinNext = 2 * cos * sinCurrent - sinPrevious;
+			double cosNext = 2 * cos * cosCurrent - cosPrevious;
+			double sinhNext = 2 * cosh * sinhCurrent - sinhPrevious;
+			double coshNext = 2 * cosh * coshCurrent - coshPrevious;
+			sinPrevious = sinCurrent;
+			cosPrevious = cosCurrent;
+			sinhPrevious = sinhCurrent;
+			coshPrevious = coshCurrent;
+			sinCurrent = sinNext;
+			cosCurrent = cosNext;
+			sinhCurrent = sinhNext;
+			coshCurrent = coshNext;
+		}
+
+		sums[0] = xiSum;
+		sums[1] = etaSum;
+	}
+
+	/**
+	 * Apply the hemisphere false northing
+	 * 
+	 * @param northing
+	 *            northing without false northing
+	 * @param hemisphere
+	 *            hemisphere
+	 * @return northing
+	 */
+	private static double northing(double northing, Hemisphere hemisphere) {
+		if (hemisphere == Hemisphere.SOUTH) {
+			northing += FALSE_NORTHING;
+		}
+		return northing;
+	}
+
+	/**
+	 * Inverse hyperbolic sine
+	 * 
+	 * @param x
+	 *            value
+	 * @return inverse hyperbolic sine
+	 */
+	private static double asinh(double x) {
+		double y = Math.abs(x);
+		y = Math.log1p(y + y * y / (1 + Math.sqrt(1 + y * y)));
+		return x < 0 ? -y : y;
+	}
+
+	/**
+	 * Inverse hyperbolic tangent
+	 * 
+	 * @param x
+	 *            value
+	 * @return inverse hyperbolic tangent
+	 */
+	private static double atanh(double x) {
+		double y = Math.abs(x);
+		y = Math.log1p(2 * y / (1 - y)) / 2;
+		return x < 0 ? -y : y;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "Kruger";
+	}
+
+}
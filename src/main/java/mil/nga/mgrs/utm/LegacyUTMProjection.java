@@ -0,0 +1,181 @@
+package mil.nga.mgrs.utm;
+
+import mil.nga.grid.Hemisphere;
+
+/**
+ * Legacy closed form UTM projection, rounding eastings and northings to
+ * centimeters and longitudes and latitudes to 7 decimal places. The default
+ * projection, see {@link UTM#LEGACY}.
+ * 
+ * @author wnewman
+ * @author osbornb
+ * @since 2.1.3
+ */
+public final class LegacyUTMProjection implements UTMProjection {
+
+	/**
+	 * UTM scale factor on the central meridian
+	 */
+	private static final double SCALE_FACTOR = 0.9996;
+
+	/**
+	 * Polar radius of curvature in meters
+	 */
+	private static final double POLAR_RADIUS = 6399593.625;
+
+	/**
+	 * Scaled polar radius of curvature in meters
+	 */
+	private static final double SCALED_POLAR_RADIUS = SCALE_FACTOR
+			* POLAR_RADIUS;
+
+	/**
+	 * Mean meridian radius in meters
+	 */
+	private static final double MERIDIAN_RADIUS = 6366197.724;
+
+	/**
+	 * Second eccentricity squared
+	 */
+	private static final double SECOND_ECCENTRICITY_SQUARED = 0.006739496742;
+
+	/**
+	 * Meridian arc series first coefficient
+	 */
+	private static final double ALPHA = SECOND_ECCENTRICITY_SQUARED * 3 / 4;
+
+	/**
+	 * Meridian arc series second coefficient
+	 */
+	private static final double BETA = Math.pow(ALPHA, 2) * 5 / 3;
+
+	/**
+	 * Meridian arc series third coefficient
+	 */
+	private static final double GAMMA = Math.pow(ALPHA, 3) * 35 / 27;
+
+	/**
+	 * Constructor, see {@link UTM#LEGACY}
+	 */
+	LegacyUTMProjection() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forward(double longitude, double latitude, int zone,
+			Hemisphere hemisphere, double[] coordinate) {
+		coordinate[0] = easting(longitude, latitude, zone);
+		coordinate[1] = northing(longitude, latitude, zone, hemisphere);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double easting(double longitude, double latitude, int zone) {
+
+		// @formatter:off
+        double easting = 0.5 * Math.log((1+Math.cos(latitude*Math.PI/180)*Math.sin(longitude*Math.PI/180-(6*zone-183)*Math.PI/180))/(1-Math.cos(latitude*Math.PI/180)*Math.sin(longitude*Math.PI/180-(6*zone-183)*Math.PI/180)))*0.9996*6399593.62/Math.pow((1+Math.pow(0.0820944379, 2)*Math.pow(Math.cos(latitude*Math.PI/180), 2)), 0.5)*(1+ Math.pow(0.0820944379,2)/2*Math.pow((0.5*Math.log((1+Math.cos(latitude*Math.PI/180)*Math.sin(longitude*Math.PI/180-(6*zone-183)*Math.PI/180))/(1-Math.cos(latitude*Math.PI/180)*Math.sin(longitude*Math.PI/180-(6*zone-183)*Math.PI/180)))),2)*Math.pow(Math.cos(latitude*Math.PI/180),2)/3)+500000;
+		// @formatter:on
+		easting = Math.round(easting * 100) * 0.01;
+
+		return easting;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double northing(double longitude, double latitude, int zone,
+			Hemisphere hemisphere) {
+
+		// @formatter:off
+        double northing = (Math.atan(Math.tan(latitude*Math.PI/180)/Math.cos((longitude*Math.PI/180-(6*zone -183)*Math.PI/180)))-latitude*Math.PI/180)*0.9996*6399593.625/Math.sqrt(1+0.006739496742*Math.pow(Math.cos(latitude*Math.PI/180),2))*(1+0.006739496742/2*Math.pow(0.5*Math.log((1+Math.cos(latitude*Math.PI/180)*Math.sin((longitude*Math.PI/180-(6*zone -183)*Math.PI/180)))/(1-Math.cos(latitude*Math.PI/180)*Math.sin((longitude*Math.PI/180-(6*zone -183)*Math.PI/180)))),2)*Math.pow(Math.cos(latitude*Math.PI/180),2))+0.9996*6399593.625*(latitude*Math.PI/180-0.005054622556*(latitude*Math.PI/180+Math.sin(2*latitude*Math.PI/180)/2)+4.258201531e-05*(3*(latitude*Math.PI/180+Math.sin(2*latitude*Math.PI/180)/2)+Math.sin(2*latitude*Math.PI/180)*Math.pow(Math.cos(latitude*Math.PI/180),2))/4-1.674057895e-07*(5*(3*(latitude*Math.PI/180+Math.sin(2*latitude*Math.PI/180)/2)+Math.sin(2*latitude*Math.PI/180)*Math.pow(Math.cos(latitude*Math.PI/180),2))/4+Math.sin(2*latitude*Math.PI/180)*Math.pow(Math.cos(latitude*Math.PI/180),2)*Math.pow(Math.cos(latitude*Math.PI/180),2))/3);
+		// @formatter:on
+
+		if (hemisphere == Hemisphere.SOUTH) {
+			northing = northing + 10000000;
+		}
+
+		northing = Math.round(northing * 100) * 0.01;
+
+		return northing;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Each intermediate term is evaluated once, in the same operation order
+	 * as the original closed form expression so the results are unchanged.
+	 */
+	@Override
+	public void inverse(int zone, Hemisphere hemisphere, double easting,
+			double northing, double[] coordinate) {
+
+		double north = northing;
+		if (hemisphere == Hemisphere.SOUTH) {
+			// Remove 10,000,000 meter offset used for southern hemisphere
+			north -= 10000000.0;
+		}
+
+		// Footpoint latitude approximation and its trigonometric terms
+		double phi = north / MERIDIAN_RADIUS / SCALE_FACTOR;
+		double cosPhi = Math.cos(phi);
+		double cosPhi2 = Math.pow(cosPhi, 2);
+		double sin2Phi = Math.sin(2 * north / MERIDIAN_RADIUS / SCALE_FACTOR);
+
+		// Scaled radius of curvature and normalized easting
+		double nu = SCALED_POLAR_RADIUS
+				/ Math.sqrt(1 + SECOND_ECCENTRICITY_SQUARED * cosPhi2);
+		double deltaEasting = easting - 500000;
+		double a = deltaEasting / nu;
+		double b = SECOND_ECCENTRICITY_SQUARED * Math.pow(a, 2) / 2 * cosPhi2;
+		double xi = 1 - b / 3;
+		double sinhXi = (Math.exp(a * xi) - Math.exp(-deltaEasting / nu * xi))
+				/ 2;
+
+		// Meridian arc series
+		double j2 = phi + sin2Phi / 2;
+		double j4 = 3 * j2 + sin2Phi * cosPhi2;
+		double j6 = 5 * j4 / 4 + sin2Phi * cosPhi2 * cosPhi2;
+		double arc = phi - ALPHA * j2 + BETA * j4 / 4 - GAMMA * j6 / 3;
+		double eta = (north - SCALED_POLAR_RADIUS * arc) / nu * (1 - b) + phi;
+
+		double deltaLambda = Math.atan(sinhXi / Math.cos(eta));
+		double tau = Math.atan(Math.cos(deltaLambda) * Math.tan(eta));
+		double deltaTau = tau - phi;
+
+		double longitude = deltaLambda * 180 / Math.PI + zone * 6 - 183;
+		double latitude = (phi + (1 + SECOND_ECCENTRICITY_SQUARED * cosPhi2
+				- SECOND_ECCENTRICITY_SQUARED * Math.sin(phi) * cosPhi * deltaTau
+						* 3 / 2)
+				* deltaTau) * 180 / Math.PI;
+
+		coordinate[0] = round(longitude);
+		coordinate[1] = round(latitude);
+	}
+
+	/**
+	 * Round the degrees value to 7 decimal places
+	 * 
+	 * @param degrees
+	 *            degrees value
+	 * @return rounded value
+	 */
+	private static double round(double degrees) {
+		double value = Math.round(degrees * 10000000);
+		value = value / 10000000;
+		return value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "Legacy";
+	}
+
+}
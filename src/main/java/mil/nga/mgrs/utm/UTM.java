@@ -1,13 +1,13 @@
 package mil.nga.mgrs.utm;
 
+import java.nio.ByteBuffer;
 import java.text.DecimalFormat;
 import java.text.ParseException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import mil.nga.grid.GridConstants;
 import mil.nga.grid.Hemisphere;
 import mil.nga.grid.features.Point;
+import mil.nga.mgrs.AsciiCharSequence;
 import mil.nga.mgrs.MGRS;
 import mil.nga.mgrs.gzd.GridZones;
 
@@ -40,11 +40,100 @@ public class UTM {
 	private final double northing;
 
 	/**
-	 * UTM string pattern
+	 * Encoded values index of the zone number
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int ENCODED_ZONE = 0;
+
+	/**
+	 * Encoded values index of the hemisphere, {@link #ENCODED_NORTH} or
+	 * {@link #ENCODED_SOUTH}
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int ENCODED_HEMISPHERE = 1;
+
+	/**
+	 * Encoded values index of the easting
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int ENCODED_EASTING = 2;
+
+	/**
+	 * Encoded values index of the northing
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int ENCODED_NORTHING = 3;
+
+	/**
+	 * Encoded values length
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final int ENCODED_LENGTH = 4;
+
+	/**
+	 * Encoded northern hemisphere value
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final double ENCODED_NORTH = 0;
+
+	/**
+	 * Encoded southern hemisphere value
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final double ENCODED_SOUTH = 1;
+
+	/**
+	 * Legacy closed form projection, rounding eastings and northings to
+	 * centimeters and longitudes and latitudes to 7 decimal places
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final UTMProjection LEGACY = new LegacyUTMProjection();
+
+	/**
+	 * WGS84 Krüger n-series projection, accurate to well under a millimeter
+	 * and unrounded
+	 * 
+	 * @since 2.1.3
+	 */
+	public static final UTMProjection KRUGER = KrugerUTMProjection.create();
+
+	/**
+	 * Global default projection
 	 */
-	private static final Pattern utmPattern = Pattern.compile(
-			"^(\\d{1,2})\\s*([N|S])\\s*(\\d+\\.?\\d*)\\s*(\\d+\\.?\\d*)$",
-			Pattern.CASE_INSENSITIVE);
+	private static volatile UTMProjection projection = LEGACY;
+
+	/**
+	 * Get the global default projection, {@link #LEGACY} unless changed
+	 * 
+	 * @return projection
+	 * @since 2.1.3
+	 */
+	public static UTMProjection getProjection() {
+		return projection;
+	}
+
+	/**
+	 * Set the global default projection used by conversions without a
+	 * projection, including MGRS conversions and grids
+	 * 
+	 * @param projection
+	 *            projection, such as {@link #LEGACY} or {@link #KRUGER}
+	 * @since 2.1.3
+	 */
+	public static void setProjection(UTMProjection projection) {
+		if (projection == null) {
+			throw new IllegalArgumentException("Projection is required");
+		}
+		UTM.projection = projection;
+	}
 
 	/**
 	 * Create
@@ -64,6 +153,24 @@ public class UTM {
 		return new UTM(zone, hemisphere, easting, northing);
 	}
 
+	/**
+	 * Create from encoded values
+	 * 
+	 * @param values
+	 *            encoded values at the {@link #ENCODED_ZONE},
+	 *            {@link #ENCODED_HEMISPHERE}, {@link #ENCODED_EASTING}, and
+	 *            {@link #ENCODED_NORTHING} indices
+	 * @return UTM
+	 * @since 2.1.3
+	 */
+	public static UTM create(double[] values) {
+		Hemisphere hemisphere = values[ENCODED_HEMISPHERE] == ENCODED_SOUTH
+				? Hemisphere.SOUTH
+				: Hemisphere.NORTH;
+		return create((int) values[ENCODED_ZONE], hemisphere,
+				values[ENCODED_EASTING], values[ENCODED_NORTHING]);
+	}
+
 	/**
 	 * Create a point from the UTM attributes
 	 * 
@@ -79,7 +186,30 @@ public class UTM {
 	 */
 	public static Point point(int zone, Hemisphere hemisphere, double easting,
 			double northing) {
-		return create(zone, hemisphere, easting, northing).toPoint();
+		return point(zone, hemisphere, easting, northing, projection);
+	}
+
+	/**
+	 * Create a point from the UTM attributes with the projection
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param hemisphere
+	 *            hemisphere
+	 * @param easting
+	 *            easting
+	 * @param northing
+	 *            northing
+	 * @param projection
+	 *            projection
+	 * @return point
+	 * @since 2.1.3
+	 */
+	public static Point point(int zone, Hemisphere hemisphere, double easting,
+			double northing, UTMProjection projection) {
+		double[] coordinate = new double[2];
+		projection.inverse(zone, hemisphere, easting, northing, coordinate);
+		return Point.degrees(coordinate[0], coordinate[1]);
 	}
 
 	/**
@@ -144,26 +274,183 @@ public class UTM {
 	 * @return point
 	 */
 	public Point toPoint() {
+		return toPoint(projection);
+	}
 
-		double north = northing;
-		if (hemisphere == Hemisphere.SOUTH) {
-			// Remove 10,000,000 meter offset used for southern hemisphere
-			north -= 10000000.0;
-		}
+	/**
+	 * Convert to a point with the projection
+	 * 
+	 * @param projection
+	 *            projection
+	 * @return point
+	 * @since 2.1.3
+	 */
+	public Point toPoint(UTMProjection projection) {
+		return point(zone, hemisphere, easting, northing, projection);
+	}
+
+	/**
+	 * Get the longitude of the UTM attributes
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param hemisphere
+	 *            hemisphere
+	 * @param easting
+	 *            easting
+	 * @param northing
+	 *            northing
+	 * @return longitude in degrees
+	 * @since 2.1.3
+	 */
+	public static double longitude(int zone, Hemisphere hemisphere,
+			double easting, double northing) {
+		double[] coordinate = new double[2];
+		projection.inverse(zone, hemisphere, easting, northing, coordinate);
+		return coordinate[0];
+	}
+
+	/**
+	 * Get the latitude of the UTM attributes
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param hemisphere
+	 *            hemisphere
+	 * @param easting
+	 *            easting
+	 * @param northing
+	 *            northing
+	 * @return latitude in degrees
+	 * @since 2.1.3
+	 */
+	public static double latitude(int zone, Hemisphere hemisphere,
+			double easting, double northing) {
+		double[] coordinate = new double[2];
+		projection.inverse(zone, hemisphere, easting, northing, coordinate);
+		return coordinate[1];
+	}
 
-		// @formatter:off
-		double latitude = (north/6366197.724/0.9996+(1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)-0.006739496742*Math.sin(north/6366197.724/0.9996)*Math.cos(north/6366197.724/0.9996)*(Math.atan(Math.cos(Math.atan(( Math.exp((easting - 500000) / (0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting - 500000) / (0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2)/3))-Math.exp(-(easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*( 1 -  0.006739496742*Math.pow((easting - 500000) / (0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2)/3)))/2/Math.cos((north-0.9996*6399593.625*(north/6366197.724/0.9996-0.006739496742*3/4*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.pow(0.006739496742*3/4,2)*5/3*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996 )/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4-Math.pow(0.006739496742*3/4,3)*35/27*(5*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/3))/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2))+north/6366197.724/0.9996)))*Math.tan((north-0.9996*6399593.625*(north/6366197.724/0.9996 - 0.006739496742*3/4*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.pow(0.006739496742*3/4,2)*5/3*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996 )*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4-Math.pow(0.006739496742*3/4,3)*35/27*(5*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/3))/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2))+north/6366197.724/0.9996))-north/6366197.724/0.9996)*3/2)*(Math.atan(Math.cos(Math.atan((Math.exp((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2)/3))-Math.exp(-(easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2)/3)))/2/Math.cos((north-0.9996*6399593.625*(north/6366197.724/0.9996-0.006739496742*3/4*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.pow(0.006739496742*3/4,2)*5/3*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4-Math.pow(0.006739496742*3/4,3)*35/27*(5*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/3))/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2))+north/6366197.724/0.9996)))*Math.tan((north-0.9996*6399593.625*(north/6366197.724/0.9996-0.006739496742*3/4*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.pow(0.006739496742*3/4,2)*5/3*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4-Math.pow(0.006739496742*3/4,3)*35/27*(5*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/3))/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2))+north/6366197.724/0.9996))-north/6366197.724/0.9996))*180/Math.PI;
-		// @formatter:on
-		latitude = Math.round(latitude * 10000000);
-		latitude = latitude / 10000000;
+	/**
+	 * Convert the UTM coordinates to longitudes and latitudes in degrees
+	 * 
+	 * @param zones
+	 *            zone numbers
+	 * @param hemispheres
+	 *            hemispheres
+	 * @param eastings
+	 *            eastings
+	 * @param northings
+	 *            northings
+	 * @param longitudes
+	 *            longitudes in degrees output
+	 * @param latitudes
+	 *            latitudes in degrees output
+	 * @since 2.1.3
+	 */
+	public static void toPoints(int[] zones, Hemisphere[] hemispheres,
+			double[] eastings, double[] northings, double[] longitudes,
+			double[] latitudes) {
+		toPoints(zones, hemispheres, eastings, northings, longitudes,
+				latitudes, 0, zones.length);
+	}
+
+	/**
+	 * Convert the UTM coordinates within the range to longitudes and latitudes
+	 * in degrees
+	 * 
+	 * @param zones
+	 *            zone numbers
+	 * @param hemispheres
+	 *            hemispheres
+	 * @param eastings
+	 *            eastings
+	 * @param northings
+	 *            northings
+	 * @param longitudes
+	 *            longitudes in degrees output
+	 * @param latitudes
+	 *            latitudes in degrees output
+	 * @param offset
+	 *            array offset of the first coordinate
+	 * @param length
+	 *            number of coordinates
+	 * @since 2.1.3
+	 */
+	public static void toPoints(int[] zones, Hemisphere[] hemispheres,
+			double[] eastings, double[] northings, double[] longitudes,
+			double[] latitudes, int offset, int length) {
+		toPoints(zones, hemispheres, eastings, northings, longitudes,
+				latitudes, offset, length, projection);
+	}
 
-		// @formatter:off
-		double longitude = Math.atan((Math.exp((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2)/3))-Math.exp(-(easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2)/3)))/2/Math.cos((north-0.9996*6399593.625*( north/6366197.724/0.9996-0.006739496742*3/4*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.pow(0.006739496742*3/4,2)*5/3*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2* north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4-Math.pow(0.006739496742*3/4,3)*35/27*(5*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/3)) / (0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2))+north/6366197.724/0.9996))*180/Math.PI+zone*6-183;
-		// @formatter:on
-		longitude = Math.round(longitude * 10000000);
-		longitude = longitude / 10000000;
+	/**
+	 * Convert the UTM coordinates within the range to longitudes and latitudes
+	 * in degrees with the projection
+	 * 
+	 * @param zones
+	 *            zone numbers
+	 * @param hemispheres
+	 *            hemispheres
+	 * @param eastings
+	 *            eastings
+	 * @param northings
+	 *            northings
+	 * @param longitudes
+	 *            longitudes in degrees output
+	 * @param latitudes
+	 *            latitudes in degrees output
+	 * @param offset
+	 *            array offset of the first coordinate
+	 * @param length
+	 *            number of coordinates
+	 * @param projection
+	 *            projection
+	 * @since 2.1.3
+	 */
+	public static void toPoints(int[] zones, Hemisphere[] hemispheres,
+			double[] eastings, double[] northings, double[] longitudes,
+			double[] latitudes, int offset, int length,
+			UTMProjection projection) {
+		double[] coordinate = new double[2];
+		int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			projection.inverse(zones[i], hemispheres[i], eastings[i],
+					northings[i], coordinate);
+			longitudes[i] = coordinate[0];
+			latitudes[i] = coordinate[1];
+		}
+	}
 
-		return Point.degrees(longitude, latitude);
+	/**
+	 * Convert the UTM coordinates along a single easting to longitudes and
+	 * latitudes in degrees, such as a column of grid line intersections
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param hemisphere
+	 *            hemisphere
+	 * @param easting
+	 *            easting
+	 * @param northings
+	 *            northings
+	 * @param longitudes
+	 *            longitudes in degrees output
+	 * @param latitudes
+	 *            latitudes in degrees output
+	 * @since 2.1.3
+	 */
+	public static void toPoints(int zone, Hemisphere hemisphere,
+			double easting, double[] northings, double[] longitudes,
+			double[] latitudes) {
+		UTMProjection projection = UTM.projection;
+		double[] coordinate = new double[2];
+		for (int i = 0; i < northings.length; i++) {
+			projection.inverse(zone, hemisphere, easting, northings[i],
+					coordinate);
+			longitudes[i] = coordinate[0];
+			latitudes[i] = coordinate[1];
+		}
 	}
 
 	/**
@@ -214,7 +501,7 @@ public class UTM {
 	 * @return true if UTM string is valid, false otherwise
 	 */
 	public static boolean isUTM(String utm) {
-		return utmPattern.matcher(utm).matches();
+		return UTMParser.scan(utm, new double[ENCODED_LENGTH]);
 	}
 
 	/**
@@ -227,18 +514,72 @@ public class UTM {
 	 *             upon failure to parse UTM value
 	 */
 	public static UTM parse(String utm) throws ParseException {
-		Matcher matcher = utmPattern.matcher(utm);
-		if (!matcher.matches()) {
+		double[] values = new double[ENCODED_LENGTH];
+		if (!UTMParser.scan(utm, values)) {
 			throw new ParseException("Invalid UTM: " + utm, 0);
 		}
 
-		int zone = Integer.parseInt(matcher.group(1));
-		Hemisphere hemisphere = matcher.group(2).equalsIgnoreCase(
-				GridConstants.NORTH_CHAR) ? Hemisphere.NORTH : Hemisphere.SOUTH;
-		double easting = Double.parseDouble(matcher.group(3));
-		double northing = Double.parseDouble(matcher.group(4));
+		return create(values);
+	}
+
+	/**
+	 * Parse a UTM value (Zone N|S Easting Northing) into values without
+	 * creating intermediate objects. The values are written to the array at
+	 * the {@link #ENCODED_ZONE}, {@link #ENCODED_HEMISPHERE},
+	 * {@link #ENCODED_EASTING}, and {@link #ENCODED_NORTHING} indices.
+	 * 
+	 * @param utm
+	 *            UTM value
+	 * @param values
+	 *            encoded values output, of at least {@link #ENCODED_LENGTH}
+	 * @return true if parsed, false if not a UTM value
+	 * @since 2.1.3
+	 */
+	public static boolean parse(CharSequence utm, double[] values) {
+		return UTMParser.scan(utm, values);
+	}
+
+	/**
+	 * Parse a UTM value of ASCII bytes into values without creating a string,
+	 * see {@link #parse(CharSequence, double[])}
+	 * 
+	 * @param bytes
+	 *            bytes
+	 * @param offset
+	 *            offset of the first UTM byte
+	 * @param length
+	 *            number of UTM bytes
+	 * @param values
+	 *            encoded values output, of at least {@link #ENCODED_LENGTH}
+	 * @return true if parsed, false if not a UTM value
+	 * @since 2.1.3
+	 */
+	public static boolean parse(byte[] bytes, int offset, int length,
+			double[] values) {
+		return UTMParser.scan(new AsciiCharSequence(bytes, offset, length),
+				values);
+	}
 
-		return UTM.create(zone, hemisphere, easting, northing);
+	/**
+	 * Parse a UTM value of ASCII bytes into values without creating a string
+	 * or changing the buffer position, see
+	 * {@link #parse(CharSequence, double[])}
+	 * 
+	 * @param buffer
+	 *            byte buffer
+	 * @param offset
+	 *            absolute buffer index of the first UTM byte
+	 * @param length
+	 *            number of UTM bytes
+	 * @param values
+	 *            encoded values output, of at least {@link #ENCODED_LENGTH}
+	 * @return true if parsed, false if not a UTM value
+	 * @since 2.1.3
+	 */
+	public static boolean parse(ByteBuffer buffer, int offset, int length,
+			double[] values) {
+		return UTMParser.scan(new AsciiCharSequence(buffer, offset, length),
+				values);
 	}
 
 	/**
@@ -252,6 +593,21 @@ public class UTM {
 		return from(point, GridZones.getZoneNumber(point));
 	}
 
+	/**
+	 * Create from a point with the projection
+	 * 
+	 * @param point
+	 *            point
+	 * @param projection
+	 *            projection
+	 * @return UTM
+	 * @since 2.1.3
+	 */
+	public static UTM from(Point point, UTMProjection projection) {
+		return from(point, GridZones.getZoneNumber(point),
+				Hemisphere.from(point), projection);
+	}
+
 	/**
 	 * Create from a point and zone number
 	 * 
@@ -277,28 +633,169 @@ public class UTM {
 	 * @return UTM
 	 */
 	public static UTM from(Point point, int zone, Hemisphere hemisphere) {
+		return from(point, zone, hemisphere, projection);
+	}
+
+	/**
+	 * Create from a coordinate, zone number, and hemisphere with the
+	 * projection
+	 * 
+	 * @param point
+	 *            coordinate
+	 * @param zone
+	 *            zone number
+	 * @param hemisphere
+	 *            hemisphere
+	 * @param projection
+	 *            projection
+	 * @return UTM
+	 * @since 2.1.3
+	 */
+	public static UTM from(Point point, int zone, Hemisphere hemisphere,
+			UTMProjection projection) {
 
 		point = point.toDegrees();
 
-		double latitude = point.getLatitude();
-		double longitude = point.getLongitude();
+		double[] coordinate = new double[2];
+		projection.forward(point.getLongitude(), point.getLatitude(), zone,
+				hemisphere, coordinate);
 
-		// @formatter:off
-        double easting = 0.5 * Math.log((1+Math.cos(latitude*Math.PI/180)*Math.sin(longitude*Math.PI/180-(6*zone-183)*Math.PI/180))/(1-Math.cos(latitude*Math.PI/180)*Math.sin(longitude*Math.PI/180-(6*zone-183)*Math.PI/180)))*0.9996*6399593.62/Math.pow((1+Math.pow(0.0820944379, 2)*Math.pow(Math.cos(latitude*Math.PI/180), 2)), 0.5)*(1+ Math.pow(0.0820944379,2)/2*Math.pow((0.5*Math.log((1+Math.cos(latitude*Math.PI/180)*Math.sin(longitude*Math.PI/180-(6*zone-183)*Math.PI/180))/(1-Math.cos(latitude*Math.PI/180)*Math.sin(longitude*Math.PI/180-(6*zone-183)*Math.PI/180)))),2)*Math.pow(Math.cos(latitude*Math.PI/180),2)/3)+500000;
-		// @formatter:on
-		easting = Math.round(easting * 100) * 0.01;
+		return UTM.create(zone, hemisphere, coordinate[0], coordinate[1]);
+	}
 
-		// @formatter:off
-        double northing = (Math.atan(Math.tan(latitude*Math.PI/180)/Math.cos((longitude*Math.PI/180-(6*zone -183)*Math.PI/180)))-latitude*Math.PI/180)*0.9996*6399593.625/Math.sqrt(1+0.006739496742*Math.pow(Math.cos(latitude*Math.PI/180),2))*(1+0.006739496742/2*Math.pow(0.5*Math.log((1+Math.cos(latitude*Math.PI/180)*Math.sin((longitude*Math.PI/180-(6*zone -183)*Math.PI/180)))/(1-Math.cos(latitude*Math.PI/180)*Math.sin((longitude*Math.PI/180-(6*zone -183)*Math.PI/180)))),2)*Math.pow(Math.cos(latitude*Math.PI/180),2))+0.9996*6399593.625*(latitude*Math.PI/180-0.005054622556*(latitude*Math.PI/180+Math.sin(2*latitude*Math.PI/180)/2)+4.258201531e-05*(3*(latitude*Math.PI/180+Math.sin(2*latitude*Math.PI/180)/2)+Math.sin(2*latitude*Math.PI/180)*Math.pow(Math.cos(latitude*Math.PI/180),2))/4-1.674057895e-07*(5*(3*(latitude*Math.PI/180+Math.sin(2*latitude*Math.PI/180)/2)+Math.sin(2*latitude*Math.PI/180)*Math.pow(Math.cos(latitude*Math.PI/180),2))/4+Math.sin(2*latitude*Math.PI/180)*Math.pow(Math.cos(latitude*Math.PI/180),2)*Math.pow(Math.cos(latitude*Math.PI/180),2))/3);
-		// @formatter:on
+	/**
+	 * Convert the longitudes and latitudes in degrees to UTM coordinates
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param zones
+	 *            zone numbers output
+	 * @param hemispheres
+	 *            hemispheres output
+	 * @param eastings
+	 *            eastings output
+	 * @param northings
+	 *            northings output
+	 * @since 2.1.3
+	 */
+	public static void from(double[] longitudes, double[] latitudes,
+			int[] zones, Hemisphere[] hemispheres, double[] eastings,
+			double[] northings) {
+		from(longitudes, latitudes, zones, hemispheres, eastings, northings,
+				0, longitudes.length);
+	}
 
-		if (hemisphere == Hemisphere.SOUTH) {
-			northing = northing + 10000000;
+	/**
+	 * Convert the longitudes and latitudes in degrees within the range to UTM
+	 * coordinates
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param zones
+	 *            zone numbers output
+	 * @param hemispheres
+	 *            hemispheres output
+	 * @param eastings
+	 *            eastings output
+	 * @param northings
+	 *            northings output
+	 * @param offset
+	 *            array offset of the first coordinate
+	 * @param length
+	 *            number of coordinates
+	 * @since 2.1.3
+	 */
+	public static void from(double[] longitudes, double[] latitudes,
+			int[] zones, Hemisphere[] hemispheres, double[] eastings,
+			double[] northings, int offset, int length) {
+		from(longitudes, latitudes, zones, hemispheres, eastings, northings,
+				offset, length, projection);
+	}
+
+	/**
+	 * Convert the longitudes and latitudes in degrees within the range to UTM
+	 * coordinates with the projection
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param zones
+	 *            zone numbers output
+	 * @param hemispheres
+	 *            hemispheres output
+	 * @param eastings
+	 *            eastings output
+	 * @param northings
+	 *            northings output
+	 * @param offset
+	 *            array offset of the first coordinate
+	 * @param length
+	 *            number of coordinates
+	 * @param projection
+	 *            projection
+	 * @since 2.1.3
+	 */
+	public static void from(double[] longitudes, double[] latitudes,
+			int[] zones, Hemisphere[] hemispheres, double[] eastings,
+			double[] northings, int offset, int length,
+			UTMProjection projection) {
+		double[] coordinate = new double[2];
+		int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			double longitude = longitudes[i];
+			double latitude = latitudes[i];
+			int zone = GridZones.getZoneNumber(longitude, latitude);
+			Hemisphere hemisphere = Hemisphere.fromLatitude(latitude);
+			zones[i] = zone;
+			hemispheres[i] = hemisphere;
+			projection.forward(longitude, latitude, zone, hemisphere,
+					coordinate);
+			eastings[i] = coordinate[0];
+			northings[i] = coordinate[1];
 		}
+	}
 
-		northing = Math.round(northing * 100) * 0.01;
+	/**
+	 * Get the easting of the coordinate in the zone number with the global
+	 * default projection
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @param zone
+	 *            zone number
+	 * @return easting
+	 * @since 2.1.3
+	 */
+	public static double easting(double longitude, double latitude,
+			int zone) {
+		return projection.easting(longitude, latitude, zone);
+	}
 
-		return UTM.create(zone, hemisphere, easting, northing);
+	/**
+	 * Get the northing of the coordinate in the zone number and hemisphere
+	 * with the global default projection
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @param zone
+	 *            zone number
+	 * @param hemisphere
+	 *            hemisphere
+	 * @return northing
+	 * @since 2.1.3
+	 */
+	public static double northing(double longitude, double latitude, int zone,
+			Hemisphere hemisphere) {
+		return projection.northing(longitude, latitude, zone, hemisphere);
 	}
 
 }
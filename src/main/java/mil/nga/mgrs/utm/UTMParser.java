@@ -0,0 +1,284 @@
+package mil.nga.mgrs.utm;
+
+/**
+ * Single pass UTM string scanner. Accepts the same values as the UTM string
+ * pattern: a one or two digit zone number, optional whitespace, a case
+ * insensitive N or S hemisphere ('|' is accepted as south), and the easting
+ * and northing decimal values separated by optional whitespace.
+ *
+ * @author osbornb
+ * @since 2.1.3
+ */
+final class UTMParser {
+
+	/**
+	 * Maximum significant digits of an exactly representable decimal mantissa
+	 */
+	private static final int MAX_EXACT_DIGITS = 15;
+
+	/**
+	 * Exactly representable powers of ten
+	 */
+	private static final double[] powers = new double[] { 1e0, 1e1, 1e2,
+			1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14,
+			1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/**
+	 * Hidden constructor
+	 */
+	private UTMParser() {
+
+	}
+
+	/**
+	 * Scan the UTM string into the encoded values at the
+	 * {@link UTM#ENCODED_ZONE}, {@link UTM#ENCODED_HEMISPHERE},
+	 * {@link UTM#ENCODED_EASTING}, and {@link UTM#ENCODED_NORTHING} indices
+	 *
+	 * @param value
+	 *            UTM string
+	 * @param values
+	 *            encoded values output
+	 * @return true if a UTM string
+	 */
+	static boolean scan(CharSequence value, double[] values) {
+
+		int length = value.length();
+
+		// Zone number digits
+		int index = digits(value, 0, length);
+		if (index == 0 || index > 2) {
+			return false;
+		}
+		int zone = value.charAt(0) - '0';
+		if (index == 2) {
+			zone = zone * 10 + (value.charAt(1) - '0');
+		}
+
+		// Hemisphere
+		index = skipWhitespace(value, index, length);
+		if (index == length) {
+			return false;
+		}
+		double hemisphere;
+		switch (value.charAt(index)) {
+		case 'N':
+		case 'n':
+			hemisphere = UTM.ENCODED_NORTH;
+			break;
+		case 'S':
+		case 's':
+		case '|':
+			hemisphere = UTM.ENCODED_SOUTH;
+			break;
+		default:
+			return false;
+		}
+		index = skipWhitespace(value, index + 1, length);
+
+		// Easting and northing split
+		int eastingEnd = -1;
+		int northingStart = -1;
+		int whitespace = index;
+		while (whitespace < length
+				&& !isWhitespace(value.charAt(whitespace))) {
+			whitespace++;
+		}
+		if (whitespace < length) {
+			// Whitespace separated
+			if (isNumber(value, index, whitespace)) {
+				int start = skipWhitespace(value, whitespace, length);
+				if (isNumber(value, start, length)) {
+					eastingEnd = whitespace;
+					northingStart = start;
+				}
+			}
+		} else {
+			// Adjacent values, split in the regular expression backtracking
+			// order
+			eastingEnd = split(value, index, length);
+			northingStart = eastingEnd;
+		}
+		if (eastingEnd < 0) {
+			return false;
+		}
+
+		values[UTM.ENCODED_ZONE] = zone;
+		values[UTM.ENCODED_HEMISPHERE] = hemisphere;
+		values[UTM.ENCODED_EASTING] = parseDouble(value, index, eastingEnd);
+		values[UTM.ENCODED_NORTHING] = parseDouble(value, northingStart,
+				length);
+
+		return true;
+	}
+
+	/**
+	 * Split adjacent easting and northing values without whitespace, choosing
+	 * the longest easting in the regular expression backtracking order
+	 *
+	 * @param value
+	 *            value
+	 * @param start
+	 *            start index of the easting
+	 * @param end
+	 *            end index of the northing
+	 * @return end index of the easting, -1 if no split
+	 */
+	private static int split(CharSequence value, int start, int end) {
+		int leading = digits(value, start, end) - start;
+		for (int integer = leading; integer > 0; integer--) {
+			int index = start + integer;
+			if (index < end && value.charAt(index) == '.') {
+				int fraction = digits(value, index + 1, end) - index - 1;
+				for (int i = fraction; i >= 0; i--) {
+					int split = index + 1 + i;
+					if (isNumber(value, split, end)) {
+						return split;
+					}
+				}
+			}
+			int fraction = digits(value, index, end) - index;
+			for (int i = fraction; i >= 0; i--) {
+				int split = index + i;
+				if (isNumber(value, split, end)) {
+					return split;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Determine if the range is a decimal number of one or more digits, an
+	 * optional decimal point, and optional fraction digits
+	 *
+	 * @param value
+	 *            value
+	 * @param start
+	 *            start index
+	 * @param end
+	 *            end index
+	 * @return true if a number
+	 */
+	private static boolean isNumber(CharSequence value, int start, int end) {
+		int index = digits(value, start, end);
+		if (index == start) {
+			return false;
+		}
+		if (index < end && value.charAt(index) == '.') {
+			index = digits(value, index + 1, end);
+		}
+		return index == end;
+	}
+
+	/**
+	 * Parse the decimal number range, identical to
+	 * {@link Double#parseDouble(String)}. Mantissas of at most 15 significant
+	 * digits with at most 22 fraction digits are both exactly representable,
+	 * so their correctly rounded quotient is computed directly.
+	 *
+	 * @param value
+	 *            value
+	 * @param start
+	 *            start index
+	 * @param end
+	 *            end index
+	 * @return number
+	 */
+	private static double parseDouble(CharSequence value, int start,
+			int end) {
+		long mantissa = 0;
+		int significant = 0;
+		int fraction = -1;
+		for (int i = start; i < end; i++) {
+			char c = value.charAt(i);
+			if (c == '.') {
+				fraction = 0;
+				continue;
+			}
+			if (mantissa != 0 || c != '0') {
+				if (++significant > MAX_EXACT_DIGITS) {
+					return Double.parseDouble(
+							value.subSequence(start, end).toString());
+				}
+			}
+			mantissa = mantissa * 10 + (c - '0');
+			if (fraction >= 0) {
+				fraction++;
+			}
+		}
+		double number = mantissa;
+		if (fraction > 0) {
+			if (fraction >= powers.length) {
+				return Double.parseDouble(
+						value.subSequence(start, end).toString());
+			}
+			number /= powers[fraction];
+		}
+		return number;
+	}
+
+	/**
+	 * Get the index after the run of ASCII digits
+	 *
+	 * @param value
+	 *            value
+	 * @param index
+	 *            start index
+	 * @param end
+	 *            end index
+	 * @return index of the first non digit, or the end
+	 */
+	private static int digits(CharSequence value, int index, int end) {
+		while (index < end) {
+			char c = value.charAt(index);
+			if (c < '0' || c > '9') {
+				break;
+			}
+			index++;
+		}
+		return index;
+	}
+
+	/**
+	 * Skip whitespace characters
+	 *
+	 * @param value
+	 *            value
+	 * @param index
+	 *            start index
+	 * @param length
+	 *            value length
+	 * @return index of the next non whitespace character, or the length
+	 */
+	private static int skipWhitespace(CharSequence value, int index,
+			int length) {
+		while (index < length && isWhitespace(value.charAt(index))) {
+			index++;
+		}
+		return index;
+	}
+
+	/**
+	 * Determine if the character is whitespace, matching the regular
+	 * expression \s class
+	 *
+	 * @param c
+	 *            character
+	 * @return true if whitespace
+	 */
+	private static boolean isWhitespace(char c) {
+		switch (c) {
+		case ' ':
+		case '\t':
+		case '\n':
+		case '\u000B':
+		case '\f':
+		case '\r':
+			return true;
+		default:
+			return false;
+		}
+	}
+
+}
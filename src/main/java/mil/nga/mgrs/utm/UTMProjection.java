@@ -0,0 +1,80 @@
+package mil.nga.mgrs.utm;
+
+import mil.nga.grid.Hemisphere;
+
+/**
+ * UTM forward and inverse projection engine, trading accuracy for
+ * throughput. Select per call or globally with
+ * {@link UTM#setProjection(UTMProjection)}, see {@link UTM#LEGACY} and
+ * {@link UTM#KRUGER}. Implementations must be thread safe.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public interface UTMProjection {
+
+	/**
+	 * Project the coordinate in the zone number and hemisphere to an easting
+	 * and northing
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @param zone
+	 *            zone number
+	 * @param hemisphere
+	 *            hemisphere
+	 * @param coordinate
+	 *            easting and northing output
+	 */
+	void forward(double longitude, double latitude, int zone,
+			Hemisphere hemisphere, double[] coordinate);
+
+	/**
+	 * Get the easting of the coordinate in the zone number
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @param zone
+	 *            zone number
+	 * @return easting
+	 */
+	double easting(double longitude, double latitude, int zone);
+
+	/**
+	 * Get the northing of the coordinate in the zone number and hemisphere
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @param zone
+	 *            zone number
+	 * @param hemisphere
+	 *            hemisphere
+	 * @return northing
+	 */
+	double northing(double longitude, double latitude, int zone,
+			Hemisphere hemisphere);
+
+	/**
+	 * Inverse project the UTM attributes to a longitude and latitude
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param hemisphere
+	 *            hemisphere
+	 * @param easting
+	 *            easting
+	 * @param northing
+	 *            northing
+	 * @param coordinate
+	 *            longitude and latitude in degrees output
+	 */
+	void inverse(int zone, Hemisphere hemisphere, double easting,
+			double northing, double[] coordinate);
+
+}
@@ -0,0 +1,188 @@
+package mil.nga.mgrs;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.grid.GridType;
+
+/**
+ * MGRS Batch Test
+ * 
+ * @author osbornb
+ */
+public class MGRSBatchTest {
+
+	/**
+	 * Number of test coordinates
+	 */
+	private static final int COUNT = 20000;
+
+	/**
+	 * Test converting to columns on fork join, thread pool, and direct
+	 * executors
+	 */
+	@Test
+	public void testConvert() {
+
+		double[] longitudes = new double[COUNT];
+		double[] latitudes = new double[COUNT];
+		coordinates(longitudes, latitudes);
+
+		ExecutorService threadPool = Executors.newFixedThreadPool(3);
+		try {
+
+			for (GridType type : new GridType[] { GridType.METER,
+					GridType.KILOMETER, GridType.GZD }) {
+
+				MGRSColumns expected = MGRSBatch.convert(longitudes,
+						latitudes, type, Runnable::run);
+				assertEquals(COUNT, expected.size());
+				for (int i = 0; i < COUNT; i++) {
+					MGRS mgrs = MGRS.from(longitudes[i], latitudes[i]);
+					assertEquals(mgrs.coordinate(type),
+							expected.coordinate(i));
+					assertEquals(mgrs.getZone(), expected.getZone(i));
+					assertEquals(mgrs.getBand(), expected.getBand(i));
+				}
+
+				assertColumns(expected, MGRSBatch.convert(longitudes,
+						latitudes, type));
+				assertColumns(expected, MGRSBatch.convert(longitudes,
+						latitudes, type, new ForkJoinPool(4), 100));
+				assertColumns(expected, MGRSBatch.convert(longitudes,
+						latitudes, type, threadPool, 100));
+			}
+
+		} finally {
+			threadPool.shutdown();
+		}
+
+		assertEquals(0, MGRSBatch.convert(new double[0], new double[0],
+				GridType.METER).size());
+
+		try {
+			MGRSBatch.convert(new double[2], new double[1], GridType.METER);
+			fail("Expected mismatched lengths");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test converting to packed cells
+	 */
+	@Test
+	public void testCells() {
+
+		double[] longitudes = new double[COUNT];
+		double[] latitudes = new double[COUNT];
+		coordinates(longitudes, latitudes);
+
+		long[] expected = new long[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			expected[i] = MGRSCell.from(longitudes[i], latitudes[i],
+					GridType.TEN_METER);
+		}
+
+		assertArrayEquals(expected, MGRSBatch.cells(longitudes, latitudes,
+				GridType.TEN_METER));
+		assertArrayEquals(expected, MGRSBatch.cells(longitudes, latitudes,
+				GridType.TEN_METER, Runnable::run, 1000));
+		assertArrayEquals(expected, MGRSBatch.convert(longitudes, latitudes,
+				GridType.TEN_METER).toCells());
+
+		assertArrayEquals(expected, MGRSBatch.cells(longitudes, latitudes,
+				GridType.TEN_METER, true).toArray());
+		assertArrayEquals(expected, MGRSBatch.cells(longitudes, latitudes,
+				GridType.TEN_METER, false).toArray());
+
+	}
+
+	/**
+	 * Test collecting point streams into columns
+	 */
+	@Test
+	public void testCollector() {
+
+		double[] longitudes = new double[COUNT];
+		double[] latitudes = new double[COUNT];
+		coordinates(longitudes, latitudes);
+
+		MGRSColumns expected = MGRSBatch.convert(longitudes, latitudes,
+				GridType.HUNDRED_METER);
+
+		MGRSColumns collected = IntStream.range(0, COUNT).parallel()
+				.mapToObj((i) -> Point.degrees(longitudes[i], latitudes[i]))
+				.collect(MGRSBatch.toColumns(GridType.HUNDRED_METER));
+		assertColumns(expected, collected);
+
+		MGRSColumns added = new MGRSColumns(GridType.HUNDRED_METER, 0);
+		for (int i = 0; i < COUNT; i++) {
+			added.add(longitudes[i], latitudes[i]);
+		}
+		assertColumns(expected, added);
+
+	}
+
+	/**
+	 * Fill random coordinates, including grid zone edges and the Svalbard
+	 * and Norway special cases
+	 * 
+	 * @param longitudes
+	 *            longitudes
+	 * @param latitudes
+	 *            latitudes
+	 */
+	private static void coordinates(double[] longitudes,
+			double[] latitudes) {
+		Random random = new Random(23);
+		for (int i = 0; i < longitudes.length; i++) {
+			switch (i % 4) {
+			case 0:
+				longitudes[i] = random.nextInt(361) - 180;
+				latitudes[i] = random.nextInt(21) * 8 - 80;
+				break;
+			case 1:
+				longitudes[i] = random.nextDouble() * 45.0;
+				latitudes[i] = 56.0 + random.nextDouble() * 28.0;
+				break;
+			default:
+				longitudes[i] = random.nextDouble() * 360.0 - 180.0;
+				latitudes[i] = random.nextDouble() * 164.0 - 80.0;
+			}
+		}
+	}
+
+	/**
+	 * Assert the columns are equal
+	 * 
+	 * @param expected
+	 *            expected columns
+	 * @param actual
+	 *            actual columns
+	 */
+	private static void assertColumns(MGRSColumns expected,
+			MGRSColumns actual) {
+		assertEquals(expected.getType(), actual.getType());
+		assertEquals(expected.size(), actual.size());
+		long[] expectedValues = new long[MGRS.ENCODED_LENGTH];
+		long[] actualValues = new long[MGRS.ENCODED_LENGTH];
+		for (int i = 0; i < expected.size(); i++) {
+			expected.get(i, expectedValues);
+			actual.get(i, actualValues);
+			assertArrayEquals(expectedValues, actualValues);
+		}
+	}
+
+}
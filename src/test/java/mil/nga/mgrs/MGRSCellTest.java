@@ -0,0 +1,294 @@
+package mil.nga.mgrs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import mil.nga.grid.Hemisphere;
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.grid.GridType;
+import mil.nga.mgrs.utm.UTM;
+
+/**
+ * MGRS Cell Test
+ * 
+ * @author osbornb
+ */
+public class MGRSCellTest {
+
+	/**
+	 * Test packing and unpacking cells
+	 * 
+	 * @throws ParseException
+	 *             upon failure to parse
+	 */
+	@Test
+	public void testCell() throws ParseException {
+
+		MGRS mgrs = MGRS.parse("33XVG7459943599");
+
+		long cell = MGRSCell.from(mgrs);
+		assertTrue(cell > 0);
+		assertEquals(33, MGRSCell.getZone(cell));
+		assertEquals('X', MGRSCell.getBand(cell));
+		assertEquals('V', MGRSCell.getColumn(cell));
+		assertEquals('G', MGRSCell.getRow(cell));
+		assertEquals(74599, MGRSCell.getEasting(cell));
+		assertEquals(43599, MGRSCell.getNorthing(cell));
+		assertEquals(GridType.METER, MGRSCell.getPrecision(cell));
+		assertEquals("33XVG7459943599", MGRSCell.coordinate(cell));
+		assertEquals(mgrs.coordinate(), MGRSCell.toMGRS(cell).coordinate());
+
+		cell = MGRSCell.from(mgrs, GridType.HUNDRED_METER);
+		assertEquals(74500, MGRSCell.getEasting(cell));
+		assertEquals(43500, MGRSCell.getNorthing(cell));
+		assertEquals(GridType.HUNDRED_METER, MGRSCell.getPrecision(cell));
+		assertEquals("33XVG745435", MGRSCell.coordinate(cell));
+		assertEquals(cell, MGRSCell.from(MGRS.parse("33XVG745435"),
+				GridType.HUNDRED_METER));
+
+		cell = MGRSCell.from(mgrs, GridType.GZD);
+		assertEquals(33, MGRSCell.getZone(cell));
+		assertEquals('X', MGRSCell.getBand(cell));
+		assertEquals(0, MGRSCell.getColumn(cell));
+		assertEquals(0, MGRSCell.getRow(cell));
+		assertEquals(0, MGRSCell.getEasting(cell));
+		assertEquals(0, MGRSCell.getNorthing(cell));
+		assertEquals("33X", MGRSCell.coordinate(cell));
+		assertEquals("33X", MGRSCell.toMGRS(cell).coordinate(GridType.GZD));
+
+		long[] values = new long[MGRS.ENCODED_LENGTH];
+		cell = MGRSCell.create(60, 'C', 'Z', 'V', 99999, 0,
+				GridType.METER);
+		MGRSCell.decode(cell, values);
+		assertEquals(60, values[MGRS.ENCODED_ZONE]);
+		assertEquals('C', values[MGRS.ENCODED_BAND]);
+		assertEquals('Z', values[MGRS.ENCODED_COLUMN]);
+		assertEquals('V', values[MGRS.ENCODED_ROW]);
+		assertEquals(99999, values[MGRS.ENCODED_EASTING]);
+		assertEquals(0, values[MGRS.ENCODED_NORTHING]);
+		assertEquals(cell, MGRSCell.create(values, GridType.METER));
+
+		try {
+			MGRSCell.create(33, 'X', 'V', 'G', 100000, 0, GridType.METER);
+			fail("Expected illegal easting");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			MGRSCell.create(33, 'X', 'V', 'W', 0, 0, GridType.METER);
+			fail("Expected illegal row");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test cell conversions and ordering
+	 */
+	@Test
+	public void testConversions() {
+
+		int count = 0;
+		long[] cells = new long[4000];
+
+		for (double longitude = -180.0; longitude < 180.0; longitude += 7.3) {
+			for (double latitude = -80.0; latitude <= 84.0; latitude += 4.1) {
+
+				Point point = Point.degrees(longitude, latitude);
+				MGRS mgrs = MGRS.from(point);
+				UTM pointUTM = UTM.from(point);
+
+				for (GridType type : GridType.values()) {
+
+					long cell = MGRSCell.from(point, type);
+					assertEquals(cell, MGRSCell.from(mgrs, type));
+					assertEquals(cell, MGRSCell.from(longitude, latitude,
+							type));
+					assertEquals(MGRSCell.from(pointUTM.toMGRS(), type),
+							MGRSCell.from(pointUTM, type));
+					assertEquals(type, MGRSCell.getPrecision(cell));
+					assertEquals(mgrs.coordinate(type),
+							MGRSCell.coordinate(cell));
+
+					if (type != GridType.GZD) {
+						UTM utm = MGRSCell.toUTM(cell);
+						assertEquals(MGRSCell.toMGRS(cell).toUTM().format(),
+								utm.format());
+						Point southwest = MGRSCell.toPoint(cell);
+						assertEquals(utm.toPoint().getLongitude(),
+								southwest.getLongitude(), 0.0);
+						assertEquals(cell, MGRSCell.from(
+								MGRSCell.toMGRS(cell), type));
+					}
+
+					if (count < cells.length) {
+						cells[count++] = cell;
+					}
+				}
+
+			}
+		}
+
+		long[] sorted = Arrays.copyOf(cells, count);
+		Arrays.sort(sorted);
+		for (int i = 1; i < count; i++) {
+			long previous = sorted[i - 1];
+			long cell = sorted[i];
+			assertTrue(MGRSCell.compare(previous, cell) <= 0);
+			int zoneCompare = Integer.compare(MGRSCell.getZone(previous),
+					MGRSCell.getZone(cell));
+			assertTrue(zoneCompare <= 0);
+			if (zoneCompare == 0) {
+				assertTrue(MGRSCell.getBand(previous) <= MGRSCell
+						.getBand(cell));
+			}
+		}
+
+	}
+
+	/**
+	 * Test parent, children, and neighbor navigation
+	 * 
+	 * @throws ParseException
+	 *             upon failure to parse
+	 */
+	@Test
+	public void testHierarchy() throws ParseException {
+
+		long cell = MGRSCell.from(MGRS.parse("33XVG7459943599"));
+		assertEquals("33XVG74594359", MGRSCell.coordinate(MGRSCell.parent(cell)));
+		assertEquals("33XVG745435", MGRSCell
+				.coordinate(MGRSCell.parent(cell, GridType.HUNDRED_METER)));
+		assertEquals("33XVG", MGRSCell
+				.coordinate(MGRSCell.parent(cell, GridType.HUNDRED_KILOMETER)));
+		long square = MGRSCell.parent(cell, GridType.HUNDRED_KILOMETER);
+		assertEquals("33X", MGRSCell.coordinate(MGRSCell.parent(square)));
+		assertEquals(MGRSCell.from(MGRS.parse("33XVG"), GridType.GZD),
+				MGRSCell.parent(cell, GridType.GZD));
+		assertEquals(cell, MGRSCell.parent(cell, GridType.METER));
+		try {
+			MGRSCell.parent(square, GridType.KILOMETER);
+			fail("Expected finer parent precision");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		long parent = MGRSCell.parent(cell, GridType.HUNDRED_METER);
+		long[] children = MGRSCell.children(parent);
+		assertEquals(MGRSCell.CHILDREN, children.length);
+		assertEquals("33XVG74504350", MGRSCell.coordinate(children[0]));
+		assertEquals("33XVG74504359", MGRSCell.coordinate(children[9]));
+		assertEquals("33XVG74594359", MGRSCell.coordinate(children[99]));
+		for (int i = 0; i < children.length; i++) {
+			assertEquals(GridType.TEN_METER,
+					MGRSCell.getPrecision(children[i]));
+			assertEquals(parent, MGRSCell.parent(children[i]));
+			if (i > 0) {
+				assertTrue(children[i - 1] < children[i]);
+			}
+		}
+		children = MGRSCell.children(square);
+		assertEquals("33XVG00", MGRSCell.coordinate(children[0]));
+		assertEquals("33XVG99", MGRSCell.coordinate(children[99]));
+		try {
+			MGRSCell.children(cell);
+			fail("Expected no meter children");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		// Interior neighbors and 100km square letter rollover
+		long[] neighbors = MGRSCell.neighbors(
+				MGRSCell.from(MGRS.parse("33XVG745435"), GridType.HUNDRED_METER));
+		String[] expected = new String[] { "33XVG744434", "33XVG745434",
+				"33XVG746434", "33XVG744435", "33XVG746435", "33XVG744436",
+				"33XVG745436", "33XVG746436" };
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], MGRSCell.coordinate(neighbors[i]));
+		}
+		cell = MGRSCell.from(MGRS.parse("18TWL9999999999"));
+		assertEquals("18TXM0000000000",
+				MGRSCell.coordinate(MGRSCell.neighbor(cell, 1, 1)));
+		assertEquals("18TWL9999899998",
+				MGRSCell.coordinate(MGRSCell.neighbor(cell, -1, -1)));
+		assertEquals("18TXL0000099999",
+				MGRSCell.coordinate(MGRSCell.neighbor(cell, 1, 0)));
+		assertEquals("18TWM9999900000",
+				MGRSCell.coordinate(MGRSCell.neighbor(cell, 0, 1)));
+
+		// Grid zone crossings, including Norway and Svalbard
+		cell = MGRSCell.from(2.9999, 60.0, GridType.KILOMETER);
+		assertEquals("31V", MGRSCell.coordinate(
+				MGRSCell.parent(cell, GridType.GZD)));
+		assertEquals("32V", MGRSCell.coordinate(MGRSCell
+				.parent(MGRSCell.neighbor(cell, 1, 0), GridType.GZD)));
+		cell = MGRSCell.from(20.9999, 78.0, GridType.KILOMETER);
+		assertEquals("33X", MGRSCell.coordinate(
+				MGRSCell.parent(cell, GridType.GZD)));
+		assertEquals("35X", MGRSCell.coordinate(MGRSCell
+				.parent(MGRSCell.neighbor(cell, 1, 0), GridType.GZD)));
+		cell = MGRSCell.from(10.0, 71.9999, GridType.KILOMETER);
+		assertEquals("32W", MGRSCell.coordinate(
+				MGRSCell.parent(cell, GridType.GZD)));
+		assertEquals("33X", MGRSCell.coordinate(MGRSCell
+				.parent(MGRSCell.neighbor(cell, 0, 1), GridType.GZD)));
+		cell = MGRSCell.from(10.0, 0.0001, GridType.KILOMETER);
+		assertEquals("32N", MGRSCell.coordinate(
+				MGRSCell.parent(cell, GridType.GZD)));
+		assertEquals("32M", MGRSCell.coordinate(MGRSCell
+				.parent(MGRSCell.neighbor(cell, 0, -1), GridType.GZD)));
+		assertEquals(MGRSCell.NONE, MGRSCell.neighbor(
+				MGRSCell.from(10.0, 83.9999, GridType.HUNDRED_KILOMETER), 0,
+				1));
+
+		// Neighbors match the cells containing the offset cell centers
+		for (double longitude = -180.0; longitude < 180.0; longitude += 2.9) {
+			for (double latitude = -80.0; latitude <= 84.0; latitude += 1.7) {
+				for (int i = GridType.HUNDRED_KILOMETER
+						.ordinal(); i < GridType.METER.ordinal(); i++) {
+					GridType type = GridType.values()[i];
+					cell = MGRSCell.from(longitude, latitude, type);
+					neighbors = MGRSCell.neighbors(cell);
+					UTM utm = MGRSCell.toUTM(cell);
+					Hemisphere hemisphere = MGRSCell.getBand(
+							cell) < MGRSConstants.BAND_LETTER_NORTH
+									? Hemisphere.SOUTH
+									: Hemisphere.NORTH;
+					int meters = type.getPrecision();
+					int index = 0;
+					for (int north = -1; north <= 1; north++) {
+						for (int east = -1; east <= 1; east++) {
+							if (east == 0 && north == 0) {
+								continue;
+							}
+							Point center = UTM.point(MGRSCell.getZone(cell),
+									hemisphere,
+									utm.getEasting() + (east + 0.5) * meters,
+									utm.getNorthing()
+											+ (north + 0.5) * meters);
+							long neighbor = neighbors[index++];
+							if (center.getLatitude() < MGRSConstants.MIN_LAT
+									|| center.getLatitude() > MGRSConstants.MAX_LAT) {
+								assertEquals(MGRSCell.NONE, neighbor);
+							} else {
+								assertEquals(MGRSCell.from(center, type),
+										neighbor);
+								assertNotEquals(cell, neighbor);
+							}
+						}
+					}
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,295 @@
+package mil.nga.mgrs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+import org.junit.Test;
+
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.grid.GridType;
+
+/**
+ * MGRS Polyfill Test
+ * 
+ * @author osbornb
+ */
+public class MGRSPolyfillTest {
+
+	/**
+	 * Test bounds polyfills across zone, band, Norway, and Svalbard edges
+	 */
+	@Test
+	public void testBounds() {
+
+		testBounds(Bounds.degrees(-73.2, 40.1, -72.9, 40.3),
+				GridType.KILOMETER);
+		testBounds(Bounds.degrees(5.8, 47.9, 6.2, 48.1), GridType.KILOMETER);
+		testBounds(Bounds.degrees(2.8, 59.9, 3.3, 60.1), GridType.KILOMETER);
+		testBounds(Bounds.degrees(20.5, 71.8, 21.5, 72.2),
+				GridType.TEN_KILOMETER);
+		testBounds(Bounds.degrees(10.1, -0.1, 10.2, 0.1), GridType.KILOMETER);
+		testBounds(Bounds.degrees(-77.0365, 38.8975, -77.0355, 38.8980),
+				GridType.TEN_METER);
+
+		Set<Long> cells = cells(MGRSPolyfill
+				.create(Bounds.degrees(5.8, 47.9, 6.2, 48.1), GridType.GZD));
+		assertEquals(4, cells.size());
+		assertTrue(cells.contains(MGRSCell.from(5.9, 47.95, GridType.GZD)));
+		assertTrue(cells.contains(MGRSCell.from(6.1, 47.95, GridType.GZD)));
+		assertTrue(cells.contains(MGRSCell.from(5.9, 48.05, GridType.GZD)));
+		assertTrue(cells.contains(MGRSCell.from(6.1, 48.05, GridType.GZD)));
+
+	}
+
+	/**
+	 * Test polygon polyfills
+	 */
+	@Test
+	public void testPolygon() {
+
+		List<Point> polygon = new ArrayList<>();
+		polygon.add(Point.degrees(-105.3, 39.5));
+		polygon.add(Point.degrees(-104.6, 39.6));
+		polygon.add(Point.degrees(-104.9, 40.1));
+		polygon.add(Point.degrees(-105.3, 39.5));
+
+		MGRSPolyfill polyfill = MGRSPolyfill.create(polygon,
+				GridType.KILOMETER);
+		Set<Long> cells = cells(polyfill);
+		assertEquals(polyfill.stream().count(), cells.size());
+
+		// Cells containing points within the triangle
+		for (double longitude = -105.3; longitude <= -104.6; longitude += 0.01) {
+			for (double latitude = 39.5; latitude <= 40.1; latitude += 0.01) {
+				long cell = MGRSCell.from(longitude, latitude,
+						GridType.KILOMETER);
+				if (inside(polygon, longitude, latitude, 0.02)) {
+					assertTrue(cells.contains(cell));
+				} else if (!inside(polygon, longitude, latitude, -0.02)) {
+					assertFalse(cells.contains(cell));
+				}
+			}
+		}
+
+		// Compact output expands to the same cells
+		testCompact(polygon, GridType.HUNDRED_METER);
+
+		long[] array = new long[1000];
+		PrimitiveIterator.OfLong iterator = polyfill.iterator();
+		int count = 0;
+		int filled;
+		while ((filled = MGRSPolyfill.fill(iterator, array, 0,
+				array.length)) > 0) {
+			count += filled;
+		}
+		assertEquals(cells.size(), count);
+
+	}
+
+	/**
+	 * Test compact output of an entire grid zone
+	 */
+	@Test
+	public void testCompactGridZone() {
+
+		MGRSPolyfill polyfill = MGRSPolyfill.create(
+				Bounds.degrees(5.9, 47.9, 12.1, 56.1), GridType.KILOMETER,
+				true);
+		long gridZone = MGRSCell.from(9.0, 52.0, GridType.GZD);
+		Set<Long> cells = cells(polyfill);
+		assertTrue(cells.contains(gridZone));
+		for (long cell : cells) {
+			if (MGRSCell.getPrecision(cell) != GridType.GZD) {
+				assertFalse(MGRSCell.parent(cell, GridType.GZD) == gridZone);
+			}
+		}
+
+		List<Point> polygon = new ArrayList<>();
+		polygon.add(Point.degrees(6.5, 48.5));
+		polygon.add(Point.degrees(7.8, 48.6));
+		polygon.add(Point.degrees(7.5, 49.5));
+		polygon.add(Point.degrees(6.7, 49.3));
+		testCompact(polygon, GridType.KILOMETER);
+
+	}
+
+	/**
+	 * Test a bounds polyfill against sampled points
+	 * 
+	 * @param bounds
+	 *            bounds
+	 * @param precision
+	 *            grid type precision
+	 */
+	private void testBounds(Bounds bounds, GridType precision) {
+
+		Set<Long> cells = cells(MGRSPolyfill.create(bounds, precision));
+		assertFalse(cells.isEmpty());
+
+		double west = bounds.getWest();
+		double south = bounds.getSouth();
+		double width = bounds.getWidth();
+		double height = bounds.getHeight();
+		Set<Long> sampled = new HashSet<>();
+		for (int i = 0; i <= 100; i++) {
+			for (int j = 0; j <= 100; j++) {
+				double longitude = west + width * i / 100;
+				double latitude = south + height * j / 100;
+				long cell = MGRSCell.from(longitude, latitude, precision);
+				assertTrue(cells.contains(cell));
+				sampled.add(cell);
+			}
+		}
+
+		// Every cell is near the bounds
+		double margin = precision.getPrecision() / 50000.0;
+		double longitudeMargin = margin
+				/ Math.cos(Math.toRadians(bounds.getNorth()));
+		for (long cell : cells) {
+			assertEquals(precision, MGRSCell.getPrecision(cell));
+			Point point = MGRSCell.toPoint(cell);
+			assertTrue(point.getLongitude() >= west - longitudeMargin);
+			assertTrue(
+					point.getLongitude() <= bounds.getEast() + longitudeMargin);
+			assertTrue(point.getLatitude() >= south - margin);
+			assertTrue(point.getLatitude() <= bounds.getNorth() + margin);
+		}
+		assertTrue(sampled.size() <= cells.size());
+
+	}
+
+	/**
+	 * Test that compact output expands to the full precision output
+	 * 
+	 * @param polygon
+	 *            polygon
+	 * @param precision
+	 *            grid type precision
+	 */
+	private void testCompact(List<Point> polygon, GridType precision) {
+
+		Set<Long> cells = cells(MGRSPolyfill.create(polygon, precision));
+		MGRSPolyfill compact = MGRSPolyfill.create(polygon, precision, true);
+		assertTrue(compact.isCompact());
+
+		Set<Long> expanded = new HashSet<>();
+		boolean mixed = false;
+		PrimitiveIterator.OfLong iterator = compact.iterator();
+		while (iterator.hasNext()) {
+			long cell = iterator.nextLong();
+			mixed |= MGRSCell.getPrecision(cell) != precision;
+			expand(cell, precision, expanded);
+		}
+		assertTrue(mixed);
+		assertEquals(cells, expanded);
+
+	}
+
+	/**
+	 * Expand the cell to the precision
+	 * 
+	 * @param cell
+	 *            cell
+	 * @param precision
+	 *            grid type precision
+	 * @param cells
+	 *            expanded cells
+	 */
+	private void expand(long cell, GridType precision, Set<Long> cells) {
+		if (MGRSCell.getPrecision(cell) == precision) {
+			assertTrue(cells.add(cell));
+		} else {
+			for (long child : MGRSCell.children(cell)) {
+				expand(child, precision, cells);
+			}
+		}
+	}
+
+	/**
+	 * Collect the polyfill cells, verifying no duplicates
+	 * 
+	 * @param polyfill
+	 *            polyfill
+	 * @return cells
+	 */
+	private Set<Long> cells(MGRSPolyfill polyfill) {
+		Set<Long> cells = new HashSet<>();
+		for (long cell : polyfill) {
+			assertTrue(cells.add(cell));
+		}
+		return cells;
+	}
+
+	/**
+	 * Determine if the point is within the polygon by a margin in degrees,
+	 * negative to extend the polygon
+	 * 
+	 * @param polygon
+	 *            closed polygon
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @param margin
+	 *            margin in degrees
+	 * @return true if within
+	 */
+	private boolean inside(List<Point> polygon, double longitude,
+			double latitude, double margin) {
+		boolean inside = contains(polygon, longitude, latitude);
+		if (margin != 0) {
+			for (int i = 0; i < 8; i++) {
+				double angle = i * Math.PI / 4;
+				boolean offset = contains(polygon,
+						longitude + Math.abs(margin) * Math.cos(angle),
+						latitude + Math.abs(margin) * Math.sin(angle));
+				if (margin > 0) {
+					inside &= offset;
+				} else {
+					inside |= offset;
+				}
+			}
+		}
+		return inside;
+	}
+
+	/**
+	 * Determine if the point is within the closed polygon (even-odd)
+	 * 
+	 * @param polygon
+	 *            closed polygon
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 * @return true if within
+	 */
+	private boolean contains(List<Point> polygon, double longitude,
+			double latitude) {
+		boolean inside = false;
+		for (int i = 1; i < polygon.size(); i++) {
+			Point point1 = polygon.get(i - 1);
+			Point point2 = polygon.get(i);
+			if ((point1.getLatitude() > latitude) != (point2
+					.getLatitude() > latitude)) {
+				double x = point1.getLongitude() + (latitude
+						- point1.getLatitude())
+						* (point2.getLongitude() - point1.getLongitude())
+						/ (point2.getLatitude() - point1.getLatitude());
+				if (longitude < x) {
+					inside = !inside;
+				}
+			}
+		}
+		return inside;
+	}
+
+}
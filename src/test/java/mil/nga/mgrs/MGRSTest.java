@@ -1,5 +1,6 @@
 package mil.nga.mgrs;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -7,7 +8,11 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.util.Locale;
 
 import org.junit.Test;
 
@@ -15,6 +20,7 @@ import mil.nga.grid.features.Point;
 import mil.nga.mgrs.grid.GridType;
 import mil.nga.mgrs.gzd.GridRange;
 import mil.nga.mgrs.gzd.GridZone;
+import mil.nga.mgrs.gzd.GridZones;
 import mil.nga.mgrs.utm.UTM;
 import mil.nga.sf.util.GeometryConstants;
 
@@ -771,6 +777,349 @@ public class MGRSTest {
 
 	}
 
+	/**
+	 * Test encoding coordinates to MGRS values
+	 */
+	@Test
+	public void testEncode() {
+
+		long[] values = new long[MGRS.ENCODED_LENGTH];
+
+		for (double longitude = -200.0; longitude <= 200.0; longitude += 1.37) {
+			for (double latitude = -90.0; latitude <= 90.0; latitude += 0.93) {
+
+				MGRS mgrs = MGRS.from(Point.degrees(longitude, latitude));
+
+				MGRS.encode(longitude, latitude, GridType.METER, values);
+				assertEquals(mgrs.getZone(), values[MGRS.ENCODED_ZONE]);
+				assertEquals(mgrs.getBand(), values[MGRS.ENCODED_BAND]);
+				assertEquals(mgrs.getColumn(), values[MGRS.ENCODED_COLUMN]);
+				assertEquals(mgrs.getRow(), values[MGRS.ENCODED_ROW]);
+				assertEquals(mgrs.getEasting(), values[MGRS.ENCODED_EASTING]);
+				assertEquals(mgrs.getNorthing(),
+						values[MGRS.ENCODED_NORTHING]);
+				assertEquals(mgrs.coordinate(),
+						MGRS.create(values).coordinate());
+
+				for (GridType type : GridType.values()) {
+					MGRS.encode(longitude, latitude, type, values);
+					MGRS encoded = MGRS.create(values);
+					assertEquals(mgrs.coordinate(type),
+							encoded.coordinate(type));
+					if (type != GridType.GZD) {
+						assertEquals(0,
+								encoded.getEasting() % type.getPrecision());
+						assertEquals(0,
+								encoded.getNorthing() % type.getPrecision());
+					}
+				}
+
+			}
+		}
+
+	}
+
+	/**
+	 * Test the UTM northing against the band northing projection
+	 */
+	@Test
+	public void testUTMNorthing() {
+
+		String[] rowLetters = new String[] { "ABCDEFGHJKLMNPQRSTUV",
+				"FGHJKLMNPQRSTUVABCDE" };
+		long[] northings = new long[] { 0, 1, 12345, 50000, 99999, 100000,
+				250000, -1, -100000 };
+
+		for (int zone = MGRSConstants.MIN_ZONE_NUMBER; zone <= MGRSConstants.MAX_ZONE_NUMBER; zone++) {
+			for (char band = MGRSConstants.MIN_BAND_LETTER; band <= MGRSConstants.MAX_BAND_LETTER; band = MGRSUtils
+					.nextBandLetter(band)) {
+
+				double latBand = GridZones.getSouthLatitude(band);
+				double latBandNorthing = UTM.from(Point.degrees(0, latBand))
+						.getNorthing();
+				double nBand = Math.floor(latBandNorthing / 100000) * 100000;
+
+				String letters = rowLetters[(zone - 1) % 2];
+				for (int rowIndex = 0; rowIndex < letters.length(); rowIndex++) {
+					char row = letters.charAt(rowIndex);
+					for (long northing : northings) {
+
+						double n100kNum = rowIndex * 100000.0;
+						double n2M = 0;
+						while (n2M + n100kNum + northing < nBand) {
+							n2M += 2000000;
+						}
+						double expected = n2M + n100kNum + northing;
+
+						MGRS mgrs = MGRS.create(zone, band, 'A', row, 0,
+								northing);
+						assertEquals(expected, mgrs.getUTMNorthing(), 0.0);
+
+					}
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Test parsing MGRS strings into values with a status
+	 * 
+	 * @throws ParseException
+	 *             upon failure to parse
+	 */
+	@Test
+	public void testParseStatus() throws ParseException {
+
+		long[] values = new long[MGRS.ENCODED_LENGTH];
+
+		String[] valid = new String[] { "33XVG74594359", "33X VG 74594 59",
+				"33xvg7459", "33X\tVG\n7\r4", "3 3 X", "4Q", "4QFJ",
+				"4QFJ12345678", "15SUD", "15SUD0", "0C", "61N", "33XVG7" };
+
+		for (String value : valid) {
+			boolean isMGRS = MGRS.isMGRS(value);
+			int status = MGRS.parse(value, values);
+			try {
+				MGRS mgrs = MGRS.parse(value);
+				assertTrue(isMGRS);
+				assertEquals(MGRS.PARSE_SUCCESS, status);
+				assertEquals(mgrs.getZone(), values[MGRS.ENCODED_ZONE]);
+				assertEquals(mgrs.getBand(), values[MGRS.ENCODED_BAND]);
+				assertEquals(mgrs.getColumn(), values[MGRS.ENCODED_COLUMN]);
+				assertEquals(mgrs.getRow(), values[MGRS.ENCODED_ROW]);
+				assertEquals(mgrs.getEasting(), values[MGRS.ENCODED_EASTING]);
+				assertEquals(mgrs.getNorthing(),
+						values[MGRS.ENCODED_NORTHING]);
+				assertEquals(mgrs.coordinate(),
+						MGRS.create(values).coordinate());
+			} catch (ParseException e) {
+				assertFalse(isMGRS);
+			} catch (IllegalArgumentException e) {
+				assertEquals(MGRS.PARSE_INVALID_ZONE, status);
+			}
+		}
+
+		assertEquals(MGRS.PARSE_INVALID_ZONE, MGRS.parse("0C", values));
+		assertEquals(MGRS.PARSE_INVALID_ZONE, MGRS.parse("61N", values));
+		assertTrue(MGRS.isMGRS("61N"));
+
+		String[] invalid = new String[] { "", " ", "X", "123X", "33",
+				"33I", "33Y", "33XV", "33XVW", "33XIG", "33XVG1",
+				"33XVG123", "33XVG12345678901", "33XVG 1a", "33X-VG",
+				"33XVG\u00A012", "33XVG\u0663\u0663" };
+
+		for (String value : invalid) {
+			assertFalse(value, MGRS.isMGRS(value));
+			assertEquals(value, MGRS.PARSE_INVALID, MGRS.parse(value, values));
+			try {
+				MGRS.parse(value);
+				fail("Expected parse exception: " + value);
+			} catch (ParseException e) {
+				// expected
+			}
+		}
+
+		String[] svalbard = new String[] { "32X", "34x", "36X VG", "32XMH" };
+
+		for (String value : svalbard) {
+			assertFalse(value, MGRS.isMGRS(value));
+			assertEquals(value, MGRS.PARSE_INVALID_GRID_ZONE,
+					MGRS.parse(value, values));
+		}
+
+		StringBuilder builder = new StringBuilder("33XVG74594359");
+		assertEquals(MGRS.PARSE_SUCCESS, MGRS.parse(builder, values));
+		assertEquals(MGRS.parse("33XVG74594359").coordinate(),
+				MGRS.create(values).coordinate());
+
+	}
+
+	/**
+	 * Test parsing MGRS strings from bytes
+	 * 
+	 * @throws ParseException
+	 *             upon failure to parse
+	 */
+	@Test
+	public void testParseBytes() throws ParseException {
+
+		long[] values = new long[MGRS.ENCODED_LENGTH];
+
+		String record = "id,33XVG74594359,4QFJ 123 678,15SUD,32X,none";
+		byte[] bytes = record.getBytes(StandardCharsets.US_ASCII);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes);
+		buffer.flip();
+
+		int start = 0;
+		while (start <= record.length()) {
+			int end = record.indexOf(',', start);
+			if (end < 0) {
+				end = record.length();
+			}
+			String field = record.substring(start, end);
+
+			int status = MGRS.parse(field, values);
+			long[] expected = values.clone();
+
+			assertEquals(status,
+					MGRS.parse(bytes, start, end - start, values));
+			if (status == MGRS.PARSE_SUCCESS) {
+				assertArrayEquals(expected, values);
+				assertEquals(MGRS.parse(field).coordinate(),
+						MGRS.create(values).coordinate());
+			}
+
+			assertEquals(status,
+					MGRS.parse(buffer, start, end - start, values));
+			if (status == MGRS.PARSE_SUCCESS) {
+				assertArrayEquals(expected, values);
+			}
+
+			start = end + 1;
+		}
+
+		assertEquals(0, buffer.position());
+		assertEquals(bytes.length, buffer.limit());
+
+		assertEquals(MGRS.PARSE_SUCCESS, MGRS.parse(bytes, 3, 13, values));
+		assertEquals(MGRS.PARSE_INVALID, MGRS.parse(bytes, 3, 14, values));
+		assertEquals(MGRS.PARSE_INVALID, MGRS.parse(bytes, 3, 0, values));
+
+	}
+
+	/**
+	 * Test formatting MGRS coordinates into appendables, characters, and
+	 * buffers
+	 * 
+	 * @throws IOException
+	 *             upon failure to append
+	 */
+	@Test
+	public void testFormat() throws IOException {
+
+		long[] values = new long[MGRS.ENCODED_LENGTH];
+		char[] chars = new char[20];
+		ByteBuffer buffer = ByteBuffer.allocate(40);
+
+		for (double longitude = -180.0; longitude <= 180.0; longitude += 3.7) {
+			for (double latitude = -80.0; latitude <= 84.0; latitude += 2.9) {
+
+				MGRS mgrs = MGRS.from(longitude, latitude);
+				MGRS.encode(longitude, latitude, GridType.METER, values);
+
+				for (GridType type : GridType.values()) {
+
+					String coordinate = mgrs.coordinate(type);
+
+					StringBuilder builder = new StringBuilder("x");
+					mgrs.format(type, builder);
+					MGRS.format(values, type, builder);
+					assertEquals("x" + coordinate + coordinate,
+							builder.toString());
+
+					int length = mgrs.format(type, chars, 3);
+					assertEquals(coordinate, new String(chars, 3, length));
+					length = MGRS.format(values, type, chars, 1);
+					assertEquals(coordinate, new String(chars, 1, length));
+
+					buffer.clear();
+					buffer.put((byte) 'x');
+					assertEquals(coordinate.length(),
+							mgrs.format(type, buffer));
+					assertEquals(coordinate.length(),
+							MGRS.format(values, type, buffer));
+					assertEquals(1 + 2 * coordinate.length(),
+							buffer.position());
+					buffer.flip();
+					assertEquals("x" + coordinate + coordinate,
+							StandardCharsets.US_ASCII.decode(buffer)
+									.toString());
+
+				}
+
+			}
+		}
+
+		assertEquals("", MGRS.create(33, 'X', 'V', 'G', 7459, 4359)
+				.coordinate((GridType) null));
+		assertEquals("33XVG0745904359",
+				MGRS.create(33, 'X', 'V', 'G', 7459, 4359).coordinate());
+
+		// Digits are ASCII regardless of the default locale
+		Locale locale = Locale.getDefault();
+		try {
+			Locale.setDefault(Locale.forLanguageTag("th-TH-u-nu-thai"));
+			assertEquals("33XVG7459943599",
+					MGRS.create(33, 'X', 'V', 'G', 74599, 43599)
+							.coordinate());
+		} finally {
+			Locale.setDefault(locale);
+		}
+
+	}
+
+	/**
+	 * Test formatting MGRS coordinates into appendables and buffers from
+	 * concurrent threads
+	 * 
+	 * @throws InterruptedException
+	 *             upon interruption
+	 */
+	@Test
+	public void testFormatThreads() throws InterruptedException {
+
+		final int threads = 4;
+		final boolean[] valid = new boolean[threads];
+		Thread[] workers = new Thread[threads];
+
+		for (int t = 0; t < threads; t++) {
+			final int thread = t;
+			workers[t] = new Thread(() -> {
+				boolean threadValid = true;
+				long[] values = new long[MGRS.ENCODED_LENGTH];
+				ByteBuffer buffer = ByteBuffer.allocate(20);
+				try {
+					for (int i = 0; i < 2000; i++) {
+						double longitude = -180.0 + (i * 7 + thread * 31) % 360;
+						double latitude = -80.0 + (i * 3 + thread * 17) % 164;
+						MGRS mgrs = MGRS.from(longitude, latitude);
+						MGRS.encode(longitude, latitude, GridType.METER,
+								values);
+						String coordinate = mgrs.coordinate();
+
+						StringBuilder builder = new StringBuilder();
+						mgrs.format(GridType.METER, builder);
+						MGRS.format(values, GridType.METER, builder);
+						threadValid &= builder.toString()
+								.equals(coordinate + coordinate);
+
+						buffer.clear();
+						MGRS.format(values, GridType.METER, buffer);
+						buffer.flip();
+						threadValid &= StandardCharsets.US_ASCII.decode(buffer)
+								.toString().equals(coordinate);
+					}
+				} catch (IOException e) {
+					threadValid = false;
+				}
+				valid[thread] = threadValid;
+			});
+		}
+
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		for (boolean threadValid : valid) {
+			assertTrue(threadValid);
+		}
+
+	}
+
 	/**
 	 * Get the MGRS value in the accuracy digits
 	 * 
@@ -64,6 +64,10 @@ public class ReadmeTest {
 		UTM utm3 = UTM.parse("18 N 585628 4511322");
 		MGRS mgrs5 = utm3.toMGRS();
 
+		UTM utm4 = UTM.from(point3, UTM.KRUGER);
+		Point point4 = utm4.toPoint(UTM.KRUGER);
+		MGRS mgrs6 = MGRS.from(point3, UTM.KRUGER);
+
 	}
 
 	/**
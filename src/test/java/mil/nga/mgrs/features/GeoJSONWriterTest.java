@@ -0,0 +1,158 @@
+package mil.nga.mgrs.features;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.MGRS;
+import mil.nga.mgrs.grid.Grid;
+import mil.nga.mgrs.grid.GridLabel;
+import mil.nga.mgrs.grid.GridType;
+import mil.nga.mgrs.grid.Grids;
+import mil.nga.mgrs.gzd.GridZone;
+import mil.nga.mgrs.gzd.GridZones;
+
+/**
+ * GeoJSON Writer Test
+ * 
+ * @author osbornb
+ */
+public class GeoJSONWriterTest {
+
+	/**
+	 * Test writing features with coordinate precision
+	 * 
+	 * @throws IOException
+	 *             upon failure to write
+	 * @throws ParseException
+	 *             upon failure to parse
+	 */
+	@Test
+	public void testWrite() throws IOException, ParseException {
+
+		StringWriter out = new StringWriter();
+		try (GeoJSONWriter writer = GeoJSONWriter.create(out)) {
+			writer.write(GridLine.line(Point.degrees(-77.0365298, 38.8976763),
+					Point.degrees(2.5, -0.0000001), GridType.KILOMETER));
+			writer.setPrecision(2);
+			writer.write(GridType.HUNDRED_KILOMETER,
+					GridLine.line(Point.degrees(10.005, 0.0),
+							Point.degrees(-179.999, 84.0)));
+			assertEquals(2, writer.getCount());
+		}
+		assertEquals("{\"type\":\"FeatureCollection\",\"features\":["
+				+ "{\"type\":\"Feature\",\"geometry\":{\"type\":\"LineString\","
+				+ "\"coordinates\":[[-77.03653,38.897676],[2.5,0]]},"
+				+ "\"properties\":{\"type\":\"KILOMETER\"}},"
+				+ "{\"type\":\"Feature\",\"geometry\":{\"type\":\"LineString\","
+				+ "\"coordinates\":[[10.01,0],[-180,84]]},"
+				+ "\"properties\":{\"grid\":\"HUNDRED_KILOMETER\","
+				+ "\"type\":\"HUNDRED_KILOMETER\"}}]}", out.toString());
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (GeoJSONWriter writer = GeoJSONWriter.create(bytes)) {
+			GridLabel label = new GridLabel("33U", Point.degrees(15.0, 52.0),
+					Bounds.degrees(12.0, 48.0, 18.0, 56.0),
+					GridType.GZD, MGRS.parse("33U"));
+			writer.write(GridType.GZD, label);
+		}
+		assertEquals("{\"type\":\"FeatureCollection\",\"features\":["
+				+ "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\","
+				+ "\"coordinates\":[15,52]},"
+				+ "\"properties\":{\"grid\":\"GZD\",\"type\":\"GZD\","
+				+ "\"name\":\"33U\",\"mgrs\":\"33U\"}}]}",
+				new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+
+		out = new StringWriter();
+		GeoJSONWriter.create(out).close();
+		assertEquals("{\"type\":\"FeatureCollection\",\"features\":[]}",
+				out.toString());
+
+		try {
+			GeoJSONWriter.create(out).setPrecision(
+					GeoJSONWriter.MAX_PRECISION + 1);
+			fail("Expected invalid precision");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test streaming grid lines and labels as they are generated
+	 * 
+	 * @throws IOException
+	 *             upon failure to write
+	 */
+	@Test
+	public void testStream() throws IOException {
+
+		Grids grids = Grids.create();
+		Grid grid = grids.getGrid(GridType.HUNDRED_KILOMETER);
+		Bounds bounds = Bounds.degrees(-10.0, 35.0, 20.0, 60.0);
+
+		StringWriter streamed = new StringWriter();
+		StringWriter collected = new StringWriter();
+		try (GeoJSONWriter streamWriter = GeoJSONWriter.create(streamed);
+				GeoJSONWriter collectWriter = GeoJSONWriter
+						.create(collected)) {
+
+			streamWriter.writeLines(grid, bounds);
+			streamWriter.writePolylines(grid, bounds);
+			streamWriter.writeLabels(grid, bounds);
+
+			List<GridLine> lines = new ArrayList<>();
+			List<GridPolyline> polylines = new ArrayList<>();
+			List<GridLabel> labels = new ArrayList<>();
+			for (GridZone zone : GridZones.getGridRange(bounds)) {
+				List<GridLine> zoneLines = grid.getLines(bounds, zone);
+				if (zoneLines != null) {
+					lines.addAll(zoneLines);
+				}
+				List<GridPolyline> zonePolylines = grid.getPolylines(bounds,
+						zone);
+				if (zonePolylines != null) {
+					polylines.addAll(zonePolylines);
+				}
+				List<GridLabel> zoneLabels = grid.getLabeler().getLabels(bounds,
+						grid.getType(), zone);
+				if (zoneLabels != null) {
+					labels.addAll(zoneLabels);
+				}
+			}
+			assertTrue(!lines.isEmpty());
+			assertTrue(!polylines.isEmpty());
+			assertTrue(!labels.isEmpty());
+
+			for (GridLine line : lines) {
+				collectWriter.write(grid.getType(), line);
+			}
+			for (GridPolyline polyline : polylines) {
+				collectWriter.write(grid.getType(), polyline);
+			}
+			for (GridLabel label : labels) {
+				collectWriter.write(grid.getType(), label);
+			}
+
+			assertEquals(lines.size() + polylines.size() + labels.size(),
+					streamWriter.getCount());
+			assertEquals(collectWriter.getCount(), streamWriter.getCount());
+		}
+
+		assertEquals(collected.toString(), streamed.toString());
+
+	}
+
+}
@@ -0,0 +1,198 @@
+package mil.nga.mgrs.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import mil.nga.grid.GridUtils;
+import mil.nga.grid.features.Bounds;
+import mil.nga.mgrs.features.GridLine;
+import mil.nga.mgrs.features.GridPolyline;
+import mil.nga.mgrs.gzd.GridZone;
+import mil.nga.mgrs.gzd.GridZones;
+
+/**
+ * Grid Cache Test
+ * 
+ * @author osbornb
+ */
+public class GridCacheTest {
+
+	/**
+	 * Test cached lines and labels
+	 */
+	@Test
+	public void testCache() {
+
+		Grids grids = Grids.create();
+		Grid grid = grids.getGrid(GridType.HUNDRED_KILOMETER);
+		int zoom = grid.getLabeler().getMinZoom();
+		Bounds bounds = tile(zoom, 0);
+		GridZone zone = GridZones.getGridZone(32, 'T');
+
+		List<GridLine> expectedLines = grid.getLines(zoom, bounds, zone);
+		List<GridLabel> expectedLabels = grid.getLabels(zoom, bounds, zone);
+		assertNotNull(expectedLines);
+		assertNotNull(expectedLabels);
+
+		GridCache cache = GridCache.create();
+		grids.setCache(cache);
+		assertSame(cache, grid.getCache());
+		assertTrue(grids.getGrid(GridType.GZD).hasCache());
+
+		List<GridLine> lines = grid.getLines(zoom, bounds, zone);
+		assertEquals(expectedLines.size(), lines.size());
+		assertSame(lines, grid.getLines(zoom, bounds, zone));
+		assertSame(lines, grid.getLines(zoom, bounds.toDegrees(), zone));
+
+		List<GridLabel> labels = grid.getLabels(zoom, bounds, zone);
+		assertEquals(expectedLabels.size(), labels.size());
+		assertSame(labels, grid.getLabels(zoom, bounds, zone));
+
+		assertEquals(2, cache.getMissCount());
+		assertEquals(3, cache.getHitCount());
+		assertEquals(2, cache.size());
+		assertEquals(3.0 / 5.0, cache.getHitRate(), 0.0);
+
+		// Bounds that are not a tile are not cached
+		Bounds partial = Bounds.meters(bounds.getMinLongitude(),
+				bounds.getMinLatitude(),
+				(bounds.getMinLongitude() + bounds.getMaxLongitude()) / 2,
+				bounds.getMaxLatitude());
+		grid.getLines(zoom, partial, zone);
+		assertEquals(2, cache.size());
+		assertEquals(2, cache.getMissCount());
+
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getWeight());
+
+		grids.setCache(null);
+		assertEquals(false, grid.hasCache());
+
+	}
+
+	/**
+	 * Test streaming lines and labels with and without the cache
+	 */
+	@Test
+	public void testForEach() {
+
+		Grids grids = Grids.create();
+		Grid grid = grids.getGrid(GridType.HUNDRED_KILOMETER);
+		int zoom = grid.getLabeler().getMinZoom();
+		Bounds bounds = tile(zoom, 0);
+		GridZone zone = GridZones.getGridZone(32, 'T');
+
+		List<GridLine> expectedLines = grid.getLines(zoom, bounds, zone);
+		List<GridLabel> expectedLabels = grid.getLabels(zoom, bounds, zone);
+
+		List<GridLine> lines = new ArrayList<>();
+		assertTrue(grid.forEachLine(zoom, bounds, zone, lines::add));
+		assertEquals(expectedLines.size(), lines.size());
+		List<GridLabel> labels = new ArrayList<>();
+		assertTrue(grid.forEachLabel(zoom, bounds, zone, labels::add));
+		assertEquals(expectedLabels.size(), labels.size());
+		List<GridPolyline> polylines = new ArrayList<>();
+		assertTrue(grid.forEachPolyline(zoom, bounds, zone, polylines::add));
+		assertEquals(grid.getPolylines(zoom, bounds, zone).size(),
+				polylines.size());
+
+		// Labels outside of the zoom range
+		assertFalse(grid.forEachLabel(zoom - 1, bounds, zone, labels::add));
+
+		GridCache cache = GridCache.create();
+		grids.setCache(cache);
+
+		lines.clear();
+		assertTrue(grid.forEachLine(zoom, bounds, zone, lines::add));
+		assertEquals(expectedLines.size(), lines.size());
+		labels.clear();
+		assertTrue(grid.forEachLabel(zoom, bounds, zone, labels::add));
+		assertEquals(expectedLabels.size(), labels.size());
+		assertEquals(2, cache.getMissCount());
+
+		lines.clear();
+		assertTrue(grid.forEachLine(zoom, bounds, zone, lines::add));
+		assertSame(grid.getLines(zoom, bounds, zone).get(0), lines.get(0));
+		assertEquals(2, cache.getMissCount());
+
+		grids.setCache(null);
+
+	}
+
+	/**
+	 * Test entry and weight eviction
+	 */
+	@Test
+	public void testEviction() {
+
+		Grid grid = Grids.create().getGrid(GridType.HUNDRED_KILOMETER);
+		int zoom = grid.getMinZoom() + 2;
+		GridZone zone = GridZones.getGridZone(32, 'T');
+
+		GridCache cache = GridCache.create(4, Long.MAX_VALUE);
+		grid.setCache(cache);
+
+		for (int x = 0; x < 6; x++) {
+			grid.getLines(zoom, tile(zoom, x), zone);
+		}
+		assertEquals(4, cache.size());
+		assertEquals(2, cache.getEvictionCount());
+
+		// Least recently used entry was evicted
+		Bounds bounds = tile(zoom, 0);
+		grid.getLines(zoom, bounds, zone);
+		assertEquals(0, cache.getHitCount());
+		assertEquals(3, cache.getEvictionCount());
+
+		// Heavier tile first, evicted by the lighter tile weight
+		Bounds next = tile(zoom, 1);
+		grid.setCache(null);
+		int weight = grid.getLines(zoom, bounds, zone).size();
+		int nextWeight = grid.getLines(zoom, next, zone).size();
+		if (nextWeight > weight) {
+			Bounds tempBounds = bounds;
+			bounds = next;
+			next = tempBounds;
+			weight = nextWeight;
+		}
+
+		cache = GridCache.create(100, weight);
+		grid.setCache(cache);
+		grid.getLines(zoom, bounds, zone);
+		assertEquals(weight, cache.getWeight());
+		grid.getLines(zoom, next, zone);
+		assertTrue(cache.getWeight() <= weight);
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+
+	}
+
+	/**
+	 * Get the bounds of a tile within the 32T grid zone
+	 * 
+	 * @param zoom
+	 *            zoom level
+	 * @param offset
+	 *            tile x offset
+	 * @return tile bounds
+	 */
+	private static Bounds tile(int zoom, int offset) {
+		int tiles = GridUtils.tilesPerSide(zoom);
+		double latitude = Math.toRadians(45.0);
+		int x = (int) Math.floor((9.0 + 180.0) / 360.0 * tiles) + offset;
+		int y = (int) Math.floor((1.0 - Math.log(
+				Math.tan(latitude) + 1.0 / Math.cos(latitude)) / Math.PI)
+				/ 2.0 * tiles);
+		return GridUtils.getBounds(x, y, zoom);
+	}
+
+}
@@ -1,11 +1,24 @@
 package mil.nga.mgrs.gzd;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
 import org.junit.Test;
 
+import mil.nga.grid.features.Bounds;
+import mil.nga.grid.features.Point;
 import mil.nga.mgrs.MGRSConstants;
 import mil.nga.mgrs.MGRSUtils;
+import mil.nga.mgrs.features.GridLine;
+import mil.nga.mgrs.features.GridPolyline;
+import mil.nga.mgrs.grid.GridType;
 
 /**
  * Grid Zones Test
@@ -45,6 +58,133 @@ public class GridZonesTest {
 
 	}
 
+	/**
+	 * Test the indexed grid zone, strip, and band lookups
+	 */
+	@Test
+	public void testLookups() {
+
+		int count = 0;
+		for (int zoneNumber = MGRSConstants.MIN_ZONE_NUMBER; zoneNumber <= MGRSConstants.MAX_ZONE_NUMBER; zoneNumber++) {
+
+			LongitudinalStrip strip = GridZones
+					.getLongitudinalStrip(zoneNumber);
+			assertEquals(zoneNumber, strip.getNumber());
+			assertSame(GridZones.strips.get(zoneNumber), strip);
+			assertSame(strip,
+					GridZones.getLongitudinalStripUnchecked(zoneNumber));
+
+			for (char bandLetter : new BandLetterRange()) {
+
+				LatitudeBand band = GridZones.getLatitudeBand(bandLetter);
+				assertEquals(bandLetter, band.getLetter());
+				assertSame(GridZones.bands.get(bandLetter), band);
+				assertSame(band,
+						GridZones.getLatitudeBandUnchecked(bandLetter));
+
+				GridZone gridZone = GridZones.getGridZone(zoneNumber,
+						bandLetter);
+				assertSame(GridZones.gridZones.get(zoneNumber)
+						.get(bandLetter), gridZone);
+				assertSame(gridZone, GridZones
+						.getGridZoneUnchecked(zoneNumber, bandLetter));
+				if (gridZone != null) {
+					assertEquals(zoneNumber, gridZone.getNumber());
+					assertEquals(bandLetter, gridZone.getLetter());
+					count++;
+				} else {
+					assertTrue(GridZones.isSvalbard(zoneNumber, bandLetter));
+				}
+			}
+		}
+		assertEquals(MGRSConstants.MAX_ZONE_NUMBER * MGRSConstants.NUM_BANDS
+				- 3, count);
+
+		try {
+			GridZones.getGridZone(0, 'T');
+			fail("Expected invalid zone number");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			GridZones.getGridZone(32, 'O');
+			fail("Expected invalid band letter");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		try {
+			GridZones.gridZones.get(32).remove('T');
+			fail("Expected unmodifiable grid zones");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+		try {
+			GridZones.strips.clear();
+			fail("Expected unmodifiable strips");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test the raster grid zone lookup against the zone number and band
+	 * letter
+	 */
+	@Test
+	public void testGridZoneLookup() {
+
+		for (double latitude = -90.0; latitude <= 90.0; latitude += 0.5) {
+			for (double longitude = -180.0; longitude <= 180.0; longitude += 1.0) {
+				for (double value : new double[] { longitude,
+						Math.nextUp(longitude), Math.nextDown(longitude),
+						longitude + 1.0e-9, longitude - 1.0e-9,
+						longitude + 0.25, longitude + 0.5 }) {
+					testGridZoneLookup(value, latitude);
+					testGridZoneLookup(value, Math.nextUp(latitude));
+					testGridZoneLookup(value, Math.nextDown(latitude));
+				}
+			}
+		}
+
+		Random random = new Random(7);
+		for (int i = 0; i < 100000; i++) {
+			testGridZoneLookup(random.nextDouble() * 360.0 - 180.0,
+					random.nextDouble() * 180.0 - 90.0);
+		}
+
+		GridZone svalbard = GridZones.getGridZone(Point.degrees(20.9, 78.0));
+		assertEquals(33, svalbard.getNumber());
+		assertEquals('X', svalbard.getLetter());
+		assertEquals(35,
+				GridZones.getGridZone(Point.degrees(21.0, 78.0)).getNumber());
+		assertEquals(31,
+				GridZones.getGridZone(Point.degrees(2.99, 60.0)).getNumber());
+		assertEquals(32,
+				GridZones.getGridZone(Point.degrees(3.0, 60.0)).getNumber());
+		assertEquals(60,
+				GridZones.getGridZone(Point.degrees(180.0, 0.0)).getNumber());
+		assertEquals(2,
+				GridZones.getGridZone(Point.degrees(190.0, 0.0)).getNumber());
+
+	}
+
+	/**
+	 * Test the raster grid zone lookup of the longitude and latitude
+	 * 
+	 * @param longitude
+	 *            longitude
+	 * @param latitude
+	 *            latitude
+	 */
+	private void testGridZoneLookup(double longitude, double latitude) {
+		GridZone expected = GridZones.getGridZone(
+				GridZones.getZoneNumber(longitude, latitude),
+				GridZones.getBandLetter(latitude));
+		assertSame(expected, GridZones.getGridZone(longitude, latitude));
+	}
+
 	/**
 	 * Test band letters
 	 */
@@ -77,4 +217,93 @@ public class GridZonesTest {
 
 	}
 
+	/**
+	 * Test polylines against the grid lines
+	 */
+	@Test
+	public void testPolylines() {
+
+		testPolylines(GridZones.getGridZone(32, 'T'),
+				Bounds.degrees(4.0, 40.0, 14.0, 50.0),
+				GridType.HUNDRED_KILOMETER);
+		testPolylines(GridZones.getGridZone(33, 'X'),
+				Bounds.degrees(8.0, 72.0, 12.0, 80.0),
+				GridType.HUNDRED_KILOMETER);
+		testPolylines(GridZones.getGridZone(31, 'V'),
+				Bounds.degrees(2.5, 57.5, 3.5, 58.5), GridType.TEN_KILOMETER);
+		testPolylines(GridZones.getGridZone(18, 'T'),
+				Bounds.degrees(-72.1, 40.9, -71.9, 41.1),
+				GridType.KILOMETER);
+		testPolylines(GridZones.getGridZone(18, 'T'),
+				Bounds.degrees(-75.0, 40.0, -75.0 + 0.02, 40.02),
+				GridType.HUNDRED_METER);
+
+		List<GridPolyline> gzd = GridZones.getGridZone(18, 'T')
+				.getPolylines(GridType.GZD);
+		assertEquals(4, gzd.size());
+		for (GridPolyline polyline : gzd) {
+			assertEquals(GridType.GZD, polyline.getGridType());
+			assertEquals(2, polyline.numPoints());
+		}
+
+	}
+
+	/**
+	 * Test polylines against the grid lines
+	 * 
+	 * @param zone
+	 *            grid zone
+	 * @param tileBounds
+	 *            tile bounds
+	 * @param gridType
+	 *            grid type
+	 */
+	private void testPolylines(GridZone zone, Bounds tileBounds,
+			GridType gridType) {
+
+		Bounds bounds = zone.getBounds();
+		double tolerance = 0.0000001;
+
+		List<GridLine> lines = zone.getLines(tileBounds, gridType);
+		List<GridPolyline> polylines = zone.getPolylines(tileBounds,
+				gridType);
+		assertTrue(polylines.size() < lines.size());
+
+		Set<Point> polylinePoints = new HashSet<>();
+		for (GridPolyline polyline : polylines) {
+			assertTrue(polyline.numPoints() >= 2);
+			assertTrue(polyline.hasGridType());
+			assertTrue(polyline.getGridType().getPrecision() >= gridType
+					.getPrecision());
+			for (Point point : polyline.getPoints()) {
+				assertTrue(point.getLongitude() >= bounds.getMinLongitude()
+						- tolerance);
+				assertTrue(point.getLongitude() <= bounds.getMaxLongitude()
+						+ tolerance);
+				assertTrue(point.getLatitude() >= bounds.getMinLatitude()
+						- tolerance);
+				assertTrue(point.getLatitude() <= bounds.getMaxLatitude()
+						+ tolerance);
+			}
+			polylinePoints.addAll(polyline.getPoints());
+		}
+
+		// Line vertices within the zone are polyline vertices, excluding
+		// one meter bounds points near the zone longitude edges
+		double margin = 0.1;
+		for (GridLine line : lines) {
+			for (Point point : new Point[] { line.getPoint1(),
+					line.getPoint2() }) {
+				if (point.getLongitude() > bounds.getMinLongitude() + margin
+						&& point.getLongitude() < bounds.getMaxLongitude()
+								- margin
+						&& point.getLatitude() > bounds.getMinLatitude()
+						&& point.getLatitude() < bounds.getMaxLatitude()) {
+					assertTrue(polylinePoints.contains(point));
+				}
+			}
+		}
+
+	}
+
 }
@@ -0,0 +1,124 @@
+package mil.nga.mgrs.tile;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+import mil.nga.grid.tile.GridTile;
+import mil.nga.mgrs.grid.GridType;
+import mil.nga.mgrs.grid.Grids;
+
+/**
+ * Raster Tile Renderer Test
+ * 
+ * @author osbornb
+ */
+public class RasterTileRendererTest {
+
+	/**
+	 * Test rendering tiles as PNG
+	 * 
+	 * @throws IOException
+	 *             upon failure to read
+	 */
+	@Test
+	public void testRender() throws IOException {
+
+		try (RasterTileRenderer renderer = RasterTileRenderer
+				.create(Grids.create(), 512)) {
+
+			// Zoom 6 tile over 32T with 100 km lines and labels
+			GridTile tile = GridTile.tile(512, 512, 33, 22, 6);
+			byte[] bytes = renderer.renderPNG(tile);
+
+			BufferedImage image = ImageIO
+					.read(new ByteArrayInputStream(bytes));
+			assertEquals(512, image.getWidth());
+			assertEquals(512, image.getHeight());
+
+			int drawn = 0;
+			int transparent = 0;
+			for (int y = 0; y < image.getHeight(); y++) {
+				for (int x = 0; x < image.getWidth(); x++) {
+					if ((image.getRGB(x, y) >>> 24) == 0) {
+						transparent++;
+					} else {
+						drawn++;
+					}
+				}
+			}
+			assertTrue(drawn > 0);
+			assertTrue(transparent > drawn);
+
+			// Reused image and encoder produce identical output
+			renderer.renderPNG(GridTile.tile(512, 512, 10, 10, 3));
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			renderer.renderPNG(tile, out);
+			assertArrayEquals(bytes, out.toByteArray());
+		}
+
+		// No enabled grids renders a fully transparent tile
+		Grids none = Grids.create(GridType.GZD);
+		none.disable(GridType.GZD);
+		try (RasterTileRenderer renderer = RasterTileRenderer.create(none)) {
+			BufferedImage image = renderer
+					.render(GridTile.tile(256, 256, 33, 22, 6));
+			for (int y = 0; y < image.getHeight(); y++) {
+				for (int x = 0; x < image.getWidth(); x++) {
+					assertEquals(0, image.getRGB(x, y) >>> 24);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Test the PNG encoder round trip of ARGB pixels
+	 * 
+	 * @throws IOException
+	 *             upon failure to read
+	 */
+	@Test
+	public void testPngEncoder() throws IOException {
+
+		int width = 300;
+		int height = 200;
+		int[] argb = new int[width * height];
+		for (int i = 0; i < argb.length; i++) {
+			argb[i] = i % 7 == 0 ? 0 : 0xFF000000 | (i * 7919 & 0xFFFFFF);
+		}
+
+		try (PngEncoder encoder = PngEncoder.create()) {
+			for (int pass = 0; pass < 2; pass++) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				encoder.encode(argb, width, height, out);
+				BufferedImage image = ImageIO
+						.read(new ByteArrayInputStream(out.toByteArray()));
+				assertEquals(width, image.getWidth());
+				assertEquals(height, image.getHeight());
+				for (int y = 0; y < height; y++) {
+					for (int x = 0; x < width; x++) {
+						int expected = argb[y * width + x];
+						int actual = image.getRGB(x, y);
+						if ((expected >>> 24) == 0) {
+							assertEquals(0, actual >>> 24);
+						} else {
+							assertEquals(expected, actual);
+						}
+					}
+				}
+			}
+		}
+
+	}
+
+}
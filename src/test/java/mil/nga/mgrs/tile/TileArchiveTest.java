@@ -0,0 +1,255 @@
+package mil.nga.mgrs.tile;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import mil.nga.grid.features.Bounds;
+import mil.nga.mgrs.grid.Grids;
+
+/**
+ * Tile Archive Test
+ * 
+ * @author osbornb
+ */
+public class TileArchiveTest {
+
+	/**
+	 * Test the Hilbert curve tile ids
+	 */
+	@Test
+	public void testTileId() {
+
+		assertEquals(0, TileArchive.getTileId(0, 0, 0));
+		assertEquals(1, TileArchive.getTileId(1, 0, 0));
+		assertEquals(2, TileArchive.getTileId(1, 0, 1));
+		assertEquals(3, TileArchive.getTileId(1, 1, 1));
+		assertEquals(4, TileArchive.getTileId(1, 1, 0));
+		assertEquals(5, TileArchive.getTileId(2, 0, 0));
+		assertEquals(19078479, TileArchive.getTileId(12, 3423, 1763));
+
+		// Unique and contiguous ids within each zoom level
+		long first = 0;
+		for (int zoom = 0; zoom <= 6; zoom++) {
+			int tilesPerSide = 1 << zoom;
+			Set<Long> ids = new HashSet<>();
+			for (int x = 0; x < tilesPerSide; x++) {
+				for (int y = 0; y < tilesPerSide; y++) {
+					long id = TileArchive.getTileId(zoom, x, y);
+					assertTrue(id >= first);
+					assertTrue(id < first + tilesPerSide * tilesPerSide);
+					assertTrue(ids.add(id));
+				}
+			}
+			first += tilesPerSide * tilesPerSide;
+		}
+
+		try {
+			TileArchive.getTileId(2, 4, 0);
+			fail("Expected invalid tile");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test writing generated vector tiles and reading them back
+	 * 
+	 * @throws Exception
+	 *             upon failure
+	 */
+	@Test
+	public void testWriteRead() throws Exception {
+
+		File file = File.createTempFile("mgrs", ".tiles");
+		try {
+
+			Grids grids = Grids.create();
+			Map<String, byte[]> tiles = new HashMap<>();
+
+			try (TileArchiveWriter writer = TileArchiveWriter.create(file,
+					TileFormat.MVT)) {
+				TilePyramidGenerator<byte[]> generator = TilePyramidGenerator
+						.create(() -> TileProducer.vector(grids),
+								(zoom, x, y, tile) -> {
+									tiles.put(zoom + "/" + x + "/" + y, tile);
+									writer.write(zoom, x, y, tile);
+								});
+				generator.generate(Bounds.degrees(6.0, 44.0, 12.0, 47.0), 2,
+						8);
+
+				// Replaced tile
+				byte[] replaced = new byte[] { 1, 2, 3 };
+				writer.write(2, 2, 1, replaced);
+				tiles.put("2/2/1", replaced);
+			}
+
+			try (TileArchiveReader reader = TileArchiveReader.open(file)) {
+				assertEquals(TileFormat.MVT, reader.getFormat());
+				assertEquals(2, reader.getMinZoom());
+				assertEquals(8, reader.getMaxZoom());
+				assertEquals(tiles.size(), reader.size());
+
+				for (Map.Entry<String, byte[]> entry : tiles.entrySet()) {
+					String[] zxy = entry.getKey().split("/");
+					int zoom = Integer.parseInt(zxy[0]);
+					int x = Integer.parseInt(zxy[1]);
+					int y = Integer.parseInt(zxy[2]);
+					assertTrue(reader.contains(zoom, x, y));
+					ByteBuffer tile = reader.getTile(zoom, x, y);
+					assertTrue(tile.isReadOnly());
+					assertEquals(entry.getValue().length, tile.remaining());
+					assertArrayEquals(entry.getValue(),
+							reader.getTileBytes(zoom, x, y));
+				}
+
+				assertFalse(reader.contains(8, 0, 0));
+				assertNull(reader.getTile(8, 0, 0));
+				assertNull(reader.getTile(1, 0, 0));
+				assertNull(reader.getTileBytes(9, 270, 180));
+			}
+
+		} finally {
+			file.delete();
+		}
+
+	}
+
+	/**
+	 * Test resuming an interrupted generation into a reopened archive
+	 * 
+	 * @throws Exception
+	 *             upon failure
+	 */
+	@Test
+	public void testResume() throws Exception {
+
+		File file = File.createTempFile("mgrs", ".tiles");
+		file.delete();
+		try {
+
+			Bounds bounds = Bounds.degrees(6.0, 44.0, 12.0, 47.0);
+			AtomicInteger produced = new AtomicInteger();
+			Supplier<TileProducer<byte[]>> producers = () -> (tile) -> {
+				produced.incrementAndGet();
+				return tile.getBounds().toString()
+						.getBytes(StandardCharsets.UTF_8);
+			};
+
+			// Interrupted generation of the first zoom levels
+			int interrupted;
+			try (TileArchiveWriter writer = TileArchiveWriter.open(file,
+					TileFormat.UNKNOWN)) {
+				TilePyramidGenerator.create(producers, writer)
+						.generate(bounds, 0, 5);
+				interrupted = writer.getCount();
+				assertTrue(writer.contains(5, 16, 11));
+				assertFalse(writer.contains(6, 33, 22));
+			}
+
+			try {
+				TileArchiveWriter.open(file, TileFormat.PNG);
+				fail("Expected mismatched format");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+
+			// Resume, generating only the remaining tiles
+			produced.set(0);
+			long written;
+			try (TileArchiveWriter writer = TileArchiveWriter.open(file,
+					TileFormat.UNKNOWN)) {
+				assertTrue(writer.contains(5, 16, 11));
+				written = TilePyramidGenerator.create(producers, writer)
+						.generate(bounds, 0, 7);
+				assertEquals(written, produced.get());
+				assertEquals(interrupted + written, writer.getCount());
+			}
+
+			try (TileArchiveReader reader = TileArchiveReader.open(file)) {
+				assertEquals(TileFormat.UNKNOWN, reader.getFormat());
+				assertEquals(0, reader.getMinZoom());
+				assertEquals(7, reader.getMaxZoom());
+				assertEquals(interrupted + written, reader.size());
+				assertTrue(reader.contains(5, 16, 11));
+				assertTrue(reader.contains(7, 67, 45));
+			}
+
+			// Reopened tiles written again are not duplicated
+			try (TileArchiveWriter writer = TileArchiveWriter.open(file,
+					TileFormat.UNKNOWN)) {
+				writer.write(5, 16, 11, new byte[] { 1 });
+				for (int x = 0; x < 3000; x++) {
+					assertFalse(writer.contains(12, x, 7));
+					writer.write(12, x, 7, new byte[] { 2 });
+					assertTrue(writer.contains(12, x, 7));
+					assertTrue(writer.contains(12, x / 2, 7));
+				}
+				assertTrue(writer.contains(7, 67, 45));
+			}
+			try (TileArchiveReader reader = TileArchiveReader.open(file)) {
+				assertEquals(interrupted + written + 3000, reader.size());
+				assertArrayEquals(new byte[] { 1 },
+						reader.getTileBytes(5, 16, 11));
+			}
+
+		} finally {
+			file.delete();
+		}
+
+	}
+
+	/**
+	 * Test empty and invalid archives
+	 * 
+	 * @throws Exception
+	 *             upon failure
+	 */
+	@Test
+	public void testEmptyAndInvalid() throws Exception {
+
+		File file = File.createTempFile("mgrs", ".tiles");
+		try {
+
+			TileArchiveWriter.create(file, TileFormat.PNG).close();
+			try (TileArchiveReader reader = TileArchiveReader.open(file)) {
+				assertEquals(TileFormat.PNG, reader.getFormat());
+				assertEquals(0, reader.size());
+				assertNull(reader.getTile(0, 0, 0));
+			}
+
+			try (FileOutputStream out = new FileOutputStream(file)) {
+				out.write(new byte[100]);
+			}
+			try {
+				TileArchiveReader.open(file).close();
+				fail("Expected invalid archive");
+			} catch (IOException e) {
+				// expected
+			}
+
+		} finally {
+			file.delete();
+		}
+
+	}
+
+}
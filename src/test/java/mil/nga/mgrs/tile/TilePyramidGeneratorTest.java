@@ -0,0 +1,268 @@
+package mil.nga.mgrs.tile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import mil.nga.grid.GridUtils;
+import mil.nga.grid.features.Bounds;
+import mil.nga.mgrs.features.GridLine;
+import mil.nga.mgrs.grid.Grids;
+
+/**
+ * Tile Pyramid Generator Test
+ * 
+ * @author osbornb
+ */
+public class TilePyramidGeneratorTest {
+
+	/**
+	 * Test generating every tile of a pyramid once
+	 * 
+	 * @throws Exception
+	 *             upon failure
+	 */
+	@Test
+	public void testGenerate() throws Exception {
+
+		Bounds bounds = Bounds.degrees(5.5, 42.5, 13.5, 47.5);
+
+		Set<String> tiles = new HashSet<>();
+		AtomicInteger producers = new AtomicInteger();
+		AtomicLong progress = new AtomicLong();
+
+		TilePyramidGenerator<String> generator = TilePyramidGenerator
+				.create(() -> {
+					producers.incrementAndGet();
+					return (tile) -> tile.getBounds().toString();
+				}, (zoom, x, y, tile) -> {
+					assertTrue(tiles.add(zoom + "/" + x + "/" + y));
+				});
+		generator.setProgress((completed, total) -> {
+			assertEquals(progress.incrementAndGet(), completed);
+			assertTrue(completed <= total);
+		});
+
+		long written = generator.generate(bounds, 0, 10);
+
+		long expected = 0;
+		for (int zoom = 0; zoom <= 10; zoom++) {
+			expected += countTiles(bounds, zoom);
+		}
+		assertEquals(expected, written);
+		assertEquals(expected, tiles.size());
+		assertEquals(expected, progress.get());
+		assertTrue(producers.get() > 1);
+
+		// Bounds outside of the MGRS latitude range
+		assertEquals(0, generator.generate(
+				Bounds.degrees(-10.0, 84.5, 10.0, 85.0), 0, 10));
+
+	}
+
+	/**
+	 * Test splitting the tiles of a single grid zone into chunked tasks
+	 * 
+	 * @throws Exception
+	 *             upon failure
+	 */
+	@Test
+	public void testChunks() throws Exception {
+
+		// Within grid zone 32T
+		Bounds bounds = Bounds.degrees(7.0, 45.0, 8.0, 46.0);
+
+		Set<String> tiles = new HashSet<>();
+		AtomicInteger producers = new AtomicInteger();
+
+		TilePyramidGenerator<String> generator = TilePyramidGenerator
+				.create(() -> {
+					producers.incrementAndGet();
+					return (tile) -> tile.getBounds().toString();
+				}, (zoom, x, y, tile) -> {
+					assertTrue(tiles.add(zoom + "/" + x + "/" + y));
+				});
+		assertEquals(TilePyramidGenerator.DEFAULT_CHUNK_SIZE,
+				generator.getChunkSize());
+		generator.setChunkSize(16);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			generator.setExecutor(executor);
+			long written = generator.generate(bounds, 0, 12);
+
+			long expected = 0;
+			for (int zoom = 0; zoom <= 12; zoom++) {
+				expected += countTiles(bounds, zoom);
+			}
+			assertEquals(expected, written);
+			assertEquals(expected, tiles.size());
+			assertEquals((expected + 15) / 16, producers.get());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		try {
+			generator.setChunkSize(0);
+			fail("Expected invalid chunk size");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test resuming a partially generated pyramid and producing grid lines
+	 * 
+	 * @throws Exception
+	 *             upon failure
+	 */
+	@Test
+	public void testResume() throws Exception {
+
+		Bounds bounds = Bounds.degrees(8.0, 44.0, 10.0, 46.0);
+		Set<String> tiles = new HashSet<>();
+
+		TileSink<List<GridLine>> sink = new TileSink<List<GridLine>>() {
+
+			@Override
+			public void write(int zoom, int x, int y, List<GridLine> lines) {
+				assertFalse(lines.isEmpty());
+				assertTrue(tiles.add(zoom + "/" + x + "/" + y));
+			}
+
+			@Override
+			public boolean contains(int zoom, int x, int y) {
+				return tiles.contains(zoom + "/" + x + "/" + y);
+			}
+
+		};
+
+		Grids grids = Grids.create();
+		TilePyramidGenerator<List<GridLine>> generator = TilePyramidGenerator
+				.create(() -> TileProducer.lines(grids), sink);
+
+		long partial = generator.generate(bounds, 3, 6);
+		assertTrue(partial > 0);
+		assertEquals(partial, tiles.size());
+
+		long remaining = generator.generate(bounds, 3, 9);
+		assertTrue(remaining > 0);
+		assertEquals(partial + remaining, tiles.size());
+
+		assertEquals(0, generator.generate(bounds, 3, 9));
+
+	}
+
+	/**
+	 * Test bounding the tiles generated ahead of a slow sink
+	 * 
+	 * @throws Exception
+	 *             upon failure
+	 */
+	@Test
+	public void testBackPressure() throws Exception {
+
+		int threads = 4;
+		int capacity = 2;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+
+			AtomicLong produced = new AtomicLong();
+			AtomicLong written = new AtomicLong();
+
+			TilePyramidGenerator<Integer> generator = TilePyramidGenerator
+					.create(() -> (tile) -> {
+						produced.incrementAndGet();
+						return tile.getZoom();
+					}, (zoom, x, y, tile) -> {
+						long ahead = produced.get() - written.incrementAndGet();
+						assertTrue(ahead <= capacity + threads);
+						try {
+							Thread.sleep(1);
+						} catch (InterruptedException e) {
+							throw new IOException(e);
+						}
+					});
+			generator.setExecutor(executor);
+			generator.setQueueCapacity(capacity);
+
+			long count = generator.generate(
+					Bounds.degrees(-20.0, -20.0, 20.0, 20.0), 0, 5);
+			assertEquals(count, written.get());
+			assertEquals(count, produced.get());
+
+		} finally {
+			executor.shutdownNow();
+		}
+
+	}
+
+	/**
+	 * Test a failing producer
+	 * 
+	 * @throws Exception
+	 *             upon failure
+	 */
+	@Test
+	public void testFailure() throws Exception {
+
+		TilePyramidGenerator<String> generator = TilePyramidGenerator
+				.create(() -> (tile) -> {
+					if (tile.getZoom() == 4) {
+						throw new IllegalArgumentException("Failure");
+					}
+					return "tile";
+				}, (zoom, x, y, tile) -> {
+				});
+
+		try {
+			generator.generate(Bounds.degrees(-20.0, -20.0, 20.0, 20.0), 0,
+					6);
+			fail("Expected failure");
+		} catch (IllegalStateException e) {
+			assertNotNull(e.getCause());
+			assertEquals("Failure", e.getCause().getMessage());
+		}
+
+	}
+
+	/**
+	 * Count the tiles overlapping the bounds
+	 * 
+	 * @param bounds
+	 *            bounds
+	 * @param zoom
+	 *            zoom level
+	 * @return tile count
+	 */
+	private static long countTiles(Bounds bounds, int zoom) {
+		Bounds meters = bounds.toMeters();
+		int tilesPerSide = GridUtils.tilesPerSide(zoom);
+		double tileSize = GridUtils.tileSize(tilesPerSide);
+		double halfWorld = tileSize * tilesPerSide / 2;
+		long minX = (long) Math
+				.floor((meters.getMinLongitude() + halfWorld) / tileSize);
+		long maxX = (long) Math
+				.ceil((meters.getMaxLongitude() + halfWorld) / tileSize) - 1;
+		long minY = (long) Math
+				.floor((halfWorld - meters.getMaxLatitude()) / tileSize);
+		long maxY = (long) Math
+				.ceil((halfWorld - meters.getMinLatitude()) / tileSize) - 1;
+		return (maxX - minX + 1) * (maxY - minY + 1);
+	}
+
+}
@@ -0,0 +1,288 @@
+package mil.nga.mgrs.tile;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import mil.nga.grid.tile.GridTile;
+import mil.nga.mgrs.grid.GridType;
+import mil.nga.mgrs.grid.Grids;
+
+/**
+ * Vector Tile Encoder Test
+ * 
+ * @author osbornb
+ */
+public class VectorTileEncoderTest {
+
+	/**
+	 * Test encoding tiles and decoding the layers
+	 * 
+	 * @throws IOException
+	 *             upon failure to encode
+	 */
+	@Test
+	public void testEncode() throws IOException {
+
+		Grids grids = Grids.create();
+		VectorTileEncoder encoder = VectorTileEncoder.create(grids);
+
+		// Zoom 6 tile over 32T with 100 km lines and labels
+		GridTile tile = GridTile.tile(512, 512, 33, 22, 6);
+		byte[] bytes = encoder.encode(tile);
+
+		Map<String, Layer> layers = decode(bytes);
+		assertEquals(2, layers.size());
+
+		Layer lines = layers.get(VectorTileEncoder.LINES_LAYER);
+		assertEquals(VectorTileEncoder.DEFAULT_EXTENT, lines.extent);
+		assertEquals(2, lines.version);
+		assertTrue(lines.features.size() > 0);
+		for (Feature feature : lines.features) {
+			assertEquals(2, feature.type);
+			assertEquals(1, feature.geometry.get(0) & 0x7);
+			Map<String, Object> attributes = feature.attributes(lines);
+			assertTrue(attributes.containsKey(VectorTileEncoder.GRID_ATTRIBUTE));
+			assertTrue(attributes.containsKey(VectorTileEncoder.TYPE_ATTRIBUTE));
+			assertTrue(
+					attributes.containsKey(VectorTileEncoder.COLOR_ATTRIBUTE));
+			assertTrue(attributes
+					.get(VectorTileEncoder.WIDTH_ATTRIBUTE) instanceof Double);
+			for (int[] point : feature.points()) {
+				assertTrue(point[0] >= -VectorTileEncoder.DEFAULT_BUFFER);
+				assertTrue(point[0] <= VectorTileEncoder.DEFAULT_EXTENT
+						+ VectorTileEncoder.DEFAULT_BUFFER);
+				assertTrue(point[1] >= -VectorTileEncoder.DEFAULT_BUFFER);
+				assertTrue(point[1] <= VectorTileEncoder.DEFAULT_EXTENT
+						+ VectorTileEncoder.DEFAULT_BUFFER);
+			}
+		}
+
+		Layer labels = layers.get(VectorTileEncoder.LABELS_LAYER);
+		assertTrue(labels.features.size() > 0);
+		for (Feature feature : labels.features) {
+			assertEquals(1, feature.type);
+			assertEquals(3, feature.geometry.size());
+			Map<String, Object> attributes = feature.attributes(labels);
+			String mgrs = (String) attributes
+					.get(VectorTileEncoder.MGRS_ATTRIBUTE);
+			String name = (String) attributes
+					.get(VectorTileEncoder.NAME_ATTRIBUTE);
+			assertTrue(mgrs.endsWith(name));
+		}
+
+		// Reused buffers produce identical output
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		encoder.encode(GridTile.tile(256, 256, 10, 10, 3), out);
+		encoder.encode(tile, out = new ByteArrayOutputStream());
+		assertArrayEquals(bytes, out.toByteArray());
+
+		// No enabled grids
+		Grids none = Grids.create(GridType.GZD);
+		none.disable(GridType.GZD);
+		assertEquals(0, VectorTileEncoder.create(none).encode(tile).length);
+
+	}
+
+	/**
+	 * Decode the vector tile layers
+	 * 
+	 * @param bytes
+	 *            vector tile bytes
+	 * @return layers by name
+	 */
+	private static Map<String, Layer> decode(byte[] bytes) {
+		Map<String, Layer> layers = new HashMap<>();
+		Reader reader = new Reader(bytes, 0, bytes.length);
+		while (reader.hasNext()) {
+			int tag = (int) reader.varint();
+			assertEquals(3, tag >>> 3);
+			Layer layer = new Layer(reader.message());
+			layers.put(layer.name, layer);
+		}
+		return layers;
+	}
+
+	/**
+	 * Decoded layer
+	 */
+	private static class Layer {
+
+		private String name;
+		private int version;
+		private int extent = 4096;
+		private final List<Feature> features = new ArrayList<>();
+		private final List<String> keys = new ArrayList<>();
+		private final List<Object> values = new ArrayList<>();
+
+		private Layer(Reader reader) {
+			while (reader.hasNext()) {
+				int tag = (int) reader.varint();
+				switch (tag >>> 3) {
+				case 1:
+					name = reader.string();
+					break;
+				case 2:
+					features.add(new Feature(reader.message()));
+					break;
+				case 3:
+					keys.add(reader.string());
+					break;
+				case 4:
+					Reader value = reader.message();
+					int valueTag = (int) value.varint();
+					if (valueTag >>> 3 == 1) {
+						values.add(value.string());
+					} else {
+						assertEquals(3, valueTag >>> 3);
+						values.add(Double.longBitsToDouble(value.fixed64()));
+					}
+					break;
+				case 5:
+					extent = (int) reader.varint();
+					break;
+				case 15:
+					version = (int) reader.varint();
+					break;
+				default:
+					throw new AssertionError("Unexpected field: " + tag);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Decoded feature
+	 */
+	private static class Feature {
+
+		private int type;
+		private final List<Integer> tags = new ArrayList<>();
+		private final List<Integer> geometry = new ArrayList<>();
+
+		private Feature(Reader reader) {
+			while (reader.hasNext()) {
+				int tag = (int) reader.varint();
+				switch (tag >>> 3) {
+				case 2:
+					reader.message().packed(tags);
+					break;
+				case 3:
+					type = (int) reader.varint();
+					break;
+				case 4:
+					reader.message().packed(geometry);
+					break;
+				default:
+					throw new AssertionError("Unexpected field: " + tag);
+				}
+			}
+		}
+
+		private Map<String, Object> attributes(Layer layer) {
+			Map<String, Object> attributes = new HashMap<>();
+			for (int i = 0; i < tags.size(); i += 2) {
+				attributes.put(layer.keys.get(tags.get(i)),
+						layer.values.get(tags.get(i + 1)));
+			}
+			return attributes;
+		}
+
+		private List<int[]> points() {
+			List<int[]> points = new ArrayList<>();
+			int x = 0;
+			int y = 0;
+			int i = 0;
+			while (i < geometry.size()) {
+				int command = geometry.get(i++);
+				int count = command >>> 3;
+				assertTrue(count > 0);
+				for (int j = 0; j < count; j++) {
+					x += unzigzag(geometry.get(i++));
+					y += unzigzag(geometry.get(i++));
+					points.add(new int[] { x, y });
+				}
+			}
+			return points;
+		}
+
+		private static int unzigzag(int value) {
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+	}
+
+	/**
+	 * Protocol buffer reader
+	 */
+	private static class Reader {
+
+		private final byte[] bytes;
+		private int position;
+		private final int end;
+
+		private Reader(byte[] bytes, int offset, int length) {
+			this.bytes = bytes;
+			this.position = offset;
+			this.end = offset + length;
+		}
+
+		private boolean hasNext() {
+			return position < end;
+		}
+
+		private long varint() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = bytes[position++];
+				value |= (long) (b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return value;
+		}
+
+		private long fixed64() {
+			long value = 0;
+			for (int i = 0; i < 8; i++) {
+				value |= (long) (bytes[position++] & 0xFF) << (i * 8);
+			}
+			return value;
+		}
+
+		private Reader message() {
+			int length = (int) varint();
+			Reader reader = new Reader(bytes, position, length);
+			position += length;
+			return reader;
+		}
+
+		private String string() {
+			int length = (int) varint();
+			String value = new String(bytes, position, length,
+					StandardCharsets.UTF_8);
+			position += length;
+			return value;
+		}
+
+		private void packed(List<Integer> values) {
+			while (hasNext()) {
+				values.add((int) varint());
+			}
+		}
+
+	}
+
+}
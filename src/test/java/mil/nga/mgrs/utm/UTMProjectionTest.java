@@ -0,0 +1,197 @@
+package mil.nga.mgrs.utm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import mil.nga.grid.Hemisphere;
+import mil.nga.grid.features.Point;
+import mil.nga.mgrs.MGRS;
+import mil.nga.mgrs.gzd.GridZones;
+
+/**
+ * UTM Projection Test
+ * 
+ * @author osbornb
+ */
+public class UTMProjectionTest {
+
+	/**
+	 * Test the Krüger projection reference values
+	 */
+	@Test
+	public void testKrugerReference() {
+
+		double[] coordinate = new double[2];
+
+		UTM.KRUGER.forward(3, 0, 31, Hemisphere.NORTH, coordinate);
+		assertEquals(500000.0, coordinate[0], 1e-9);
+		assertEquals(0.0, coordinate[1], 1e-9);
+
+		// Scaled WGS84 quarter meridian
+		UTM.KRUGER.forward(3, 90, 31, Hemisphere.NORTH, coordinate);
+		assertEquals(500000.0, coordinate[0], 1e-6);
+		assertEquals(9997964.943, coordinate[1], 1e-3);
+
+		UTM.KRUGER.forward(3, -90, 31, Hemisphere.SOUTH, coordinate);
+		assertEquals(10000000.0 - 9997964.943, coordinate[1], 1e-3);
+
+		// Symmetric about the central meridian and equator
+		UTM.KRUGER.forward(-77.0365, 38.8977, 18, Hemisphere.NORTH,
+				coordinate);
+		double easting = coordinate[0];
+		double northing = coordinate[1];
+		UTM.KRUGER.forward(-75 + (77.0365 - 75), -38.8977, 18,
+				Hemisphere.SOUTH, coordinate);
+		assertEquals(1000000.0 - easting, coordinate[0], 1e-6);
+		assertEquals(10000000.0 - northing, coordinate[1], 1e-6);
+
+	}
+
+	/**
+	 * Test the Krüger projection round trip and agreement with the legacy
+	 * projection
+	 */
+	@Test
+	public void testKruger() {
+
+		double[] forward = new double[2];
+		double[] inverse = new double[2];
+		double[] legacy = new double[2];
+
+		for (double longitude = -180.0; longitude <= 180.0; longitude += 1.3) {
+			for (double latitude = -80.0; latitude <= 84.0; latitude += 0.7) {
+
+				int zone = GridZones.getZoneNumber(longitude, latitude);
+				Hemisphere hemisphere = Hemisphere.fromLatitude(latitude);
+
+				UTM.KRUGER.forward(longitude, latitude, zone, hemisphere,
+						forward);
+				assertEquals(
+						UTM.KRUGER.easting(longitude, latitude, zone),
+						forward[0], 0.0);
+				assertEquals(UTM.KRUGER.northing(longitude, latitude, zone,
+						hemisphere), forward[1], 0.0);
+
+				UTM.KRUGER.inverse(zone, hemisphere, forward[0], forward[1],
+						inverse);
+				assertEquals(longitude, inverse[0], 1e-10);
+				assertEquals(latitude, inverse[1], 1e-10);
+
+				UTM.LEGACY.forward(longitude, latitude, zone, hemisphere,
+						legacy);
+				assertEquals(legacy[0], forward[0], 0.1);
+				assertEquals(legacy[1], forward[1], 0.1);
+
+			}
+		}
+
+	}
+
+	/**
+	 * Test the Krüger projection of another ellipsoid
+	 */
+	@Test
+	public void testKrugerEllipsoid() {
+
+		KrugerUTMProjection sphere = KrugerUTMProjection.create(6371000, 0);
+		assertEquals(6371000, sphere.getSemiMajorAxis(), 0.0);
+		assertEquals(0, sphere.getFlattening(), 0.0);
+
+		// Spherical transverse Mercator
+		double[] coordinate = new double[2];
+		sphere.forward(5, 30, 31, Hemisphere.NORTH, coordinate);
+		double lambda = Math.toRadians(2);
+		double phi = Math.toRadians(30);
+		double b = Math.cos(phi) * Math.sin(lambda);
+		double easting = 0.9996 * 6371000 * 0.5 * Math.log((1 + b) / (1 - b))
+				+ 500000;
+		double northing = 0.9996 * 6371000
+				* Math.atan2(Math.tan(phi), Math.cos(lambda));
+		assertEquals(easting, coordinate[0], 1e-6);
+		assertEquals(northing, coordinate[1], 1e-6);
+
+		sphere.inverse(31, Hemisphere.NORTH, coordinate[0], coordinate[1],
+				coordinate);
+		assertEquals(5, coordinate[0], 1e-10);
+		assertEquals(30, coordinate[1], 1e-10);
+
+		try {
+			KrugerUTMProjection.create(0, 0);
+			fail("Expected invalid semi-major axis");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			KrugerUTMProjection.create(6378137, -0.1);
+			fail("Expected invalid flattening");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+	}
+
+	/**
+	 * Test per call and global projection selection
+	 */
+	@Test
+	public void testSelection() {
+
+		Point point = Point.degrees(-77.0365, 38.8977);
+
+		assertSame(UTM.LEGACY, UTM.getProjection());
+
+		UTM legacy = UTM.from(point);
+		assertEquals(legacy.getEasting(),
+				UTM.from(point, UTM.LEGACY).getEasting(), 0.0);
+		assertEquals(legacy.getNorthing(),
+				UTM.from(point, UTM.LEGACY).getNorthing(), 0.0);
+
+		UTM kruger = UTM.from(point, UTM.KRUGER);
+		assertEquals(legacy.getZone(), kruger.getZone());
+		assertEquals(legacy.getHemisphere(), kruger.getHemisphere());
+		assertEquals(legacy.getEasting(), kruger.getEasting(), 1.0);
+		assertEquals(legacy.getNorthing(), kruger.getNorthing(), 1.0);
+
+		Point krugerPoint = kruger.toPoint(UTM.KRUGER);
+		assertEquals(point.getLongitude(), krugerPoint.getLongitude(), 1e-10);
+		assertEquals(point.getLatitude(), krugerPoint.getLatitude(), 1e-10);
+
+		MGRS mgrs = MGRS.from(point, UTM.KRUGER);
+		assertEquals((long) kruger.getEasting() % 100000, mgrs.getEasting());
+		assertEquals((long) kruger.getNorthing() % 100000,
+				mgrs.getNorthing());
+
+		UTM.setProjection(UTM.KRUGER);
+		try {
+			assertSame(UTM.KRUGER, UTM.getProjection());
+			UTM global = UTM.from(point);
+			assertEquals(kruger.getEasting(), global.getEasting(), 0.0);
+			assertEquals(kruger.getNorthing(), global.getNorthing(), 0.0);
+			assertEquals(kruger.getEasting(),
+					UTM.easting(point.getLongitude(), point.getLatitude(),
+							kruger.getZone()),
+					0.0);
+			Point globalPoint = global.toPoint();
+			assertEquals(krugerPoint.getLongitude(),
+					globalPoint.getLongitude(), 0.0);
+			assertEquals(krugerPoint.getLatitude(), globalPoint.getLatitude(),
+					0.0);
+			assertEquals(mgrs.coordinate(), MGRS.from(point).coordinate());
+		} finally {
+			UTM.setProjection(UTM.LEGACY);
+		}
+
+		try {
+			UTM.setProjection(null);
+			fail("Expected missing projection");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		assertSame(UTM.LEGACY, UTM.getProjection());
+
+	}
+
+}
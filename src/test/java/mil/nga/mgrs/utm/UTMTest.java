@@ -0,0 +1,296 @@
+package mil.nga.mgrs.utm;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+
+import org.junit.Test;
+
+import mil.nga.grid.Hemisphere;
+import mil.nga.grid.features.Point;
+
+/**
+ * UTM Test
+ * 
+ * @author osbornb
+ */
+public class UTMTest {
+
+	/**
+	 * Test batch conversions
+	 */
+	@Test
+	public void testBatch() {
+
+		int count = 0;
+		for (double longitude = -180.0; longitude <= 180.0; longitude += 2.3) {
+			for (double latitude = -80.0; latitude <= 84.0; latitude += 1.7) {
+				count++;
+			}
+		}
+
+		double[] longitudes = new double[count];
+		double[] latitudes = new double[count];
+
+		int index = 0;
+		for (double longitude = -180.0; longitude <= 180.0; longitude += 2.3) {
+			for (double latitude = -80.0; latitude <= 84.0; latitude += 1.7) {
+				longitudes[index] = longitude;
+				latitudes[index] = latitude;
+				index++;
+			}
+		}
+
+		int[] zones = new int[count];
+		Hemisphere[] hemispheres = new Hemisphere[count];
+		double[] eastings = new double[count];
+		double[] northings = new double[count];
+
+		UTM.from(longitudes, latitudes, zones, hemispheres, eastings,
+				northings);
+
+		double[] longitudes2 = new double[count];
+		double[] latitudes2 = new double[count];
+
+		UTM.toPoints(zones, hemispheres, eastings, northings, longitudes2,
+				latitudes2);
+
+		for (int i = 0; i < count; i++) {
+
+			UTM utm = UTM.from(Point.degrees(longitudes[i], latitudes[i]));
+			assertEquals(utm.getZone(), zones[i]);
+			assertEquals(utm.getHemisphere(), hemispheres[i]);
+			assertEquals(utm.getEasting(), eastings[i], 0.0);
+			assertEquals(utm.getNorthing(), northings[i], 0.0);
+
+			Point point = utm.toPoint();
+			assertEquals(point.getLongitude(), longitudes2[i], 0.0);
+			assertEquals(point.getLatitude(), latitudes2[i], 0.0);
+
+		}
+
+		int offset = count / 3;
+		int length = count / 2;
+		double[] eastings2 = new double[count];
+		UTM.from(longitudes, latitudes, zones, hemispheres, eastings2,
+				northings, offset, length);
+		for (int i = 0; i < count; i++) {
+			if (i >= offset && i < offset + length) {
+				assertEquals(eastings[i], eastings2[i], 0.0);
+			} else {
+				assertEquals(0.0, eastings2[i], 0.0);
+			}
+		}
+
+		// Single easting column
+		double[] columnNorthings = new double[50];
+		for (int i = 0; i < columnNorthings.length; i++) {
+			columnNorthings[i] = 4000000 + i * 1000;
+		}
+		double[] columnLongitudes = new double[columnNorthings.length];
+		double[] columnLatitudes = new double[columnNorthings.length];
+		UTM.toPoints(33, Hemisphere.NORTH, 412000, columnNorthings,
+				columnLongitudes, columnLatitudes);
+		for (int i = 0; i < columnNorthings.length; i++) {
+			Point point = UTM.point(33, Hemisphere.NORTH, 412000,
+					columnNorthings[i]);
+			assertEquals(point.getLongitude(), columnLongitudes[i], 0.0);
+			assertEquals(point.getLatitude(), columnLatitudes[i], 0.0);
+		}
+
+	}
+
+	/**
+	 * Test parsing UTM values from strings and bytes
+	 * 
+	 * @throws ParseException
+	 *             upon failure to parse
+	 */
+	@Test
+	public void testParse() throws ParseException {
+
+		double[] values = new double[UTM.ENCODED_LENGTH];
+
+		String[] valid = new String[] { "33 N 441867.78 1116915.04",
+				"33N 441867.78 1116915.04", "1 s 500000 4000000.5",
+				"60\tS\t833978.56 9329005.18", "17 N 0.0 0.",
+				"4 n 123456.123456789012345 7654321.98765432109876543" };
+
+		for (String value : valid) {
+
+			assertTrue(UTM.isUTM(value));
+			UTM utm = UTM.parse(value);
+
+			assertTrue(UTM.parse(value, values));
+			assertEquals(utm.getZone(), values[UTM.ENCODED_ZONE], 0.0);
+			assertEquals(utm.getHemisphere() == Hemisphere.NORTH
+					? UTM.ENCODED_NORTH
+					: UTM.ENCODED_SOUTH, values[UTM.ENCODED_HEMISPHERE], 0.0);
+			assertEquals(utm.getEasting(), values[UTM.ENCODED_EASTING], 0.0);
+			assertEquals(utm.getNorthing(), values[UTM.ENCODED_NORTHING],
+					0.0);
+			assertEquals(utm.format(), UTM.create(values).format());
+
+			byte[] bytes = ("," + value + ",")
+					.getBytes(StandardCharsets.US_ASCII);
+			double[] byteValues = new double[UTM.ENCODED_LENGTH];
+			assertTrue(UTM.parse(bytes, 1, value.length(), byteValues));
+			assertArrayEquals(values, byteValues, 0.0);
+
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			byteValues = new double[UTM.ENCODED_LENGTH];
+			assertTrue(UTM.parse(buffer, 1, value.length(), byteValues));
+			assertArrayEquals(values, byteValues, 0.0);
+			assertEquals(0, buffer.position());
+
+		}
+
+		String[] invalid = new String[] { "", "33", "33 N", "33 N 4",
+				"333 N 441867.78 1116915.04", " 33 N 441867.78 1116915.04",
+				"33 N 441867.78 1116915.04 ", "33 E 441867.78 1116915.04",
+				"33 N .78 1116915.04", "33 N 441867.78 -1116915.04",
+				"33 N 441867..78 1116915.04" };
+
+		for (String value : invalid) {
+			assertFalse(value, UTM.isUTM(value));
+			assertFalse(value, UTM.parse(value, values));
+			byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+			assertFalse(value, UTM.parse(bytes, 0, bytes.length, values));
+			try {
+				UTM.parse(value);
+				fail("Expected parse exception: " + value);
+			} catch (ParseException e) {
+				// expected
+			}
+		}
+
+		// Adjacent values split as the longest easting
+		UTM utm = UTM.parse("33N441867.781116915");
+		assertEquals(441867.78111691, utm.getEasting(), 0.0);
+		assertEquals(5.0, utm.getNorthing(), 0.0);
+
+	}
+
+	/**
+	 * Test the inverse projection against golden values computed by the
+	 * original closed form expressions
+	 */
+	@Test
+	public void testInverseGolden() {
+
+		for (int zone = 1; zone <= 60; zone++) {
+			for (Hemisphere hemisphere : Hemisphere.values()) {
+				for (double easting = 100000.0; easting <= 900000.0; easting += 19999.37) {
+					for (double northing = 0.0; northing <= 10000000.0; northing += 249999.91) {
+						testInverseGolden(zone, hemisphere, easting,
+								northing);
+						testInverseGolden(zone, hemisphere,
+								Math.round(easting * 100) / 100.0,
+								Math.round(northing * 100) / 100.0);
+					}
+				}
+			}
+		}
+
+		testInverseGolden(1, Hemisphere.NORTH, 166021.44, 0.0);
+		testInverseGolden(31, Hemisphere.NORTH, 500000.0, 0.0);
+		testInverseGolden(31, Hemisphere.SOUTH, 500000.0, 10000000.0);
+		testInverseGolden(60, Hemisphere.NORTH, 833978.56, 9329005.18);
+		testInverseGolden(60, Hemisphere.SOUTH, 441867.78, 1116915.04);
+
+	}
+
+	/**
+	 * Test the inverse projection against the original closed form
+	 * expressions
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param hemisphere
+	 *            hemisphere
+	 * @param easting
+	 *            easting
+	 * @param northing
+	 *            northing
+	 */
+	private void testInverseGolden(int zone, Hemisphere hemisphere,
+			double easting, double northing) {
+
+		double north = northing;
+		if (hemisphere == Hemisphere.SOUTH) {
+			north -= 10000000.0;
+		}
+
+		double longitude = round(goldenLongitude(zone, easting, north));
+		double latitude = round(goldenLatitude(zone, easting, north));
+
+		assertEquals(longitude,
+				UTM.longitude(zone, hemisphere, easting, northing), 0.0);
+		assertEquals(latitude,
+				UTM.latitude(zone, hemisphere, easting, northing), 0.0);
+
+		Point point = UTM.create(zone, hemisphere, easting, northing)
+				.toPoint();
+		assertEquals(longitude, point.getLongitude(), 0.0);
+		assertEquals(latitude, point.getLatitude(), 0.0);
+
+	}
+
+	/**
+	 * Original closed form longitude expression
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param easting
+	 *            easting
+	 * @param north
+	 *            northing without the southern hemisphere offset
+	 * @return unrounded longitude in degrees
+	 */
+	private static double goldenLongitude(int zone, double easting,
+			double north) {
+		// @formatter:off
+		double longitude = Math.atan((Math.exp((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2)/3))-Math.exp(-(easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2)/3)))/2/Math.cos((north-0.9996*6399593.625*( north/6366197.724/0.9996-0.006739496742*3/4*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.pow(0.006739496742*3/4,2)*5/3*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2* north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4-Math.pow(0.006739496742*3/4,3)*35/27*(5*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/3)) / (0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2))+north/6366197.724/0.9996))*180/Math.PI+zone*6-183;
+		// @formatter:on
+		return longitude;
+	}
+
+	/**
+	 * Original closed form latitude expression
+	 * 
+	 * @param zone
+	 *            zone number
+	 * @param easting
+	 *            easting
+	 * @param north
+	 *            northing without the southern hemisphere offset
+	 * @return unrounded latitude in degrees
+	 */
+	private static double goldenLatitude(int zone, double easting,
+			double north) {
+		// @formatter:off
+		double latitude = (north/6366197.724/0.9996+(1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)-0.006739496742*Math.sin(north/6366197.724/0.9996)*Math.cos(north/6366197.724/0.9996)*(Math.atan(Math.cos(Math.atan(( Math.exp((easting - 500000) / (0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting - 500000) / (0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2)/3))-Math.exp(-(easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*( 1 -  0.006739496742*Math.pow((easting - 500000) / (0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2)/3)))/2/Math.cos((north-0.9996*6399593.625*(north/6366197.724/0.9996-0.006739496742*3/4*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.pow(0.006739496742*3/4,2)*5/3*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996 )/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4-Math.pow(0.006739496742*3/4,3)*35/27*(5*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/3))/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2))+north/6366197.724/0.9996)))*Math.tan((north-0.9996*6399593.625*(north/6366197.724/0.9996 - 0.006739496742*3/4*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.pow(0.006739496742*3/4,2)*5/3*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996 )*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4-Math.pow(0.006739496742*3/4,3)*35/27*(5*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/3))/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2))+north/6366197.724/0.9996))-north/6366197.724/0.9996)*3/2)*(Math.atan(Math.cos(Math.atan((Math.exp((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2)/3))-Math.exp(-(easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2)/3)))/2/Math.cos((north-0.9996*6399593.625*(north/6366197.724/0.9996-0.006739496742*3/4*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.pow(0.006739496742*3/4,2)*5/3*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4-Math.pow(0.006739496742*3/4,3)*35/27*(5*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/3))/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2))+north/6366197.724/0.9996)))*Math.tan((north-0.9996*6399593.625*(north/6366197.724/0.9996-0.006739496742*3/4*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.pow(0.006739496742*3/4,2)*5/3*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4-Math.pow(0.006739496742*3/4,3)*35/27*(5*(3*(north/6366197.724/0.9996+Math.sin(2*north/6366197.724/0.9996)/2)+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/4+Math.sin(2*north/6366197.724/0.9996)*Math.pow(Math.cos(north/6366197.724/0.9996),2)*Math.pow(Math.cos(north/6366197.724/0.9996),2))/3))/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2))))*(1-0.006739496742*Math.pow((easting-500000)/(0.9996*6399593.625/Math.sqrt((1+0.006739496742*Math.pow(Math.cos(north/6366197.724/0.9996),2)))),2)/2*Math.pow(Math.cos(north/6366197.724/0.9996),2))+north/6366197.724/0.9996))-north/6366197.724/0.9996))*180/Math.PI;
+		// @formatter:on
+		return latitude;
+	}
+
+	/**
+	 * Round the degrees value to 7 decimal places
+	 * 
+	 * @param degrees
+	 *            degrees value
+	 * @return rounded value
+	 */
+	private static double round(double degrees) {
+		double value = Math.round(degrees * 10000000);
+		value = value / 10000000;
+		return value;
+	}
+
+}
@@ -0,0 +1,401 @@
+package mil.nga.mgrs.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+import mil.nga.grid.Hemisphere;
+import mil.nga.mgrs.gzd.GridZones;
+import mil.nga.mgrs.utm.LegacyUTMProjection;
+import mil.nga.mgrs.utm.UTM;
+
+/**
+ * Vector API UTM forward projection kernel, projecting
+ * {@link DoubleVector#SPECIES_PREFERRED} lanes of coordinates at a time. The
+ * transcendental functions of the {@link LegacyUTMProjection} easting and
+ * northing formulas are replaced by polynomials over their bounded arguments:
+ * <ul>
+ * <li>sine and cosine of the latitude, Taylor series through degree 23 and
+ * 24, for latitudes within {@link #MAX_LATITUDE} degrees</li>
+ * <li>sine and one minus cosine of the longitude from the central meridian,
+ * Taylor series through degree 15 and 16, within {@link #MAX_DELTA}
+ * radians</li>
+ * <li>the logarithm of the easting formula, evaluated as the inverse
+ * hyperbolic tangent series through degree 31 of an argument at most
+ * sin({@link #MAX_DELTA})</li>
+ * <li>the arc tangent of the northing formula, rewritten with the arc
+ * tangent subtraction identity as the series through degree 15 of an
+ * argument at most 0.016</li>
+ * </ul>
+ * Each series truncation error is below 1e-17 relative, so projected
+ * coordinates are within 1e-6 meters of the scalar formulas before rounding
+ * to the centimeter. Blocks with any coordinate outside of the polynomial
+ * domains, including non finite values, are projected by the scalar
+ * formulas.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+final class UTMKernel {
+
+	/**
+	 * Vector species
+	 */
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	/**
+	 * Maximum absolute latitude in degrees of the polynomial domain
+	 */
+	static final double MAX_LATITUDE = 85.0;
+
+	/**
+	 * Maximum absolute longitude in radians from the central meridian of the
+	 * polynomial domain
+	 */
+	static final double MAX_DELTA = 0.25;
+
+	/**
+	 * Degrees to radians numerator
+	 */
+	private static final double PI = Math.PI;
+
+	/**
+	 * Easting scaled polar radius
+	 */
+	private static final double EASTING_RADIUS = 0.9996 * 6399593.62;
+
+	/**
+	 * Easting second eccentricity squared
+	 */
+	private static final double EASTING_ECCENTRICITY = Math.pow(0.0820944379,
+			2);
+
+	/**
+	 * Northing scaled polar radius
+	 */
+	private static final double NORTHING_RADIUS = 0.9996 * 6399593.625;
+
+	/**
+	 * Northing second eccentricity squared
+	 */
+	private static final double NORTHING_ECCENTRICITY = 0.006739496742;
+
+	/**
+	 * Meridian arc first coefficient
+	 */
+	private static final double ARC1 = 0.005054622556;
+
+	/**
+	 * Meridian arc second coefficient
+	 */
+	private static final double ARC2 = 4.258201531e-05;
+
+	/**
+	 * Meridian arc third coefficient
+	 */
+	private static final double ARC3 = 1.674057895e-07;
+
+	/**
+	 * False easting
+	 */
+	private static final double FALSE_EASTING = 500000;
+
+	/**
+	 * Southern hemisphere false northing
+	 */
+	private static final double FALSE_NORTHING = 10000000;
+
+	/**
+	 * Sine series coefficients of x^1 through x^23, in powers of x^2
+	 */
+	private static final double[] SIN = series(1, 12, true, false);
+
+	/**
+	 * Cosine series coefficients of x^0 through x^24, in powers of x^2
+	 */
+	private static final double[] COS = series(0, 13, true, false);
+
+	/**
+	 * Delta sine series coefficients of x^1 through x^15, in powers of x^2
+	 */
+	private static final double[] DELTA_SIN = series(1, 8, true, false);
+
+	/**
+	 * Delta one minus cosine series coefficients of x^2 through x^16, in
+	 * powers of x^2
+	 */
+	private static final double[] DELTA_VERSINE = versine(8);
+
+	/**
+	 * Inverse hyperbolic tangent series coefficients of x^1 through x^31, in
+	 * powers of x^2
+	 */
+	private static final double[] ATANH = series(1, 16, false, true);
+
+	/**
+	 * Arc tangent series coefficients of x^1 through x^15, in powers of x^2
+	 */
+	private static final double[] ATAN = series(1, 8, true, true);
+
+	/**
+	 * Private constructor
+	 */
+	private UTMKernel() {
+	}
+
+	/**
+	 * Get the number of vector lanes
+	 * 
+	 * @return lanes
+	 */
+	static int lanes() {
+		return SPECIES.length();
+	}
+
+	/**
+	 * Convert the longitudes and latitudes in degrees within the range to UTM
+	 * coordinates with the {@link UTM#LEGACY} projection
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param zones
+	 *            zone numbers output
+	 * @param hemispheres
+	 *            hemispheres output
+	 * @param eastings
+	 *            eastings output
+	 * @param northings
+	 *            northings output
+	 * @param offset
+	 *            array offset of the first coordinate
+	 * @param length
+	 *            number of coordinates
+	 */
+	static void from(double[] longitudes, double[] latitudes, int[] zones,
+			Hemisphere[] hemispheres, double[] eastings, double[] northings,
+			int offset, int length) {
+
+		int lanes = SPECIES.length();
+		double[] meridians = new double[lanes];
+
+		int end = offset + length;
+		int i = offset;
+		for (; i <= end - lanes; i += lanes) {
+
+			boolean vector = true;
+			for (int lane = 0; lane < lanes; lane++) {
+				int index = i + lane;
+				double longitude = longitudes[index];
+				double latitude = latitudes[index];
+				int zone = GridZones.getZoneNumber(longitude, latitude);
+				zones[index] = zone;
+				hemispheres[index] = Hemisphere.fromLatitude(latitude);
+				double meridian = (6 * zone - 183) * PI / 180;
+				meridians[lane] = meridian;
+				vector &= Math.abs(longitude * PI / 180
+						- meridian) <= MAX_DELTA
+						&& Math.abs(latitude) <= MAX_LATITUDE;
+			}
+
+			if (vector) {
+				project(longitudes, latitudes, meridians, eastings, northings,
+						i);
+				for (int index = i; index < i + lanes; index++) {
+					double northing = northings[index];
+					if (hemispheres[index] == Hemisphere.SOUTH) {
+						northing = northing + FALSE_NORTHING;
+					}
+					eastings[index] = Math.round(eastings[index] * 100) * 0.01;
+					northings[index] = Math.round(northing * 100) * 0.01;
+				}
+			} else {
+				for (int index = i; index < i + lanes; index++) {
+					scalar(longitudes[index], latitudes[index], zones[index],
+							hemispheres[index], eastings, northings, index);
+				}
+			}
+		}
+
+		for (; i < end; i++) {
+			double longitude = longitudes[i];
+			double latitude = latitudes[i];
+			int zone = GridZones.getZoneNumber(longitude, latitude);
+			Hemisphere hemisphere = Hemisphere.fromLatitude(latitude);
+			zones[i] = zone;
+			hemispheres[i] = hemisphere;
+			scalar(longitude, latitude, zone, hemisphere, eastings, northings,
+					i);
+		}
+
+	}
+
+	/**
+	 * Project a vector of coordinates without false northings or rounding
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param meridians
+	 *            central meridians in radians of the vector lanes
+	 * @param eastings
+	 *            eastings output
+	 * @param northings
+	 *            northings output
+	 * @param index
+	 *            array index of the first lane
+	 */
+	private static void project(double[] longitudes, double[] latitudes,
+			double[] meridians, double[] eastings, double[] northings,
+			int index) {
+
+		DoubleVector latitude = DoubleVector
+				.fromArray(SPECIES, latitudes, index).mul(PI).div(180);
+		DoubleVector delta = DoubleVector
+				.fromArray(SPECIES, longitudes, index).mul(PI).div(180)
+				.sub(DoubleVector.fromArray(SPECIES, meridians, 0));
+
+		DoubleVector latitude2 = latitude.mul(latitude);
+		DoubleVector sin = horner(SIN, latitude2).mul(latitude);
+		DoubleVector cos = horner(COS, latitude2);
+		DoubleVector cos2 = cos.mul(cos);
+		DoubleVector tan = sin.div(cos);
+
+		DoubleVector delta2 = delta.mul(delta);
+		DoubleVector deltaSin = horner(DELTA_SIN, delta2).mul(delta);
+		DoubleVector deltaVersine = horner(DELTA_VERSINE, delta2)
+				.mul(delta2);
+		DoubleVector deltaCos = deltaVersine.neg().add(1);
+
+		// 0.5 * log((1 + b) / (1 - b)) = atanh(b)
+		DoubleVector b = cos.mul(deltaSin);
+		DoubleVector l = horner(ATANH, b.mul(b)).mul(b);
+		DoubleVector l2cos2 = l.mul(l).mul(cos2);
+
+		DoubleVector easting = l.mul(EASTING_RADIUS)
+				.div(cos2.mul(EASTING_ECCENTRICITY).add(1).sqrt())
+				.mul(l2cos2.mul(EASTING_ECCENTRICITY / 2 / 3).add(1))
+				.add(FALSE_EASTING);
+
+		// atan(tan / cos(delta)) - latitude
+		DoubleVector x = tan.mul(deltaVersine)
+				.div(tan.mul(tan).add(deltaCos));
+		DoubleVector d = horner(ATAN, x.mul(x)).mul(x);
+
+		DoubleVector sin2 = sin.mul(cos).mul(2);
+		DoubleVector sin2cos2 = sin2.mul(cos2);
+		DoubleVector arc = latitude.add(sin2.div(2));
+		DoubleVector arc3 = arc.mul(3).add(sin2cos2);
+		DoubleVector meridian = latitude.sub(arc.mul(ARC1))
+				.add(arc3.mul(ARC2 / 4))
+				.sub(arc3.mul(5.0 / 4).add(sin2cos2.mul(cos2))
+						.mul(ARC3 / 3));
+
+		DoubleVector northing = d.mul(NORTHING_RADIUS)
+				.div(cos2.mul(NORTHING_ECCENTRICITY).add(1).sqrt())
+				.mul(l2cos2.mul(NORTHING_ECCENTRICITY / 2).add(1))
+				.add(meridian.mul(NORTHING_RADIUS));
+
+		easting.intoArray(eastings, index);
+		northing.intoArray(northings, index);
+	}
+
+	/**
+	 * Project a coordinate with the scalar formulas
+	 * 
+	 * @param longitude
+	 *            longitude in degrees
+	 * @param latitude
+	 *            latitude in degrees
+	 * @param zone
+	 *            zone number
+	 * @param hemisphere
+	 *            hemisphere
+	 * @param eastings
+	 *            eastings output
+	 * @param northings
+	 *            northings output
+	 * @param index
+	 *            array index
+	 */
+	private static void scalar(double longitude, double latitude, int zone,
+			Hemisphere hemisphere, double[] eastings, double[] northings,
+			int index) {
+		eastings[index] = UTM.LEGACY.easting(longitude, latitude, zone);
+		northings[index] = UTM.LEGACY.northing(longitude, latitude, zone,
+				hemisphere);
+	}
+
+	/**
+	 * Evaluate the polynomial with Horner's method
+	 * 
+	 * @param coefficients
+	 *            coefficients from the constant term
+	 * @param x
+	 *            polynomial variable
+	 * @return polynomial value
+	 */
+	private static DoubleVector horner(double[] coefficients, DoubleVector x) {
+		int last = coefficients.length - 1;
+		DoubleVector value = DoubleVector.broadcast(SPECIES,
+				coefficients[last]);
+		for (int i = last - 1; i >= 0; i--) {
+			value = value.fma(x,
+					DoubleVector.broadcast(SPECIES, coefficients[i]));
+		}
+		return value;
+	}
+
+	/**
+	 * Create series coefficients of the powers first, first + 2, first + 4,
+	 * and so on, in powers of x^2
+	 * 
+	 * @param first
+	 *            first power, 0 or 1
+	 * @param terms
+	 *            number of terms
+	 * @param alternating
+	 *            true for alternating signs
+	 * @param reciprocal
+	 *            true for 1 / power coefficients, false for 1 / power!
+	 * @return coefficients
+	 */
+	private static double[] series(int first, int terms, boolean alternating,
+			boolean reciprocal) {
+		double[] coefficients = new double[terms];
+		double factorial = 1;
+		for (int power = 1; power <= first; power++) {
+			factorial *= power;
+		}
+		for (int term = 0; term < terms; term++) {
+			int power = first + 2 * term;
+			if (term > 0) {
+				factorial *= (power - 1) * power;
+			}
+			double coefficient = reciprocal ? 1.0 / power : 1.0 / factorial;
+			if (alternating && term % 2 == 1) {
+				coefficient = -coefficient;
+			}
+			coefficients[term] = coefficient;
+		}
+		return coefficients;
+	}
+
+	/**
+	 * Create one minus cosine series coefficients of x^2 onward, divided by
+	 * x^2 and in powers of x^2
+	 * 
+	 * @param terms
+	 *            number of terms
+	 * @return coefficients
+	 */
+	private static double[] versine(int terms) {
+		double[] cos = series(0, terms + 1, true, false);
+		double[] coefficients = new double[terms];
+		for (int term = 0; term < terms; term++) {
+			coefficients[term] = -cos[term + 1];
+		}
+		return coefficients;
+	}
+
+}
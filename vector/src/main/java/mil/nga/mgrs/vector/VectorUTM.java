@@ -0,0 +1,127 @@
+package mil.nga.mgrs.vector;
+
+import mil.nga.grid.Hemisphere;
+import mil.nga.mgrs.utm.UTM;
+
+/**
+ * Java Vector API (SIMD) batch UTM forward projection. Coordinates are
+ * projected several lanes at a time (4 with 256 bit and 8 with 512 bit
+ * vectors) using bounded error polynomial approximations, with eastings and
+ * northings within one centimeter rounding unit of the {@link UTM#LEGACY}
+ * projection and zone numbers and hemispheres identical. The incubating
+ * {@code jdk.incubator.vector} module must be added at runtime:
+ * 
+ * <pre>
+ * java --add-modules jdk.incubator.vector ...
+ * </pre>
+ * 
+ * When the module is unavailable, conversions fall back to the scalar
+ * {@link UTM#LEGACY} projection.
+ * 
+ * @author osbornb
+ * @since 2.1.3
+ */
+public class VectorUTM {
+
+	/**
+	 * Vector lanes, 0 when the Vector API is unavailable
+	 */
+	private static final int LANES = lanes();
+
+	/**
+	 * Private constructor
+	 */
+	private VectorUTM() {
+	}
+
+	/**
+	 * Determine if the Vector API is available, otherwise conversions use the
+	 * scalar projection
+	 * 
+	 * @return true if available
+	 */
+	public static boolean isAvailable() {
+		return LANES > 0;
+	}
+
+	/**
+	 * Get the number of coordinates projected per vector
+	 * 
+	 * @return lanes, 0 when the Vector API is unavailable
+	 */
+	public static int getLanes() {
+		return LANES;
+	}
+
+	/**
+	 * Convert the longitudes and latitudes in degrees to UTM coordinates
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param zones
+	 *            zone numbers output
+	 * @param hemispheres
+	 *            hemispheres output
+	 * @param eastings
+	 *            eastings output
+	 * @param northings
+	 *            northings output
+	 */
+	public static void from(double[] longitudes, double[] latitudes,
+			int[] zones, Hemisphere[] hemispheres, double[] eastings,
+			double[] northings) {
+		from(longitudes, latitudes, zones, hemispheres, eastings, northings,
+				0, longitudes.length);
+	}
+
+	/**
+	 * Convert the longitudes and latitudes in degrees within the range to UTM
+	 * coordinates
+	 * 
+	 * @param longitudes
+	 *            longitudes in degrees
+	 * @param latitudes
+	 *            latitudes in degrees
+	 * @param zones
+	 *            zone numbers output
+	 * @param hemispheres
+	 *            hemispheres output
+	 * @param eastings
+	 *            eastings output
+	 * @param northings
+	 *            northings output
+	 * @param offset
+	 *            array offset of the first coordinate
+	 * @param length
+	 *            number of coordinates
+	 */
+	public static void from(double[] longitudes, double[] latitudes,
+			int[] zones, Hemisphere[] hemispheres, double[] eastings,
+			double[] northings, int offset, int length) {
+		if (LANES > 0) {
+			UTMKernel.from(longitudes, latitudes, zones, hemispheres,
+					eastings, northings, offset, length);
+		} else {
+			UTM.from(longitudes, latitudes, zones, hemispheres, eastings,
+					northings, offset, length, UTM.LEGACY);
+		}
+	}
+
+	/**
+	 * Get the vector lanes of the Vector API kernel
+	 * 
+	 * @return lanes, 0 when the Vector API is unavailable
+	 */
+	private static int lanes() {
+		int lanes = 0;
+		try {
+			lanes = UTMKernel.lanes();
+		} catch (LinkageError e) {
+			// Vector API module not added or not supported
+		}
+		return lanes;
+	}
+
+}
@@ -0,0 +1,121 @@
+package mil.nga.mgrs.vector;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import mil.nga.grid.Hemisphere;
+import mil.nga.mgrs.utm.UTM;
+
+/**
+ * Vector UTM Test
+ * 
+ * @author osbornb
+ */
+public class VectorUTMTest {
+
+	/**
+	 * Test the vector projection against the scalar projection
+	 */
+	@Test
+	public void testFrom() {
+
+		int count = 100003;
+		double[] longitudes = new double[count];
+		double[] latitudes = new double[count];
+
+		Random random = new Random(24);
+		for (int i = 0; i < count; i++) {
+			switch (i % 5) {
+			case 0:
+				longitudes[i] = random.nextInt(361) - 180;
+				latitudes[i] = random.nextInt(21) * 8 - 80;
+				break;
+			case 1:
+				longitudes[i] = random.nextDouble() * 45.0;
+				latitudes[i] = 56.0 + random.nextDouble() * 28.0;
+				break;
+			default:
+				longitudes[i] = random.nextDouble() * 360.0 - 180.0;
+				latitudes[i] = random.nextDouble() * 164.0 - 80.0;
+			}
+		}
+		// Scalar blocks outside of the polynomial domain
+		latitudes[7] = 89.0;
+		longitudes[11] = Double.NaN;
+
+		int[] zones = new int[count];
+		Hemisphere[] hemispheres = new Hemisphere[count];
+		double[] eastings = new double[count];
+		double[] northings = new double[count];
+		UTM.from(longitudes, latitudes, zones, hemispheres, eastings,
+				northings);
+
+		int[] vectorZones = new int[count];
+		Hemisphere[] vectorHemispheres = new Hemisphere[count];
+		double[] vectorEastings = new double[count];
+		double[] vectorNorthings = new double[count];
+		VectorUTM.from(longitudes, latitudes, vectorZones, vectorHemispheres,
+				vectorEastings, vectorNorthings);
+
+		assertArrayEquals(zones, vectorZones);
+		assertArrayEquals(hemispheres, vectorHemispheres);
+
+		int equal = 0;
+		for (int i = 0; i < count; i++) {
+			if (Double.isNaN(eastings[i])) {
+				assertTrue(Double.isNaN(vectorEastings[i]));
+				assertTrue(Double.isNaN(vectorNorthings[i]));
+				continue;
+			}
+			assertEquals(eastings[i], vectorEastings[i], 0.0100001);
+			assertEquals(northings[i], vectorNorthings[i], 0.0100001);
+			if (eastings[i] == vectorEastings[i]
+					&& northings[i] == vectorNorthings[i]) {
+				equal++;
+			}
+		}
+
+		// Differences only occur within the error bound of a rounding tie
+		assertTrue(equal >= count - count / 1000);
+
+	}
+
+	/**
+	 * Test converting a range with a partial vector remainder
+	 */
+	@Test
+	public void testRange() {
+
+		double[] longitudes = { 0, -77.0365, 2.2945, 151.2153, -58.3816,
+				21.0, 8.5, 179.99, -179.99, 15.0, -45.0 };
+		double[] latitudes = { 0, 38.8977, 48.8584, -33.8568, -34.6037, 78.5,
+				60.5, 10.0, -10.0, 83.9, -79.9 };
+
+		int length = longitudes.length - 2;
+		int[] zones = new int[longitudes.length];
+		Hemisphere[] hemispheres = new Hemisphere[longitudes.length];
+		double[] eastings = new double[longitudes.length];
+		double[] northings = new double[longitudes.length];
+		VectorUTM.from(longitudes, latitudes, zones, hemispheres, eastings,
+				northings, 1, length);
+
+		assertEquals(0, zones[0]);
+		assertEquals(0, zones[longitudes.length - 1]);
+		for (int i = 1; i <= length; i++) {
+			UTM utm = UTM.from(
+					mil.nga.grid.features.Point.degrees(longitudes[i],
+							latitudes[i]));
+			assertEquals(utm.getZone(), zones[i]);
+			assertEquals(utm.getHemisphere(), hemispheres[i]);
+			assertEquals(utm.getEasting(), eastings[i], 0.0100001);
+			assertEquals(utm.getNorthing(), northings[i], 0.0100001);
+		}
+
+	}
+
+}